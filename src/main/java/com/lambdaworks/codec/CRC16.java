@@ -1,5 +1,7 @@
 package com.lambdaworks.codec;
 
+import java.nio.ByteBuffer;
+
 /**
  * @author Mark Paluch
  *         <ul>
@@ -57,4 +59,22 @@ public class CRC16 {
         return crc & 0xFFFF;
     }
 
+    /**
+     * Create a CRC16 checksum from the bytes of {@code buffer} between the absolute indexes {@code from} (inclusive) and
+     * {@code to} (exclusive). The position of the buffer remains unchanged.
+     *
+     * @param buffer input buffer
+     * @param from index of the first byte
+     * @param to index after the last byte
+     * @return CRC16 as interger value
+     * @since 4.3
+     */
+    public static int crc16(ByteBuffer buffer, int from, int to) {
+        int crc = 0x0000;
+
+        for (int i = from; i < to; i++) {
+            crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (buffer.get(i) & 0xFF)) & 0xFF]);
+        }
+        return crc & 0xFFFF;
+    }
 }
@@ -4,6 +4,7 @@ package com.lambdaworks.redis;
 
 import static com.lambdaworks.redis.protocol.CommandType.EXEC;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +52,13 @@ public abstract class AbstractRedisAsyncCommands<K, V>
     public AbstractRedisAsyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
         this.connection = connection;
         this.codec = codec;
-        commandBuilder = new RedisCommandBuilder<K, V>(codec);
+        commandBuilder = new RedisCommandBuilder<K, V>(codec, this::isRecycleCommands);
+    }
+
+    private boolean isRecycleCommands() {
+
+        ClientOptions options = connection.getOptions();
+        return options != null && options.isRecycleCommands();
     }
 
     @Override
@@ -385,6 +392,11 @@ public abstract class AbstractRedisAsyncCommands<K, V>
         return dispatch(commandBuilder.get(key));
     }
 
+    @Override
+    public RedisFuture<Long> get(WritableByteChannel channel, K key) {
+        return dispatch(commandBuilder.get(channel, key));
+    }
+
     @Override
     public RedisFuture<Long> getbit(K key, long offset) {
         return dispatch(commandBuilder.getbit(key, offset));
@@ -415,6 +427,11 @@ public abstract class AbstractRedisAsyncCommands<K, V>
         return dispatch(commandBuilder.hget(key, field));
     }
 
+    @Override
+    public RedisFuture<Long> hget(WritableByteChannel channel, K key, K field) {
+        return dispatch(commandBuilder.hget(channel, key, field));
+    }
+
     @Override
     public RedisFuture<Long> hincrby(K key, K field, long amount) {
         return dispatch(commandBuilder.hincrby(key, field, amount));
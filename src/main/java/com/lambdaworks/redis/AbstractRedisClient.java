@@ -215,42 +215,95 @@ public abstract class AbstractRedisClient {
     @SuppressWarnings("unchecked")
     protected <K, V, T extends RedisChannelHandler<K, V>> T initializeChannel(ConnectionBuilder connectionBuilder) {
 
+        CompletableFuture<T> future = initializeChannelAsync(connectionBuilder);
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            connectionBuilder.commandHandler().initialState();
+            throw new RedisConnectionException("Unable to connect to " + connectionBuilder.socketAddress(), e);
+        }
+    }
+
+    /**
+     * Connect and initialize the channel without blocking the calling thread. The returned future completes with the
+     * connection once the channel is initialized or exceptionally with a {@link RedisException} if the connect or the channel
+     * initialization failed or did not complete within the connection timeout.
+     *
+     * @param connectionBuilder the connection builder.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Connection type.
+     * @return future that is completed with the initialized connection.
+     * @since 4.3
+     */
+    @SuppressWarnings("unchecked")
+    protected <K, V, T extends RedisChannelHandler<K, V>> CompletableFuture<T> initializeChannelAsync(
+            ConnectionBuilder connectionBuilder) {
+
         RedisChannelHandler<?, ?> connection = connectionBuilder.connection();
         SocketAddress redisAddress = connectionBuilder.socketAddress();
-        try {
+        CompletableFuture<T> result = new CompletableFuture<>();
 
-            logger.debug("Connecting to Redis at {}", redisAddress);
+        result.whenComplete((c, throwable) -> {
+            if (throwable != null) {
+                connectionBuilder.commandHandler().initialState();
+            }
+        });
 
-            Bootstrap redisBootstrap = connectionBuilder.bootstrap();
-            RedisChannelInitializer initializer = connectionBuilder.build();
-            redisBootstrap.handler(initializer);
-            ChannelFuture connectFuture = redisBootstrap.connect(redisAddress);
+        logger.debug("Connecting to Redis at {}", redisAddress);
 
-            connectFuture.await();
+        Bootstrap redisBootstrap = connectionBuilder.bootstrap();
+        RedisChannelInitializer initializer = connectionBuilder.build();
+        redisBootstrap.handler(initializer);
+        ChannelFuture connectFuture = redisBootstrap.connect(redisAddress);
 
-            if (!connectFuture.isSuccess()) {
-                if (connectFuture.cause() instanceof Exception) {
-                    throw (Exception) connectFuture.cause();
-                }
-                connectFuture.get();
-            }
+        connectFuture.addListener(future -> {
 
-            try {
-                initializer.channelInitialized().get(connectionBuilder.getTimeout(), connectionBuilder.getTimeUnit());
-            } catch (TimeoutException e) {
-                throw new RedisConnectionException("Could not initialize channel within " + connectionBuilder.getTimeout() + " "
-                        + connectionBuilder.getTimeUnit(), e);
+            if (!future.isSuccess()) {
+                result.completeExceptionally(connectionFailure(redisAddress, future.cause()));
+                return;
             }
-            connection.registerCloseables(closeableResources, connection);
 
-            return (T) connection;
-        } catch (RedisException e) {
-            connectionBuilder.commandHandler().initialState();
-            throw e;
-        } catch (Exception e) {
-            connectionBuilder.commandHandler().initialState();
-            throw new RedisConnectionException("Unable to connect to " + redisAddress, e);
+            CompletableFuture<Boolean> initialized = initializer.channelInitialized();
+            io.netty.util.Timeout initializeTimeout = timer.newTimeout(t -> {
+                result.completeExceptionally(new RedisConnectionException("Could not initialize channel within "
+                        + connectionBuilder.getTimeout() + " " + connectionBuilder.getTimeUnit(), new TimeoutException()));
+            }, connectionBuilder.getTimeout(), connectionBuilder.getTimeUnit());
+
+            initialized.whenComplete((success, throwable) -> {
+
+                initializeTimeout.cancel();
+
+                if (throwable != null) {
+                    result.completeExceptionally(connectionFailure(redisAddress, throwable));
+                    return;
+                }
+
+                if (!result.isDone()) {
+                    connection.registerCloseables(closeableResources, connection);
+                    result.complete((T) connection);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    private static RedisException connectionFailure(SocketAddress redisAddress, Throwable cause) {
+
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+
+        if (cause instanceof RedisException) {
+            return (RedisException) cause;
+        }
+
+        return new RedisConnectionException("Unable to connect to " + redisAddress, cause);
     }
 
     /**
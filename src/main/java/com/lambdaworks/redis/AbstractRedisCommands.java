@@ -0,0 +1,1960 @@
+package com.lambdaworks.redis;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.api.sync.BaseRedisCommands;
+import com.lambdaworks.redis.api.sync.RedisGeoCommands;
+import com.lambdaworks.redis.api.sync.RedisHLLCommands;
+import com.lambdaworks.redis.api.sync.RedisHashCommands;
+import com.lambdaworks.redis.api.sync.RedisKeyCommands;
+import com.lambdaworks.redis.api.sync.RedisListCommands;
+import com.lambdaworks.redis.api.sync.RedisScriptingCommands;
+import com.lambdaworks.redis.api.sync.RedisServerCommands;
+import com.lambdaworks.redis.api.sync.RedisSetCommands;
+import com.lambdaworks.redis.api.sync.RedisSortedSetCommands;
+import com.lambdaworks.redis.api.sync.RedisStringCommands;
+import com.lambdaworks.redis.api.sync.RedisTransactionalCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.KeyValueStreamingChannel;
+import com.lambdaworks.redis.output.ScoredValueStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
+
+/**
+ * Synchronous executed commands. Commands are invoked on {@link AbstractRedisAsyncCommands} and awaited using
+ * {@link #await(RedisFuture)}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @generated by com.lambdaworks.apigenerator.CreateSyncApiImplementation
+ */
+public abstract class AbstractRedisCommands<K, V> implements RedisHashCommands<K, V>, RedisHLLCommands<K, V>,
+        RedisKeyCommands<K, V>, RedisListCommands<K, V>, RedisScriptingCommands<K, V>, RedisServerCommands<K, V>,
+        RedisSetCommands<K, V>, RedisSortedSetCommands<K, V>, RedisStringCommands<K, V>, RedisTransactionalCommands<K, V>,
+        BaseRedisCommands<K, V>, RedisGeoCommands<K, V>, RedisClusterCommands<K, V> {
+
+    protected final AbstractRedisAsyncCommands<K, V> async;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param async the asynchronous API to invoke commands on.
+     */
+    protected AbstractRedisCommands(AbstractRedisAsyncCommands<K, V> async) {
+        this.async = async;
+    }
+
+    /**
+     * Await the result of a command.
+     *
+     * @param future the command future.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    protected abstract <T> T await(RedisFuture<T> future);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long hdel(K key, K... fields) {
+        return await(async.hdel(key, fields));
+    }
+
+    @Override
+    public Boolean hexists(K key, K field) {
+        return await(async.hexists(key, field));
+    }
+
+    @Override
+    public V hget(K key, K field) {
+        return await(async.hget(key, field));
+    }
+
+    @Override
+    public Long hget(WritableByteChannel channel, K key, K field) {
+        return await(async.hget(channel, key, field));
+    }
+
+    @Override
+    public Long hincrby(K key, K field, long amount) {
+        return await(async.hincrby(key, field, amount));
+    }
+
+    @Override
+    public Double hincrbyfloat(K key, K field, double amount) {
+        return await(async.hincrbyfloat(key, field, amount));
+    }
+
+    @Override
+    public Map<K, V> hgetall(K key) {
+        return await(async.hgetall(key));
+    }
+
+    @Override
+    public Long hgetall(KeyValueStreamingChannel<K, V> channel, K key) {
+        return await(async.hgetall(channel, key));
+    }
+
+    @Override
+    public List<K> hkeys(K key) {
+        return await(async.hkeys(key));
+    }
+
+    @Override
+    public Long hkeys(KeyStreamingChannel<K> channel, K key) {
+        return await(async.hkeys(channel, key));
+    }
+
+    @Override
+    public Long hlen(K key) {
+        return await(async.hlen(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<V> hmget(K key, K... fields) {
+        return await(async.hmget(key, fields));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long hmget(ValueStreamingChannel<V> channel, K key, K... fields) {
+        return await(async.hmget(channel, key, fields));
+    }
+
+    @Override
+    public String hmset(K key, Map<K, V> map) {
+        return await(async.hmset(key, map));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key) {
+        return await(async.hscan(key));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanArgs scanArgs) {
+        return await(async.hscan(key, scanArgs));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.hscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanCursor scanCursor) {
+        return await(async.hscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key) {
+        return await(async.hscan(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanArgs scanArgs) {
+        return await(async.hscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.hscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor) {
+        return await(async.hscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public Boolean hset(K key, K field, V value) {
+        return await(async.hset(key, field, value));
+    }
+
+    @Override
+    public Boolean hsetnx(K key, K field, V value) {
+        return await(async.hsetnx(key, field, value));
+    }
+
+    @Override
+    public Long hstrlen(K key, K field) {
+        return await(async.hstrlen(key, field));
+    }
+
+    @Override
+    public List<V> hvals(K key) {
+        return await(async.hvals(key));
+    }
+
+    @Override
+    public Long hvals(ValueStreamingChannel<V> channel, K key) {
+        return await(async.hvals(channel, key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long pfadd(K key, V... values) {
+        return await(async.pfadd(key, values));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String pfmerge(K destkey, K... sourcekeys) {
+        return await(async.pfmerge(destkey, sourcekeys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long pfcount(K... keys) {
+        return await(async.pfcount(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long del(K... keys) {
+        return await(async.del(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long unlink(K... keys) {
+        return await(async.unlink(keys));
+    }
+
+    @Override
+    public byte[] dump(K key) {
+        return await(async.dump(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long exists(K... keys) {
+        return await(async.exists(keys));
+    }
+
+    @Override
+    public Boolean expire(K key, long seconds) {
+        return await(async.expire(key, seconds));
+    }
+
+    @Override
+    public Boolean expireat(K key, Date timestamp) {
+        return await(async.expireat(key, timestamp));
+    }
+
+    @Override
+    public Boolean expireat(K key, long timestamp) {
+        return await(async.expireat(key, timestamp));
+    }
+
+    @Override
+    public List<K> keys(K pattern) {
+        return await(async.keys(pattern));
+    }
+
+    @Override
+    public Long keys(KeyStreamingChannel<K> channel, K pattern) {
+        return await(async.keys(channel, pattern));
+    }
+
+    @Override
+    public String migrate(String host, int port, K key, int db, long timeout) {
+        return await(async.migrate(host, port, key, db, timeout));
+    }
+
+    @Override
+    public String migrate(String host, int port, int db, long timeout, MigrateArgs<K> migrateArgs) {
+        return await(async.migrate(host, port, db, timeout, migrateArgs));
+    }
+
+    @Override
+    public Boolean move(K key, int db) {
+        return await(async.move(key, db));
+    }
+
+    @Override
+    public String objectEncoding(K key) {
+        return await(async.objectEncoding(key));
+    }
+
+    @Override
+    public Long objectIdletime(K key) {
+        return await(async.objectIdletime(key));
+    }
+
+    @Override
+    public Long objectRefcount(K key) {
+        return await(async.objectRefcount(key));
+    }
+
+    @Override
+    public Boolean persist(K key) {
+        return await(async.persist(key));
+    }
+
+    @Override
+    public Boolean pexpire(K key, long milliseconds) {
+        return await(async.pexpire(key, milliseconds));
+    }
+
+    @Override
+    public Boolean pexpireat(K key, Date timestamp) {
+        return await(async.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Boolean pexpireat(K key, long timestamp) {
+        return await(async.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Long pttl(K key) {
+        return await(async.pttl(key));
+    }
+
+    @Override
+    public V randomkey() {
+        return await(async.randomkey());
+    }
+
+    @Override
+    public String rename(K key, K newKey) {
+        return await(async.rename(key, newKey));
+    }
+
+    @Override
+    public Boolean renamenx(K key, K newKey) {
+        return await(async.renamenx(key, newKey));
+    }
+
+    @Override
+    public String restore(K key, long ttl, byte[] value) {
+        return await(async.restore(key, ttl, value));
+    }
+
+    @Override
+    public List<V> sort(K key) {
+        return await(async.sort(key));
+    }
+
+    @Override
+    public Long sort(ValueStreamingChannel<V> channel, K key) {
+        return await(async.sort(channel, key));
+    }
+
+    @Override
+    public List<V> sort(K key, SortArgs sortArgs) {
+        return await(async.sort(key, sortArgs));
+    }
+
+    @Override
+    public Long sort(ValueStreamingChannel<V> channel, K key, SortArgs sortArgs) {
+        return await(async.sort(channel, key, sortArgs));
+    }
+
+    @Override
+    public Long sortStore(K key, SortArgs sortArgs, K destination) {
+        return await(async.sortStore(key, sortArgs, destination));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long touch(K... keys) {
+        return await(async.touch(keys));
+    }
+
+    @Override
+    public Long ttl(K key) {
+        return await(async.ttl(key));
+    }
+
+    @Override
+    public String type(K key) {
+        return await(async.type(key));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan() {
+        return await(async.scan());
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanArgs scanArgs) {
+        return await(async.scan(scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.scan(scanCursor, scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor) {
+        return await(async.scan(scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel) {
+        return await(async.scan(channel));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return await(async.scan(channel, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.scan(channel, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return await(async.scan(channel, scanCursor));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public KeyValue<K, V> blpop(long timeout, K... keys) {
+        return await(async.blpop(timeout, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public KeyValue<K, V> brpop(long timeout, K... keys) {
+        return await(async.brpop(timeout, keys));
+    }
+
+    @Override
+    public V brpoplpush(long timeout, K source, K destination) {
+        return await(async.brpoplpush(timeout, source, destination));
+    }
+
+    @Override
+    public V lindex(K key, long index) {
+        return await(async.lindex(key, index));
+    }
+
+    @Override
+    public Long linsert(K key, boolean before, V pivot, V value) {
+        return await(async.linsert(key, before, pivot, value));
+    }
+
+    @Override
+    public Long llen(K key) {
+        return await(async.llen(key));
+    }
+
+    @Override
+    public V lpop(K key) {
+        return await(async.lpop(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long lpush(K key, V... values) {
+        return await(async.lpush(key, values));
+    }
+
+    @Deprecated
+    @Override
+    public Long lpushx(K key, V value) {
+        return await(async.lpushx(key, value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long lpushx(K key, V... values) {
+        return await(async.lpushx(key, values));
+    }
+
+    @Override
+    public List<V> lrange(K key, long start, long stop) {
+        return await(async.lrange(key, start, stop));
+    }
+
+    @Override
+    public Long lrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return await(async.lrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Long lrem(K key, long count, V value) {
+        return await(async.lrem(key, count, value));
+    }
+
+    @Override
+    public String lset(K key, long index, V value) {
+        return await(async.lset(key, index, value));
+    }
+
+    @Override
+    public String ltrim(K key, long start, long stop) {
+        return await(async.ltrim(key, start, stop));
+    }
+
+    @Override
+    public V rpop(K key) {
+        return await(async.rpop(key));
+    }
+
+    @Override
+    public V rpoplpush(K source, K destination) {
+        return await(async.rpoplpush(source, destination));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long rpush(K key, V... values) {
+        return await(async.rpush(key, values));
+    }
+
+    @Deprecated
+    @Override
+    public Long rpushx(K key, V value) {
+        return await(async.rpushx(key, value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long rpushx(K key, V... values) {
+        return await(async.rpushx(key, values));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T eval(String script, ScriptOutputType type, K... keys) {
+        return await(async.eval(script, type, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T eval(String script, ScriptOutputType type, K[] keys, V... values) {
+        return await(async.eval(script, type, keys, values));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T evalsha(String digest, ScriptOutputType type, K... keys) {
+        return await(async.evalsha(digest, type, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T evalsha(String digest, ScriptOutputType type, K[] keys, V... values) {
+        return await(async.evalsha(digest, type, keys, values));
+    }
+
+    @Override
+    public List<Boolean> scriptExists(String... digests) {
+        return await(async.scriptExists(digests));
+    }
+
+    @Override
+    public String scriptFlush() {
+        return await(async.scriptFlush());
+    }
+
+    @Override
+    public String scriptKill() {
+        return await(async.scriptKill());
+    }
+
+    @Override
+    public String scriptLoad(V script) {
+        return await(async.scriptLoad(script));
+    }
+
+    @Override
+    public String digest(V script) {
+        return async.digest(script);
+    }
+
+    @Override
+    public String bgrewriteaof() {
+        return await(async.bgrewriteaof());
+    }
+
+    @Override
+    public String bgsave() {
+        return await(async.bgsave());
+    }
+
+    @Override
+    public K clientGetname() {
+        return await(async.clientGetname());
+    }
+
+    @Override
+    public String clientSetname(K name) {
+        return await(async.clientSetname(name));
+    }
+
+    @Override
+    public String clientKill(String addr) {
+        return await(async.clientKill(addr));
+    }
+
+    @Override
+    public Long clientKill(KillArgs killArgs) {
+        return await(async.clientKill(killArgs));
+    }
+
+    @Override
+    public String clientPause(long timeout) {
+        return await(async.clientPause(timeout));
+    }
+
+    @Override
+    public String clientList() {
+        return await(async.clientList());
+    }
+
+    @Override
+    public List<Object> command() {
+        return await(async.command());
+    }
+
+    @Override
+    public List<Object> commandInfo(String... commands) {
+        return await(async.commandInfo(commands));
+    }
+
+    @Override
+    public List<Object> commandInfo(CommandType... commands) {
+        return await(async.commandInfo(commands));
+    }
+
+    @Override
+    public Long commandCount() {
+        return await(async.commandCount());
+    }
+
+    @Override
+    public List<String> configGet(String parameter) {
+        return await(async.configGet(parameter));
+    }
+
+    @Override
+    public String configResetstat() {
+        return await(async.configResetstat());
+    }
+
+    @Override
+    public String configRewrite() {
+        return await(async.configRewrite());
+    }
+
+    @Override
+    public String configSet(String parameter, String value) {
+        return await(async.configSet(parameter, value));
+    }
+
+    @Override
+    public Long dbsize() {
+        return await(async.dbsize());
+    }
+
+    @Override
+    public String debugCrashAndRecover(Long delay) {
+        return await(async.debugCrashAndRecover(delay));
+    }
+
+    @Override
+    public String debugHtstats(int db) {
+        return await(async.debugHtstats(db));
+    }
+
+    @Override
+    public String debugObject(K key) {
+        return await(async.debugObject(key));
+    }
+
+    @Override
+    public void debugOom() {
+        async.debugOom();
+    }
+
+    @Override
+    public void debugSegfault() {
+        async.debugSegfault();
+    }
+
+    @Override
+    public String debugReload() {
+        return await(async.debugReload());
+    }
+
+    @Override
+    public String debugRestart(Long delay) {
+        return await(async.debugRestart(delay));
+    }
+
+    @Override
+    public String debugSdslen(K key) {
+        return await(async.debugSdslen(key));
+    }
+
+    @Override
+    public String flushall() {
+        return await(async.flushall());
+    }
+
+    @Override
+    public String flushallAsync() {
+        return await(async.flushallAsync());
+    }
+
+    @Override
+    public String flushdb() {
+        return await(async.flushdb());
+    }
+
+    @Override
+    public String flushdbAsync() {
+        return await(async.flushdbAsync());
+    }
+
+    @Override
+    public String info() {
+        return await(async.info());
+    }
+
+    @Override
+    public String info(String section) {
+        return await(async.info(section));
+    }
+
+    @Override
+    public Date lastsave() {
+        return await(async.lastsave());
+    }
+
+    @Override
+    public String save() {
+        return await(async.save());
+    }
+
+    @Override
+    public void shutdown(boolean save) {
+        async.shutdown(save);
+    }
+
+    @Override
+    public String slaveof(String host, int port) {
+        return await(async.slaveof(host, port));
+    }
+
+    @Override
+    public String slaveofNoOne() {
+        return await(async.slaveofNoOne());
+    }
+
+    @Override
+    public List<Object> slowlogGet() {
+        return await(async.slowlogGet());
+    }
+
+    @Override
+    public List<Object> slowlogGet(int count) {
+        return await(async.slowlogGet(count));
+    }
+
+    @Override
+    public Long slowlogLen() {
+        return await(async.slowlogLen());
+    }
+
+    @Override
+    public String slowlogReset() {
+        return await(async.slowlogReset());
+    }
+
+    @Deprecated
+    @Override
+    public String sync() {
+        return await(async.sync());
+    }
+
+    @Override
+    public List<V> time() {
+        return await(async.time());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sadd(K key, V... members) {
+        return await(async.sadd(key, members));
+    }
+
+    @Override
+    public Long scard(K key) {
+        return await(async.scard(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<V> sdiff(K... keys) {
+        return await(async.sdiff(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sdiff(ValueStreamingChannel<V> channel, K... keys) {
+        return await(async.sdiff(channel, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sdiffstore(K destination, K... keys) {
+        return await(async.sdiffstore(destination, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<V> sinter(K... keys) {
+        return await(async.sinter(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sinter(ValueStreamingChannel<V> channel, K... keys) {
+        return await(async.sinter(channel, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sinterstore(K destination, K... keys) {
+        return await(async.sinterstore(destination, keys));
+    }
+
+    @Override
+    public Boolean sismember(K key, V member) {
+        return await(async.sismember(key, member));
+    }
+
+    @Override
+    public Boolean smove(K source, K destination, V member) {
+        return await(async.smove(source, destination, member));
+    }
+
+    @Override
+    public Set<V> smembers(K key) {
+        return await(async.smembers(key));
+    }
+
+    @Override
+    public Long smembers(ValueStreamingChannel<V> channel, K key) {
+        return await(async.smembers(channel, key));
+    }
+
+    @Override
+    public V spop(K key) {
+        return await(async.spop(key));
+    }
+
+    @Override
+    public Set<V> spop(K key, long count) {
+        return await(async.spop(key, count));
+    }
+
+    @Override
+    public V srandmember(K key) {
+        return await(async.srandmember(key));
+    }
+
+    @Override
+    public List<V> srandmember(K key, long count) {
+        return await(async.srandmember(key, count));
+    }
+
+    @Override
+    public Long srandmember(ValueStreamingChannel<V> channel, K key, long count) {
+        return await(async.srandmember(channel, key, count));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long srem(K key, V... members) {
+        return await(async.srem(key, members));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<V> sunion(K... keys) {
+        return await(async.sunion(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sunion(ValueStreamingChannel<V> channel, K... keys) {
+        return await(async.sunion(channel, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long sunionstore(K destination, K... keys) {
+        return await(async.sunionstore(destination, keys));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key) {
+        return await(async.sscan(key));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanArgs scanArgs) {
+        return await(async.sscan(key, scanArgs));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.sscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanCursor scanCursor) {
+        return await(async.sscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key) {
+        return await(async.sscan(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return await(async.sscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.sscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return await(async.sscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public Long zadd(K key, double score, V member) {
+        return await(async.zadd(key, score, member));
+    }
+
+    @Override
+    public Long zadd(K key, Object... scoresAndValues) {
+        return await(async.zadd(key, scoresAndValues));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zadd(K key, ScoredValue<V>... scoredValues) {
+        return await(async.zadd(key, scoredValues));
+    }
+
+    @Override
+    public Long zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        return await(async.zadd(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Long zadd(K key, ZAddArgs zAddArgs, Object... scoresAndValues) {
+        return await(async.zadd(key, zAddArgs, scoresAndValues));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... scoredValues) {
+        return await(async.zadd(key, zAddArgs, scoredValues));
+    }
+
+    @Override
+    public Double zaddincr(K key, double score, V member) {
+        return await(async.zaddincr(key, score, member));
+    }
+
+    @Override
+    public Double zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
+        return await(async.zaddincr(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Long zcard(K key) {
+        return await(async.zcard(key));
+    }
+
+    @Deprecated
+    @Override
+    public Long zcount(K key, double min, double max) {
+        return await(async.zcount(key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public Long zcount(K key, String min, String max) {
+        return await(async.zcount(key, min, max));
+    }
+
+    @Override
+    public Long zcount(K key, Range<? extends Number> range) {
+        return await(async.zcount(key, range));
+    }
+
+    @Override
+    public Double zincrby(K key, double amount, K member) {
+        return await(async.zincrby(key, amount, member));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zinterstore(K destination, K... keys) {
+        return await(async.zinterstore(destination, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zinterstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return await(async.zinterstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public List<V> zrange(K key, long start, long stop) {
+        return await(async.zrange(key, start, stop));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangeWithScores(K key, long start, long stop) {
+        return await(async.zrangeWithScores(key, start, stop));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebyscore(K key, double min, double max) {
+        return await(async.zrangebyscore(key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebyscore(K key, String min, String max) {
+        return await(async.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, Range<? extends Number> range) {
+        return await(async.zrangebyscore(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebyscore(K key, double min, double max, long offset, long count) {
+        return await(async.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebyscore(K key, String min, String max, long offset, long count) {
+        return await(async.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrangebyscore(key, range, limit));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, double min, double max) {
+        return await(async.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, String min, String max) {
+        return await(async.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return await(async.zrangebyscoreWithScores(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, double min, double max, long offset, long count) {
+        return await(async.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, String min, String max, long offset, long count) {
+        return await(async.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    public Long zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return await(async.zrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Long zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return await(async.zrangeWithScores(channel, key, start, stop));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max) {
+        return await(async.zrangebyscore(channel, key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max) {
+        return await(async.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return await(async.zrangebyscore(channel, key, range));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max, long offset, long count) {
+        return await(async.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max, long offset, long count) {
+        return await(async.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrangebyscore(channel, key, range, limit));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
+        return await(async.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max) {
+        return await(async.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return await(async.zrangebyscoreWithScores(channel, key, range));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max, long offset,
+            long count) {
+        return await(async.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max, long offset,
+            long count) {
+        return await(async.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return await(async.zrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Long zrank(K key, V member) {
+        return await(async.zrank(key, member));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zrem(K key, V... members) {
+        return await(async.zrem(key, members));
+    }
+
+    @Override
+    public Long zremrangebyrank(K key, long start, long stop) {
+        return await(async.zremrangebyrank(key, start, stop));
+    }
+
+    @Deprecated
+    @Override
+    public Long zremrangebyscore(K key, double min, double max) {
+        return await(async.zremrangebyscore(key, min, max));
+    }
+
+    @Deprecated
+    @Override
+    public Long zremrangebyscore(K key, String min, String max) {
+        return await(async.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public Long zremrangebyscore(K key, Range<? extends Number> range) {
+        return await(async.zremrangebyscore(key, range));
+    }
+
+    @Override
+    public List<V> zrevrange(K key, long start, long stop) {
+        return await(async.zrevrange(key, start, stop));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangeWithScores(K key, long start, long stop) {
+        return await(async.zrevrangeWithScores(key, start, stop));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrevrangebyscore(K key, double max, double min) {
+        return await(async.zrevrangebyscore(key, max, min));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrevrangebyscore(K key, String max, String min) {
+        return await(async.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, Range<? extends Number> range) {
+        return await(async.zrevrangebyscore(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrevrangebyscore(K key, double max, double min, long offset, long count) {
+        return await(async.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrevrangebyscore(K key, String max, String min, long offset, long count) {
+        return await(async.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrevrangebyscore(key, range, limit));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, double max, double min) {
+        return await(async.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, String max, String min) {
+        return await(async.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return await(async.zrevrangebyscoreWithScores(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, double max, double min, long offset, long count) {
+        return await(async.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, String max, String min, long offset, long count) {
+        return await(async.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrevrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    public Long zrevrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return await(async.zrevrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Long zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return await(async.zrevrangeWithScores(channel, key, start, stop));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min) {
+        return await(async.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min) {
+        return await(async.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return await(async.zrevrangebyscore(channel, key, range));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min, long offset, long count) {
+        return await(async.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min, long offset, long count) {
+        return await(async.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range, Limit limit) {
+        return await(async.zrevrangebyscore(channel, key, range, limit));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, range));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min, long offset,
+            long count) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Deprecated
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min, long offset,
+            long count) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return await(async.zrevrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Long zrevrank(K key, V member) {
+        return await(async.zrevrank(key, member));
+    }
+
+    @Override
+    public Double zscore(K key, V member) {
+        return await(async.zscore(key, member));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zunionstore(K destination, K... keys) {
+        return await(async.zunionstore(destination, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return await(async.zunionstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key) {
+        return await(async.zscan(key));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanArgs scanArgs) {
+        return await(async.zscan(key, scanArgs));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.zscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanCursor scanCursor) {
+        return await(async.zscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key) {
+        return await(async.zscan(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return await(async.zscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.zscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return await(async.zscan(channel, key, scanCursor));
+    }
+
+    @Deprecated
+    @Override
+    public Long zlexcount(K key, String min, String max) {
+        return await(async.zlexcount(key, min, max));
+    }
+
+    @Override
+    public Long zlexcount(K key, Range<? extends V> range) {
+        return await(async.zlexcount(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public Long zremrangebylex(K key, String min, String max) {
+        return await(async.zremrangebylex(key, min, max));
+    }
+
+    @Override
+    public Long zremrangebylex(K key, Range<? extends V> range) {
+        return await(async.zremrangebylex(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebylex(K key, String min, String max) {
+        return await(async.zrangebylex(key, min, max));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, Range<? extends V> range) {
+        return await(async.zrangebylex(key, range));
+    }
+
+    @Deprecated
+    @Override
+    public List<V> zrangebylex(K key, String min, String max, long offset, long count) {
+        return await(async.zrangebylex(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return await(async.zrangebylex(key, range, limit));
+    }
+
+    @Override
+    public Long append(K key, V value) {
+        return await(async.append(key, value));
+    }
+
+    @Override
+    public Long bitcount(K key) {
+        return await(async.bitcount(key));
+    }
+
+    @Override
+    public Long bitcount(K key, long start, long end) {
+        return await(async.bitcount(key, start, end));
+    }
+
+    @Override
+    public List<Long> bitfield(K key, BitFieldArgs bitFieldArgs) {
+        return await(async.bitfield(key, bitFieldArgs));
+    }
+
+    @Override
+    public Long bitpos(K key, boolean state) {
+        return await(async.bitpos(key, state));
+    }
+
+    @Override
+    public Long bitpos(K key, boolean state, long start, long end) {
+        return await(async.bitpos(key, state, start, end));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long bitopAnd(K destination, K... keys) {
+        return await(async.bitopAnd(destination, keys));
+    }
+
+    @Override
+    public Long bitopNot(K destination, K source) {
+        return await(async.bitopNot(destination, source));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long bitopOr(K destination, K... keys) {
+        return await(async.bitopOr(destination, keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long bitopXor(K destination, K... keys) {
+        return await(async.bitopXor(destination, keys));
+    }
+
+    @Override
+    public Long decr(K key) {
+        return await(async.decr(key));
+    }
+
+    @Override
+    public Long decrby(K key, long amount) {
+        return await(async.decrby(key, amount));
+    }
+
+    @Override
+    public V get(K key) {
+        return await(async.get(key));
+    }
+
+    @Override
+    public Long get(WritableByteChannel channel, K key) {
+        return await(async.get(channel, key));
+    }
+
+    @Override
+    public Long getbit(K key, long offset) {
+        return await(async.getbit(key, offset));
+    }
+
+    @Override
+    public V getrange(K key, long start, long end) {
+        return await(async.getrange(key, start, end));
+    }
+
+    @Override
+    public V getset(K key, V value) {
+        return await(async.getset(key, value));
+    }
+
+    @Override
+    public Long incr(K key) {
+        return await(async.incr(key));
+    }
+
+    @Override
+    public Long incrby(K key, long amount) {
+        return await(async.incrby(key, amount));
+    }
+
+    @Override
+    public Double incrbyfloat(K key, double amount) {
+        return await(async.incrbyfloat(key, amount));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<V> mget(K... keys) {
+        return await(async.mget(keys));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Long mget(ValueStreamingChannel<V> channel, K... keys) {
+        return await(async.mget(channel, keys));
+    }
+
+    @Override
+    public String mset(Map<K, V> map) {
+        return await(async.mset(map));
+    }
+
+    @Override
+    public Boolean msetnx(Map<K, V> map) {
+        return await(async.msetnx(map));
+    }
+
+    @Override
+    public String set(K key, V value) {
+        return await(async.set(key, value));
+    }
+
+    @Override
+    public String set(K key, V value, SetArgs setArgs) {
+        return await(async.set(key, value, setArgs));
+    }
+
+    @Override
+    public Long setbit(K key, long offset, int value) {
+        return await(async.setbit(key, offset, value));
+    }
+
+    @Override
+    public String setex(K key, long seconds, V value) {
+        return await(async.setex(key, seconds, value));
+    }
+
+    @Override
+    public String psetex(K key, long milliseconds, V value) {
+        return await(async.psetex(key, milliseconds, value));
+    }
+
+    @Override
+    public Boolean setnx(K key, V value) {
+        return await(async.setnx(key, value));
+    }
+
+    @Override
+    public Long setrange(K key, long offset, V value) {
+        return await(async.setrange(key, offset, value));
+    }
+
+    @Override
+    public Long strlen(K key) {
+        return await(async.strlen(key));
+    }
+
+    @Override
+    public String discard() {
+        return await(async.discard());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return await(async.exec());
+    }
+
+    @Override
+    public String multi() {
+        return await(async.multi());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String watch(K... keys) {
+        return await(async.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return await(async.unwatch());
+    }
+
+    @Override
+    public Long publish(K channel, V message) {
+        return await(async.publish(channel, message));
+    }
+
+    @Override
+    public List<K> pubsubChannels() {
+        return await(async.pubsubChannels());
+    }
+
+    @Override
+    public List<K> pubsubChannels(K channel) {
+        return await(async.pubsubChannels(channel));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, Long> pubsubNumsub(K... channels) {
+        return await(async.pubsubNumsub(channels));
+    }
+
+    @Override
+    public Long pubsubNumpat() {
+        return await(async.pubsubNumpat());
+    }
+
+    @Override
+    public V echo(V msg) {
+        return await(async.echo(msg));
+    }
+
+    @Override
+    public List<Object> role() {
+        return await(async.role());
+    }
+
+    @Override
+    public String ping() {
+        return await(async.ping());
+    }
+
+    @Override
+    public String readOnly() {
+        return await(async.readOnly());
+    }
+
+    @Override
+    public String readWrite() {
+        return await(async.readWrite());
+    }
+
+    @Override
+    public String quit() {
+        return await(async.quit());
+    }
+
+    @Override
+    public Long waitForReplication(int replicas, long timeout) {
+        return await(async.waitForReplication(replicas, timeout));
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output) {
+        return await(async.dispatch(type, output));
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        return await(async.dispatch(type, output, args));
+    }
+
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return async.isOpen();
+    }
+
+    @Override
+    public void reset() {
+        async.reset();
+    }
+
+    @Override
+    public Long geoadd(K key, double longitude, double latitude, V member) {
+        return await(async.geoadd(key, longitude, latitude, member));
+    }
+
+    @Override
+    public Long geoadd(K key, Object... lngLatMember) {
+        return await(async.geoadd(key, lngLatMember));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> geohash(K key, V... members) {
+        return await(async.geohash(key, members));
+    }
+
+    @Override
+    public Set<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return await(async.georadius(key, longitude, latitude, distance, unit));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return await(async.georadius(key, longitude, latitude, distance, unit, geoArgs));
+    }
+
+    @Override
+    public Long georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return await(async.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    public Set<V> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return await(async.georadiusbymember(key, member, distance, unit));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return await(async.georadiusbymember(key, member, distance, unit, geoArgs));
+    }
+
+    @Override
+    public Long georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return await(async.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<GeoCoordinates> geopos(K key, V... members) {
+        return await(async.geopos(key, members));
+    }
+
+    @Override
+    public Double geodist(K key, V from, V to, GeoArgs.Unit unit) {
+        return await(async.geodist(key, from, to, unit));
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        async.setTimeout(timeout, unit);
+    }
+
+    @Override
+    public String auth(String password) {
+        return async.auth(password);
+    }
+
+    @Override
+    public String clusterBumpepoch() {
+        return await(async.clusterBumpepoch());
+    }
+
+    @Override
+    public String clusterMeet(String ip, int port) {
+        return await(async.clusterMeet(ip, port));
+    }
+
+    @Override
+    public String clusterForget(String nodeId) {
+        return await(async.clusterForget(nodeId));
+    }
+
+    @Override
+    public String clusterAddSlots(int... slots) {
+        return await(async.clusterAddSlots(slots));
+    }
+
+    @Override
+    public String clusterDelSlots(int... slots) {
+        return await(async.clusterDelSlots(slots));
+    }
+
+    @Override
+    public String clusterSetSlotNode(int slot, String nodeId) {
+        return await(async.clusterSetSlotNode(slot, nodeId));
+    }
+
+    @Override
+    public String clusterSetSlotStable(int slot) {
+        return await(async.clusterSetSlotStable(slot));
+    }
+
+    @Override
+    public String clusterSetSlotMigrating(int slot, String nodeId) {
+        return await(async.clusterSetSlotMigrating(slot, nodeId));
+    }
+
+    @Override
+    public String clusterSetSlotImporting(int slot, String nodeId) {
+        return await(async.clusterSetSlotImporting(slot, nodeId));
+    }
+
+    @Override
+    public String clusterInfo() {
+        return await(async.clusterInfo());
+    }
+
+    @Override
+    public String clusterMyId() {
+        return await(async.clusterMyId());
+    }
+
+    @Override
+    public String clusterNodes() {
+        return await(async.clusterNodes());
+    }
+
+    @Override
+    public List<String> clusterSlaves(String nodeId) {
+        return await(async.clusterSlaves(nodeId));
+    }
+
+    @Override
+    public List<K> clusterGetKeysInSlot(int slot, int count) {
+        return await(async.clusterGetKeysInSlot(slot, count));
+    }
+
+    @Override
+    public Long clusterCountKeysInSlot(int slot) {
+        return await(async.clusterCountKeysInSlot(slot));
+    }
+
+    @Override
+    public Long clusterCountFailureReports(String nodeId) {
+        return await(async.clusterCountFailureReports(nodeId));
+    }
+
+    @Override
+    public Long clusterKeyslot(K key) {
+        return await(async.clusterKeyslot(key));
+    }
+
+    @Override
+    public String clusterSaveconfig() {
+        return await(async.clusterSaveconfig());
+    }
+
+    @Override
+    public String clusterSetConfigEpoch(long configEpoch) {
+        return await(async.clusterSetConfigEpoch(configEpoch));
+    }
+
+    @Override
+    public List<Object> clusterSlots() {
+        return await(async.clusterSlots());
+    }
+
+    @Override
+    public String asking() {
+        return await(async.asking());
+    }
+
+    @Override
+    public String clusterReplicate(String nodeId) {
+        return await(async.clusterReplicate(nodeId));
+    }
+
+    @Override
+    public String clusterFailover(boolean force) {
+        return await(async.clusterFailover(force));
+    }
+
+    @Override
+    public String clusterReset(boolean hard) {
+        return await(async.clusterReset(hard));
+    }
+
+    @Override
+    public String clusterFlushslots() {
+        return await(async.clusterFlushslots());
+    }
+}
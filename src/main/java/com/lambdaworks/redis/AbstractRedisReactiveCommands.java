@@ -2,6 +2,7 @@ package com.lambdaworks.redis;
 
 import static com.lambdaworks.redis.protocol.CommandType.EXEC;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -376,6 +377,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createObservable(() -> commandBuilder.get(key));
     }
 
+    @Override
+    public Observable<Long> get(WritableByteChannel channel, K key) {
+        return createObservable(() -> commandBuilder.get(channel, key));
+    }
+
     @Override
     public Observable<Long> getbit(K key, long offset) {
         return createObservable(() -> commandBuilder.getbit(key, offset));
@@ -406,6 +412,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createObservable(() -> commandBuilder.hget(key, field));
     }
 
+    @Override
+    public Observable<Long> hget(WritableByteChannel channel, K key, K field) {
+        return createObservable(() -> commandBuilder.hget(channel, key, field));
+    }
+
     @Override
     public Observable<Long> hincrby(K key, K field, long amount) {
         return createObservable(() -> commandBuilder.hincrby(key, field, amount));
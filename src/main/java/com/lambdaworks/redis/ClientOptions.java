@@ -1,6 +1,7 @@
 package com.lambdaworks.redis;
 
 import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.internal.LettuceAssert;
 
@@ -19,6 +20,17 @@ public class ClientOptions implements Serializable {
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
     public static final SocketOptions DEFAULT_SOCKET_OPTIONS = SocketOptions.create();
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
+    public static final CumulationMode DEFAULT_CUMULATION_MODE = CumulationMode.MERGE;
+    public static final WriteMode DEFAULT_WRITE_MODE = WriteMode.SYNCHRONIZED;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    public static final int DEFAULT_MAX_BATCH_BYTES = 64 * 1024;
+    public static final long DEFAULT_REQUEST_QUEUE_BYTES = Long.MAX_VALUE;
+    public static final RequestQueueFullBehavior DEFAULT_REQUEST_QUEUE_FULL_BEHAVIOR = RequestQueueFullBehavior.REJECT_COMMANDS;
+    public static final long DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT = 60;
+    public static final TimeUnit DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT_UNIT = TimeUnit.SECONDS;
+    public static final long DEFAULT_COMMAND_DEADLINE = 0;
+    public static final TimeUnit DEFAULT_COMMAND_DEADLINE_UNIT = TimeUnit.MILLISECONDS;
+    public static final boolean DEFAULT_RECYCLE_COMMANDS = false;
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
@@ -28,6 +40,17 @@ public class ClientOptions implements Serializable {
     private final DisconnectedBehavior disconnectedBehavior;
     private final SocketOptions socketOptions;
     private final SslOptions sslOptions;
+    private final CumulationMode cumulationMode;
+    private final WriteMode writeMode;
+    private final int maxBatchSize;
+    private final int maxBatchBytes;
+    private final long requestQueueBytes;
+    private final RequestQueueFullBehavior requestQueueFullBehavior;
+    private final long requestQueueWaitTimeout;
+    private final TimeUnit requestQueueWaitTimeoutUnit;
+    private final long commandDeadline;
+    private final TimeUnit commandDeadlineUnit;
+    private final boolean recycleCommands;
 
     protected ClientOptions(Builder builder) {
         pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -38,6 +61,17 @@ public class ClientOptions implements Serializable {
         disconnectedBehavior = builder.disconnectedBehavior;
         socketOptions = builder.socketOptions;
         sslOptions = builder.sslOptions;
+        cumulationMode = builder.cumulationMode;
+        writeMode = builder.writeMode;
+        maxBatchSize = builder.maxBatchSize;
+        maxBatchBytes = builder.maxBatchBytes;
+        requestQueueBytes = builder.requestQueueBytes;
+        requestQueueFullBehavior = builder.requestQueueFullBehavior;
+        requestQueueWaitTimeout = builder.requestQueueWaitTimeout;
+        requestQueueWaitTimeoutUnit = builder.requestQueueWaitTimeoutUnit;
+        commandDeadline = builder.commandDeadline;
+        commandDeadlineUnit = builder.commandDeadlineUnit;
+        recycleCommands = builder.recycleCommands;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -49,6 +83,17 @@ public class ClientOptions implements Serializable {
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.socketOptions = original.getSocketOptions();
         this.sslOptions = original.getSslOptions();
+        this.cumulationMode = original.getCumulationMode();
+        this.writeMode = original.getWriteMode();
+        this.maxBatchSize = original.getMaxBatchSize();
+        this.maxBatchBytes = original.getMaxBatchBytes();
+        this.requestQueueBytes = original.getRequestQueueBytes();
+        this.requestQueueFullBehavior = original.getRequestQueueFullBehavior();
+        this.requestQueueWaitTimeout = original.getRequestQueueWaitTimeout();
+        this.requestQueueWaitTimeoutUnit = original.getRequestQueueWaitTimeoutUnit();
+        this.commandDeadline = original.getCommandDeadline();
+        this.commandDeadlineUnit = original.getCommandDeadlineUnit();
+        this.recycleCommands = original.isRecycleCommands();
     }
 
     /**
@@ -92,6 +137,17 @@ public class ClientOptions implements Serializable {
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
         private SocketOptions socketOptions = DEFAULT_SOCKET_OPTIONS;
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
+        private CumulationMode cumulationMode = DEFAULT_CUMULATION_MODE;
+        private WriteMode writeMode = DEFAULT_WRITE_MODE;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+        private long requestQueueBytes = DEFAULT_REQUEST_QUEUE_BYTES;
+        private RequestQueueFullBehavior requestQueueFullBehavior = DEFAULT_REQUEST_QUEUE_FULL_BEHAVIOR;
+        private long requestQueueWaitTimeout = DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT;
+        private TimeUnit requestQueueWaitTimeoutUnit = DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT_UNIT;
+        private long commandDeadline = DEFAULT_COMMAND_DEADLINE;
+        private TimeUnit commandDeadlineUnit = DEFAULT_COMMAND_DEADLINE_UNIT;
+        private boolean recycleCommands = DEFAULT_RECYCLE_COMMANDS;
 
         /**
          * @deprecated Use {@link ClientOptions#builder()}
@@ -204,6 +260,149 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link CumulationMode} that controls how inbound data is gathered before it is decoded. Defaults to
+         * {@link CumulationMode#MERGE}. See {@link #DEFAULT_CUMULATION_MODE}.
+         *
+         * @param cumulationMode must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder cumulationMode(CumulationMode cumulationMode) {
+
+            LettuceAssert.notNull(cumulationMode, "CumulationMode must not be null");
+            this.cumulationMode = cumulationMode;
+            return this;
+        }
+
+        /**
+         * Sets the {@link WriteMode} that controls how commands issued by application threads are handed over to the
+         * transport. Defaults to {@link WriteMode#SYNCHRONIZED}. See {@link #DEFAULT_WRITE_MODE}.
+         *
+         * @param writeMode must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder writeMode(WriteMode writeMode) {
+
+            LettuceAssert.notNull(writeMode, "WriteMode must not be null");
+            this.writeMode = writeMode;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of commands that are flushed together when using {@link WriteMode#AUTO_BATCH}. Defaults to
+         * {@literal 128}. See {@link #DEFAULT_MAX_BATCH_SIZE}.
+         *
+         * @param maxBatchSize the maximum number of commands per flush, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+
+            LettuceAssert.isTrue(maxBatchSize > 0, "Max batch size must be greater 0");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of encoded bytes pending in the transport after which a batch is flushed when using
+         * {@link WriteMode#AUTO_BATCH}. Defaults to {@literal 64 KiB}. See {@link #DEFAULT_MAX_BATCH_BYTES}.
+         *
+         * @param maxBatchBytes the maximum number of bytes per flush, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxBatchBytes(int maxBatchBytes) {
+
+            LettuceAssert.isTrue(maxBatchBytes > 0, "Max batch bytes must be greater 0");
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Set the per-connection request queue size in bytes. Queued commands are accounted with the estimated size of their
+         * encoded arguments from the time they are written until their response is decoded. Exceeding the limit applies
+         * {@link #requestQueueFullBehavior(RequestQueueFullBehavior)}. In contrast to {@link #requestQueueSize(int)}, this
+         * limit bounds the heap held by queued commands carrying large values. Defaults to {@link Long#MAX_VALUE} (unbounded).
+         * See {@link #DEFAULT_REQUEST_QUEUE_BYTES}.
+         *
+         * @param requestQueueBytes the queue size in bytes, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder requestQueueBytes(long requestQueueBytes) {
+
+            LettuceAssert.isTrue(requestQueueBytes > 0, "Request queue bytes must be greater 0");
+            this.requestQueueBytes = requestQueueBytes;
+            return this;
+        }
+
+        /**
+         * Sets the behavior for command invocation when the request queue exceeds {@link #requestQueueSize(int)} or
+         * {@link #requestQueueBytes(long)}. Defaults to {@link RequestQueueFullBehavior#REJECT_COMMANDS}. See
+         * {@link #DEFAULT_REQUEST_QUEUE_FULL_BEHAVIOR}.
+         *
+         * @param requestQueueFullBehavior must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder requestQueueFullBehavior(RequestQueueFullBehavior requestQueueFullBehavior) {
+
+            LettuceAssert.notNull(requestQueueFullBehavior, "RequestQueueFullBehavior must not be null");
+            this.requestQueueFullBehavior = requestQueueFullBehavior;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait for the request queue to drain when using {@link RequestQueueFullBehavior#WAIT}. The
+         * command invocation is rejected with a {@link RedisException} once the timeout elapses. Defaults to
+         * {@literal 60 SECONDS}. See {@link #DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT} and
+         * {@link #DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT_UNIT}.
+         *
+         * @param timeout the wait timeout, must be greater or equal {@literal 0}.
+         * @param unit the time unit, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder requestQueueWaitTimeout(long timeout, TimeUnit unit) {
+
+            LettuceAssert.isTrue(timeout >= 0, "Timeout must be greater or equal 0");
+            LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+            this.requestQueueWaitTimeout = timeout;
+            this.requestQueueWaitTimeoutUnit = unit;
+            return this;
+        }
+
+        /**
+         * Sets the deadline for commands dispatched through the connection, measured from the time the command is written to
+         * the connection. Commands that do not complete before their deadline complete exceptionally with a
+         * {@link RedisCommandTimeoutException}. Commands are dropped instead of being written to Redis once their deadline has
+         * passed, so commands buffered during a disconnect are not replayed after the deadline. A deadline set on the command
+         * itself takes precedence. Defaults to {@literal 0} (no deadline). See {@link #DEFAULT_COMMAND_DEADLINE}.
+         *
+         * @param deadline the deadline, must be greater or equal {@literal 0}. {@literal 0} disables deadlines.
+         * @param unit the time unit, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder commandDeadline(long deadline, TimeUnit unit) {
+
+            LettuceAssert.isTrue(deadline >= 0, "Deadline must be greater or equal 0");
+            LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+            this.commandDeadline = deadline;
+            this.commandDeadlineUnit = unit;
+            return this;
+        }
+
+        /**
+         * Enables pooling of command objects. Commands, their arguments and key/value argument holders are obtained from
+         * thread-local pools and returned to the pool once a call of the synchronous API completes. Commands issued through the
+         * asynchronous and reactive API are handed to the caller and are therefore never returned to the pool. Defaults to
+         * {@literal false}. See {@link #DEFAULT_RECYCLE_COMMANDS}.
+         *
+         * @param recycleCommands true/false
+         * @return {@code this}
+         */
+        public Builder recycleCommands(boolean recycleCommands) {
+            this.recycleCommands = recycleCommands;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          * 
@@ -297,6 +496,116 @@ public class ClientOptions implements Serializable {
         return sslOptions;
     }
 
+    /**
+     * Returns the {@link CumulationMode} used to gather inbound data. Defaults to {@link CumulationMode#MERGE}. See
+     * {@link #DEFAULT_CUMULATION_MODE}.
+     *
+     * @return the {@link CumulationMode}.
+     */
+    public CumulationMode getCumulationMode() {
+        return cumulationMode;
+    }
+
+    /**
+     * Returns the {@link WriteMode} used to hand over commands to the transport. Defaults to {@link WriteMode#SYNCHRONIZED}.
+     * See {@link #DEFAULT_WRITE_MODE}.
+     *
+     * @return the {@link WriteMode}.
+     */
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    /**
+     * Maximum number of commands that are flushed together when using {@link WriteMode#AUTO_BATCH}. Defaults to {@literal 128}.
+     * See {@link #DEFAULT_MAX_BATCH_SIZE}.
+     *
+     * @return the maximum number of commands per flush.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Number of encoded bytes pending in the transport after which a batch is flushed when using {@link WriteMode#AUTO_BATCH}.
+     * Defaults to {@literal 64 KiB}. See {@link #DEFAULT_MAX_BATCH_BYTES}.
+     *
+     * @return the maximum number of bytes per flush.
+     */
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Request queue size in bytes for a connection. This value applies per connection and is compared against the estimated
+     * encoded size of queued commands. Defaults to {@link Long#MAX_VALUE}. See {@link #DEFAULT_REQUEST_QUEUE_BYTES}.
+     *
+     * @return the request queue size in bytes.
+     */
+    public long getRequestQueueBytes() {
+        return requestQueueBytes;
+    }
+
+    /**
+     * Behavior for command invocation when the request queue is full. Defaults to
+     * {@link RequestQueueFullBehavior#REJECT_COMMANDS}. See {@link #DEFAULT_REQUEST_QUEUE_FULL_BEHAVIOR}.
+     *
+     * @return the behavior for command invocation when the request queue is full.
+     */
+    public RequestQueueFullBehavior getRequestQueueFullBehavior() {
+        return requestQueueFullBehavior;
+    }
+
+    /**
+     * Maximum time to wait for the request queue to drain when using {@link RequestQueueFullBehavior#WAIT}. Defaults to
+     * {@literal 60 SECONDS}. See {@link #DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT}.
+     *
+     * @return the wait timeout.
+     */
+    public long getRequestQueueWaitTimeout() {
+        return requestQueueWaitTimeout;
+    }
+
+    /**
+     * Time unit of the {@link #getRequestQueueWaitTimeout() request queue wait timeout}. Defaults to {@link TimeUnit#SECONDS}.
+     * See {@link #DEFAULT_REQUEST_QUEUE_WAIT_TIMEOUT_UNIT}.
+     *
+     * @return the time unit of the wait timeout.
+     */
+    public TimeUnit getRequestQueueWaitTimeoutUnit() {
+        return requestQueueWaitTimeoutUnit;
+    }
+
+    /**
+     * Deadline for commands dispatched through the connection, measured from the time the command is written to the
+     * connection. Defaults to {@literal 0} (no deadline). See {@link #DEFAULT_COMMAND_DEADLINE}.
+     *
+     * @return the command deadline, {@literal 0} if commands have no deadline.
+     */
+    public long getCommandDeadline() {
+        return commandDeadline;
+    }
+
+    /**
+     * Time unit of the {@link #getCommandDeadline() command deadline}. Defaults to {@link TimeUnit#MILLISECONDS}. See
+     * {@link #DEFAULT_COMMAND_DEADLINE_UNIT}.
+     *
+     * @return the time unit of the command deadline.
+     */
+    public TimeUnit getCommandDeadlineUnit() {
+        return commandDeadlineUnit;
+    }
+
+    /**
+     * Pool command objects and return them to the pool once a call of the synchronous API completes. Defaults to
+     * {@literal false}. See {@link #DEFAULT_RECYCLE_COMMANDS}.
+     *
+     * @return {@literal true} if command objects are pooled.
+     */
+    public boolean isRecycleCommands() {
+        return recycleCommands;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -317,4 +626,65 @@ public class ClientOptions implements Serializable {
          */
         REJECT_COMMANDS,
     }
+
+    /**
+     * Strategy to gather inbound data received from the transport before decoding Redis responses.
+     */
+    public enum CumulationMode {
+
+        /**
+         * Copy all received data into a per-connection aggregate buffer and decode from there.
+         */
+        MERGE,
+
+        /**
+         * Decode directly from the received buffers. Received data is only copied if a response element spans multiple
+         * reads.
+         */
+        DIRECT,
+    }
+
+    /**
+     * Strategy to hand over commands issued by application threads to the transport.
+     */
+    public enum WriteMode {
+
+        /**
+         * Writers register with the connection state lock and write each command to the channel.
+         */
+        SYNCHRONIZED,
+
+        /**
+         * Writers enqueue commands into a lock-free multi-producer/single-consumer queue that is drained by the channel's event
+         * loop. Writers do not contend on a monitor while the connection is active and commands enqueued concurrently are
+         * written and flushed as one batch.
+         */
+        MPSC,
+
+        /**
+         * Like {@link #MPSC}, but commands issued on the event loop are enqueued as well and written commands are flushed in
+         * batches. A batch is flushed after all commands that arrived within one event loop tick were written, or earlier if
+         * it reaches {@link ClientOptions#getMaxBatchSize()} commands or {@link ClientOptions#getMaxBatchBytes()} pending
+         * bytes. Batch sizes are reported to the {@link com.lambdaworks.redis.metrics.CommandLatencyCollector}.
+         */
+        AUTO_BATCH,
+    }
+
+    /**
+     * Behavior of command invocation when the request queue is full.
+     */
+    public enum RequestQueueFullBehavior {
+
+        /**
+         * Reject commands with a {@link RedisException}.
+         */
+        REJECT_COMMANDS,
+
+        /**
+         * Block the invoking thread until queued commands complete or the {@link ClientOptions#getRequestQueueWaitTimeout() wait timeout}
+         * elapses. Commands invoked from the event loop are rejected because waiting there would prevent responses from being
+         * processed.
+         */
+        WAIT,
+    }
 }
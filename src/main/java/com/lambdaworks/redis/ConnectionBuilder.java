@@ -56,6 +56,10 @@ public class ConnectionBuilder {
 
         connection.setOptions(clientOptions);
 
+        if (timer != null) {
+            commandHandler.setTimer(timer);
+        }
+
         handlers.add(new ChannelGroupListener(channelGroup));
         handlers.add(new CommandEncoder());
         handlers.add(commandHandler);
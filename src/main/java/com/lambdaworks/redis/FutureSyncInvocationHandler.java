@@ -6,6 +6,7 @@ import java.lang.reflect.Method;
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.AbstractInvocationHandler;
+import com.lambdaworks.redis.protocol.RecyclableCommand;
 
 /**
  * Invocation-handler to synchronize API calls which use Futures as backend. This class leverages the need to implement a full
@@ -46,7 +47,9 @@ class FutureSyncInvocationHandler<K, V> extends AbstractInvocationHandler {
                 }
 
                 LettuceFutures.awaitOrCancel(command, connection.getTimeout(), connection.getTimeoutUnit());
-                return command.get();
+                Object value = command.get();
+                RecyclableCommand.recycle(command);
+                return value;
             }
             return result;
         } catch (InvocationTargetException e) {
@@ -2,20 +2,28 @@ package com.lambdaworks.redis;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.output.StreamingOutput;
 import com.lambdaworks.redis.protocol.CommandWrapper;
+import com.lambdaworks.redis.protocol.DemandAware;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
 import rx.Observable;
+import rx.Producer;
 import rx.Subscriber;
+import rx.subscriptions.Subscriptions;
 
 /**
- * Reactive command dispatcher.
+ * Reactive command dispatcher. Elements are emitted according to the demand of the subscriber. Reading from the channel is
+ * suspended while the subscriber of a command with an incomplete reply has no demand.
  *
  * @author Mark Paluch
  */
@@ -64,39 +72,42 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             command = commandSupplier.get();
         }
 
+        ObservableSubscription<T> subscription = new ObservableSubscription<>(subscriber);
+
         if (command.getOutput() instanceof StreamingOutput<?>) {
             StreamingOutput<T> streamingOutput = (StreamingOutput<T>) command.getOutput();
 
             if (connection instanceof StatefulRedisConnection<?, ?> && ((StatefulRedisConnection) connection).isMulti()) {
-                streamingOutput.setSubscriber(new DelegatingWrapper<T>(
-                        Arrays.asList(new ObservableSubscriberWrapper<>(subscriber), streamingOutput.getSubscriber())));
+                streamingOutput.setSubscriber(
+                        new DelegatingWrapper<T>(Arrays.asList(subscription, streamingOutput.getSubscriber())));
             } else {
-                streamingOutput.setSubscriber(new ObservableSubscriberWrapper<>(subscriber));
+                streamingOutput.setSubscriber(subscription);
             }
         }
 
-        connection.dispatch(new ObservableCommand<>(command, subscriber, dissolve));
+        subscriber.setProducer(subscription);
+        connection.dispatch(new ObservableCommand<>(command, subscription, dissolve));
 
         this.command = null;
 
     }
 
-    private static class ObservableCommand<K, V, T> extends CommandWrapper<K, V, T> {
+    private static class ObservableCommand<K, V, T> extends CommandWrapper<K, V, T> implements DemandAware.Sink {
 
-        private final Subscriber<? super T> subscriber;
+        private final ObservableSubscription<T> subscription;
         private final boolean dissolve;
         private boolean completed = false;
 
-        public ObservableCommand(RedisCommand<K, V, T> command, Subscriber<? super T> subscriber, boolean dissolve) {
+        public ObservableCommand(RedisCommand<K, V, T> command, ObservableSubscription<T> subscription, boolean dissolve) {
             super(command);
-            this.subscriber = subscriber;
+            this.subscription = subscription;
             this.dissolve = dissolve;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public void complete() {
-            if (completed || subscriber.isUnsubscribed()) {
+            if (completed || subscription.isUnsubscribed()) {
                 return;
             }
 
@@ -110,22 +121,22 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
                         if (dissolve && result instanceof Collection) {
                             Collection<T> collection = (Collection<T>) result;
                             for (T t : collection) {
-                                subscriber.onNext(t);
+                                subscription.onNext(t);
                             }
                         } else {
-                            subscriber.onNext((T) result);
+                            subscription.onNext((T) result);
                         }
                     }
 
                     if (getOutput().hasError()) {
-                        subscriber.onError(new RedisCommandExecutionException(getOutput().getError()));
+                        subscription.onError(new RedisCommandExecutionException(getOutput().getError()));
                         completed = true;
                         return;
                     }
                 }
 
                 try {
-                    subscriber.onCompleted();
+                    subscription.onCompleted();
                 } catch (Exception e) {
                    completeExceptionally(e);
                 }
@@ -137,44 +148,239 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
         @Override
         public void cancel() {
 
-            if (completed || subscriber.isUnsubscribed()) {
+            if (completed || subscription.isUnsubscribed()) {
                 return;
             }
 
             super.cancel();
-            subscriber.onCompleted();
+            subscription.onCompleted();
             completed = true;
         }
 
         @Override
         public boolean completeExceptionally(Throwable throwable) {
-            if (completed || subscriber.isUnsubscribed()) {
+            if (completed || subscription.isUnsubscribed()) {
                 return false;
             }
 
             boolean b = super.completeExceptionally(throwable);
-            subscriber.onError(throwable);
+            subscription.onError(throwable);
             completed = true;
             return b;
         }
+
+        @Override
+        public boolean hasDemand() {
+            return subscription.hasDemand();
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            subscription.setSource(source);
+        }
+
+        @Override
+        public void removeSource() {
+            subscription.removeSource();
+        }
     }
 
-    static class ObservableSubscriberWrapper<T> implements StreamingOutput.Subscriber<T> {
+    /**
+     * Emits elements to a {@link Subscriber} according to its demand. Elements that arrive without demand are queued until the
+     * subscriber requests more elements. The {@link DemandAware.Source} is notified once the subscriber requests more elements
+     * or unsubscribes so reading from the channel can resume.
+     *
+     * @param <T> element type.
+     */
+    static class ObservableSubscription<T> implements Producer, StreamingOutput.Subscriber<T> {
+
+        private static final Object NULL = new Object();
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<ObservableSubscription> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(ObservableSubscription.class, "wip");
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final Queue<Object> queue = LettuceFactories.newConcurrentQueue();
+        private volatile int wip;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile DemandAware.Source source;
 
-        private Subscriber<? super T> subscriber;
+        ObservableSubscription(Subscriber<? super T> subscriber) {
 
-        public ObservableSubscriberWrapper(Subscriber<? super T> subscriber) {
             this.subscriber = subscriber;
+            subscriber.add(Subscriptions.create(this::requestMore));
+        }
+
+        @Override
+        public void request(long n) {
+
+            LettuceAssert.isTrue(n >= 0, "Requested elements must not be negative");
+
+            if (n == 0) {
+                return;
+            }
+
+            for (;;) {
+
+                long current = requested.get();
+                long next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+            requestMore();
         }
 
         @Override
         public void onNext(T t) {
 
-            if(subscriber.isUnsubscribed()) {
+            if (subscriber.isUnsubscribed()) {
                 return;
             }
 
-            subscriber.onNext(t);
+            // fast path: emit directly if there is demand and no queued element
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+
+                long demand = requested.get();
+                if (demand != 0 && queue.isEmpty()) {
+
+                    subscriber.onNext(t);
+
+                    if (demand != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                } else {
+                    queue.offer(t == null ? NULL : t);
+                }
+
+                if (WIP.decrementAndGet(this) == 0) {
+                    return;
+                }
+
+                drainLoop();
+                return;
+            }
+
+            queue.offer(t == null ? NULL : t);
+            drain();
+        }
+
+        void onCompleted() {
+
+            done = true;
+            drain();
+        }
+
+        void onError(Throwable throwable) {
+
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        boolean isUnsubscribed() {
+            return subscriber.isUnsubscribed();
+        }
+
+        boolean hasDemand() {
+            return subscriber.isUnsubscribed() || (requested.get() > 0 && queue.isEmpty());
+        }
+
+        void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        void removeSource() {
+            this.source = null;
+        }
+
+        private void requestMore() {
+
+            DemandAware.Source source = this.source;
+            if (source != null) {
+                source.requestMore();
+            }
+        }
+
+        private void drain() {
+
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+
+            drainLoop();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+
+            int missed = 1;
+
+            for (;;) {
+
+                long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand) {
+
+                    boolean terminated = done;
+                    Object element = queue.poll();
+
+                    if (isTerminated(terminated, element == null)) {
+                        return;
+                    }
+
+                    if (element == null) {
+                        break;
+                    }
+
+                    subscriber.onNext(element == NULL ? null : (T) element);
+                    emitted++;
+                }
+
+                if (emitted == demand && isTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isTerminated(boolean terminated, boolean empty) {
+
+            if (subscriber.isUnsubscribed()) {
+                queue.clear();
+                return true;
+            }
+
+            if (terminated && empty) {
+
+                Throwable error = this.error;
+                if (error != null) {
+                    subscriber.onError(error);
+                } else {
+                    subscriber.onCompleted();
+                }
+                return true;
+            }
+
+            return false;
         }
     }
 
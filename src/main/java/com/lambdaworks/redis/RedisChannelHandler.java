@@ -222,4 +222,12 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
     public void flushCommands() {
         getChannelWriter().flushCommands();
     }
+
+    public int getInFlightCommands() {
+        return getChannelWriter().getInFlightCommands();
+    }
+
+    public long getInFlightBytes() {
+        return getChannelWriter().getInFlightBytes();
+    }
 }
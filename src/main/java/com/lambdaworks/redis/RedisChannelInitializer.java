@@ -1,6 +1,6 @@
 package com.lambdaworks.redis;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 
 import io.netty.channel.ChannelHandler;
 
@@ -16,5 +16,5 @@ public interface RedisChannelInitializer extends ChannelHandler {
      *
      * @return future to synchronize channel initialization. Returns a new future for every reconnect.
      */
-    Future<Boolean> channelInitialized();
+    CompletableFuture<Boolean> channelInitialized();
 }
@@ -1,6 +1,7 @@
 package com.lambdaworks.redis;
 
 import java.io.Closeable;
+import java.util.Collection;
 
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -25,6 +26,20 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      */
     <T, C extends RedisCommand<K, V, T>> C write(C command);
 
+    /**
+     * Write multiple commands on the channel. Writers that support batching write the commands using a single flush. The
+     * default implementation writes each command using {@link #write(RedisCommand)}. Commands are written as-is, callers
+     * should hold on to the command instances to obtain their results.
+     *
+     * @param commands the redis commands
+     */
+    default void writeAll(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        for (RedisCommand<K, V, ?> command : commands) {
+            write(command);
+        }
+    }
+
     @Override
     void close();
 
@@ -55,4 +70,26 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      * achieve batching. No-op if channel is not connected.
      */
     void flushCommands();
+
+    /**
+     * Returns the number of commands that were written and did not complete yet. Writers that do not account their request
+     * queue return {@literal 0}.
+     *
+     * @return the number of in-flight commands.
+     * @since 4.3
+     */
+    default int getInFlightCommands() {
+        return 0;
+    }
+
+    /**
+     * Returns the estimated number of encoded bytes of commands that were written and did not complete yet. Writers that do
+     * not account their request queue in bytes return {@literal 0}.
+     *
+     * @return the number of in-flight bytes.
+     * @since 4.3
+     */
+    default long getInFlightBytes() {
+        return 0;
+    }
 }
@@ -23,8 +23,11 @@ import com.lambdaworks.redis.support.ConnectionPoolSupport;
 
 import java.net.ConnectException;
 import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -427,7 +430,8 @@ public class RedisClient extends AbstractRedisClient {
         return connectStandalone(codec, redisURI, Timeout.from(redisURI)).async();
     }
 
-    private <K, V> StatefulRedisConnection<K, V> connectStandalone(RedisCodec<K, V> codec, RedisURI redisURI, Timeout timeout) {
+    private <K, V> StatefulRedisConnectionImpl<K, V> connectStandalone(RedisCodec<K, V> codec, RedisURI redisURI,
+            Timeout timeout) {
 
         assertNotNull(codec);
         checkValidRedisURI(redisURI);
@@ -442,9 +446,138 @@ public class RedisClient extends AbstractRedisClient {
         return connection;
     }
 
+    /**
+     * Open a new striped connection to a Redis server that treats keys and values as UTF-8 strings. The connection uses
+     * {@code stripes} channels to the same server and distributes commands using {@link Striping#ROUND_ROBIN}.
+     *
+     * @param stripes number of channels, must be greater than zero
+     * @return A new stateful Redis connection
+     * @since 4.3
+     */
+    public StatefulRedisConnection<String, String> connectStriped(int stripes) {
+        checkForRedisURI();
+        return connectStriped(newStringStringCodec(), this.redisURI, stripes, Striping.ROUND_ROBIN);
+    }
+
+    /**
+     * Open a new striped connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys. The connection uses {@code stripes} channels to the same server so
+     * encoding and decoding is spread across multiple event loop threads. Commands are distributed across the channels
+     * according to {@link Striping}. Transactions and blocking commands are pinned to a single channel, commands that change
+     * the connection state ({@code AUTH}, {@code SELECT}, {@code READONLY}, {@code READWRITE}) are applied to all channels.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param stripes number of channels, must be greater than zero
+     * @param striping the command distribution, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new stateful Redis connection
+     * @since 4.3
+     */
+    public <K, V> StatefulRedisConnection<K, V> connectStriped(RedisCodec<K, V> codec, RedisURI redisURI, int stripes,
+            Striping striping) {
+
+        assertNotNull(codec);
+        checkValidRedisURI(redisURI);
+        LettuceAssert.isTrue(stripes > 0, "Stripes must be greater than zero");
+        LettuceAssert.notNull(striping, "Striping must not be null");
+
+        Timeout timeout = Timeout.from(redisURI);
+        List<StatefulRedisConnectionImpl<K, V>> connections = new ArrayList<>(stripes);
+
+        try {
+            for (int i = 0; i < stripes; i++) {
+                connections.add(connectStandalone(codec, redisURI, timeout));
+            }
+        } catch (RuntimeException e) {
+            connections.forEach(StatefulRedisConnectionImpl::close);
+            throw e;
+        }
+
+        StripedChannelWriter<K, V> writer = new StripedChannelWriter<>(connections, codec, striping);
+        StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer, codec, timeout.timeout,
+                timeout.timeUnit);
+        connection.setOptions(clientOptions);
+        connection.registerCloseables(closeableResources, connection);
+
+        return connection;
+    }
+
+    /**
+     * Open a new connection to a Redis server using the supplied {@link RedisURI} and the supplied {@link RedisCodec codec} to
+     * encode/decode keys without blocking the calling thread. The returned future completes with the connection once the
+     * channel is initialized and {@code AUTH}/{@code SELECT} from the {@link RedisURI} are applied. It completes
+     * exceptionally with a {@link RedisException} if the connection cannot be established.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that is completed with the connection
+     * @since 4.3
+     */
+    public <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectStatefulAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI) {
+
+        assertNotNull(codec);
+        checkValidRedisURI(redisURI);
+
+        Timeout timeout = Timeout.from(redisURI);
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+
+        CommandHandler<K, V> handler = new CommandHandler<>(clientOptions, clientResources, queue);
+
+        StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(handler, codec, timeout.timeout,
+                timeout.timeUnit);
+
+        CompletableFuture<StatefulRedisConnectionImpl<K, V>> initialized = initializeChannelAsync(
+                newConnectionBuilder(handler, connection, redisURI));
+
+        return initialized.thenCompose(c -> {
+
+            CompletableFuture<String> auth = CompletableFuture.completedFuture(null);
+            CompletableFuture<String> select = CompletableFuture.completedFuture(null);
+
+            if (redisURI.getPassword() != null && redisURI.getPassword().length != 0) {
+                auth = c.async.authAsync(new String(redisURI.getPassword()));
+            }
+
+            if (redisURI.getDatabase() != 0) {
+                select = c.async.selectAsync(redisURI.getDatabase());
+            }
+
+            return CompletableFuture.allOf(auth, select).handle((v, throwable) -> {
+
+                if (throwable != null) {
+                    c.close();
+                    throw throwable instanceof CompletionException ? (CompletionException) throwable
+                            : new CompletionException(throwable);
+                }
+
+                return c;
+            });
+        });
+    }
+
     private <K, V> void connectStateful(CommandHandler<K, V> handler, StatefulRedisConnectionImpl<K, V> connection,
             RedisURI redisURI) {
 
+        initializeChannel(newConnectionBuilder(handler, connection, redisURI));
+
+        if (redisURI.getPassword() != null && redisURI.getPassword().length != 0) {
+            connection.async().auth(new String(redisURI.getPassword()));
+        }
+
+        if (redisURI.getDatabase() != 0) {
+            connection.async().select(redisURI.getDatabase());
+        }
+
+    }
+
+    private ConnectionBuilder newConnectionBuilder(CommandHandler<?, ?> handler, RedisChannelHandler<?, ?> connection,
+            RedisURI redisURI) {
+
         ConnectionBuilder connectionBuilder;
         if (redisURI.isSsl()) {
             SslConnectionBuilder sslConnectionBuilder = SslConnectionBuilder.sslConnectionBuilder();
@@ -458,16 +591,7 @@ public class RedisClient extends AbstractRedisClient {
         connectionBuilder.clientResources(clientResources);
         connectionBuilder(handler, connection, getSocketAddressSupplier(redisURI), connectionBuilder, redisURI);
         channelType(connectionBuilder, redisURI);
-        initializeChannel(connectionBuilder);
-
-        if (redisURI.getPassword() != null && redisURI.getPassword().length != 0) {
-            connection.async().auth(new String(redisURI.getPassword()));
-        }
-
-        if (redisURI.getDatabase() != 0) {
-            connection.async().select(redisURI.getDatabase());
-        }
-
+        return connectionBuilder;
     }
 
     /**
@@ -5,10 +5,12 @@ import static com.lambdaworks.redis.protocol.CommandKeyword.*;
 import static com.lambdaworks.redis.protocol.CommandType.*;
 
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
@@ -37,6 +39,10 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         super(codec);
     }
 
+    public RedisCommandBuilder(RedisCodec<K, V> codec, BooleanSupplier recycleCommands) {
+        super(codec, recycleCommands);
+    }
+
     public Command<K, V, Long> append(K key, V value) {
         notNullKey(key);
 
@@ -47,7 +53,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(password, "Password " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(password, "Password " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(password);
+        CommandArgs<K, V> args = newArgs().add(password);
         return createCommand(AUTH, new StatusOutput<K, V>(codec), args);
     }
 
@@ -62,14 +68,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> bitcount(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         return createCommand(BITCOUNT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> bitcount(K key, long start, long end) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(start).add(end);
         return createCommand(BITCOUNT, new IntegerOutput<K, V>(codec), args);
     }
@@ -78,7 +84,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key);
 
         bitFieldArgs.build(args);
@@ -89,7 +95,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> bitpos(K key, boolean state) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(state ? 1 : 0);
         return createCommand(BITPOS, new IntegerOutput<K, V>(codec), args);
     }
@@ -97,7 +103,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> bitpos(K key, boolean state, long start, long end) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(state ? 1 : 0).add(start).add(end);
         return createCommand(BITPOS, new IntegerOutput<K, V>(codec), args);
     }
@@ -106,7 +112,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(AND).addKey(destination).addKeys(keys);
         return createCommand(BITOP, new IntegerOutput<K, V>(codec), args);
     }
@@ -115,7 +121,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(source, "Source " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(NOT).addKey(destination).addKey(source);
         return createCommand(BITOP, new IntegerOutput<K, V>(codec), args);
     }
@@ -124,7 +130,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(OR).addKey(destination).addKeys(keys);
         return createCommand(BITOP, new IntegerOutput<K, V>(codec), args);
     }
@@ -133,7 +139,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(XOR).addKey(destination).addKeys(keys);
         return createCommand(BITOP, new IntegerOutput<K, V>(codec), args);
     }
@@ -141,14 +147,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, KeyValue<K, V>> blpop(long timeout, K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys).add(timeout);
+        CommandArgs<K, V> args = newArgs().addKeys(keys).add(timeout);
         return createCommand(BLPOP, new KeyValueOutput<K, V>(codec), args);
     }
 
     public Command<K, V, KeyValue<K, V>> brpop(long timeout, K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys).add(timeout);
+        CommandArgs<K, V> args = newArgs().addKeys(keys).add(timeout);
         return createCommand(BRPOP, new KeyValueOutput<K, V>(codec), args);
     }
 
@@ -156,20 +162,20 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(source, "Source " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(source).addKey(destination).add(timeout);
         return createCommand(BRPOPLPUSH, new ValueOutput<K, V>(codec), args);
     }
 
     public Command<K, V, K> clientGetname() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(GETNAME);
+        CommandArgs<K, V> args = newArgs().add(GETNAME);
         return createCommand(CLIENT, new KeyOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clientSetname(K name) {
         LettuceAssert.notNull(name, "Name " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SETNAME).addKey(name);
+        CommandArgs<K, V> args = newArgs().add(SETNAME).addKey(name);
         return createCommand(CLIENT, new StatusOutput<K, V>(codec), args);
     }
 
@@ -177,30 +183,30 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(addr, "Addr " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(addr, "Addr " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(KILL).add(addr);
+        CommandArgs<K, V> args = newArgs().add(KILL).add(addr);
         return createCommand(CLIENT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> clientKill(KillArgs killArgs) {
         LettuceAssert.notNull(killArgs, "KillArgs " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(KILL);
+        CommandArgs<K, V> args = newArgs().add(KILL);
         killArgs.build(args);
         return createCommand(CLIENT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clientPause(long timeout) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(PAUSE).add(timeout);
+        CommandArgs<K, V> args = newArgs().add(PAUSE).add(timeout);
         return createCommand(CLIENT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clientList() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(LIST);
+        CommandArgs<K, V> args = newArgs().add(LIST);
         return createCommand(CLIENT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<Object>> command() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         return createCommand(COMMAND, new ArrayOutput<K, V>(codec), args);
     }
 
@@ -209,7 +215,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(commands, "Commands " + MUST_NOT_BE_EMPTY);
         LettuceAssert.noNullElements(commands, "Commands " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(INFO);
 
         for (String command : commands) {
@@ -220,12 +226,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, Long> commandCount() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(COUNT);
+        CommandArgs<K, V> args = newArgs().add(COUNT);
         return createCommand(COMMAND, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> configRewrite() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(REWRITE);
+        CommandArgs<K, V> args = newArgs().add(REWRITE);
         return createCommand(CONFIG, new StatusOutput<K, V>(codec), args);
     }
 
@@ -233,12 +239,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(parameter, "Parameter " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(parameter, "Parameter " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(GET).add(parameter);
+        CommandArgs<K, V> args = newArgs().add(GET).add(parameter);
         return createCommand(CONFIG, new StringListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> configResetstat() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(RESETSTAT);
+        CommandArgs<K, V> args = newArgs().add(RESETSTAT);
         return createCommand(CONFIG, new StatusOutput<K, V>(codec), args);
     }
 
@@ -247,7 +253,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(parameter, "Parameter " + MUST_NOT_BE_EMPTY);
         LettuceAssert.notNull(value, "Value " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SET).add(parameter).add(value);
+        CommandArgs<K, V> args = newArgs().add(SET).add(parameter).add(value);
         return createCommand(CONFIG, new StatusOutput<K, V>(codec), args);
     }
 
@@ -256,7 +262,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> debugCrashAndRecover(Long delay) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add("CRASH-AND-RECOVER");
+        CommandArgs<K, V> args = newArgs().add("CRASH-AND-RECOVER");
         if (delay != null) {
             args.add(delay);
         }
@@ -266,25 +272,25 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> debugObject(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(OBJECT).addKey(key);
+        CommandArgs<K, V> args = newArgs().add(OBJECT).addKey(key);
         return createCommand(DEBUG, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Void> debugOom() {
-        return createCommand(DEBUG, null, new CommandArgs<K, V>(codec).add("OOM"));
+        return createCommand(DEBUG, null, newArgs().add("OOM"));
     }
 
     public Command<K, V, String> debugHtstats(int db) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(HTSTATS).add(db);
+        CommandArgs<K, V> args = newArgs().add(HTSTATS).add(db);
         return createCommand(DEBUG, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> debugReload() {
-        return createCommand(DEBUG, new StatusOutput<K, V>(codec), new CommandArgs<K, V>(codec).add(RELOAD));
+        return createCommand(DEBUG, new StatusOutput<K, V>(codec), newArgs().add(RELOAD));
     }
 
     public Command<K, V, String> debugRestart(Long delay) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(RESTART);
+        CommandArgs<K, V> args = newArgs().add(RESTART);
         if (delay != null) {
             args.add(delay);
         }
@@ -294,11 +300,11 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> debugSdslen(K key) {
         notNullKey(key);
 
-        return createCommand(DEBUG, new StatusOutput<K, V>(codec), new CommandArgs<K, V>(codec).add("SDSLEN").addKey(key));
+        return createCommand(DEBUG, new StatusOutput<K, V>(codec), newArgs().add("SDSLEN").addKey(key));
     }
 
     public Command<K, V, Void> debugSegfault() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SEGFAULT);
+        CommandArgs<K, V> args = newArgs().add(SEGFAULT);
         return createCommand(DEBUG, null, args);
     }
 
@@ -311,35 +317,35 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> decrby(K key, long amount) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(amount);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(amount);
         return createCommand(DECRBY, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> del(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(DEL, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> del(Iterable<K> keys) {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(DEL, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> unlink(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(UNLINK, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> unlink(Iterable<K> keys) {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(UNLINK, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -350,14 +356,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, byte[]> dump(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         return createCommand(DUMP, new ByteArrayOutput<K, V>(codec), args);
     }
 
     public Command<K, V, V> echo(V msg) {
         LettuceAssert.notNull(msg, "message " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addValue(msg);
+        CommandArgs<K, V> args = newArgs().addValue(msg);
         return createCommand(ECHO, new ValueOutput<K, V>(codec), args);
     }
 
@@ -367,7 +373,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(type, "ScriptOutputType " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(script).add(keys.length).addKeys(keys);
         CommandOutput<K, V, T> output = newScriptOutput(codec, type);
         return createCommand(EVAL, output, args);
@@ -380,7 +386,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(values, "Values " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(script).add(keys.length).addKeys(keys).addValues(values);
         CommandOutput<K, V, T> output = newScriptOutput(codec, type);
         return createCommand(EVAL, output, args);
@@ -392,7 +398,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(type, "ScriptOutputType " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(digest).add(keys.length).addKeys(keys);
         CommandOutput<K, V, T> output = newScriptOutput(codec, type);
         return createCommand(EVALSHA, output, args);
@@ -405,7 +411,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(values, "Values " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(digest).add(keys.length).addKeys(keys).addValues(values);
         CommandOutput<K, V, T> output = newScriptOutput(codec, type);
         return createCommand(EVALSHA, output, args);
@@ -420,26 +426,26 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> exists(K... keys) {
         notEmpty(keys);
 
-        return createCommand(EXISTS, new IntegerOutput<K, V>(codec), new CommandArgs<K, V>(codec).addKeys(keys));
+        return createCommand(EXISTS, new IntegerOutput<K, V>(codec), newArgs().addKeys(keys));
     }
 
     public Command<K, V, Long> exists(Iterable<K> keys) {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        return createCommand(EXISTS, new IntegerOutput<K, V>(codec), new CommandArgs<K, V>(codec).addKeys(keys));
+        return createCommand(EXISTS, new IntegerOutput<K, V>(codec), newArgs().addKeys(keys));
     }
 
     public Command<K, V, Boolean> expire(K key, long seconds) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(seconds);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(seconds);
         return createCommand(EXPIRE, new BooleanOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Boolean> expireat(K key, long timestamp) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(timestamp);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(timestamp);
         return createCommand(EXPIREAT, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -448,7 +454,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> flushallAsync() {
-        return createCommand(FLUSHALL, new StatusOutput<K, V>(codec), new CommandArgs<K, V>(codec).add(ASYNC));
+        return createCommand(FLUSHALL, new StatusOutput<K, V>(codec), newArgs().add(ASYNC));
     }
 
     public Command<K, V, String> flushdb() {
@@ -456,7 +462,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> flushdbAsync() {
-        return createCommand(FLUSHDB, new StatusOutput<K, V>(codec), new CommandArgs<K, V>(codec).add(ASYNC));
+        return createCommand(FLUSHDB, new StatusOutput<K, V>(codec), newArgs().add(ASYNC));
     }
 
     public Command<K, V, V> get(K key) {
@@ -465,17 +471,24 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GET, new ValueOutput<K, V>(codec), key);
     }
 
+    public Command<K, V, Long> get(WritableByteChannel channel, K key) {
+        LettuceAssert.notNull(channel, "WritableByteChannel " + MUST_NOT_BE_NULL);
+        notNullKey(key);
+
+        return createCommand(GET, new ValueSinkOutput<K, V>(codec, channel), key);
+    }
+
     public Command<K, V, Long> getbit(K key, long offset) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(offset);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(offset);
         return createCommand(GETBIT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, V> getrange(K key, long start, long end) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(end);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(end);
         return createCommand(GETRANGE, new ValueOutput<K, V>(codec), args);
     }
 
@@ -490,7 +503,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(fields, "Fields " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(fields, "Fields " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKeys(fields);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKeys(fields);
         return createCommand(HDEL, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -498,7 +511,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field);
         return createCommand(HEXISTS, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -506,15 +519,24 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field);
         return createCommand(HGET, new ValueOutput<K, V>(codec), args);
     }
 
+    public Command<K, V, Long> hget(WritableByteChannel channel, K key, K field) {
+        LettuceAssert.notNull(channel, "WritableByteChannel " + MUST_NOT_BE_NULL);
+        notNullKey(key);
+        LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field);
+        return createCommand(HGET, new ValueSinkOutput<K, V>(codec, channel), args);
+    }
+
     public Command<K, V, Long> hincrby(K key, K field, long amount) {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field).add(amount);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field).add(amount);
         return createCommand(HINCRBY, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -522,7 +544,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field).add(amount);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field).add(amount);
         return createCommand(HINCRBYFLOAT, new DoubleOutput<K, V>(codec), args);
     }
 
@@ -562,7 +584,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field);
         return createCommand(HSTRLEN, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -571,7 +593,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(fields, "Fields " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(fields, "Fields " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKeys(fields);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKeys(fields);
         return createCommand(HMGET, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -581,7 +603,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(fields, "Fields " + MUST_NOT_BE_EMPTY);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKeys(fields);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKeys(fields);
         return createCommand(HMGET, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -590,7 +612,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(map, "Map " + MUST_NOT_BE_NULL);
         LettuceAssert.isTrue(!map.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(map);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(map);
         return createCommand(HMSET, new StatusOutput<K, V>(codec), args);
     }
 
@@ -598,7 +620,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field).addValue(value);
         return createCommand(HSET, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -606,7 +628,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(field).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(field).addValue(value);
         return createCommand(HSETNX, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -632,14 +654,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> incrby(K key, long amount) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(amount);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(amount);
         return createCommand(INCRBY, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Double> incrbyfloat(K key, double amount) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(amount);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(amount);
         return createCommand(INCRBYFLOAT, new DoubleOutput<K, V>(codec), args);
     }
 
@@ -650,7 +672,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> info(String section) {
         LettuceAssert.notNull(section, "Section " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(section);
+        CommandArgs<K, V> args = newArgs().add(section);
         return createCommand(INFO, new StatusOutput<K, V>(codec), args);
     }
 
@@ -674,14 +696,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, V> lindex(K key, long index) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(index);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(index);
         return createCommand(LINDEX, new ValueOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> linsert(K key, boolean before, V pivot, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(before ? BEFORE : AFTER).addValue(pivot).addValue(value);
         return createCommand(LINSERT, new IntegerOutput<K, V>(codec), args);
     }
@@ -709,7 +731,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notEmptyValues(values);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(values);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(values);
 
         return createCommand(LPUSHX, new IntegerOutput<K, V>(codec), args);
     }
@@ -717,7 +739,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, List<V>> lrange(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(LRANGE, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -725,28 +747,28 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(LRANGE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
     public Command<K, V, Long> lrem(K key, long count, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(count).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(count).addValue(value);
         return createCommand(LREM, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> lset(K key, long index, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(index).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(index).addValue(value);
         return createCommand(LSET, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> ltrim(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(LTRIM, new StatusOutput<K, V>(codec), args);
     }
 
@@ -755,7 +777,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(host, "Host " + MUST_NOT_BE_EMPTY);
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.add(host).add(port).addKey(key).add(db).add(timeout);
         return createCommand(MIGRATE, new StatusOutput<K, V>(codec), args);
     }
@@ -765,7 +787,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(host, "Host " + MUST_NOT_BE_EMPTY);
         LettuceAssert.notNull(migrateArgs, "migrateArgs " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
 
         args.add(host).add(port);
 
@@ -784,14 +806,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, List<V>> mget(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(MGET, new ValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<V>> mget(Iterable<K> keys) {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(MGET, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -799,7 +821,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmpty(keys);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(MGET, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -807,14 +829,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(MGET, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
     public Command<K, V, Boolean> move(K key, int db) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(db);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(db);
         return createCommand(MOVE, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -826,7 +848,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(map, "Map " + MUST_NOT_BE_NULL);
         LettuceAssert.isTrue(!map.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(map);
+        CommandArgs<K, V> args = newArgs().add(map);
         return createCommand(MSET, new StatusOutput<K, V>(codec), args);
     }
 
@@ -834,28 +856,28 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(map, "Map " + MUST_NOT_BE_NULL);
         LettuceAssert.isTrue(!map.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(map);
+        CommandArgs<K, V> args = newArgs().add(map);
         return createCommand(MSETNX, new BooleanOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> objectEncoding(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(ENCODING).addKey(key);
+        CommandArgs<K, V> args = newArgs().add(ENCODING).addKey(key);
         return createCommand(OBJECT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> objectIdletime(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(IDLETIME).addKey(key);
+        CommandArgs<K, V> args = newArgs().add(IDLETIME).addKey(key);
         return createCommand(OBJECT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> objectRefcount(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(REFCOUNT).addKey(key);
+        CommandArgs<K, V> args = newArgs().add(REFCOUNT).addKey(key);
         return createCommand(OBJECT, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -868,14 +890,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Boolean> pexpire(K key, long milliseconds) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(milliseconds);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(milliseconds);
         return createCommand(PEXPIRE, new BooleanOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Boolean> pexpireat(K key, long timestamp) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(timestamp);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(timestamp);
         return createCommand(PEXPIREAT, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -894,26 +916,26 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> pttl(K key) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         return createCommand(PTTL, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> publish(K channel, V message) {
         LettuceAssert.notNull(channel, "Channel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(channel).addValue(message);
+        CommandArgs<K, V> args = newArgs().addKey(channel).addValue(message);
         return createCommand(PUBLISH, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<K>> pubsubChannels() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(CHANNELS);
+        CommandArgs<K, V> args = newArgs().add(CHANNELS);
         return createCommand(PUBSUB, new KeyListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<K>> pubsubChannels(K pattern) {
         LettuceAssert.notNull(pattern, "Pattern " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(CHANNELS).addKey(pattern);
+        CommandArgs<K, V> args = newArgs().add(CHANNELS).addKey(pattern);
         return createCommand(PUBSUB, new KeyListOutput<K, V>(codec), args);
     }
 
@@ -922,12 +944,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(pattern, "Pattern " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(pattern, "Pattern " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(NUMSUB).addKeys(pattern);
+        CommandArgs<K, V> args = newArgs().add(NUMSUB).addKeys(pattern);
         return createCommand(PUBSUB, (MapOutput) new MapOutput<K, Long>((RedisCodec) codec), args);
     }
 
     public Command<K, V, Long> pubsubNumpat() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(NUMPAT);
+        CommandArgs<K, V> args = newArgs().add(NUMPAT);
         return createCommand(PUBSUB, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -947,7 +969,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(newKey, "NewKey " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(newKey);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(newKey);
         return createCommand(RENAME, new StatusOutput<K, V>(codec), args);
     }
 
@@ -955,7 +977,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(newKey, "NewKey " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKey(newKey);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKey(newKey);
         return createCommand(RENAMENX, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -963,7 +985,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(value, "Value " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(ttl).add(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(ttl).add(value);
         return createCommand(RESTORE, new StatusOutput<K, V>(codec), args);
     }
 
@@ -977,7 +999,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(source, "Source " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(source).addKey(destination);
+        CommandArgs<K, V> args = newArgs().addKey(source).addKey(destination);
         return createCommand(RPOPLPUSH, new ValueOutput<K, V>(codec), args);
     }
 
@@ -992,7 +1014,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notEmptyValues(values);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(values);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(values);
         return createCommand(RPUSHX, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1020,7 +1042,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(digests, "Digests " + MUST_NOT_BE_EMPTY);
         LettuceAssert.noNullElements(digests, "Digests " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(EXISTS);
+        CommandArgs<K, V> args = newArgs().add(EXISTS);
         for (String sha : digests) {
             args.add(sha);
         }
@@ -1028,26 +1050,26 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> scriptFlush() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(FLUSH);
+        CommandArgs<K, V> args = newArgs().add(FLUSH);
         return createCommand(SCRIPT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> scriptKill() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(KILL);
+        CommandArgs<K, V> args = newArgs().add(KILL);
         return createCommand(SCRIPT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> scriptLoad(V script) {
         LettuceAssert.notNull(script, "Script " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(LOAD).addValue(script);
+        CommandArgs<K, V> args = newArgs().add(LOAD).addValue(script);
         return createCommand(SCRIPT, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Set<V>> sdiff(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SDIFF, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -1055,7 +1077,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmpty(keys);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SDIFF, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1063,12 +1085,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmpty(keys);
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(destination).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKey(destination).addKeys(keys);
         return createCommand(SDIFFSTORE, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> select(int db) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(db);
+        CommandArgs<K, V> args = newArgs().add(db);
         return createCommand(SELECT, new StatusOutput<K, V>(codec), args);
     }
 
@@ -1081,7 +1103,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> set(K key, V value, SetArgs setArgs) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(value);
         setArgs.build(args);
         return createCommand(SET, new StatusOutput<K, V>(codec), args);
     }
@@ -1089,21 +1111,21 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> setbit(K key, long offset, int value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(offset).add(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(offset).add(value);
         return createCommand(SETBIT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> setex(K key, long seconds, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(seconds).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(seconds).addValue(value);
         return createCommand(SETEX, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> psetex(K key, long milliseconds, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(milliseconds).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(milliseconds).addValue(value);
         return createCommand(PSETEX, new StatusOutput<K, V>(codec), args);
     }
 
@@ -1115,7 +1137,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> setrange(K key, long offset, V value) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(offset).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(offset).addValue(value);
         return createCommand(SETRANGE, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1125,14 +1147,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> shutdown(boolean save) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         return createCommand(SHUTDOWN, new StatusOutput<K, V>(codec), save ? args.add(SAVE) : args.add(NOSAVE));
     }
 
     public Command<K, V, Set<V>> sinter(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SINTER, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -1140,7 +1162,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmpty(keys);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SINTER, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1148,7 +1170,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(destination).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKey(destination).addKeys(keys);
         return createCommand(SINTERSTORE, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1161,7 +1183,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(source, "Source " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(source).addKey(destination).addValue(member);
+        CommandArgs<K, V> args = newArgs().addKey(source).addKey(destination).addValue(member);
         return createCommand(SMOVE, new BooleanOutput<K, V>(codec), args);
     }
 
@@ -1169,32 +1191,32 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(host, "Host " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(host, "Host " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(host).add(port);
+        CommandArgs<K, V> args = newArgs().add(host).add(port);
         return createCommand(SLAVEOF, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> slaveofNoOne() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(NO).add(ONE);
+        CommandArgs<K, V> args = newArgs().add(NO).add(ONE);
         return createCommand(SLAVEOF, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<Object>> slowlogGet() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(GET);
+        CommandArgs<K, V> args = newArgs().add(GET);
         return createCommand(SLOWLOG, new NestedMultiOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<Object>> slowlogGet(int count) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(GET).add(count);
+        CommandArgs<K, V> args = newArgs().add(GET).add(count);
         return createCommand(SLOWLOG, new NestedMultiOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> slowlogLen() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(LEN);
+        CommandArgs<K, V> args = newArgs().add(LEN);
         return createCommand(SLOWLOG, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> slowlogReset() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(RESET);
+        CommandArgs<K, V> args = newArgs().add(RESET);
         return createCommand(SLOWLOG, new StatusOutput<K, V>(codec), args);
     }
 
@@ -1221,7 +1243,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(sortArgs, "SortArgs " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         sortArgs.build(args, null);
         return createCommand(SORT, new ValueListOutput<K, V>(codec), args);
     }
@@ -1238,7 +1260,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNull(channel);
         LettuceAssert.notNull(sortArgs, "SortArgs " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         sortArgs.build(args, null);
         return createCommand(SORT, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1248,7 +1270,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(sortArgs, "SortArgs " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         sortArgs.build(args, destination);
         return createCommand(SORT, new IntegerOutput<K, V>(codec), args);
     }
@@ -1262,7 +1284,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Set<V>> spop(K key, long count) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(count);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(count);
         return createCommand(SPOP, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -1275,14 +1297,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, List<V>> srandmember(K key, long count) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(count);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(count);
         return createCommand(SRANDMEMBER, new ValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> srandmember(ValueStreamingChannel<V> channel, K key, long count) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(count);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(count);
         return createCommand(SRANDMEMBER, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1297,7 +1319,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Set<V>> sunion(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SUNION, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -1305,7 +1327,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmpty(keys);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(SUNION, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1313,7 +1335,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(destination).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKey(destination).addKeys(keys);
         return createCommand(SUNIONSTORE, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1330,14 +1352,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> touch(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(TOUCH, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> touch(Iterable<K> keys) {
         LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(TOUCH, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1356,12 +1378,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> watch(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(WATCH, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> wait(int replicas, long timeout) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(replicas).add(timeout);
+        CommandArgs<K, V> args = newArgs().add(replicas).add(timeout);
 
         return createCommand(WAIT, new IntegerOutput<K, V>(codec), args);
     }
@@ -1373,7 +1395,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> zadd(K key, ZAddArgs zAddArgs, double score, V member) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
 
         if (zAddArgs != null) {
             zAddArgs.build(args);
@@ -1386,7 +1408,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Double> zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
 
         if (zAddArgs != null) {
             zAddArgs.build(args);
@@ -1405,7 +1427,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(scoresAndValues, "ScoresAndValues " + MUST_NOT_BE_EMPTY);
         LettuceAssert.noNullElements(scoresAndValues, "ScoresAndValues " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
 
         if (zAddArgs != null) {
             zAddArgs.build(args);
@@ -1459,7 +1481,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min).add(max);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min).add(max);
         return createCommand(ZCOUNT, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1467,14 +1489,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullRange(range);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min(range)).add(max(range));
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min(range)).add(max(range));
         return createCommand(ZCOUNT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Double> zincrby(K key, double amount, K member) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(amount).addKey(member);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(amount).addKey(member);
         return createCommand(ZINCRBY, new DoubleOutput<K, V>(codec), args);
     }
 
@@ -1489,7 +1511,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(storeArgs, "ZStoreArgs " + MUST_NOT_BE_NULL);
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(destination).add(keys.length).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKey(destination).add(keys.length).addKeys(keys);
         storeArgs.build(args);
         return createCommand(ZINTERSTORE, new IntegerOutput<K, V>(codec), args);
     }
@@ -1497,14 +1519,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, List<V>> zrange(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(ZRANGE, new ValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(start).add(stop).add(WITHSCORES);
         return createCommand(ZRANGE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1517,7 +1539,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min).add(max);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min).add(max);
         return createCommand(ZRANGEBYSCORE, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -1529,7 +1551,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max).add(LIMIT).add(offset).add(count);
         return createCommand(ZRANGEBYSCORE, new ValueListOutput<K, V>(codec), args);
     }
@@ -1538,7 +1560,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullRange(range);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min(range)).add(max(range));
 
         if(limit.isLimited()) {
@@ -1555,7 +1577,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max).add(WITHSCORES);
         return createCommand(ZRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1568,7 +1590,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min).add(max).add(WITHSCORES), Limit.create(offset, count));
         return createCommand(ZRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1578,13 +1600,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullRange(range);
         notNullLimit(limit);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min(range)).add(max(range)).add(WITHSCORES), limit);
         return createCommand(ZRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(ZRANGE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1592,7 +1614,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(start).add(stop).add(WITHSCORES);
         return createCommand(ZRANGE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1606,7 +1628,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         LettuceAssert.notNull(channel, "ScoredValueStreamingChannel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min).add(max);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min).add(max);
         return createCommand(ZRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1621,7 +1643,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         LettuceAssert.notNull(channel, "ScoredValueStreamingChannel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min).add(max), Limit.create(offset, count));
         return createCommand(ZRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1632,7 +1654,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullLimit(limit);
         LettuceAssert.notNull(channel, "ScoredValueStreamingChannel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min(range)).add(max(range)), limit);
         return createCommand(ZRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1646,7 +1668,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max).add(WITHSCORES);
         return createCommand(ZRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1662,7 +1684,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min).add(max).add(WITHSCORES), Limit.create(offset, count));
         return createCommand(ZRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1673,7 +1695,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullLimit(limit);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min(range)).add(max(range)).add(WITHSCORES), limit);
         return createCommand(ZRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1695,7 +1717,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> zremrangebyrank(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(ZREMRANGEBYRANK, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1707,7 +1729,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min).add(max);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min).add(max);
         return createCommand(ZREMRANGEBYSCORE, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -1715,21 +1737,21 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullRange(range);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(min(range)).add(max(range));
+        CommandArgs<K, V> args = newArgs().addKey(key).add(min(range)).add(max(range));
         return createCommand(ZREMRANGEBYSCORE, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<V>> zrevrange(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(ZREVRANGE, new ValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(start).add(stop).add(WITHSCORES);
         return createCommand(ZREVRANGE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1742,7 +1764,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(max).add(min);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(max).add(min);
         return createCommand(ZREVRANGEBYSCORE, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -1754,7 +1776,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max).add(min), Limit.create(offset, count));
         return createCommand(ZREVRANGEBYSCORE, new ValueListOutput<K, V>(codec), args);
     }
@@ -1764,7 +1786,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullRange(range);
         notNullLimit(limit);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max(range)).add(min(range)), limit);
         return createCommand(ZREVRANGEBYSCORE, new ValueListOutput<K, V>(codec), args);
     }
@@ -1777,7 +1799,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(max).add(min).add(WITHSCORES);
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1792,7 +1814,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max).add(min).add(WITHSCORES), Limit.create(offset, count));
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1802,7 +1824,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullRange(range);
         notNullLimit(limit);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max(range)).add(min(range)).add(WITHSCORES), limit);
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueListOutput<K, V>(codec), args);
     }
@@ -1811,7 +1833,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(stop);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(start).add(stop);
         return createCommand(ZREVRANGE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1819,7 +1841,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(channel, "ValueStreamingChannel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(start).add(stop).add(WITHSCORES);
         return createCommand(ZREVRANGE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1833,7 +1855,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(max).add(min);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(max).add(min);
         return createCommand(ZREVRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
 
@@ -1848,7 +1870,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max).add(min), Limit.create(offset, count));
         return createCommand(ZREVRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1859,7 +1881,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullLimit(limit);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max(range)).add(min(range)), limit);
         return createCommand(ZREVRANGEBYSCORE, new ValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1875,7 +1897,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(max).add(min).add(WITHSCORES);
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1895,7 +1917,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullMinMax(min, max);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max).add(min).add(WITHSCORES), Limit.create(offset, count));
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1907,7 +1929,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullLimit(limit);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(max(range)).add(min(range)).add(WITHSCORES), limit);
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueStreamingOutput<K, V>(codec, channel), args);
     }
@@ -1934,7 +1956,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(destination).add(keys.length).addKeys(keys);
         storeArgs.build(args);
         return createCommand(ZUNIONSTORE, new IntegerOutput<K, V>(codec), args);
@@ -1944,7 +1966,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max);
         return createCommand(ZLEXCOUNT, new IntegerOutput<K, V>(codec), args);
     }
@@ -1953,7 +1975,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullRange(range);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(minValue(range)).add(maxValue(range));
         return createCommand(ZLEXCOUNT, new IntegerOutput<K, V>(codec), args);
     }
@@ -1962,7 +1984,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max);
         return createCommand(ZREMRANGEBYLEX, new IntegerOutput<K, V>(codec), args);
     }
@@ -1971,7 +1993,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullRange(range);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(minValue(range)).add(maxValue(range));
         return createCommand(ZREMRANGEBYLEX, new IntegerOutput<K, V>(codec), args);
     }
@@ -1980,7 +2002,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key).add(min).add(max);
         return createCommand(ZRANGEBYLEX, new ValueListOutput<K, V>(codec), args);
     }
@@ -1989,7 +2011,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNullMinMax(min, max);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(min).add(max), Limit.create(offset, count));
         return createCommand(ZRANGEBYLEX, new ValueListOutput<K, V>(codec), args);
     }
@@ -1999,13 +2021,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullRange(range);
         notNullLimit(limit);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         addLimit(args.addKey(key).add(minValue(range)).add(maxValue(range)), limit);
         return createCommand(ZRANGEBYLEX, new ValueListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<V>> time() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         return createCommand(TIME, new ValueListOutput<K, V>(codec), args);
     }
 
@@ -2022,7 +2044,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, KeyScanCursor<K>> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
 
         scanArgs(scanCursor, scanArgs, args);
 
@@ -2067,7 +2089,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNull(channel);
         LettuceAssert.notNull(channel, "KeyStreamingChannel " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         scanArgs(scanCursor, scanArgs, args);
 
         KeyScanStreamingOutput<K, V> output = new KeyScanStreamingOutput<K, V>(codec, channel);
@@ -2095,7 +2117,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key);
 
         scanArgs(scanCursor, scanArgs, args);
@@ -2130,7 +2152,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
 
         args.addKey(key);
         scanArgs(scanCursor, scanArgs, args);
@@ -2160,7 +2182,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key);
 
         scanArgs(scanCursor, scanArgs, args);
@@ -2196,7 +2218,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
 
         args.addKey(key);
         scanArgs(scanCursor, scanArgs, args);
@@ -2226,7 +2248,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         args.addKey(key);
 
         scanArgs(scanCursor, scanArgs, args);
@@ -2262,7 +2284,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         notNull(channel);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
 
         args.addKey(key);
         scanArgs(scanCursor, scanArgs, args);
@@ -2277,7 +2299,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(moreValues, "MoreValues " + MUST_NOT_BE_NULL);
         LettuceAssert.noNullElements(moreValues, "MoreValues " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(value).addValues(moreValues);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(value).addValues(moreValues);
         return createCommand(PFADD, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -2286,7 +2308,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notEmptyValues(values);
         LettuceAssert.noNullElements(values, "Values " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(values);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(values);
         return createCommand(PFADD, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -2295,14 +2317,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(moreKeys, "MoreKeys " + MUST_NOT_BE_NULL);
         LettuceAssert.noNullElements(moreKeys, "MoreKeys " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addKeys(moreKeys);
+        CommandArgs<K, V> args = newArgs().addKey(key).addKeys(moreKeys);
         return createCommand(PFCOUNT, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> pfcount(K... keys) {
         notEmpty(keys);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(keys);
+        CommandArgs<K, V> args = newArgs().addKeys(keys);
         return createCommand(PFCOUNT, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -2313,7 +2335,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(moreSourceKeys, "MoreSourceKeys " + MUST_NOT_BE_NULL);
         LettuceAssert.noNullElements(moreSourceKeys, "MoreSourceKeys " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(destkey).addKey(sourcekey).addKeys(moreSourceKeys);
+        CommandArgs<K, V> args = newArgs().addKeys(destkey).addKey(sourcekey).addKeys(moreSourceKeys);
         return createCommand(PFMERGE, new StatusOutput<K, V>(codec), args);
     }
 
@@ -2324,12 +2346,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notEmpty(sourcekeys, "Sourcekeys " + MUST_NOT_BE_EMPTY);
         LettuceAssert.noNullElements(sourcekeys, "Sourcekeys " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKeys(destkey).addKeys(sourcekeys);
+        CommandArgs<K, V> args = newArgs().addKeys(destkey).addKeys(sourcekeys);
         return createCommand(PFMERGE, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterBumpepoch() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(BUMPEPOCH);
+        CommandArgs<K, V> args = newArgs().add(BUMPEPOCH);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
@@ -2337,21 +2359,21 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(ip, "IP " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(ip, "IP " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(MEET).add(ip).add(port);
+        CommandArgs<K, V> args = newArgs().add(MEET).add(ip).add(port);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterForget(String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(FORGET).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(FORGET).add(nodeId);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterAddslots(int[] slots) {
         notEmptySlots(slots);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(ADDSLOTS);
+        CommandArgs<K, V> args = newArgs().add(ADDSLOTS);
 
         for (int slot : slots) {
             args.add(slot);
@@ -2362,7 +2384,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, String> clusterDelslots(int[] slots) {
         notEmptySlots(slots);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(DELSLOTS);
+        CommandArgs<K, V> args = newArgs().add(DELSLOTS);
 
         for (int slot : slots) {
             args.add(slot);
@@ -2371,116 +2393,116 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, String> clusterInfo() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(INFO);
+        CommandArgs<K, V> args = newArgs().add(INFO);
 
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterMyId() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(MYID);
+        CommandArgs<K, V> args = newArgs().add(MYID);
 
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterNodes() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(NODES);
+        CommandArgs<K, V> args = newArgs().add(NODES);
 
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<K>> clusterGetKeysInSlot(int slot, int count) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(GETKEYSINSLOT).add(slot).add(count);
+        CommandArgs<K, V> args = newArgs().add(GETKEYSINSLOT).add(slot).add(count);
         return createCommand(CLUSTER, new KeyListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> clusterCountKeysInSlot(int slot) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(COUNTKEYSINSLOT).add(slot);
+        CommandArgs<K, V> args = newArgs().add(COUNTKEYSINSLOT).add(slot);
         return createCommand(CLUSTER, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> clusterCountFailureReports(String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add("COUNT-FAILURE-REPORTS").add(nodeId);
+        CommandArgs<K, V> args = newArgs().add("COUNT-FAILURE-REPORTS").add(nodeId);
         return createCommand(CLUSTER, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, Long> clusterKeyslot(K key) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(KEYSLOT).addKey(key);
+        CommandArgs<K, V> args = newArgs().add(KEYSLOT).addKey(key);
         return createCommand(CLUSTER, new IntegerOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSaveconfig() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SAVECONFIG);
+        CommandArgs<K, V> args = newArgs().add(SAVECONFIG);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSetConfigEpoch(long configEpoch) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add("SET-CONFIG-EPOCH").add(configEpoch);
+        CommandArgs<K, V> args = newArgs().add("SET-CONFIG-EPOCH").add(configEpoch);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<Object>> clusterSlots() {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SLOTS);
+        CommandArgs<K, V> args = newArgs().add(SLOTS);
         return createCommand(CLUSTER, new ArrayOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSetSlotNode(int slot, String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SETSLOT).add(slot).add(NODE).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(SETSLOT).add(slot).add(NODE).add(nodeId);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSetSlotStable(int slot) {
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SETSLOT).add(slot).add(STABLE);
+        CommandArgs<K, V> args = newArgs().add(SETSLOT).add(slot).add(STABLE);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSetSlotMigrating(int slot, String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SETSLOT).add(slot).add(MIGRATING).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(SETSLOT).add(slot).add(MIGRATING).add(nodeId);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterSetSlotImporting(int slot, String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SETSLOT).add(slot).add(IMPORTING).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(SETSLOT).add(slot).add(IMPORTING).add(nodeId);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterReplicate(String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(REPLICATE).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(REPLICATE).add(nodeId);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> asking() {
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec);
+        CommandArgs<K, V> args = newArgs();
         return createCommand(ASKING, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterFlushslots() {
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(FLUSHSLOTS);
+        CommandArgs<K, V> args = newArgs().add(FLUSHSLOTS);
         return createCommand(CLUSTER, new StatusOutput<K, V>(codec), args);
     }
 
     public Command<K, V, List<String>> clusterSlaves(String nodeId) {
         assertNodeId(nodeId);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(SLAVES).add(nodeId);
+        CommandArgs<K, V> args = newArgs().add(SLAVES).add(nodeId);
         return createCommand(CLUSTER, new StringListOutput<K, V>(codec), args);
     }
 
     public Command<K, V, String> clusterFailover(boolean force) {
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(FAILOVER);
+        CommandArgs<K, V> args = newArgs().add(FAILOVER);
         if (force) {
             args.add(FORCE);
         }
@@ -2489,7 +2511,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
 
     public Command<K, V, String> clusterReset(boolean hard) {
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).add(RESET);
+        CommandArgs<K, V> args = newArgs().add(RESET);
         if (hard) {
             args.add(HARD);
         } else {
@@ -2501,7 +2523,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     public Command<K, V, Long> geoadd(K key, double longitude, double latitude, V member) {
         notNullKey(key);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(longitude).add(latitude).addValue(member);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(longitude).add(latitude).addValue(member);
         return createCommand(GEOADD, new IntegerOutput<K, V>(codec), args);
     }
 
@@ -2514,7 +2536,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.isTrue(lngLatMember.length % 3 == 0, "LngLatMember.length must be a multiple of 3 and contain a "
                 + "sequence of longitude1, latitude1, member1, longitude2, latitude2, member2, ... longitudeN, latitudeN, memberN");
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
 
         for (int i = 0; i < lngLatMember.length; i += 3) {
             args.add((Double) lngLatMember[i]);
@@ -2530,7 +2552,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(members, "Members " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(members, "Members " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(members);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(members);
         return createCommand(GEOHASH, new StringListOutput<K, V>(codec), args);
     }
 
@@ -2539,7 +2561,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(longitude).add(latitude).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(longitude).add(latitude).add(distance).add(unit);
         return createCommand(GEORADIUS, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -2550,7 +2572,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
         LettuceAssert.notNull(geoArgs, "GeoArgs " + MUST_NOT_BE_NULL);
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(longitude).add(latitude).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(longitude).add(latitude).add(distance).add(unit);
         geoArgs.build(args);
 
         return createCommand(GEORADIUS, new GeoWithinListOutput<K, V>(codec, geoArgs.isWithDistance(), geoArgs.isWithHash(),
@@ -2567,7 +2589,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.isTrue(geoRadiusStoreArgs.getStoreKey() != null || geoRadiusStoreArgs.getStoreDistKey() != null,
                 "At least STORE key or STORDIST key is required");
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(longitude).add(latitude).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).add(longitude).add(latitude).add(distance).add(unit);
         geoRadiusStoreArgs.build(args);
 
         return createCommand(GEORADIUS, new IntegerOutput<K, V>(codec), args);
@@ -2579,7 +2601,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(member).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(member).add(distance).add(unit);
         return createCommand(GEORADIUSBYMEMBER, new ValueSetOutput<K, V>(codec), args);
     }
 
@@ -2590,7 +2612,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(member).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(member).add(distance).add(unit);
         geoArgs.build(args);
 
         return createCommand(GEORADIUSBYMEMBER, new GeoWithinListOutput<K, V>(codec, geoArgs.isWithDistance(),
@@ -2607,7 +2629,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.isTrue(geoRadiusStoreArgs.getStoreKey() != null || geoRadiusStoreArgs.getStoreDistKey() != null,
                 "At least STORE key or STORDIST key is required");
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(member).add(distance).add(unit);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(member).add(distance).add(unit);
         geoRadiusStoreArgs.build(args);
 
         return createCommand(GEORADIUSBYMEMBER, new IntegerOutput<K, V>(codec), args);
@@ -2618,7 +2640,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(members, "Members " + MUST_NOT_BE_NULL);
         LettuceAssert.notEmpty(members, "Members " + MUST_NOT_BE_EMPTY);
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(members);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(members);
 
         return (Command) createCommand(GEOPOS, new GeoCoordinatesListOutput<K, V>(codec), args);
     }
@@ -2628,7 +2650,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(from, "From " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(from, "To " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(from).addValue(to);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(from).addValue(to);
 
         if (unit != null) {
             args.add(unit.name());
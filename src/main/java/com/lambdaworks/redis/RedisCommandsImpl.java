@@ -0,0 +1,106 @@
+package com.lambdaworks.redis;
+
+import java.util.List;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.protocol.RecyclableCommand;
+
+/**
+ * A complete synchronous and thread-safe Redis API with 400+ Methods. Commands are invoked on the asynchronous API and awaited
+ * within the connection timeout. Commands issued within a transaction return {@literal null} and their result is available
+ * with {@link #exec()}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisCommandsImpl<K, V> extends AbstractRedisCommands<K, V> implements RedisCommands<K, V>,
+        RedisClusterCommands<K, V> {
+
+    protected final StatefulRedisConnection<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection.
+     * @param async the asynchronous API of {@code connection}.
+     */
+    public RedisCommandsImpl(StatefulRedisConnection<K, V> connection, AbstractRedisAsyncCommands<K, V> async) {
+        super(async);
+        this.connection = connection;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (connection.isMulti()) {
+            return null;
+        }
+
+        return awaitOrCancel(future);
+    }
+
+    /**
+     * Await the result of a command regardless of an active transaction.
+     *
+     * @param future the command future.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    protected <T> T awaitOrCancel(RedisFuture<T> future) {
+
+        T result = LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+        RecyclableCommand.recycle(future);
+        return result;
+    }
+
+    @Override
+    public String multi() {
+        return awaitOrCancel(async.multi());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return awaitOrCancel(async.exec());
+    }
+
+    @Override
+    public String select(int db) {
+        return async.select(db);
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    @Deprecated
+    public Boolean exists(K key) {
+        return await(async.exists(key));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public Long pfadd(K key, V value, V... moreValues) {
+        return await(async.pfadd(key, value, moreValues));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public String pfmerge(K destkey, K sourcekey, K... moreSourceKeys) {
+        return await(async.pfmerge(destkey, sourcekey, moreSourceKeys));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public Long pfcount(K key, K... moreKeys) {
+        return await(async.pfcount(key, moreKeys));
+    }
+}
@@ -15,7 +15,6 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
 import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.output.MultiOutput;
 import com.lambdaworks.redis.protocol.CompleteableCommand;
@@ -75,7 +74,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisCommandsImpl<>(this, async);
     }
 
     /**
@@ -111,6 +110,14 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return multi != null;
     }
 
+    /**
+     *
+     * @return the codec used to encode/decode keys and values.
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Override
     public void activated() {
 
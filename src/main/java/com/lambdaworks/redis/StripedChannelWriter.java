@@ -0,0 +1,331 @@
+package com.lambdaworks.redis;
+
+import static com.lambdaworks.redis.protocol.CommandType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.protocol.*;
+
+/**
+ * Channel writer that distributes commands across multiple connections (stripes) to the same Redis node. Each stripe is a
+ * {@link StatefulRedisConnectionImpl} with its own channel so encoding and decoding spread across the event loop threads.
+ * <p>
+ * Commands are distributed according to {@link Striping}. {@code MULTI}, {@code EXEC}, {@code DISCARD}, {@code WATCH},
+ * {@code UNWATCH} and blocking list commands are pinned to the first stripe, and all commands are written to the first stripe
+ * while a transaction is active. Commands that change the connection state ({@code AUTH}, {@code SELECT}, {@code READONLY},
+ * {@code READWRITE}) are applied to every stripe.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class StripedChannelWriter<K, V> implements RedisChannelWriter<K, V> {
+
+    private final List<StatefulRedisConnectionImpl<K, V>> stripes;
+    private final AtomicInteger[] pending;
+    private final RedisCodec<K, V> codec;
+    private final Striping striping;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final ThreadLocal<ThreadStripe> threadStripe = ThreadLocal.withInitial(ThreadStripe::new);
+
+    private volatile boolean transaction;
+    private volatile boolean closed = false;
+
+    StripedChannelWriter(List<StatefulRedisConnectionImpl<K, V>> stripes, RedisCodec<K, V> codec, Striping striping) {
+
+        LettuceAssert.notEmpty(stripes.toArray(), "Stripes must not be empty");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(striping, "Striping must not be null");
+
+        this.stripes = new ArrayList<>(stripes);
+        this.codec = codec;
+        this.striping = striping;
+        this.pending = new AtomicInteger[stripes.size()];
+
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public <T, C extends RedisCommand<K, V, T>> C write(C command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        ProtocolKeyword type = command.getType();
+
+        if (type == EXEC || type == DISCARD) {
+            transaction = false;
+            return write(0, command);
+        }
+
+        if (transaction || isPinned(type)) {
+            transaction |= type == MULTI;
+            return write(0, command);
+        }
+
+        if (type == AUTH || type == SELECT || type == READONLY || type == READWRITE) {
+            return broadcast(command);
+        }
+
+        int stripe = selectStripe(command);
+
+        if (striping == Striping.LEAST_PENDING) {
+            pending[stripe].incrementAndGet();
+            write(stripe, new PendingCommand<>(command, pending[stripe]));
+            return command;
+        }
+
+        return write(stripe, command);
+    }
+
+    /**
+     * Write {@code command} to the channel of a stripe. The command bypasses the stripe connection because transactions are
+     * already tracked by the connection that uses this writer.
+     */
+    private <T, C extends RedisCommand<K, V, T>> C write(int stripe, C command) {
+        return stripes.get(stripe).getChannelWriter().write(command);
+    }
+
+    private static boolean isPinned(ProtocolKeyword type) {
+        return type == MULTI || type == WATCH || type == UNWATCH || type == BLPOP || type == BRPOP || type == BRPOPLPUSH;
+    }
+
+    /**
+     * Select the stripe for {@code command}. Package-private for testing.
+     *
+     * @param command the command.
+     * @return the stripe index.
+     */
+    int selectStripe(RedisCommand<K, V, ?> command) {
+
+        if (stripes.size() == 1) {
+            return 0;
+        }
+
+        if (striping == Striping.KEY_HASH) {
+
+            CommandArgs<K, V> args = command.getArgs();
+            int slot = args != null ? args.getFirstKeySlot() : -1;
+            if (slot != -1) {
+                return slot % stripes.size();
+            }
+        }
+
+        ThreadStripe state = threadStripe.get();
+
+        if (striping == Striping.LEAST_PENDING) {
+
+            if (state.stripe == -1 || state.lastCommand == null || state.lastCommand.isDone()) {
+                state.stripe = leastPending();
+            }
+
+            state.lastCommand = command;
+            return state.stripe;
+        }
+
+        if (state.stripe == -1) {
+            state.stripe = (nextStripe.getAndIncrement() & Integer.MAX_VALUE) % stripes.size();
+        }
+
+        return state.stripe;
+    }
+
+    private int leastPending() {
+
+        int stripe = 0;
+        int min = Integer.MAX_VALUE;
+        int offset = nextStripe.getAndIncrement() & Integer.MAX_VALUE;
+
+        // start at a rotating offset so threads that pick at the same time do not all land on the first stripe
+        for (int i = 0; i < pending.length; i++) {
+
+            int candidate = (offset + i) % pending.length;
+            int count = pending[candidate].get();
+            if (count < min) {
+                min = count;
+                stripe = candidate;
+            }
+        }
+
+        return stripe;
+    }
+
+    /**
+     * Write {@code command} to the first stripe and apply the same connection state to all other stripes. Commands are
+     * dispatched through the stripe connections so each stripe retains the state and restores it on reconnect.
+     */
+    private <T, C extends RedisCommand<K, V, T>> C broadcast(C command) {
+
+        C result = stripes.get(0).dispatch(command);
+
+        for (int i = 1; i < stripes.size(); i++) {
+            stripes.get(i).dispatch(copyOf(command));
+        }
+
+        return result;
+    }
+
+    private AsyncCommand<K, V, String> copyOf(RedisCommand<K, V, ?> command) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+
+        if (command.getType() == AUTH) {
+            args.add(command.getArgs().getFirstString());
+        }
+
+        if (command.getType() == SELECT) {
+            args.add(command.getArgs().getFirstInteger());
+        }
+
+        return new AsyncCommand<>(new Command<>(command.getType(), new StatusOutput<>(codec), args));
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            if (!stripe.isClosed()) {
+                stripe.close();
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            stripe.reset();
+        }
+    }
+
+    @Override
+    public void setRedisChannelHandler(RedisChannelHandler<K, V> redisChannelHandler) {
+        // stripes notify their own connections about channel state changes.
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            stripe.setAutoFlushCommands(autoFlush);
+        }
+    }
+
+    @Override
+    public void flushCommands() {
+
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            stripe.flushCommands();
+        }
+    }
+
+    @Override
+    public int getInFlightCommands() {
+
+        int inFlightCommands = 0;
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            inFlightCommands += stripe.getInFlightCommands();
+        }
+
+        return inFlightCommands;
+    }
+
+    @Override
+    public long getInFlightBytes() {
+
+        long inFlightBytes = 0;
+        for (StatefulRedisConnectionImpl<K, V> stripe : stripes) {
+            inFlightBytes += stripe.getInFlightBytes();
+        }
+
+        return inFlightBytes;
+    }
+
+    /**
+     * @return the stripe connections.
+     */
+    List<StatefulRedisConnectionImpl<K, V>> getStripes() {
+        return stripes;
+    }
+
+    /**
+     * Stripe assignment of a thread.
+     */
+    static class ThreadStripe {
+
+        int stripe = -1;
+        RedisCommand<?, ?, ?> lastCommand;
+    }
+
+    /**
+     * Command wrapper that releases its pending slot of a stripe once the command is completed, failed or canceled.
+     */
+    static class PendingCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<PendingCommand> RELEASED = AtomicIntegerFieldUpdater
+                .newUpdater(PendingCommand.class, "released");
+
+        private final AtomicInteger pending;
+
+        // accessed via RELEASED
+        @SuppressWarnings("unused")
+        private volatile int released;
+
+        PendingCommand(RedisCommand<K, V, T> command, AtomicInteger pending) {
+            super(command);
+            this.pending = pending;
+        }
+
+        @Override
+        public void complete() {
+            try {
+                super.complete();
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+            try {
+                return super.completeExceptionally(throwable);
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            try {
+                super.cancel();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (RELEASED.compareAndSet(this, 0, 1)) {
+                pending.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.lambdaworks.redis;
+
+/**
+ * Defines how a striped connection distributes commands across its channels. Every mode keeps the order of commands issued
+ * by one thread (or for one key) because these are always written to the same channel. Transactions, {@code WATCH} and
+ * blocking commands are pinned to the first channel regardless of the mode.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ * @see RedisClient#connectStriped(com.lambdaworks.redis.codec.RedisCodec, RedisURI, int, Striping)
+ */
+public enum Striping {
+
+    /**
+     * Assign each thread to a channel in round-robin order when it issues its first command. The thread keeps its channel
+     * for the lifetime of the connection.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Move a thread to the channel with the fewest pending commands once all commands it issued previously completed. A
+     * thread with pending commands keeps its current channel.
+     */
+    LEAST_PENDING,
+
+    /**
+     * Select the channel by the hash slot of the first key so commands for one key are ordered across threads. Commands
+     * without a key are distributed using {@link #ROUND_ROBIN}.
+     */
+    KEY_HASH;
+}
@@ -81,4 +81,27 @@ public interface StatefulConnection<K, V> extends AutoCloseable {
      * achieve batching. No-op if channel is not connected.
      */
     void flushCommands();
+
+    /**
+     * Returns the number of commands that were dispatched on this connection and did not complete yet. Commands are only
+     * accounted if the request queue is bounded by {@link ClientOptions#getRequestQueueSize()} or
+     * {@link ClientOptions#getRequestQueueBytes()}.
+     *
+     * @return the number of in-flight commands, {@literal 0} if the request queue is unbounded.
+     * @since 4.3
+     */
+    default int getInFlightCommands() {
+        return 0;
+    }
+
+    /**
+     * Returns the estimated number of encoded bytes of commands that were dispatched on this connection and did not complete
+     * yet. Bytes are only accounted if the request queue is bounded by {@link ClientOptions#getRequestQueueBytes()}.
+     *
+     * @return the number of in-flight bytes, {@literal 0} if the request queue is not bounded in bytes.
+     * @since 4.3
+     */
+    default long getInFlightBytes() {
+        return 0;
+    }
 }
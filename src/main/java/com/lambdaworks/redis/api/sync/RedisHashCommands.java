@@ -1,5 +1,6 @@
 package com.lambdaworks.redis.api.sync;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 import com.lambdaworks.redis.MapScanCursor;
@@ -53,6 +54,18 @@ public interface RedisHashCommands<K, V> {
      */
     V hget(K key, K field);
 
+    /**
+     * Get the value of a hash field and write it to {@code channel} as it arrives. The value is not materialized on the heap
+     * which allows retrieving large values.
+     *
+     * @param channel the channel the value is written to, called on the I/O thread and must not block
+     * @param key the key
+     * @param field the field type: key
+     * @return Long number of bytes written to {@code channel}, or {@literal null} when {@code field} is not present in the hash
+     *         or {@code key} does not exist.
+     */
+    Long hget(WritableByteChannel channel, K key, K field);
+
     /**
      * Increment the integer value of a hash field by the given number.
      * 
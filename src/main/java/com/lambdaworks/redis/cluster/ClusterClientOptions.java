@@ -227,6 +227,60 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder cumulationMode(CumulationMode cumulationMode) {
+            super.cumulationMode(cumulationMode);
+            return this;
+        }
+
+        @Override
+        public Builder writeMode(WriteMode writeMode) {
+            super.writeMode(writeMode);
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchSize(int maxBatchSize) {
+            super.maxBatchSize(maxBatchSize);
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchBytes(int maxBatchBytes) {
+            super.maxBatchBytes(maxBatchBytes);
+            return this;
+        }
+
+        @Override
+        public Builder requestQueueBytes(long requestQueueBytes) {
+            super.requestQueueBytes(requestQueueBytes);
+            return this;
+        }
+
+        @Override
+        public Builder requestQueueFullBehavior(RequestQueueFullBehavior requestQueueFullBehavior) {
+            super.requestQueueFullBehavior(requestQueueFullBehavior);
+            return this;
+        }
+
+        @Override
+        public Builder requestQueueWaitTimeout(long timeout, TimeUnit unit) {
+            super.requestQueueWaitTimeout(timeout, unit);
+            return this;
+        }
+
+        @Override
+        public Builder commandDeadline(long deadline, TimeUnit unit) {
+            super.commandDeadline(deadline, unit);
+            return this;
+        }
+
+        @Override
+        public Builder recycleCommands(boolean recycleCommands) {
+            super.recycleCommands(recycleCommands);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -7,19 +7,35 @@ import com.lambdaworks.redis.protocol.CommandWrapper;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
 
 /**
+ * Command wrapper that retries the command on {@literal MOVED} and {@literal ASK} redirections. Instances obtained from
+ * {@link #newInstance(RedisCommand, RedisChannelWriter, int)} are pooled and return to the pool once they complete with a
+ * response.
+ *
  * @author Mark Paluch
  * @since 3.0
  */
 class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCommand<K, V, T> {
 
+    private static final Recycler<ClusterCommand<?, ?, ?>> RECYCLER = new Recycler<ClusterCommand<?, ?, ?>>() {
+        @Override
+        @SuppressWarnings("rawtypes")
+        protected ClusterCommand<?, ?, ?> newObject(Handle handle) {
+            return new ClusterCommand<>(null, null, 0, handle);
+        }
+    };
+
     private int redirections;
-    private final int maxRedirections;
+    private int maxRedirections;
 
-    private final RedisChannelWriter<K, V> retry;
+    private RedisChannelWriter<K, V> retry;
     private boolean completed;
 
+    @SuppressWarnings("rawtypes")
+    private final Recycler.Handle handle;
+
     /**
      *
      * @param command
@@ -27,9 +43,39 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
      * @param maxRedirections
      */
     ClusterCommand(RedisCommand<K, V, T> command, RedisChannelWriter<K, V> retry, int maxRedirections) {
+        this(command, retry, maxRedirections, null);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private ClusterCommand(RedisCommand<K, V, T> command, RedisChannelWriter<K, V> retry, int maxRedirections,
+            Recycler.Handle handle) {
         super(command);
         this.retry = retry;
         this.maxRedirections = maxRedirections;
+        this.handle = handle;
+    }
+
+    /**
+     * Obtain a pooled wrapper for {@code command}. The wrapper is recycled after completing with a response, so it must not be
+     * referenced once the command is done.
+     *
+     * @param command the command to wrap.
+     * @param retry the writer to retry redirected commands.
+     * @param maxRedirections maximal number of redirections.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Command output type.
+     * @return the wrapped command.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V, T> ClusterCommand<K, V, T> newInstance(RedisCommand<K, V, T> command, RedisChannelWriter<K, V> retry,
+            int maxRedirections) {
+
+        ClusterCommand<K, V, T> clusterCommand = (ClusterCommand<K, V, T>) RECYCLER.get();
+        clusterCommand.reset(command);
+        clusterCommand.retry = retry;
+        clusterCommand.maxRedirections = maxRedirections;
+        return clusterCommand;
     }
 
     @Override
@@ -51,6 +97,22 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
         }
         super.complete();
         completed = true;
+
+        // fire&forget commands are completed before they are encoded
+        if (handle != null && getOutput() != null) {
+            recycle();
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "deprecation" })
+    private void recycle() {
+
+        reset(null);
+        retry = null;
+        redirections = 0;
+        maxRedirections = 0;
+        completed = false;
+        RECYCLER.recycle(this, handle);
     }
 
     public boolean isMoved() {
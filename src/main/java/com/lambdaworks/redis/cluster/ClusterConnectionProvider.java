@@ -101,6 +101,18 @@ interface ClusterConnectionProvider extends Closeable {
      */
     void setReadFrom(ReadFrom readFrom);
 
+    /**
+     * Route {@code slot} to the node at {@code host:port} after a {@literal MOVED} redirection. The route is retained until the
+     * next call to {@link #setPartitions(Partitions)} so subsequent commands for the slot are sent to the new slot owner without
+     * awaiting a topology refresh.
+     *
+     * @param slot the redirected slot.
+     * @param host the host of the new slot owner.
+     * @param port the port of the new slot owner.
+     * @return {@literal true} if the slot was routed to the new slot owner.
+     */
+    boolean updateSlot(int slot, String host, int port);
+
     /**
      * Gets the {@link ReadFrom} setting for this connection. Defaults to {@link ReadFrom#MASTER} if not set.
      * 
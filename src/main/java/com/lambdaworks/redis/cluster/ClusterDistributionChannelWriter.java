@@ -1,6 +1,6 @@
 package com.lambdaworks.redis.cluster;
 
-import static com.lambdaworks.redis.cluster.SlotHash.getSlot;
+import java.util.*;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
@@ -57,13 +57,11 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         }
 
         RedisCommand<K, V, T> commandToSend = command;
-        CommandArgs<K, V> args = command.getArgs();
 
         if (!(command instanceof ClusterCommand)) {
-            commandToSend = new ClusterCommand<>(command, this, executionLimit);
+            commandToSend = ClusterCommand.newInstance(command, this, executionLimit);
         }
 
-
         if (commandToSend instanceof ClusterCommand && !commandToSend.isDone()) {
 
             ClusterCommand<K, V, T> clusterCommand = (ClusterCommand<K, V, T>) commandToSend;
@@ -71,6 +69,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
 
                 HostAndPort target;
                 boolean asking;
+                int slot = clusterCommand.isMoved() ? getMoveSlot(clusterCommand.getError()) : -1;
                 if (clusterCommand.isMoved()) {
                     target = getMoveTarget(clusterCommand.getError());
                     clusterEventListener.onMovedRedirection();
@@ -93,6 +92,9 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
                             // set asking bit
                             StatefulRedisConnection<K, V> statefulRedisConnection = (StatefulRedisConnection<K, V>) connection;
                             statefulRedisConnection.async().asking();
+                        } else if (slot != -1) {
+                            // route subsequent commands for the slot to the new owner until the next topology refresh
+                            clusterConnectionProvider.updateSlot(slot, target.getHostText(), target.getPort());
                         }
 
                         connection.getChannelWriter().write(command);
@@ -105,14 +107,78 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             }
         }
 
+        RedisChannelWriter<K, V> channelWriter = getWriter(command);
+
+        if (command.getOutput() != null) {
+            commandToSend.getOutput().setError((String) null);
+        }
+
+        channelWriter.write((C) commandToSend);
+
+        return command;
+    }
+
+    /**
+     * Write {@code commands} grouped by their target node. Commands for the same node are written using
+     * {@link RedisChannelWriter#writeAll(Collection)} so the node connection can write them with a single flush. Commands that
+     * are redirected are written individually.
+     *
+     * @param commands the redis commands
+     */
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void writeAll(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        Map<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> commandsByWriter = new LinkedHashMap<>();
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            LettuceAssert.notNull(command, "Command must not be null");
+
+            if (command instanceof ClusterCommand) {
+                write(command);
+                continue;
+            }
+
+            RedisCommand<K, V, ?> commandToSend = ClusterCommand.newInstance(command, this, executionLimit);
+
+            if (command.getOutput() != null) {
+                commandToSend.getOutput().setError((String) null);
+            }
+
+            commandsByWriter.computeIfAbsent(getWriter(command), writer -> new ArrayList<>()).add(commandToSend);
+        }
+
+        for (Map.Entry<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> entry : commandsByWriter.entrySet()) {
+            entry.getKey().writeAll(entry.getValue());
+        }
+    }
+
+    /**
+     * Lookup the writer of the node that serves the slot of the first key of {@code command}.
+     *
+     * @param command the command.
+     * @return the node writer or the default writer if the command has no key.
+     */
+    @SuppressWarnings("unchecked")
+    private RedisChannelWriter<K, V> getWriter(RedisCommand<K, V, ?> command) {
+
         RedisChannelWriter<K, V> channelWriter = null;
+        CommandArgs<K, V> args = command.getArgs();
 
-        if (args != null && args.getFirstEncodedKey() != null) {
-            int hash = getSlot(args.getFirstEncodedKey());
+        int slot = args != null ? args.getFirstKeySlot() : -1;
+
+        if (slot != -1) {
             ClusterConnectionProvider.Intent intent = getIntent(command.getType());
 
             RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider.getConnection(intent,
-                    hash);
+                    slot);
 
             channelWriter = connection.getChannelWriter();
         }
@@ -122,17 +188,11 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             channelWriter = writer.defaultWriter;
         }
 
-        if (command.getOutput() != null) {
-            commandToSend.getOutput().setError((String) null);
+        if (channelWriter != null && channelWriter != this) {
+            return channelWriter;
         }
 
-        if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-            return channelWriter.write((C) commandToSend);
-        }
-
-        defaultWriter.write((C) commandToSend);
-
-        return command;
+        return defaultWriter;
     }
 
     private ClusterConnectionProvider.Intent getIntent(ProtocolKeyword type) {
@@ -157,6 +217,17 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return HostAndPort.parseCompat(movedMessageParts[2]);
     }
 
+    static int getMoveSlot(String errorMessage) {
+
+        String[] movedMessageParts = errorMessage.split(" ");
+
+        try {
+            return movedMessageParts.length >= 3 ? Integer.parseInt(movedMessageParts[1]) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     static HostAndPort getAskTarget(String errorMessage) {
 
         LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
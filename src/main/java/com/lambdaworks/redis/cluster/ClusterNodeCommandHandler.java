@@ -64,7 +64,8 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
      * Move queued and buffered commands from the inactive connection to the master command writer. This is done only if the
      * current connection is disconnected and auto-reconnect is enabled (command-retries). If the connection would be open, we
      * could get into a race that the commands we're moving are right now in processing. Alive connections can handle redirects
-     * and retries on their own.
+     * and retries on their own. Buffered commands and commands that were not drained from the pending writes yet are always
+     * moved.
      */
     @Override
     public void close() {
@@ -80,6 +81,7 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
             }
 
             Collection<RedisCommand<K, V, ?>> commands = shiftCommands(commandBuffer);
+            drainPendingWritesTo(commands);
             retriggerCommands(commands);
         }
 
@@ -87,7 +89,9 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
     }
 
     protected void retriggerCommands(Collection<RedisCommand<K, V, ?>> commands) {
-        
+
+        releaseRequestQueueCapacity(commands);
+
         for (RedisCommand<K, V, ?> queuedCommand : commands) {
             
             if (queuedCommand == null || queuedCommand.isCancelled()) {
@@ -0,0 +1,143 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+
+/**
+ * Keys partitioned by slot-hash. Partitions are numbered in the order of the first key that hashes to the partition slot and
+ * keep the order of their keys. Each key index maps to its partition and to its position within the partition so results of
+ * per-partition commands can be put back into key order without searching.
+ *
+ * @param <K> Key type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class KeyPartitions<K> {
+
+    /**
+     * Up to this number of keys, partitions are looked up by scanning the slots found so far instead of allocating a lookup
+     * table for all slots.
+     */
+    private static final int LINEAR_SCAN_THRESHOLD = 64;
+
+    private final List<List<K>> partitions;
+    private final int[] slots;
+    private final int[] partitionOfKey;
+    private final int[] positionOfKey;
+
+    private KeyPartitions(List<List<K>> partitions, int[] slots, int[] partitionOfKey, int[] positionOfKey) {
+
+        this.partitions = partitions;
+        this.slots = slots;
+        this.partitionOfKey = partitionOfKey;
+        this.positionOfKey = positionOfKey;
+    }
+
+    /**
+     * Partition {@code keys} by slot-hash.
+     *
+     * @param codec codec to encode the keys.
+     * @param keys the keys.
+     * @param <K> Key type.
+     * @return the partitioned keys.
+     */
+    static <K> KeyPartitions<K> partition(RedisCodec<K, ?> codec, List<K> keys) {
+
+        int keyCount = keys.size();
+        int[] partitionOfKey = new int[keyCount];
+        int[] positionOfKey = new int[keyCount];
+        int[] slots = new int[Math.min(keyCount, SlotHash.SLOT_COUNT)];
+        int[] sizes = new int[slots.length];
+
+        // partition number + 1 by slot, 0 if the slot has no partition yet
+        int[] partitionBySlot = keyCount > LINEAR_SCAN_THRESHOLD ? new int[SlotHash.SLOT_COUNT] : null;
+        int partitionCount = 0;
+
+        for (int i = 0; i < keyCount; i++) {
+
+            int slot = SlotHash.getSlot(codec.encodeKey(keys.get(i)));
+            int partition = partitionBySlot != null ? partitionBySlot[slot] - 1 : indexOf(slots, partitionCount, slot);
+
+            if (partition == -1) {
+
+                partition = partitionCount++;
+                slots[partition] = slot;
+
+                if (partitionBySlot != null) {
+                    partitionBySlot[slot] = partition + 1;
+                }
+            }
+
+            partitionOfKey[i] = partition;
+            positionOfKey[i] = sizes[partition]++;
+        }
+
+        List<List<K>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>(sizes[i]));
+        }
+
+        for (int i = 0; i < keyCount; i++) {
+            partitions.get(partitionOfKey[i]).add(keys.get(i));
+        }
+
+        return new KeyPartitions<>(partitions, slots, partitionOfKey, positionOfKey);
+    }
+
+    private static int indexOf(int[] slots, int length, int slot) {
+
+        for (int i = 0; i < length; i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     *
+     * @return the number of partitions.
+     */
+    int size() {
+        return partitions.size();
+    }
+
+    /**
+     *
+     * @param partition the partition number.
+     * @return the slot of the partition.
+     */
+    int getSlot(int partition) {
+        return slots[partition];
+    }
+
+    /**
+     *
+     * @param partition the partition number.
+     * @return the ordered keys of the partition.
+     */
+    List<K> getKeys(int partition) {
+        return partitions.get(partition);
+    }
+
+    /**
+     * Put the results of per-partition commands back into key order.
+     *
+     * @param partitionResults results by partition number, each holding one element per key of the partition.
+     * @param <T> element type.
+     * @return results in key order.
+     */
+    <T> List<T> restoreOrder(List<? extends List<T>> partitionResults) {
+
+        List<T> result = new ArrayList<>(partitionOfKey.length);
+
+        for (int i = 0; i < partitionOfKey.length; i++) {
+            result.add(partitionResults.get(partitionOfKey[i]).get(positionOfKey[i]));
+        }
+
+        return result;
+    }
+}
@@ -4,6 +4,8 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -21,11 +23,16 @@ import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 import com.lambdaworks.redis.resource.SocketAddressResolver;
 
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
- * Connection provider with built-in connection caching.
+ * Connection provider with built-in connection caching. Slot-oriented lookups use an immutable {@link RoutingTable} that maps
+ * each slot to the route of its node. The table is rebuilt when the {@link Partitions} or the {@link ReadFrom} setting change
+ * and published atomically so lookups do not synchronize. {@literal MOVED} redirections patch the route of the redirected slot
+ * until the next {@link Partitions} update.
  * 
  * @param <K> Key type.
  * @param <V> Value type.
@@ -41,8 +48,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final Map<ConnectionKey, StatefulRedisConnection<K, V>> connections = new ConcurrentHashMap<>();
     private final Object stateLock = new Object();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final StatefulRedisConnection<K, V> writers[] = new StatefulRedisConnection[SlotHash.SLOT_COUNT];
-    private final StatefulRedisConnection<K, V> readers[][] = new StatefulRedisConnection[SlotHash.SLOT_COUNT][];
+    private final AtomicReference<RoutingTable> routing = new AtomicReference<>(RoutingTable.EMPTY);
+    private final LongAdder slotUpdates = new LongAdder();
+    private final LongAdder redirectsAvoided = new LongAdder();
     private final RedisClusterClient redisClusterClient;
     private final ConnectionFactory connectionFactory;
 
@@ -77,82 +85,172 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     private StatefulRedisConnection<K, V> getWriteConnection(int slot) {
-        StatefulRedisConnection<K, V> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
+
+        RoutingTable table = routing.get();
+        NodeRoute route = table.getWriter(slot);
+
+        if (!table.isCurrent(slot, route)) {
+            table = refreshRoutingTable(table);
+            route = table.getWriter(slot);
+        }
+
+        if (route == null) {
+            throw new RedisException("Cannot determine a partition for slot " + slot + " (Partitions: " + partitions + ")");
+        }
+
+        if (route.redirected) {
+            redirectsAvoided.increment();
+        }
+
+        return getConnection(route);
+    }
+
+    protected StatefulRedisConnection<K, V> getReadConnection(int slot) {
+
+        RoutingTable table = routing.get();
+        ReadRoute route = table.getReader(slot);
+
+        if (table.readers == null || !table.isCurrent(slot, route)) {
+            table = refreshRoutingTable(table);
+            route = table.getReader(slot);
+        }
+
+        if (route == null) {
+            throw new RedisException(
+                    "Cannot determine a partition to read for slot " + slot + " (Partitions: " + partitions + ")");
+        }
+
+        if (route.candidates.length == 0) {
+            throw new RedisException("Cannot determine a partition to read for slot " + slot + " (Partitions: " + partitions
+                    + ") with setting " + table.readFrom);
         }
 
-        if (writer == null) {
-            RedisClusterNode partition = partitions.getPartitionBySlot(slot);
-            if (partition == null) {
-                throw new RedisException("Cannot determine a partition for slot " + slot + " (Partitions: " + partitions + ")");
+        if (route.redirected) {
+            redirectsAvoided.increment();
+        }
+
+        for (NodeRoute candidate : route.candidates) {
+            getConnection(candidate);
+        }
+
+        // try working connections at first
+        for (NodeRoute candidate : route.candidates) {
+            if (!candidate.connection.isOpen()) {
+                continue;
             }
+            return candidate.connection;
+        }
 
-            // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
-            // host because the nodeId can be handled by a different host.
-            RedisURI uri = partition.getUri();
-            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
-            return writers[slot] = getOrCreateConnection(key);
+        // fall-back to the first connection for same behavior as writing
+        return route.candidates[0].connection;
+    }
 
+    private StatefulRedisConnection<K, V> getConnection(NodeRoute route) {
+
+        StatefulRedisConnection<K, V> connection = route.connection;
+
+        if (connection == null) {
+            connection = getOrCreateConnection(route.key);
+            route.connection = connection;
         }
-        return writer;
+
+        return connection;
     }
 
-    protected StatefulRedisConnection<K, V> getReadConnection(int slot) {
-        StatefulRedisConnection<K, V> readerCandidates[];// avoid races when reconfiguring partitions.
+    /**
+     * Replace {@code expected} with a routing table built from the current {@link Partitions} and {@link ReadFrom} setting.
+     * Tables are rebuilt on lookups only if slots were assigned to a different node address without calling
+     * {@link #setPartitions(Partitions)}.
+     *
+     * @param expected the table that is outdated.
+     * @return the current routing table.
+     */
+    private RoutingTable refreshRoutingTable(RoutingTable expected) {
+
+        RoutingTable table = buildRoutingTable();
+
+        if (routing.compareAndSet(expected, table)) {
+            return table;
+        }
+
+        return routing.get();
+    }
+
+    /**
+     * Build a routing table from the current {@link Partitions} and {@link ReadFrom} setting. Routes are seeded with the
+     * connections that are already open so rebuilding the table does not drop connections of nodes that remain in the
+     * topology.
+     *
+     * @return the routing table.
+     */
+    private RoutingTable buildRoutingTable() {
+
+        Partitions partitions;
+        ReadFrom readFrom;
+
         synchronized (stateLock) {
-            readerCandidates = readers[slot];
+            partitions = this.partitions;
+            readFrom = this.readFrom;
+        }
+
+        if (partitions == null) {
+            return RoutingTable.EMPTY;
         }
 
-        if (readerCandidates == null) {
+        Map<RedisClusterNode, NodeRoute> writeRoutes = new IdentityHashMap<>();
+        Map<RedisClusterNode, ReadRoute> readRoutes = new IdentityHashMap<>();
+        Map<ConnectionKey, NodeRoute> routesByKey = new HashMap<>();
+
+        NodeRoute[] writers = new NodeRoute[SlotHash.SLOT_COUNT];
+        ReadRoute[] readers = readFrom != null ? new ReadRoute[SlotHash.SLOT_COUNT] : null;
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
             RedisClusterNode master = partitions.getPartitionBySlot(slot);
             if (master == null) {
-                throw new RedisException(
-                        "Cannot determine a partition to read for slot " + slot + " (Partitions: " + partitions + ")");
+                continue;
             }
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return candidates;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return candidates.iterator();
-                }
-            });
+            // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
+            // host because the nodeId can be handled by a different host.
+            writers[slot] = writeRoutes.computeIfAbsent(master,
+                    node -> getRoute(routesByKey, node, new ConnectionKey(Intent.WRITE, node.getUri().getHost(),
+                            node.getUri().getPort())));
 
-            if (selection.isEmpty()) {
-                throw new RedisException("Cannot determine a partition to read for slot " + slot + " (Partitions: " + partitions
-                        + ") with setting " + readFrom);
+            if (readers != null) {
+                readers[slot] = readRoutes.computeIfAbsent(master,
+                        node -> new ReadRoute(node, getReadRoutes(routesByKey, partitions, readFrom, node)));
             }
-
-            readerCandidates = getReadFromConnections(selection);
-            readers[slot] = readerCandidates;
         }
 
-        // try working connections at first
-        for (StatefulRedisConnection<K, V> readerCandidate : readerCandidates) {
-            if (!readerCandidate.isOpen()) {
-                continue;
-            }
-            return readerCandidate;
+        Set<String> nodes = new HashSet<>();
+        for (RedisClusterNode node : partitions) {
+            nodes.add(node.getNodeId() + "@" + node.getUri().getHost() + ":" + node.getUri().getPort());
         }
 
-        // fall-back to the first connection for same behavior as writing
-        return readerCandidates[0];
+        return new RoutingTable(partitions, readFrom, writers, readers, nodes, RoutingTable.NO_REDIRECTS);
     }
 
-    private StatefulRedisConnection<K, V>[] getReadFromConnections(List<RedisNodeDescription> selection) {
-        StatefulRedisConnection<K, V>[] readerCandidates;
-        // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
-        // host because the nodeId can be handled by a different host.
+    private NodeRoute[] getReadRoutes(Map<ConnectionKey, NodeRoute> routesByKey, Partitions partitions, ReadFrom readFrom,
+            RedisClusterNode master) {
 
-        readerCandidates = new StatefulRedisConnection[selection.size()];
+        List<RedisNodeDescription> candidates = getReadCandidates(partitions, master);
+        List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return candidates;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return candidates.iterator();
+            }
+        });
+
+        NodeRoute[] routes = new NodeRoute[selection.size()];
 
         for (int i = 0; i < selection.size(); i++) {
+
             RedisNodeDescription redisClusterNode = selection.get(i);
 
             RedisURI uri = redisClusterNode.getUri();
@@ -160,20 +258,24 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE : Intent.READ, uri.getHost(),
                     uri.getPort());
 
-            readerCandidates[i] = getOrCreateConnection(key);
+            routes[i] = getRoute(routesByKey, (RedisClusterNode) redisClusterNode, key);
         }
 
-        return readerCandidates;
+        return routes;
+    }
+
+    private NodeRoute getRoute(Map<ConnectionKey, NodeRoute> routesByKey, RedisClusterNode node, ConnectionKey key) {
+        return routesByKey.computeIfAbsent(key, k -> new NodeRoute(node, k, connections.get(k)));
     }
 
-    private List<RedisNodeDescription> getReadCandidates(RedisClusterNode master) {
+    private static List<RedisNodeDescription> getReadCandidates(Partitions partitions, RedisClusterNode master) {
 
         return partitions.stream() //
                 .filter(partition -> isReadCandidate(master, partition)) //
                 .collect(Collectors.toList());
     }
 
-    private boolean isReadCandidate(RedisClusterNode master, RedisClusterNode partition) {
+    private static boolean isReadCandidate(RedisClusterNode master, RedisClusterNode partition) {
         return master.getNodeId().equals(partition.getNodeId()) || master.getNodeId().equals(partition.getSlaveOf());
     }
 
@@ -213,7 +315,68 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         }
     }
 
+    /**
+     * Patch the route of {@code slot} in the current routing table. The slot is routed to the node at {@code host:port} only if
+     * the node is known in the {@link Partitions} the table was built from. Redirected slots are kept in a small overlay on top
+     * of the slot arrays, so a patch copies only the overlay. Patched tables are published with a compare-and-set against the
+     * table they were derived from, so a routing table published by {@link #setPartitions(Partitions)} meanwhile is never
+     * overwritten by a redirection observed on an older topology.
+     *
+     * @param slot the redirected slot.
+     * @param host the host of the new slot owner.
+     * @param port the port of the new slot owner.
+     * @return {@literal true} if the slot was routed to the new slot owner.
+     */
+    @Override
+    public boolean updateSlot(int slot, String host, int port) {
+
+        for (;;) {
+
+            RoutingTable table = routing.get();
+
+            if (table.partitions == null) {
+                return false;
+            }
+
+            RedisClusterNode target = getPartition(table.partitions, host, port);
+            NodeRoute current = table.getWriter(slot);
+
+            if (target == null || (current != null && current.key.isAddressOf(target.getUri()))) {
+                return false;
+            }
+
+            ConnectionKey key = new ConnectionKey(Intent.WRITE, host, port);
+            NodeRoute writer = new NodeRoute(target, key, connections.get(key), true);
+            ReadRoute reader = null;
+
+            if (table.readers != null) {
+
+                // the new owner may still be known as slave in this topology, fall back to the owner for reads
+                NodeRoute[] candidates = getReadRoutes(new HashMap<>(), table.partitions, table.readFrom, target);
+                if (candidates.length == 0) {
+                    candidates = new NodeRoute[] { writer };
+                }
+
+                reader = new ReadRoute(target, candidates, true);
+            }
+
+            if (routing.compareAndSet(table, table.redirect(slot, new SlotRedirect(writer, reader)))) {
+
+                if (debugEnabled) {
+                    logger.debug("updateSlot(" + slot + ", " + host + ", " + port + ")");
+                }
+
+                slotUpdates.increment();
+                return true;
+            }
+        }
+    }
+
     private RedisClusterNode getPartition(String host, int port) {
+        return getPartition(partitions, host, port);
+    }
+
+    private static RedisClusterNode getPartition(Partitions partitions, String host, int port) {
         for (RedisClusterNode partition : partitions) {
             RedisURI uri = partition.getUri();
             if (port == uri.getPort() && host.equals(uri.getHost())) {
@@ -227,7 +390,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     public void close() {
 
         this.connections.clear();
-        resetFastConnectionCache();
+        routing.set(RoutingTable.EMPTY);
 
         new HashMap<>(this.connections) //
                 .values() //
@@ -241,7 +404,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Synchronize on {@code stateLock} to initiate a happens-before relation and publish a routing table for the new
+     * partitions. Open connections are retained for nodes that remain in the topology. Stale connections are expired only if
+     * nodes joined, left or changed their address.
      * 
      * @param partitions the new partitions.
      */
@@ -256,7 +421,10 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             this.partitions = partitions;
         }
 
-        if (reconfigurePartitions) {
+        RoutingTable table = buildRoutingTable();
+        RoutingTable previous = routing.getAndSet(table);
+
+        if (reconfigurePartitions && !table.nodes.equals(previous.nodes)) {
             reconfigurePartitions();
         }
     }
@@ -281,7 +449,6 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
         }
 
-        resetFastConnectionCache();
         closeStaleConnections();
     }
 
@@ -356,8 +523,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     public void setReadFrom(ReadFrom readFrom) {
         synchronized (stateLock) {
             this.readFrom = readFrom;
-            Arrays.fill(readers, null);
         }
+
+        routing.set(buildRoutingTable());
     }
 
     @Override
@@ -374,17 +542,20 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
-     * cache.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * @return number of slots that were routed to a new slot owner after a {@literal MOVED} redirection.
      */
-    private void resetFastConnectionCache() {
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
+    long getSlotUpdates() {
+        return slotUpdates.sum();
+    }
 
-        }
+    /**
+     *
+     * @return number of lookups served by a route patched after a {@literal MOVED} redirection. Each of these lookups avoided a
+     *         redirection through the previous slot owner.
+     */
+    long getRedirectsAvoided() {
+        return redirectsAvoided.sum();
     }
 
     private RuntimeException invalidConnectionPoint(String message) {
@@ -415,6 +586,188 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return null;
     }
 
+    /**
+     * Immutable mapping of slots to the routes of the nodes serving the slots. Slots of the same node share a route. Slots
+     * redirected by {@link #updateSlot(int, String, int)} have a route of their own that is kept in {@link #redirects} and
+     * takes precedence over the slot arrays. The slot arrays are shared between a table and its redirected successors.
+     */
+    private static class RoutingTable {
+
+        static final IntObjectMap<SlotRedirect> NO_REDIRECTS = new IntObjectHashMap<>(0);
+        static final RoutingTable EMPTY = new RoutingTable(null, null, new NodeRoute[SlotHash.SLOT_COUNT], null,
+                Collections.emptySet(), NO_REDIRECTS);
+
+        private final Partitions partitions;
+        private final ReadFrom readFrom;
+        private final NodeRoute[] writers;
+        private final ReadRoute[] readers;
+        private final Set<String> nodes;
+        private final IntObjectMap<SlotRedirect> redirects;
+
+        RoutingTable(Partitions partitions, ReadFrom readFrom, NodeRoute[] writers, ReadRoute[] readers, Set<String> nodes,
+                IntObjectMap<SlotRedirect> redirects) {
+            this.partitions = partitions;
+            this.readFrom = readFrom;
+            this.writers = writers;
+            this.readers = readers;
+            this.nodes = nodes;
+            this.redirects = redirects;
+        }
+
+        NodeRoute getWriter(int slot) {
+
+            if (!redirects.isEmpty()) {
+                SlotRedirect redirect = redirects.get(slot);
+                if (redirect != null) {
+                    return redirect.writer;
+                }
+            }
+
+            return writers[slot];
+        }
+
+        ReadRoute getReader(int slot) {
+
+            if (readers == null) {
+                return null;
+            }
+
+            if (!redirects.isEmpty()) {
+                SlotRedirect redirect = redirects.get(slot);
+                if (redirect != null) {
+                    return redirect.reader;
+                }
+            }
+
+            return readers[slot];
+        }
+
+        /**
+         * Create a table that routes {@code slot} using {@code redirect}. Only the redirect overlay is copied, a redirection
+         * of a slot that is already redirected replaces the previous redirection.
+         *
+         * @param slot the slot.
+         * @param redirect the routes of the slot.
+         * @return the new routing table.
+         */
+        RoutingTable redirect(int slot, SlotRedirect redirect) {
+
+            IntObjectMap<SlotRedirect> redirects = new IntObjectHashMap<>(this.redirects.size() + 1);
+            redirects.putAll(this.redirects);
+            redirects.put(slot, redirect);
+
+            return new RoutingTable(partitions, readFrom, writers, readers, nodes, redirects);
+        }
+
+        /**
+         * Check whether the {@link Partitions} still assign {@code slot} to the node of {@code route}. Nodes are compared by
+         * identity first. Reloaded {@link Partitions} contain new node instances, which remain current as long as they serve the
+         * slot from the same address. Redirected routes remain current until the table is replaced.
+         *
+         * @param slot the slot.
+         * @param route the route of the slot, may be {@literal null}.
+         * @return {@literal true} if the route of {@code slot} is current.
+         */
+        boolean isCurrent(int slot, NodeRoute route) {
+
+            if (partitions == null) {
+                return false;
+            }
+
+            if (route != null && route.redirected) {
+                return true;
+            }
+
+            RedisClusterNode node = partitions.getPartitionBySlot(slot);
+
+            if (route == null || node == null) {
+                return route == null && node == null;
+            }
+
+            return node == route.node || route.key.isAddressOf(node.getUri());
+        }
+
+        /**
+         * @param slot the slot.
+         * @param route the read route of the slot, may be {@literal null}.
+         * @return {@literal true} if the master of {@code slot} is unchanged.
+         */
+        boolean isCurrent(int slot, ReadRoute route) {
+
+            if (partitions == null) {
+                return false;
+            }
+
+            if (route != null && route.redirected) {
+                return true;
+            }
+
+            RedisClusterNode node = partitions.getPartitionBySlot(slot);
+
+            if (route == null || node == null) {
+                return route == null && node == null;
+            }
+
+            return node == route.master || node.getNodeId().equals(route.master.getNodeId());
+        }
+    }
+
+    /**
+     * Route to a node. The connection is obtained on first use and retained for subsequent lookups.
+     */
+    private static class NodeRoute {
+
+        private final RedisClusterNode node;
+        private final ConnectionKey key;
+        private final boolean redirected;
+        private volatile StatefulRedisConnection connection;
+
+        NodeRoute(RedisClusterNode node, ConnectionKey key, StatefulRedisConnection connection) {
+            this(node, key, connection, false);
+        }
+
+        NodeRoute(RedisClusterNode node, ConnectionKey key, StatefulRedisConnection connection, boolean redirected) {
+            this.node = node;
+            this.key = key;
+            this.redirected = redirected;
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * Write and read route of a slot redirected by {@link #updateSlot(int, String, int)}.
+     */
+    private static class SlotRedirect {
+
+        private final NodeRoute writer;
+        private final ReadRoute reader;
+
+        SlotRedirect(NodeRoute writer, ReadRoute reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Read route to the nodes selected by {@link ReadFrom} for the slots of a master.
+     */
+    private static class ReadRoute {
+
+        private final RedisClusterNode master;
+        private final NodeRoute[] candidates;
+        private final boolean redirected;
+
+        ReadRoute(RedisClusterNode master, NodeRoute[] candidates) {
+            this(master, candidates, false);
+        }
+
+        ReadRoute(RedisClusterNode master, NodeRoute[] candidates, boolean redirected) {
+            this.master = master;
+            this.candidates = candidates;
+            this.redirected = redirected;
+        }
+    }
+
     /**
      * Connection to identify a connection either by nodeId or host/port.
      */
@@ -438,6 +791,10 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             this.nodeId = null;
         }
 
+        boolean isAddressOf(RedisURI uri) {
+            return host != null && port == uri.getPort() && host.equals(uri.getHost());
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o)
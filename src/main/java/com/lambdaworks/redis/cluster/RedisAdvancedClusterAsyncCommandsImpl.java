@@ -25,12 +25,19 @@ import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceLists;
+import com.lambdaworks.redis.output.BooleanOutput;
 import com.lambdaworks.redis.output.IntegerOutput;
 import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueListOutput;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingOutput;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
 import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -61,19 +68,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.del(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
+        if (partitions.size() < 2) {
+            return super.del(keyList);
         }
 
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.DEL, new IntegerOutput<>(codec), keyArgs(k)));
+
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
@@ -84,19 +89,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.unlink(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
+        if (partitions.size() < 2) {
+            return super.unlink(keyList);
         }
 
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.UNLINK, new IntegerOutput<>(codec), keyArgs(k)));
+
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
@@ -106,19 +109,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.exists(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
+        if (partitions.size() < 2) {
+            return super.exists(keyList);
         }
 
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.EXISTS, new IntegerOutput<>(codec), keyArgs(k)));
+
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
@@ -129,32 +130,26 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<V>> mget(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.mget(keys);
-        }
-
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<V>>> executions = new HashMap<>();
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<V>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
+        if (partitions.size() < 2) {
+            return super.mget(keyList);
         }
 
+        Map<Integer, RedisFuture<List<V>>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.MGET, new ValueListOutput<>(codec), keyArgs(k)));
+
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<V> result = new ArrayList<>();
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
 
-                int position = partitioned.get(slot).indexOf(opKey);
-                RedisFuture<List<V>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
+            List<List<V>> results = new ArrayList<>(executions.size());
+            for (RedisFuture<List<V>> execution : executions.values()) {
+                results.add(MultiNodeExecution.execute(() -> execution.get()));
             }
 
-            return result;
+            return partitions.restoreOrder(results);
         });
     }
 
@@ -165,62 +160,46 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> mget(ValueStreamingChannel<V> channel, Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.mget(channel, keys);
-        }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
+        if (partitions.size() < 2) {
+            return super.mget(channel, keyList);
         }
 
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.MGET, new ValueStreamingOutput<>(codec, channel), keyArgs(k)));
+
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, new ArrayList<>(map.keySet()));
+
+        if (partitions.size() < 2) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+        Map<Integer, RedisFuture<String>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.MSET, new StatusOutput<>(codec), new CommandArgs<>(codec).add(subMap(map, k))));
 
         return MultiNodeExecution.firstOfAsync(executions);
     }
 
     @Override
     public RedisFuture<Boolean> msetnx(Map<K, V> map) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, new ArrayList<>(map.keySet()));
+
+        if (partitions.size() < 2) {
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+        Map<Integer, RedisFuture<Boolean>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.MSETNX, new BooleanOutput<>(codec), new CommandArgs<>(codec).add(subMap(map, k))));
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
             for (RedisFuture<Boolean> listRedisFuture : executions.values()) {
@@ -234,6 +213,44 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         });
     }
 
+    /**
+     * Create one command per partition and dispatch the commands at once so commands for the same node are written with a
+     * single flush.
+     *
+     * @param partitions the partitioned keys.
+     * @param commandFactory function creating the command for the keys of a partition.
+     * @param <T> result type.
+     * @return map between the partition slot and the command future, ordered by partition.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchPartitioned(KeyPartitions<K> partitions,
+            Function<List<K>, ? extends RedisCommand<K, V, T>> commandFactory) {
+
+        List<AsyncCommand<K, V, T>> commands = new ArrayList<>(partitions.size());
+        Map<Integer, RedisFuture<T>> executions = new LinkedHashMap<>();
+
+        for (int i = 0; i < partitions.size(); i++) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(partitions.getKeys(i)));
+            commands.add(command);
+            executions.put(partitions.getSlot(i), command);
+        }
+
+        ((StatefulRedisClusterConnectionImpl<K, V>) connection).dispatchAll(commands);
+
+        return executions;
+    }
+
+    private CommandArgs<K, V> keyArgs(List<K> keys) {
+        return new CommandArgs<>(codec).addKeys(keys);
+    }
+
+    private static <K, V> Map<K, V> subMap(Map<K, V> map, List<K> keys) {
+
+        Map<K, V> op = new LinkedHashMap<>();
+        keys.forEach(k -> op.put(k, map.get(k)));
+        return op;
+    }
+
     @Override
     public RedisFuture<String> clientSetname(K name) {
         Map<String, RedisFuture<String>> executions = new HashMap<>();
@@ -356,19 +373,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.touch(keys);
-        }
+        List<K> keyList = LettuceLists.newList(keys);
+        KeyPartitions<K> partitions = KeyPartitions.partition(codec, keyList);
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
+        if (partitions.size() < 2) {
+            return super.touch(keyList);
         }
 
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitions,
+                k -> new Command<>(CommandType.TOUCH, new IntegerOutput<>(codec), keyArgs(k)));
+
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
@@ -0,0 +1,123 @@
+package com.lambdaworks.redis.cluster;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Predicate;
+
+import com.lambdaworks.redis.AbstractRedisCommands;
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * An advanced synchronous and thread-safe API for a Redis Cluster connection. Commands are invoked on
+ * {@link RedisAdvancedClusterAsyncCommandsImpl} so multi-key commands are routed the same way as with the asynchronous API.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisAdvancedClusterCommandsImpl<K, V> extends AbstractRedisCommands<K, V>
+        implements RedisAdvancedClusterCommands<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection.
+     * @param async the asynchronous API of {@code connection}.
+     */
+    public RedisAdvancedClusterCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+        super(async);
+        this.connection = connection;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return connection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return connection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
+
+        if (dynamic) {
+            selection = new DynamicSyncNodeSelection<>(connection, predicate, intent);
+        } else {
+            selection = new StaticSyncNodeSelection<>(connection, predicate, intent);
+        }
+
+        NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection,
+                true, connection.getTimeout(), connection.getTimeoutUnit());
+        return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(),
+                new Class<?>[] { NodeSelectionCommands.class, NodeSelection.class }, h);
+    }
+
+    @Override
+    @Deprecated
+    public Boolean exists(K key) {
+        return await(async.exists(key));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public Long pfadd(K key, V value, V... moreValues) {
+        return await(async.pfadd(key, value, moreValues));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public String pfmerge(K destkey, K sourcekey, K... moreSourceKeys) {
+        return await(async.pfmerge(destkey, sourcekey, moreSourceKeys));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public Long pfcount(K key, K... moreKeys) {
+        return await(async.pfcount(key, moreKeys));
+    }
+}
@@ -18,6 +18,7 @@ import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
 import com.lambdaworks.redis.cluster.event.ClusterTopologyChangedEvent;
+import com.lambdaworks.redis.cluster.event.ClusterTopologyDeltaEvent;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.cluster.topology.ClusterTopologyRefresh;
@@ -680,10 +681,14 @@ public class RedisClusterClient extends AbstractRedisClient {
     }
 
     /**
-     * Reload partitions and re-initialize the distribution table.
+     * Reload partitions and re-initialize the distribution table. Connections retain their node connections and expire stale
+     * connections only if nodes joined, left or changed their address. A {@link ClusterTopologyDeltaEvent} is published if the
+     * topology changed.
      */
     public void reloadPartitions() {
 
+        TopologyDelta delta = null;
+
         if (partitions == null) {
             initializePartitions();
             partitions.updateCache();
@@ -700,10 +705,15 @@ public class RedisClusterClient extends AbstractRedisClient {
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
+            delta = TopologyDelta.compute(getPartitions(), loadedPartitions);
             this.partitions.reload(loadedPartitions.getPartitions());
         }
 
         updatePartitionsInConnections();
+
+        if (delta != null && !delta.isEmpty()) {
+            getResources().eventBus().publish(delta.toEvent());
+        }
     }
 
     protected void updatePartitionsInConnections() {
@@ -870,6 +880,8 @@ public class RedisClusterClient extends AbstractRedisClient {
             }
         }
 
+        refresh.close();
+
         super.shutdown(quietPeriod, timeout, timeUnit);
     }
 
@@ -61,32 +61,26 @@ public class SlotHash {
      */
     public static final int getSlot(ByteBuffer key) {
 
-        byte[] input = new byte[key.remaining()];
-        key.duplicate().get(input);
+        int from = key.position();
+        int to = key.limit();
 
-        byte[] finalKey = input;
-
-        int start = indexOf(input, SUBKEY_START);
+        int start = indexOf(key, from, to, SUBKEY_START);
         if (start != -1) {
-            int end = indexOf(input, start + 1, SUBKEY_END);
+            int end = indexOf(key, start + 1, to, SUBKEY_END);
             if (end != -1 && end != start + 1) {
-
-                finalKey = new byte[end - (start + 1)];
-                System.arraycopy(input, start + 1, finalKey, 0, finalKey.length);
+                from = start + 1;
+                to = end;
             }
         }
-        return CRC16.crc16(finalKey) % SLOT_COUNT;
-    }
 
-    private static int indexOf(byte[] haystack, byte needle) {
-        return indexOf(haystack, 0, needle);
+        return CRC16.crc16(key, from, to) % SLOT_COUNT;
     }
 
-    private static int indexOf(byte[] haystack, int start, byte needle) {
+    private static int indexOf(ByteBuffer haystack, int start, int end, byte needle) {
 
-        for (int i = start; i < haystack.length; i++) {
+        for (int i = start; i < end; i++) {
 
-            if (haystack[i] == needle) {
+            if (haystack.get(i) == needle) {
                 return i;
             }
         }
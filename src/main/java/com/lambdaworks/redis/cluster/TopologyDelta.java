@@ -0,0 +1,113 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.*;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.event.ClusterTopologyDeltaEvent;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Difference between two {@link Partitions}. Nodes are matched by their node id. A node is changed if its address, its
+ * {@code MASTER}/{@code SLAVE} role, its master or its slots differ. A slot is changed if it is served by a different node or
+ * from a different address.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class TopologyDelta {
+
+    private final List<RedisClusterNode> addedNodes;
+    private final List<RedisClusterNode> removedNodes;
+    private final List<RedisClusterNode> changedNodes;
+    private final List<Integer> changedSlots;
+
+    private TopologyDelta(List<RedisClusterNode> addedNodes, List<RedisClusterNode> removedNodes,
+            List<RedisClusterNode> changedNodes, List<Integer> changedSlots) {
+        this.addedNodes = addedNodes;
+        this.removedNodes = removedNodes;
+        this.changedNodes = changedNodes;
+        this.changedSlots = changedSlots;
+    }
+
+    /**
+     * Compute the difference between {@code before} and {@code after}.
+     *
+     * @param before the topology view before the change.
+     * @param after the topology view after the change.
+     * @return the topology delta.
+     */
+    static TopologyDelta compute(Partitions before, Partitions after) {
+
+        Map<String, RedisClusterNode> beforeById = new HashMap<>();
+        for (RedisClusterNode node : before) {
+            beforeById.put(node.getNodeId(), node);
+        }
+
+        List<RedisClusterNode> addedNodes = new ArrayList<>();
+        List<RedisClusterNode> changedNodes = new ArrayList<>();
+
+        for (RedisClusterNode node : after) {
+
+            RedisClusterNode previous = beforeById.remove(node.getNodeId());
+
+            if (previous == null) {
+                addedNodes.add(node);
+            } else if (isChanged(previous, node)) {
+                changedNodes.add(node);
+            }
+        }
+
+        List<RedisClusterNode> removedNodes = new ArrayList<>(beforeById.values());
+        List<Integer> changedSlots = new ArrayList<>();
+
+        if (!addedNodes.isEmpty() || !removedNodes.isEmpty() || !changedNodes.isEmpty()) {
+
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+                if (!sameOwner(before.getPartitionBySlot(slot), after.getPartitionBySlot(slot))) {
+                    changedSlots.add(slot);
+                }
+            }
+        }
+
+        return new TopologyDelta(addedNodes, removedNodes, changedNodes, changedSlots);
+    }
+
+    private static boolean isChanged(RedisClusterNode before, RedisClusterNode after) {
+
+        return !sameAddress(before.getUri(), after.getUri()) //
+                || before.is(RedisClusterNode.NodeFlag.MASTER) != after.is(RedisClusterNode.NodeFlag.MASTER) //
+                || before.is(RedisClusterNode.NodeFlag.SLAVE) != after.is(RedisClusterNode.NodeFlag.SLAVE) //
+                || !Objects.equals(before.getSlaveOf(), after.getSlaveOf()) //
+                || !before.hasSameSlotsAs(after);
+    }
+
+    private static boolean sameOwner(RedisClusterNode before, RedisClusterNode after) {
+
+        if (before == null || after == null) {
+            return before == after;
+        }
+
+        return before.getNodeId().equals(after.getNodeId()) && sameAddress(before.getUri(), after.getUri());
+    }
+
+    private static boolean sameAddress(RedisURI before, RedisURI after) {
+        return before.getPort() == after.getPort() && Objects.equals(before.getHost(), after.getHost());
+    }
+
+    /**
+     *
+     * @return {@literal true} if the topology views do not differ.
+     */
+    boolean isEmpty() {
+        return addedNodes.isEmpty() && removedNodes.isEmpty() && changedNodes.isEmpty();
+    }
+
+    /**
+     *
+     * @return the delta as {@link ClusterTopologyDeltaEvent}.
+     */
+    ClusterTopologyDeltaEvent toEvent() {
+        return new ClusterTopologyDeltaEvent(addedNodes, removedNodes, changedNodes, changedSlots);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lambdaworks.redis.cluster.api.sync;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
@@ -170,6 +171,16 @@ public interface NodeSelectionStringCommands<K, V> {
      */
     Executions<V> get(K key);
 
+    /**
+     * Get the value of a key and write it to {@code channel} as it arrives. The value is not materialized on the heap which
+     * allows retrieving large values.
+     *
+     * @param channel the channel the value is written to, called on the I/O thread and must not block
+     * @param key the key
+     * @return Long number of bytes written to {@code channel}, or {@literal null} when {@code key} does not exist.
+     */
+    Executions<Long> get(WritableByteChannel channel, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      * 
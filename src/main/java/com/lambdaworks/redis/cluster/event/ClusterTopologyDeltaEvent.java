@@ -0,0 +1,87 @@
+package com.lambdaworks.redis.cluster.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.event.Event;
+
+/**
+ * Signals the difference between two cluster topology views that was applied to the cluster connections. The event carries the
+ * {@link #addedNodes() added}, {@link #removedNodes() removed} and {@link #changedNodes() changed} nodes as well as the
+ * {@link #changedSlots() slots} that were assigned to a different node.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ClusterTopologyDeltaEvent implements Event {
+
+    private final List<RedisClusterNode> addedNodes;
+    private final List<RedisClusterNode> removedNodes;
+    private final List<RedisClusterNode> changedNodes;
+    private final List<Integer> changedSlots;
+
+    /**
+     * Creates a new {@link ClusterTopologyDeltaEvent}.
+     *
+     * @param addedNodes nodes that joined the topology, must not be {@literal null}
+     * @param removedNodes nodes that left the topology, must not be {@literal null}
+     * @param changedNodes nodes that changed their address, role, master or slots, must not be {@literal null}
+     * @param changedSlots slots that are served by a different node or address, must not be {@literal null}
+     */
+    public ClusterTopologyDeltaEvent(List<RedisClusterNode> addedNodes, List<RedisClusterNode> removedNodes,
+            List<RedisClusterNode> changedNodes, List<Integer> changedSlots) {
+        this.addedNodes = Collections.unmodifiableList(addedNodes);
+        this.removedNodes = Collections.unmodifiableList(removedNodes);
+        this.changedNodes = Collections.unmodifiableList(changedNodes);
+        this.changedSlots = Collections.unmodifiableList(changedSlots);
+    }
+
+    /**
+     * Returns the nodes that joined the topology.
+     *
+     * @return the nodes that joined the topology.
+     */
+    public List<RedisClusterNode> addedNodes() {
+        return addedNodes;
+    }
+
+    /**
+     * Returns the nodes that left the topology.
+     *
+     * @return the nodes that left the topology.
+     */
+    public List<RedisClusterNode> removedNodes() {
+        return removedNodes;
+    }
+
+    /**
+     * Returns the nodes that changed their address, role, master or slots. The nodes reflect the view after the change.
+     *
+     * @return the changed nodes.
+     */
+    public List<RedisClusterNode> changedNodes() {
+        return changedNodes;
+    }
+
+    /**
+     * Returns the slots that are served by a different node or from a different address, in ascending order.
+     *
+     * @return the changed slots.
+     */
+    public List<Integer> changedSlots() {
+        return changedSlots;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [addedNodes=").append(addedNodes.size());
+        sb.append(", removedNodes=").append(removedNodes.size());
+        sb.append(", changedNodes=").append(changedNodes.size());
+        sb.append(", changedSlots=").append(changedSlots.size());
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -1,17 +1,15 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.internal.HostAndPort;
-import com.lambdaworks.redis.internal.LettuceLists;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}. The output is parsed in a single pass
+ * over the input without splitting it into lines and tokens. Slots are collected into a {@link BitSet} per node.
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -20,15 +18,17 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
+    private static final char TOKEN_SLOT_IN_TRANSITION = '[';
     private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
-    private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+    private static final char TOKEN_SEPARATOR = ' ';
+    private static final char TOKEN_FLAG_SEPARATOR = ',';
+    private static final char TOKEN_BUS_PORT_SEPARATOR = '@';
+    private static final char TOKEN_SLOT_RANGE_SEPARATOR = '-';
+    private static final String[] FLAG_NAMES;
+    private static final RedisClusterNode.NodeFlag[] FLAGS;
 
     static {
-        Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+        Map<String, RedisClusterNode.NodeFlag> map = new LinkedHashMap<>();
 
         map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
         map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
@@ -38,7 +38,9 @@ public class ClusterPartitionParser {
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = map.keySet().toArray(new String[map.size()]);
+        FLAGS = map.values().toArray(new RedisClusterNode.NodeFlag[map.size()]);
     }
 
     /**
@@ -58,9 +60,23 @@ public class ClusterPartitionParser {
         Partitions result = new Partitions();
 
         try {
-            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
-                    .map(ClusterPartitionParser::parseNode)
-                    .collect(Collectors.toList());
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+
+            int length = nodes.length();
+            for (int lineStart = 0; lineStart < length;) {
+
+                int lineEnd = nodes.indexOf(TOKEN_NODE_SEPARATOR, lineStart);
+                if (lineEnd == -1) {
+                    lineEnd = length;
+                }
+
+                if (lineEnd > lineStart) {
+                    mappedNodes.add(parseNode(new Tokenizer(nodes, lineStart, lineEnd)));
+                }
+
+                lineStart = lineEnd + 1;
+            }
+
             result.addAll(mappedNodes);
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
@@ -69,102 +85,194 @@ public class ClusterPartitionParser {
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
+    private static RedisClusterNode parseNode(Tokenizer tokenizer) {
 
-        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
-
-        String nodeId = iterator.next();
+        String nodeId = tokenizer.nextString();
         boolean connected = false;
         RedisURI uri = null;
 
-        String hostAndPortPart = iterator.next();
-        if(hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
-        }
-
-        HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+        tokenizer.next();
+        int busPortSeparator = tokenizer.indexOf(TOKEN_BUS_PORT_SEPARATOR);
+        HostAndPort hostAndPort = HostAndPort.parseCompat(
+                tokenizer.input.substring(tokenizer.tokenStart, busPortSeparator != -1 ? busPortSeparator : tokenizer.tokenEnd));
 
         if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
             uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
-
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        tokenizer.next();
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(tokenizer);
 
-        String slaveOfString = iterator.next(); // (nodeId or -)
-        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+        tokenizer.next(); // (nodeId or -)
+        String slaveOf = tokenizer.tokenEquals("-") ? null : tokenizer.tokenString();
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        long pingSentTs = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
+        long pongReceivedTs = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
+        long configEpoch = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+        tokenizer.next(); // "connected" : "disconnected"
 
-        if (CONNECTED.equals(connectedFlags)) {
+        if (tokenizer.tokenEquals(CONNECTED)) {
             connected = true;
         }
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        List<Integer> slots = readSlots(slotStrings);
+        BitSet slots = readSlots(tokenizer); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
-        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+        return new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs, configEpoch, slots, nodeFlags);
+    }
 
-        return partition;
+    private static Set<RedisClusterNode.NodeFlag> readFlags(Tokenizer tokenizer) {
 
-    }
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+        for (int flagStart = tokenizer.tokenStart; flagStart < tokenizer.tokenEnd;) {
 
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+            int flagEnd = tokenizer.indexOf(TOKEN_FLAG_SEPARATOR, flagStart);
+            if (flagEnd == -1) {
+                flagEnd = tokenizer.tokenEnd;
             }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (tokenizer.regionEquals(flagStart, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAGS[i]);
+                    break;
+                }
+            }
+
+            flagStart = flagEnd + 1;
         }
+
         return Collections.unmodifiableSet(flags);
     }
 
-    private static List<Integer> readSlots(List<String> slotStrings) {
+    private static BitSet readSlots(Tokenizer tokenizer) {
+
+        BitSet slots = new BitSet();
 
-        List<Integer> slots = new ArrayList<>();
-        for (String slotString : slotStrings) {
+        while (tokenizer.hasNext()) {
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            tokenizer.next();
+
+            if (tokenizer.input.charAt(tokenizer.tokenStart) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
-
             }
 
-            if (slotString.contains("-")) {
-                // slot range
-                Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+            int rangeSeparator = tokenizer.indexOf(TOKEN_SLOT_RANGE_SEPARATOR);
 
-                for (int slot = from; slot <= to; slot++) {
-                    slots.add(slot);
+            if (rangeSeparator != -1) {
+                // slot range
+                int from = (int) parseLong(tokenizer.input, tokenizer.tokenStart, rangeSeparator);
+                int to = (int) parseLong(tokenizer.input, rangeSeparator + 1, tokenizer.tokenEnd);
 
-                }
+                slots.set(from, to + 1);
                 continue;
             }
 
-            slots.add(Integer.parseInt(slotString));
+            slots.set((int) parseLong(tokenizer.input, tokenizer.tokenStart, tokenizer.tokenEnd));
         }
 
-        return Collections.unmodifiableList(slots);
+        return slots;
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    private static long parseLong(String input, int start, int end) {
+
+        if (start == end) {
+            throw new NumberFormatException("Empty number at index " + start);
+        }
+
+        boolean negative = input.charAt(start) == '-';
+        long result = 0;
+
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("For input string: \"" + input.substring(start, end) + "\"");
             }
+
+            result = result * 10 + (c - '0');
         }
-        return defaultValue;
+
+        return negative ? -result : result;
     }
 
+    /**
+     * Cursor over the space-separated tokens of a single node line. Tokens are addressed by their start and end index within
+     * the input so they are only materialized as {@link String} if required.
+     */
+    private static class Tokenizer {
+
+        private final String input;
+        private final int end;
+        private int position;
+        private int tokenStart;
+        private int tokenEnd;
+
+        Tokenizer(String input, int start, int end) {
+            this.input = input;
+            this.position = start;
+            this.tokenStart = start;
+            this.end = end;
+        }
+
+        boolean hasNext() {
+
+            while (position < end && input.charAt(position) == TOKEN_SEPARATOR) {
+                position++;
+            }
+
+            return position < end;
+        }
+
+        void next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more tokens in " + input.substring(tokenStart, end));
+            }
+
+            tokenStart = position;
+            while (position < end && input.charAt(position) != TOKEN_SEPARATOR) {
+                position++;
+            }
+            tokenEnd = position;
+        }
+
+        String nextString() {
+            next();
+            return tokenString();
+        }
+
+        long nextLong() {
+            next();
+            return parseLong(input, tokenStart, tokenEnd);
+        }
+
+        String tokenString() {
+            return input.substring(tokenStart, tokenEnd);
+        }
+
+        boolean tokenEquals(String value) {
+            return regionEquals(tokenStart, tokenEnd, value);
+        }
+
+        boolean regionEquals(int start, int end, String value) {
+            return end - start == value.length() && input.regionMatches(start, value, 0, value.length());
+        }
+
+        int indexOf(char c) {
+            return indexOf(c, tokenStart);
+        }
+
+        int indexOf(char c, int from) {
+
+            for (int i = from; i < tokenEnd; i++) {
+                if (input.charAt(i) == c) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
 }
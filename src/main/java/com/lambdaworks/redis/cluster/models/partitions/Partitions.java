@@ -88,9 +88,7 @@ public class Partitions implements Collection<RedisClusterNode> {
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
-                for (Integer integer : partition.getSlots()) {
-                    slotCache[integer.intValue()] = partition;
-                }
+                partition.forEachSlot(slot -> slotCache[slot] = partition);
             }
 
             this.slotCache = slotCache;
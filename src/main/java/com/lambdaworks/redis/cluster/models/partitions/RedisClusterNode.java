@@ -2,10 +2,14 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
@@ -14,7 +18,8 @@ import com.lambdaworks.redis.models.role.RedisNodeDescription;
  * Representation of a Redis Cluster node. A {@link RedisClusterNode} is identified by its {@code nodeId}. A
  * {@link RedisClusterNode} can be a {@link #getRole() responsible master} for zero to
  * {@link com.lambdaworks.redis.cluster.SlotHash#SLOT_COUNT 16384} slots, a slave of one {@link #getSlaveOf() master} of carry
- * different {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag flags}.
+ * different {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag flags}. Slots are stored as
+ * {@link BitSet} so slot lookups do not require a scan and slot ranges do not require an object per slot.
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -30,7 +35,8 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     private long pongReceivedTimestamp;
     private long configEpoch;
 
-    private List<Integer> slots;
+    // never modified after assignment so copies can share the slots
+    private BitSet slots = new BitSet();
     private Set<NodeFlag> flags;
 
     public RedisClusterNode() {
@@ -46,6 +52,19 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = pingSentTimestamp;
         this.pongReceivedTimestamp = pongReceivedTimestamp;
         this.configEpoch = configEpoch;
+        this.slots = toBitSet(slots);
+        this.flags = flags;
+    }
+
+    RedisClusterNode(RedisURI uri, String nodeId, boolean connected, String slaveOf, long pingSentTimestamp,
+            long pongReceivedTimestamp, long configEpoch, BitSet slots, Set<NodeFlag> flags) {
+        this.uri = uri;
+        this.nodeId = nodeId;
+        this.connected = connected;
+        this.slaveOf = slaveOf;
+        this.pingSentTimestamp = pingSentTimestamp;
+        this.pongReceivedTimestamp = pongReceivedTimestamp;
+        this.configEpoch = configEpoch;
         this.slots = slots;
         this.flags = flags;
     }
@@ -58,7 +77,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = redisClusterNode.pingSentTimestamp;
         this.pongReceivedTimestamp = redisClusterNode.pongReceivedTimestamp;
         this.configEpoch = redisClusterNode.configEpoch;
-        this.slots = new ArrayList<>(redisClusterNode.slots);
+        this.slots = redisClusterNode.slots;
         this.flags = LettuceSets.newHashSet(redisClusterNode.flags);
     }
 
@@ -168,8 +187,18 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.configEpoch = configEpoch;
     }
 
+    /**
+     * Returns the slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER} in ascending order. The list is
+     * an unmodifiable snapshot. Use {@link #setSlots(List)} to change the slots of this {@link RedisClusterNode}.
+     *
+     * @return unmodifiable list of slots.
+     */
     public List<Integer> getSlots() {
-        return slots;
+
+        List<Integer> result = new ArrayList<>(slots.cardinality());
+        forEachSlot(result::add);
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -182,7 +211,42 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     public void setSlots(List<Integer> slots) {
         LettuceAssert.notNull(slots, "Slots must not be null");
 
-        this.slots = slots;
+        this.slots = toBitSet(slots);
+    }
+
+    /**
+     *
+     * @return the number of slots for which this {@link RedisClusterNode} is the
+     *         {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}.
+     */
+    public int getSlotCount() {
+        return slots.cardinality();
+    }
+
+    /**
+     * Performs the given {@code action} for each slot of this {@link RedisClusterNode} in ascending order.
+     *
+     * @param action the action, must not be {@literal null}
+     */
+    public void forEachSlot(IntConsumer action) {
+
+        LettuceAssert.notNull(action, "Action must not be null");
+
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            action.accept(slot);
+        }
+    }
+
+    /**
+     *
+     * @param other the other node, must not be {@literal null}
+     * @return {@literal true} if this node and {@code other} serve the same slots.
+     */
+    public boolean hasSameSlotsAs(RedisClusterNode other) {
+
+        LettuceAssert.notNull(other, "Other RedisClusterNode must not be null");
+
+        return slots.equals(other.slots);
     }
 
     public Set<NodeFlag> getFlags() {
@@ -234,9 +298,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         sb.append(", pongReceivedTimestamp=").append(pongReceivedTimestamp);
         sb.append(", configEpoch=").append(configEpoch);
         sb.append(", flags=").append(flags);
-        if (slots != null) {
-            sb.append(", slot count=").append(slots.size());
-        }
+        sb.append(", slot count=").append(slots.cardinality());
         sb.append(']');
         return sb.toString();
     }
@@ -256,7 +318,20 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
      * @return true if the slot is contained within the handled slots.
      */
     public boolean hasSlot(int slot) {
-        return getSlots().contains(slot);
+        return slot >= 0 && slot < SlotHash.SLOT_COUNT && slots.get(slot);
+    }
+
+    private static BitSet toBitSet(List<Integer> slots) {
+
+        BitSet bitSet = new BitSet(SlotHash.SLOT_COUNT);
+
+        if (slots != null) {
+            for (Integer slot : slots) {
+                bitSet.set(slot);
+            }
+        }
+
+        return bitSet;
     }
 
     /**
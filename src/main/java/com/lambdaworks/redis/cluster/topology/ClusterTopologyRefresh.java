@@ -22,7 +22,8 @@ import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
- * Utility to refresh the cluster topology view based on {@link Partitions}.
+ * Utility to refresh the cluster topology view based on {@link Partitions}. Connections to the cluster nodes are retained
+ * across refreshes and closed once a node is no longer part of the seed or the cluster topology.
  *
  * @author Mark Paluch
  */
@@ -34,6 +35,9 @@ public class ClusterTopologyRefresh {
     private final NodeConnectionFactory nodeConnectionFactory;
     private final ClientResources clientResources;
 
+    // Long-lived topology connections, guarded by synchronizing on the object.
+    private final Connections topologyConnections = new Connections();
+
     public ClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
         this.nodeConnectionFactory = nodeConnectionFactory;
         this.clientResources = clientResources;
@@ -49,40 +53,54 @@ public class ClusterTopologyRefresh {
      */
     public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed, boolean discovery) {
 
-        Connections connections = getConnections(seed);
-        Requests requestedTopology = connections.requestTopology();
-        Requests requestedClients = connections.requestClients();
+        synchronized (topologyConnections) {
 
-        long commandTimeoutNs = getCommandTimeoutNs(seed);
+            Connections connections = getConnections(seed);
+            Requests requestedTopology = connections.requestTopology();
+            Requests requestedClients = connections.requestClients();
 
-        try {
-            NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
+            long commandTimeoutNs = getCommandTimeoutNs(seed);
 
-            if (discovery) {
+            try {
+                NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients,
+                        commandTimeoutNs);
                 Set<RedisURI> allKnownUris = nodeSpecificViews.getClusterNodes();
-                Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
 
-                if (!discoveredNodes.isEmpty()) {
-                    Connections discoveredConnections = getConnections(discoveredNodes);
-                    connections = connections.mergeWith(discoveredConnections);
+                if (discovery) {
+                    Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
 
-                    requestedTopology = requestedTopology.mergeWith(discoveredConnections.requestTopology());
-                    requestedClients = requestedClients.mergeWith(discoveredConnections.requestClients());
+                    if (!discoveredNodes.isEmpty()) {
+                        Connections discoveredConnections = getConnections(discoveredNodes);
 
-                    nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
+                        requestedTopology = requestedTopology.mergeWith(discoveredConnections.requestTopology());
+                        requestedClients = requestedClients.mergeWith(discoveredConnections.requestClients());
 
-                    return nodeSpecificViews.toMap();
+                        nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
+                        allKnownUris = nodeSpecificViews.getClusterNodes();
+                    }
                 }
-            }
 
-            return nodeSpecificViews.toMap();
+                Set<RedisURI> retain = toSet(seed);
+                retain.addAll(allKnownUris);
+                topologyConnections.retainAll(retain);
+
+                return nodeSpecificViews.toMap();
 
-        } catch (InterruptedException e) {
+            } catch (InterruptedException e) {
 
-            Thread.currentThread().interrupt();
-            throw new RedisCommandInterruptedException(e);
-        } finally {
-            connections.close();
+                Thread.currentThread().interrupt();
+                throw new RedisCommandInterruptedException(e);
+            }
+        }
+    }
+
+    /**
+     * Close all topology connections. Subsequent calls to {@link #loadViews(Iterable, boolean)} open new connections.
+     */
+    public void close() {
+
+        synchronized (topologyConnections) {
+            topologyConnections.close();
         }
     }
 
@@ -173,7 +191,8 @@ public class ClusterTopologyRefresh {
     }
 
     /*
-     * Open connections where an address can be resolved.
+     * Select connections to the given nodes. Open topology connections are reused, connections are opened where an address
+     * can be resolved and no open topology connection exists.
      */
     private Connections getConnections(Iterable<RedisURI> redisURIs) {
 
@@ -184,11 +203,24 @@ public class ClusterTopologyRefresh {
                 continue;
             }
 
+            StatefulRedisConnection<String, String> topologyConnection = topologyConnections.getConnection(redisURI);
+
+            if (topologyConnection != null) {
+
+                if (topologyConnection.isOpen()) {
+                    connections.addConnection(redisURI, topologyConnection);
+                    continue;
+                }
+
+                topologyConnections.closeConnection(redisURI);
+            }
+
             try {
                 SocketAddress socketAddress = SocketAddressResolver.resolve(redisURI, clientResources.dnsResolver());
                 StatefulRedisConnection<String, String> connection = nodeConnectionFactory.connectToNode(CODEC, socketAddress);
                 connection.async().clientSetname("lettuce#ClusterTopologyRefresh");
 
+                topologyConnections.addConnection(redisURI, connection);
                 connections.addConnection(redisURI, connection);
             } catch (RedisConnectionException e) {
 
@@ -1,8 +1,10 @@
 package com.lambdaworks.redis.cluster.topology;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
@@ -13,6 +15,9 @@ import com.lambdaworks.redis.protocol.CommandKeyword;
 import com.lambdaworks.redis.protocol.CommandType;
 
 /**
+ * Connections to cluster nodes by {@link RedisURI}. Used as the long-lived set of topology refresh connections that is reused
+ * across refreshes and as the per-refresh selection of nodes to query.
+ *
  * @author Mark Paluch
  */
 class Connections {
@@ -37,6 +42,54 @@ class Connections {
         connections.put(redisURI, connection);
     }
 
+    /**
+     *
+     * @param redisURI the node address.
+     * @return the connection for {@code redisURI} or {@literal null} if there is no connection to the node.
+     */
+    public StatefulRedisConnection<String, String> getConnection(RedisURI redisURI) {
+        return connections.get(redisURI);
+    }
+
+    /**
+     * Remove and close the connection for a {@link RedisURI}.
+     *
+     * @param redisURI the node address.
+     */
+    public void closeConnection(RedisURI redisURI) {
+
+        StatefulRedisConnection<String, String> connection = connections.remove(redisURI);
+
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Close and remove connections to nodes that are not contained in {@code redisURIs}.
+     *
+     * @param redisURIs addresses of the nodes to retain.
+     */
+    public void retainAll(Iterable<RedisURI> redisURIs) {
+
+        Set<RedisURI> retain = new TreeSet<>(TopologyComparators.RedisURIComparator.INSTANCE);
+        for (RedisURI redisURI : redisURIs) {
+            retain.add(redisURI);
+        }
+
+        Iterator<Map.Entry<RedisURI, StatefulRedisConnection<String, String>>> iterator = connections.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+
+            Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry = iterator.next();
+
+            if (!retain.contains(entry.getKey())) {
+                iterator.remove();
+                entry.getValue().close();
+            }
+        }
+    }
+
     /*
      * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
      *
@@ -84,12 +137,15 @@ class Connections {
     }
 
     /**
-     * Close all connections.
+     * Close and remove all connections.
      */
     public void close() {
+
         for (StatefulRedisConnection<String, String> connection : connections.values()) {
             connection.close();
         }
+
+        connections.clear();
     }
 
     /**
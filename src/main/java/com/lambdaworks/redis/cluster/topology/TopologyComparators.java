@@ -10,7 +10,6 @@ import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
-import com.lambdaworks.redis.internal.LettuceSets;
 
 /**
  * Comparators for {@link RedisClusterNode} and {@link RedisURI}.
@@ -140,7 +139,7 @@ public class TopologyComparators {
             return false;
         }
 
-        if (!LettuceSets.newHashSet(o1.getSlots()).equals(LettuceSets.newHashSet(o2.getSlots()))) {
+        if (!o1.hasSameSlotsAs(o2)) {
             return false;
         }
 
@@ -2,13 +2,15 @@ package com.lambdaworks.redis.codec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * A {@link RedisCodec} that uses plain byte arrays.
  * 
  * @author Mark Paluch
  * @since 3.3
  */
-public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
+public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, FromByteBufDecoder<byte[], byte[]> {
 
     public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
     private static final byte[] EMPTY = new byte[0];
@@ -23,6 +25,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return getBytes(bytes);
     }
 
+    @Override
+    public byte[] decodeKey(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
+    @Override
+    public byte[] decodeValue(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
     @Override
     public ByteBuffer encodeKey(byte[] key) {
 
@@ -49,4 +61,10 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return b;
     }
 
+    private static byte[] getBytes(ByteBuf buffer) {
+        byte[] b = new byte[buffer.readableBytes()];
+        buffer.readBytes(b);
+        return b;
+    }
+
 }
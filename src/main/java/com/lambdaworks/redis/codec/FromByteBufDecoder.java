@@ -0,0 +1,39 @@
+package com.lambdaworks.redis.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. Response elements that are fully contained
+ * in the received data are passed as read-only view of the inbound buffer so decoding does not require an intermediate copy.
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well. The
+ * {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and {@link RedisCodec#decodeValue(java.nio.ByteBuffer)} methods are still
+ * used for response elements that span multiple reads.
+ * </p>
+ * <p>
+ * The {@link ByteBuf} is only valid for the duration of the method call. Implementations must neither retain, release nor
+ * store a reference to the buffer.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ * @see ToByteBufEncoder
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes read-only view of the key bytes, must not be {@literal null}.
+     * @return The decoded key, may be {@literal null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes read-only view of the value bytes, must not be {@literal null}.
+     * @return The decoded value, may be {@literal null}.
+     */
+    V decodeValue(ByteBuf bytes);
+}
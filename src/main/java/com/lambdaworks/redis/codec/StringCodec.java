@@ -14,20 +14,30 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.FastThreadLocal;
 
 /**
  * Optimized String codec. This {@link RedisCodec} encodes and decodes {@link String} keys and values using a specified
- * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding.
+ * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding and
+ * decodes directly from received {@link ByteBuf buffers}.
  *
  * @author Mark Paluch
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String>,
+        FromByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(LettuceCharsets.UTF8);
     public static final StringCodec ASCII = new StringCodec(LettuceCharsets.ASCII);
 
     private static final byte[] EMPTY = new byte[0];
+    private static final int ASCII_CHUNK_SIZE = 1024;
+    private static final FastThreadLocal<byte[]> ASCII_CHUNK = new FastThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[ASCII_CHUNK_SIZE * 4];
+        }
+    };
 
     private final Charset charset;
     private final boolean ascii;
@@ -76,12 +86,18 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         }
 
         if (utf8) {
-            ByteBufUtil.writeUtf8(target, str);
+
+            // ByteBufUtil.writeUtf8 reserves three bytes per character which would grow exactly sized buffers
+            if (isAscii(str)) {
+                writeAscii(target, str);
+            } else {
+                ByteBufUtil.writeUtf8(target, str);
+            }
             return;
         }
 
         if (ascii) {
-            ByteBufUtil.writeAscii(target, str);
+            writeAscii(target, str);
             return;
         }
 
@@ -109,12 +125,88 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
     public int estimateSize(Object keyOrValue) {
 
         if (keyOrValue instanceof String) {
+
+            String string = (String) keyOrValue;
+
+            if (utf8) {
+                return utf8Length(string);
+            }
+
+            if (ascii) {
+                return string.length();
+            }
+
             CharsetEncoder encoder = CharsetUtil.encoder(charset);
-            return (int) (encoder.averageBytesPerChar() * ((String) keyOrValue).length());
+            return (int) (encoder.averageBytesPerChar() * string.length());
         }
         return 0;
     }
 
+    @SuppressWarnings("deprecation")
+    private static void writeAscii(ByteBuf target, String str) {
+
+        int length = str.length();
+
+        if (length < ASCII_CHUNK_SIZE) {
+            ByteBufUtil.writeAscii(target, str);
+            return;
+        }
+
+        // copying chunks in bulk is considerably faster than writing each character to a direct buffer
+        target.ensureWritable(length);
+        byte[] chunk = ASCII_CHUNK.get();
+
+        for (int offset = 0; offset < length; offset += chunk.length) {
+
+            int end = Math.min(length, offset + chunk.length);
+            str.getBytes(offset, end, chunk, 0);
+            target.writeBytes(chunk, 0, end - offset);
+        }
+    }
+
+    private static boolean isAscii(String string) {
+
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compute the number of bytes written by {@link ByteBufUtil#writeUtf8(ByteBuf, CharSequence)}.
+     *
+     * @param string the string.
+     * @return the number of UTF-8 bytes.
+     */
+    static int utf8Length(String string) {
+
+        int length = string.length();
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                continue;
+            }
+
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+
+        return bytes;
+    }
+
     @Override
     public void encodeValue(String value, ByteBuf target) {
         encode(value, target);
@@ -130,6 +222,16 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         return Unpooled.wrappedBuffer(bytes).toString(charset);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encodeAndAllocateBuffer(key);
@@ -1,22 +1,32 @@
 package com.lambdaworks.redis.event.metrics;
 
+import java.net.SocketAddress;
+import java.util.Collections;
 import java.util.Map;
 
 import com.lambdaworks.redis.event.Event;
+import com.lambdaworks.redis.metrics.BatchMetrics;
 import com.lambdaworks.redis.metrics.CommandLatencyId;
 import com.lambdaworks.redis.metrics.CommandMetrics;
 
 /**
- * Event that transports command latency metrics. This event carries latencies for multiple commands and connections.
+ * Event that transports command latency metrics. This event carries latencies for multiple commands and connections and the
+ * sizes of batched writes per remote address.
  * 
  * @author Mark Paluch
  */
 public class CommandLatencyEvent implements Event {
 
     private Map<CommandLatencyId, CommandMetrics> latencies;
+    private Map<SocketAddress, BatchMetrics> batchSizes;
 
     public CommandLatencyEvent(Map<CommandLatencyId, CommandMetrics> latencies) {
+        this(latencies, Collections.<SocketAddress, BatchMetrics> emptyMap());
+    }
+
+    public CommandLatencyEvent(Map<CommandLatencyId, CommandMetrics> latencies, Map<SocketAddress, BatchMetrics> batchSizes) {
         this.latencies = latencies;
+        this.batchSizes = batchSizes;
     }
 
     /**
@@ -28,6 +38,16 @@ public class CommandLatencyEvent implements Event {
         return latencies;
     }
 
+    /**
+     * Returns the batch sizes mapped between remote address and the {@link BatchMetrics metrics}. Batch sizes are recorded
+     * when commands are written in batches.
+     *
+     * @return the batch size map.
+     */
+    public Map<SocketAddress, BatchMetrics> getBatchSizes() {
+        return batchSizes;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -62,7 +62,8 @@ public class DefaultCommandLatencyEventPublisher implements MetricEventPublisher
             return;
         }
 
-        eventBus.publish(new CommandLatencyEvent(commandLatencyCollector.retrieveMetrics()));
+        eventBus.publish(new CommandLatencyEvent(commandLatencyCollector.retrieveMetrics(),
+                commandLatencyCollector.retrieveBatchMetrics()));
     }
 
 }
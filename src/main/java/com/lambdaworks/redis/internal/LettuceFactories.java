@@ -7,6 +7,8 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import io.netty.util.internal.PlatformDependent;
+
 /**
  * This class is part of the internal API and may change without further notice.
  *
@@ -35,6 +37,17 @@ public class LettuceFactories {
         return new ArrayDeque<>();
     }
 
+    /**
+     * Creates a new lock-free {@link Queue} for multiple producers and a single consumer. Consumers must not poll the queue
+     * concurrently.
+     *
+     * @param <T>
+     * @return a new, empty MPSC {@link Queue}.
+     */
+    public static <T> Queue<T> newMpscQueue() {
+        return PlatformDependent.newMpscQueue();
+    }
+
     /**
      * Creates a new {@link BlockingQueue}.
      *
@@ -0,0 +1,68 @@
+package com.lambdaworks.redis.metrics;
+
+import java.util.Map;
+
+/**
+ * Batch size metrics for writes. This class provides the number of flushed batches and the minimum, maximum and percentiles of
+ * commands per batch.
+ * 
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class BatchMetrics {
+
+    private final long count;
+    private final long min;
+    private final long max;
+    private final Map<Double, Long> percentiles;
+
+    public BatchMetrics(long count, long min, long max, Map<Double, Long> percentiles) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * 
+     * @return the number of flushed batches
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 
+     * @return the minimum number of commands per batch
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * 
+     * @return the maximum number of commands per batch
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 
+     * @return percentile mapping of commands per batch
+     */
+    public Map<Double, Long> getPercentiles() {
+        return percentiles;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[count=").append(count);
+        sb.append(", min=").append(min);
+        sb.append(", max=").append(max);
+        sb.append(", percentiles=").append(percentiles);
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.lambdaworks.redis.metrics;
 
 import java.net.SocketAddress;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -13,6 +14,8 @@ import com.lambdaworks.redis.protocol.ProtocolKeyword;
  * <li>Latency between command send and first response (first response received)</li>
  * <li>Latency between command send and command completion (complete response received)</li>
  * </ul>
+ * Collectors can additionally record the number of commands that were flushed together per connection when writes are
+ * batched.
  * 
  * @author Mark Paluch
  * @since 3.4
@@ -31,4 +34,24 @@ public interface CommandLatencyCollector extends MetricCollector<Map<CommandLate
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency);
 
+    /**
+     * Record the number of commands flushed together as one batch per {@code connectionPoint}. Defaults to a no-op.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param batchSize number of commands flushed together
+     * @since 4.3
+     */
+    default void recordBatchSize(SocketAddress local, SocketAddress remote, int batchSize) {
+    }
+
+    /**
+     * Returns the batch size metrics per remote address recorded since the last retrieval. Defaults to an empty map.
+     *
+     * @return the batch size metrics.
+     * @since 4.3
+     */
+    default Map<SocketAddress, BatchMetrics> retrieveBatchMetrics() {
+        return Collections.emptyMap();
+    }
 }
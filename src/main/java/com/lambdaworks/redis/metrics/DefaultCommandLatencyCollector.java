@@ -7,6 +7,7 @@ import io.netty.channel.local.LocalAddress;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
 import org.LatencyUtils.LatencyStats;
 import org.LatencyUtils.PauseDetector;
 import org.LatencyUtils.SimplePauseDetector;
@@ -39,6 +40,7 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     private final CommandLatencyCollectorOptions options;
     private Map<CommandLatencyId, Latencies> latencyMetrics = new ConcurrentHashMap<>(CommandType.values().length);
+    private Map<SocketAddress, BatchSizes> batchMetrics = new ConcurrentHashMap<>();
 
     public DefaultCommandLatencyCollector(CommandLatencyCollectorOptions options) {
         this.options = options;
@@ -82,6 +84,26 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     }
 
+    @Override
+    public void recordBatchSize(SocketAddress local, SocketAddress remote, int batchSize) {
+
+        Map<SocketAddress, BatchSizes> batchMetrics = this.batchMetrics;
+        if (!isEnabled() || batchMetrics == null) {
+            return;
+        }
+
+        BatchSizes batchSizes = batchMetrics.get(remote);
+        if (batchSizes == null) {
+            batchSizes = new BatchSizes();
+            BatchSizes existing = batchMetrics.putIfAbsent(remote, batchSizes);
+            if (existing != null) {
+                batchSizes = existing;
+            }
+        }
+
+        batchSizes.recorder.recordValue(batchSize);
+    }
+
     private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
         return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
     }
@@ -101,6 +123,11 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             latencyMetrics.clear();
             latencyMetrics = null;
         }
+
+        if (batchMetrics != null) {
+            batchMetrics.clear();
+            batchMetrics = null;
+        }
     }
 
     @Override
@@ -115,6 +142,30 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         return latencies;
     }
 
+    @Override
+    public Map<SocketAddress, BatchMetrics> retrieveBatchMetrics() {
+
+        Map<SocketAddress, BatchSizes> batchMetrics = this.batchMetrics;
+        if (batchMetrics == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<SocketAddress, BatchSizes> copy = new HashMap<>(batchMetrics);
+        if (options.resetLatenciesAfterEvent()) {
+            batchMetrics.clear();
+        }
+
+        Map<SocketAddress, BatchMetrics> metrics = new HashMap<>();
+        for (Map.Entry<SocketAddress, BatchSizes> entry : copy.entrySet()) {
+
+            BatchMetrics batchSizes = entry.getValue().getMetrics();
+            if (batchSizes != null) {
+                metrics.put(entry.getKey(), batchSizes);
+            }
+        }
+        return metrics;
+    }
+
     private Map<CommandLatencyId, CommandMetrics> getMetrics(Map<CommandLatencyId, Latencies> latencyMetrics) {
         Map<CommandLatencyId, CommandMetrics> latencies = new TreeMap<>();
 
@@ -205,6 +256,40 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         }
     }
 
+    /**
+     * Batch sizes of a single remote address. Interval histograms are accumulated if latencies are not reset after each event.
+     */
+    private class BatchSizes {
+
+        final Recorder recorder = new Recorder(2);
+        private Histogram accumulated;
+
+        synchronized BatchMetrics getMetrics() {
+
+            Histogram histogram = recorder.getIntervalHistogram();
+
+            if (!options.resetLatenciesAfterEvent()) {
+                if (accumulated == null) {
+                    accumulated = histogram;
+                } else {
+                    accumulated.add(histogram);
+                }
+                histogram = accumulated;
+            }
+
+            if (histogram.getTotalCount() == 0) {
+                return null;
+            }
+
+            Map<Double, Long> percentiles = new TreeMap<Double, Long>();
+            for (double targetPercentile : options.targetPercentiles()) {
+                percentiles.put(targetPercentile, histogram.getValueAtPercentile(targetPercentile));
+            }
+
+            return new BatchMetrics(histogram.getTotalCount(), histogram.getMinValue(), histogram.getMaxValue(), percentiles);
+        }
+    }
+
     private static class PauseDetectorWrapper {
         public static final AtomicLong counter = new AtomicLong();
         PauseDetector pauseDetector;
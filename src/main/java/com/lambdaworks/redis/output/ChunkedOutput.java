@@ -0,0 +1,33 @@
+package com.lambdaworks.redis.output;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Implementors of this interface receive the content of a bulk string reply in chunks as it arrives instead of a fully
+ * gathered value. Bulk string content is neither gathered nor copied by the decoder so large values can be consumed without
+ * materializing them on the heap.
+ * <p>
+ * Methods are called on the I/O thread and should not block.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface ChunkedOutput {
+
+    /**
+     * Signals the start of a bulk string reply. A {@literal null} bulk string does not start chunks but is reported using
+     * {@link CommandOutput#set(java.nio.ByteBuffer)}.
+     *
+     * @param length the number of bytes of the bulk string.
+     */
+    void startChunks(int length);
+
+    /**
+     * Receive the next chunk of the bulk string content. The buffer is a read-only view of the received data and only valid
+     * for the duration of the method call. Implementations must neither retain, release nor store a reference to the buffer.
+     *
+     * @param chunk the chunk, must not be {@literal null}.
+     */
+    void setChunk(ByteBuf chunk);
+}
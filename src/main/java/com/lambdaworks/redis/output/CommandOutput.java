@@ -4,9 +4,12 @@ package com.lambdaworks.redis.output;
 
 import java.nio.ByteBuffer;
 
+import com.lambdaworks.redis.codec.FromByteBufDecoder;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Abstract representation of the output of a redis command.
  * 
@@ -18,6 +21,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
  */
 public abstract class CommandOutput<K, V, T> {
     protected final RedisCodec<K, V> codec;
+    private final FromByteBufDecoder<K, V> decoder;
     protected T output;
     protected String error;
 
@@ -30,6 +34,7 @@ public abstract class CommandOutput<K, V, T> {
     public CommandOutput(RedisCodec<K, V> codec, T output) {
         LettuceAssert.notNull(codec, "RedisCodec must not be null");
         this.codec = codec;
+        this.decoder = getDecoder(codec);
         this.output = output;
     }
 
@@ -52,6 +57,17 @@ public abstract class CommandOutput<K, V, T> {
         throw new IllegalStateException();
     }
 
+    /**
+     * Set the command output to a sequence of bytes. The buffer is a read-only view of the received data that is valid only
+     * for the duration of this call. Outputs can override this method and use {@link #decodeKey(ByteBuf)} and
+     * {@link #decodeValue(ByteBuf)} to decode without copying. Defaults to {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output, must not be {@literal null}.
+     */
+    public void setBytes(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
     /**
      * Set the command output to a 64-bit signed integer. Concrete {@link CommandOutput} implementations must override this
      * method unless they only receive a byte array value.
@@ -108,6 +124,41 @@ public abstract class CommandOutput<K, V, T> {
         // nothing to do by default
     }
 
+    /**
+     * Decode a key from {@code bytes} using {@link FromByteBufDecoder} if the codec supports it.
+     *
+     * @param bytes the key bytes, must not be {@literal null}.
+     * @return the decoded key.
+     */
+    protected K decodeKey(ByteBuf bytes) {
+
+        if (decoder != null) {
+            return decoder.decodeKey(bytes);
+        }
+
+        return codec.decodeKey(bytes.nioBuffer());
+    }
+
+    /**
+     * Decode a value from {@code bytes} using {@link FromByteBufDecoder} if the codec supports it.
+     *
+     * @param bytes the value bytes, must not be {@literal null}.
+     * @return the decoded value.
+     */
+    protected V decodeValue(ByteBuf bytes) {
+
+        if (decoder != null) {
+            return decoder.decodeValue(bytes);
+        }
+
+        return codec.decodeValue(bytes.nioBuffer());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> FromByteBufDecoder<K, V> getDecoder(RedisCodec<K, V> codec) {
+        return codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
+    }
+
     protected String decodeAscii(ByteBuffer bytes) {
         if(bytes == null) {
             return null;
@@ -6,6 +6,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Key output.
  * 
@@ -23,4 +25,9 @@ public class KeyOutput<K, V> extends CommandOutput<K, V, K> {
     public void set(ByteBuffer bytes) {
         output = (bytes == null) ? null : codec.decodeKey(bytes);
     }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        output = decodeKey(bytes);
+    }
 }
@@ -4,6 +4,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Streaming-Output of Keys. Returns the count of all keys (including null).
  * 
@@ -27,4 +29,11 @@ public class KeyStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
         output = output.longValue() + 1;
     }
 
+    @Override
+    public void setBytes(ByteBuf bytes) {
+
+        channel.onKey(decodeKey(bytes));
+        output = output.longValue() + 1;
+    }
+
 }
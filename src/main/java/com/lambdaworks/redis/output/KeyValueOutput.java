@@ -7,6 +7,8 @@ import com.lambdaworks.redis.codec.RedisCodec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Key-value pair output.
  *
@@ -33,4 +35,13 @@ public class KeyValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, V>> {
             }
         }
     }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        if (key == null) {
+            key = decodeKey(bytes);
+        } else {
+            output = new KeyValue<K, V>(key, decodeValue(bytes));
+        }
+    }
 }
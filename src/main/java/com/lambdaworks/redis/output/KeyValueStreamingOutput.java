@@ -6,6 +6,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Streaming-Output of Key Value Pairs. Returns the count of all Key-Value pairs (including null).
  * 
@@ -35,4 +37,16 @@ public class KeyValueStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
         output = output.longValue() + 1;
         key = null;
     }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        if (key == null) {
+            key = decodeKey(bytes);
+            return;
+        }
+
+        channel.onKeyValue(key, decodeValue(bytes));
+        output = output.longValue() + 1;
+        key = null;
+    }
 }
@@ -8,6 +8,8 @@ import java.util.Map;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Map} of keys and values output.
  *
@@ -35,6 +37,17 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         key = null;
     }
 
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        if (key == null) {
+            key = decodeKey(bytes);
+            return;
+        }
+
+        output.put(key, decodeValue(bytes));
+        key = null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
@@ -9,6 +9,8 @@ import java.util.List;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of values output.
  *
@@ -31,6 +33,11 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        subscriber.onNext(decodeValue(bytes));
+    }
+
     @Override
     public void setSubscriber(Subscriber<V> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
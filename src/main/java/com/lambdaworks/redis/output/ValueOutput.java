@@ -6,6 +6,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Value output.
  * 
@@ -23,4 +25,9 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
     public void set(ByteBuffer bytes) {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        output = decodeValue(bytes);
+    }
 }
@@ -7,6 +7,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link Set} of value output.
@@ -16,13 +19,33 @@ import com.lambdaworks.redis.codec.RedisCodec;
  * 
  * @author Will Glozer
  */
-public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> {
+public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> implements StreamingOutput<V> {
+
+    private Subscriber<V> subscriber;
+
     public ValueSetOutput(RedisCodec<K, V> codec) {
         super(codec, new HashSet<>());
+        setSubscriber(ListSubscriber.of(output));
     }
 
     @Override
     public void set(ByteBuffer bytes) {
-        output.add(bytes == null ? null : codec.decodeValue(bytes));
+        subscriber.onNext(bytes == null ? null : codec.decodeValue(bytes));
+    }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+        subscriber.onNext(decodeValue(bytes));
+    }
+
+    @Override
+    public void setSubscriber(Subscriber<V> subscriber) {
+        LettuceAssert.notNull(subscriber, "Subscriber must not be null");
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public Subscriber<V> getSubscriber() {
+        return subscriber;
     }
 }
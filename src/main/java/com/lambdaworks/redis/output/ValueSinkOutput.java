@@ -0,0 +1,105 @@
+package com.lambdaworks.redis.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Value output that writes the bulk string value to a {@link WritableByteChannel} as it arrives instead of decoding it. Chunks
+ * are forwarded straight from the received data so the value is not materialized on the heap. Returns the number of bytes
+ * written or {@literal null} if the value does not exist.
+ * <p>
+ * The sink is written on the I/O thread and must accept data without blocking, e.g. an in-memory buffer or a local file. A
+ * blocking sink stalls every connection served by the event loop. A sink that fails with an {@link IOException} or does not
+ * accept any bytes of a chunk, such as a non-blocking channel that would block, completes the command exceptionally and the
+ * remaining content is discarded.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ValueSinkOutput<K, V> extends CommandOutput<K, V, Long> implements ChunkedOutput {
+
+    private final WritableByteChannel channel;
+    private boolean failed;
+
+    public ValueSinkOutput(RedisCodec<K, V> codec, WritableByteChannel channel) {
+
+        super(codec, null);
+
+        LettuceAssert.notNull(channel, "WritableByteChannel must not be null");
+        this.channel = channel;
+    }
+
+    public ValueSinkOutput(RedisCodec<K, V> codec, OutputStream outputStream) {
+        this(codec, Channels.newChannel(outputStream));
+    }
+
+    @Override
+    public void startChunks(int length) {
+        output = 0L;
+    }
+
+    @Override
+    public void setChunk(ByteBuf chunk) {
+        write(chunk.nioBuffer());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            output = null;
+            return;
+        }
+
+        output = 0L;
+        write(bytes);
+    }
+
+    @Override
+    public void setBytes(ByteBuf bytes) {
+
+        if (bytes == null) {
+            output = null;
+            return;
+        }
+
+        output = 0L;
+        write(bytes.nioBuffer());
+    }
+
+    private void write(ByteBuffer bytes) {
+
+        if (failed) {
+            return;
+        }
+
+        try {
+            while (bytes.hasRemaining()) {
+
+                int written = channel.write(bytes);
+
+                if (written == 0) {
+                    failed = true;
+                    throw new RedisException("Cannot write value to " + channel + ": sink did not accept data");
+                }
+
+                output += written;
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw new RedisException("Cannot write value to " + channel, e);
+        }
+    }
+}
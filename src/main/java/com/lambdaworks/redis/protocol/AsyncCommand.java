@@ -3,13 +3,17 @@ package com.lambdaworks.redis.protocol;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 
 import com.lambdaworks.redis.RedisCommandExecutionException;
 import com.lambdaworks.redis.RedisCommandInterruptedException;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
 import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.resource.AwaitStrategy;
+
 import io.netty.buffer.ByteBuf;
 
 /**
@@ -23,10 +27,29 @@ import io.netty.buffer.ByteBuf;
  * @author Mark Paluch
  */
 public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements RedisCommand<K, V, T>, RedisFuture<T>,
-        CompleteableCommand<T>, DecoratedCommand<K, V, T> {
+        CompleteableCommand<T>, DecoratedCommand<K, V, T>, WithDeadline {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AsyncCommand> PENDING_COMPLETIONS = AtomicIntegerFieldUpdater
+            .newUpdater(AsyncCommand.class, "pendingCompletions");
+
+    private static final CountDownLatch RELEASED = new CountDownLatch(0);
+
+    /**
+     * Retained for subclasses compiled against earlier versions. Completion is tracked without a latch so the field refers to
+     * a shared, released latch by default and waiting on it returns immediately. Subclasses that assign their own latch get it
+     * counted down on each {@link #complete()}, {@link #completeExceptionally(Throwable)} and {@link #cancel(boolean)} call.
+     *
+     * @deprecated since 4.3, use {@link #await(long, TimeUnit)} or the {@link CompletableFuture} methods to wait for
+     *             completion.
+     */
+    @Deprecated
+    protected CountDownLatch latch = RELEASED;
 
-    protected CountDownLatch latch = new CountDownLatch(1);
     protected RedisCommand<K, V, T> command;
+    private volatile long deadline;
+    private volatile int pendingCompletions;
+    private AwaitStrategy awaitStrategy = AwaitStrategy.park();
 
     /**
      * 
@@ -34,8 +57,18 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      * 
      */
     public AsyncCommand(RedisCommand<K, V, T> command) {
+        this(command, 1);
+    }
+
+    /**
+     *
+     * @param command the command, must not be {@literal null}.
+     * @param completions the number of {@link #complete()} calls required to complete the command.
+     */
+    protected AsyncCommand(RedisCommand<K, V, T> command, int completions) {
         LettuceAssert.notNull(command, "RedisCommand must not be null");
         this.command = command;
+        this.pendingCompletions = completions;
     }
 
     /**
@@ -48,14 +81,57 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public boolean await(long timeout, TimeUnit unit) {
+
+        if (isDone()) {
+            return true;
+        }
+
         try {
-            return latch.await(timeout, unit);
+            return awaitStrategy.await(this, timeout, unit);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RedisCommandInterruptedException(e);
         }
     }
 
+    /**
+     * Set a deadline for this command, measured from now. The command completes exceptionally with a
+     * {@link RedisCommandTimeoutException} if it does not complete in time and it is dropped instead of being written to Redis
+     * once the deadline has passed. The deadline must be set before dispatching the command and takes precedence over
+     * {@link com.lambdaworks.redis.ClientOptions#getCommandDeadline()}.
+     *
+     * @param timeout the time until the deadline, must be greater {@literal 0}.
+     * @param unit the time unit, must not be {@literal null}.
+     * @return {@code this} command.
+     */
+    public AsyncCommand<K, V, T> deadline(long timeout, TimeUnit unit) {
+
+        LettuceAssert.isTrue(timeout > 0, "Timeout must be greater 0");
+        LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+        deadline(System.nanoTime() + unit.toNanos(timeout));
+        return this;
+    }
+
+    /**
+     * Set the {@link AwaitStrategy} used by {@link #await(long, TimeUnit)}.
+     *
+     * @param awaitStrategy the await strategy.
+     */
+    void awaitStrategy(AwaitStrategy awaitStrategy) {
+        this.awaitStrategy = awaitStrategy;
+    }
+
+    @Override
+    public void deadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long getDeadline() {
+        return deadline;
+    }
+
     /**
      * Get the object that holds this command's output.
      * 
@@ -71,11 +147,11 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public void complete() {
-        if (latch.getCount() == 1) {
+        if (pendingCompletions == 1) {
             completeResult();
             command.complete();
         }
-        latch.countDown();
+        countDown();
     }
 
     protected void completeResult() {
@@ -91,11 +167,11 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
     @Override
     public boolean completeExceptionally(Throwable ex) {
         boolean result = false;
-        if (latch.getCount() == 1) {
+        if (pendingCompletions == 1) {
             command.completeExceptionally(ex);
             result = super.completeExceptionally(ex);
         }
-        latch.countDown();
+        countDown();
         return result;
     }
 
@@ -105,8 +181,24 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
             command.cancel();
             return super.cancel(mayInterruptIfRunning);
         } finally {
+            countDown();
+        }
+    }
+
+    private void countDown() {
+
+        CountDownLatch latch = this.latch;
+        if (latch != RELEASED) {
             latch.countDown();
         }
+
+        for (;;) {
+
+            int pending = pendingCompletions;
+            if (pending == 0 || PENDING_COMPLETIONS.compareAndSet(this, pending, pending - 1)) {
+                return;
+            }
+        }
     }
 
     @Override
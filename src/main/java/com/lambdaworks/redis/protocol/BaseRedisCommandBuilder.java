@@ -1,5 +1,7 @@
 package com.lambdaworks.redis.protocol;
 
+import java.util.function.BooleanSupplier;
+
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.ScriptOutputType;
 import com.lambdaworks.redis.codec.RedisCodec;
@@ -12,9 +14,29 @@ import com.lambdaworks.redis.output.*;
 public class BaseRedisCommandBuilder<K, V> {
 
     protected RedisCodec<K, V> codec;
+    private final BooleanSupplier recycleCommands;
 
     public BaseRedisCommandBuilder(RedisCodec<K, V> codec) {
+        this(codec, () -> false);
+    }
+
+    /**
+     * @param codec the codec.
+     * @param recycleCommands supplier whether to obtain commands and their args from a pool, see
+     *        {@link RecyclableCommand}.
+     */
+    public BaseRedisCommandBuilder(RedisCodec<K, V> codec, BooleanSupplier recycleCommands) {
         this.codec = codec;
+        this.recycleCommands = recycleCommands;
+    }
+
+    protected CommandArgs<K, V> newArgs() {
+
+        if (recycleCommands.getAsBoolean()) {
+            return CommandArgs.newInstance(codec);
+        }
+
+        return new CommandArgs<K, V>(codec);
     }
 
     protected <T> Command<K, V, T> createCommand(CommandType type, CommandOutput<K, V, T> output) {
@@ -22,21 +44,26 @@ public class BaseRedisCommandBuilder<K, V> {
     }
 
     protected <T> Command<K, V, T> createCommand(CommandType type, CommandOutput<K, V, T> output, K key) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key);
+        CommandArgs<K, V> args = newArgs().addKey(key);
         return createCommand(type, output, args);
     }
 
     protected <T> Command<K, V, T> createCommand(CommandType type, CommandOutput<K, V, T> output, K key, V value) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValue(value);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValue(value);
         return createCommand(type, output, args);
     }
 
     protected <T> Command<K, V, T> createCommand(CommandType type, CommandOutput<K, V, T> output, K key, V[] values) {
-        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).addValues(values);
+        CommandArgs<K, V> args = newArgs().addKey(key).addValues(values);
         return createCommand(type, output, args);
     }
 
     protected <T> Command<K, V, T> createCommand(CommandType type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+
+        if (recycleCommands.getAsBoolean()) {
+            return RecyclableCommand.newInstance(type, output, args);
+        }
+
         return new Command<K, V, T>(type, output, args);
     }
 
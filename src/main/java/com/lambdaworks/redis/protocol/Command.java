@@ -18,9 +18,9 @@ import io.netty.buffer.ByteBuf;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency {
+public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency, WithDeadline {
 
-    private final ProtocolKeyword type;
+    private ProtocolKeyword type;
 
     protected CommandArgs<K, V> args;
     protected CommandOutput<K, V, T> output;
@@ -30,6 +30,10 @@ public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency {
     protected long sentNs = -1;
     protected long firstResponseNs = -1;
     protected long completedNs = -1;
+    protected volatile long deadlineNs = 0;
+
+    // bytes accounted in the request queue of a CommandHandler, -1 while the command is not accounted
+    volatile long queuedBytes = -1;
 
     /**
      * Create a new command with the supplied type.
@@ -55,6 +59,29 @@ public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency {
         this.args = args;
     }
 
+    /**
+     * Reset this command to the state of a newly created command with the supplied type, output and args. Used to reuse pooled
+     * instances.
+     *
+     * @param type Command type, must not be {@literal null}.
+     * @param output Command output, can be {@literal null}.
+     * @param args Command args, can be {@literal null}
+     */
+    void reset(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+
+        this.type = type;
+        this.output = output;
+        this.args = args;
+        this.exception = null;
+        this.cancelled = false;
+        this.completed = false;
+        this.sentNs = -1;
+        this.firstResponseNs = -1;
+        this.completedNs = -1;
+        this.deadlineNs = 0;
+        this.queuedBytes = -1;
+    }
+
     /**
      * Get the object that holds this command's output.
      *
@@ -96,18 +123,35 @@ public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency {
      */
     public void encode(ByteBuf buf) {
 
-        buf.writeByte('*');
-        CommandArgs.IntegerArgument.writeInteger(buf, 1 + (args != null ? args.count() : 0));
-
-        buf.writeBytes(CommandArgs.CRLF);
-
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        encodeFrameHeader(buf, type, 1 + (args != null ? args.count() : 0));
 
         if (args != null) {
             args.encode(buf);
         }
     }
 
+    /**
+     * Write the frame header ({@code *<count>\r\n}) followed by the command {@code type}.
+     *
+     * @param buf Buffer to write to.
+     * @param type the command type.
+     * @param count the number of arguments including the command type.
+     */
+    static void encodeFrameHeader(ByteBuf buf, ProtocolKeyword type, int count) {
+
+        if (type instanceof CommandType) {
+            ((CommandType) type).encoded.writeFrameHeader(buf, count);
+        } else {
+
+            buf.writeByte('*');
+            CommandArgs.IntegerArgument.writeInteger(buf, count);
+
+            buf.writeBytes(CommandArgs.CRLF);
+
+            CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        }
+    }
+
     public String getError() {
         return output.getError();
     }
@@ -191,4 +235,14 @@ public class Command<K, V, T> implements RedisCommand<K, V, T>, WithLatency {
     public long getCompleted() {
         return completedNs;
     }
+
+    @Override
+    public void deadline(long deadline) {
+        deadlineNs = deadline;
+    }
+
+    @Override
+    public long getDeadline() {
+        return deadlineNs;
+    }
 }
\ No newline at end of file
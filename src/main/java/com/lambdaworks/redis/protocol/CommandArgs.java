@@ -2,18 +2,28 @@
 
 package com.lambdaworks.redis.protocol;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import com.lambdaworks.redis.codec.ToByteBufEncoder;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.util.Recycler;
 
 /**
  * Redis command arguments. {@link CommandArgs} is a container for multiple singular arguments. Key and Value arguments are
@@ -39,12 +49,25 @@ public class CommandArgs<K, V> {
 
     static final byte[] CRLF = "\r\n".getBytes(LettuceCharsets.ASCII);
 
-    protected final RedisCodec<K, V> codec;
+    private static final Recycler<CommandArgs<?, ?>> RECYCLER = new Recycler<CommandArgs<?, ?>>() {
+        @Override
+        @SuppressWarnings("rawtypes")
+        protected CommandArgs<?, ?> newObject(Handle handle) {
+            return new CommandArgs<>(handle);
+        }
+    };
+
+    protected RedisCodec<K, V> codec;
     private final List<SingularArgument> singularArguments = new ArrayList<>(10);
+    @SuppressWarnings("rawtypes")
+    private final Recycler.Handle handle;
     private Long firstInteger;
     private String firstString;
     private ByteBuffer firstEncodedKey;
     private K firstKey;
+    private KeyArgument<K, V> firstKeyArgument;
+    private int firstKeySlot = -1;
+    private boolean zeroCopyArguments;
 
     /**
      *
@@ -54,6 +77,59 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(codec, "RedisCodec must not be null");
         this.codec = codec;
+        this.handle = null;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private CommandArgs(Recycler.Handle handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Obtain pooled {@link CommandArgs} that are recycled together with the {@link RecyclableCommand} they are passed to.
+     * Key and value arguments are pooled as well.
+     *
+     * @param codec Codec used to encode/decode keys and values, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the command args.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CommandArgs<K, V> newInstance(RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        CommandArgs<K, V> args = (CommandArgs<K, V>) RECYCLER.get();
+        args.codec = codec;
+        return args;
+    }
+
+    /**
+     * Return pooled {@link CommandArgs} and their pooled arguments to the pool. No-op for instances that were not obtained
+     * from {@link #newInstance(RedisCodec)} so args that are shared across commands remain untouched.
+     */
+    @SuppressWarnings({ "unchecked", "deprecation" })
+    void recycle() {
+
+        if (handle == null) {
+            return;
+        }
+
+        for (SingularArgument singularArgument : singularArguments) {
+            singularArgument.recycle();
+        }
+
+        singularArguments.clear();
+        codec = null;
+        firstInteger = null;
+        firstString = null;
+        firstEncodedKey = null;
+        firstKey = null;
+        firstKeyArgument = null;
+        firstKeySlot = -1;
+        zeroCopyArguments = false;
+
+        RECYCLER.recycle(this, handle);
     }
 
     /**
@@ -72,11 +148,14 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addKey(K key) {
 
+        KeyArgument<K, V> argument = handle != null ? KeyArgument.newInstance(key, codec) : KeyArgument.of(key, codec);
+
         if (firstKey == null) {
             firstKey = key;
+            firstKeyArgument = argument;
         }
 
-        singularArguments.add(KeyArgument.of(key, codec));
+        singularArguments.add(argument);
         return this;
     }
 
@@ -120,7 +199,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addValue(V value) {
 
-        singularArguments.add(ValueArgument.of(value, codec));
+        singularArguments.add(handle != null ? ValueArgument.newInstance(value, codec) : ValueArgument.of(value, codec));
         return this;
     }
 
@@ -238,7 +317,9 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        return add(keyword.bytes);
+
+        singularArguments.add(KeywordArgument.of(keyword.encoded));
+        return this;
     }
 
     /**
@@ -250,7 +331,9 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandType type) {
 
         LettuceAssert.notNull(type, "CommandType must not be null");
-        return add(type.bytes);
+
+        singularArguments.add(KeywordArgument.of(type.encoded));
+        return this;
     }
 
     /**
@@ -262,9 +345,69 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(ProtocolKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
+
+        if (keyword instanceof CommandKeyword) {
+            return add((CommandKeyword) keyword);
+        }
+
+        if (keyword instanceof CommandType) {
+            return add((CommandType) keyword);
+        }
+
         return add(keyword.getBytes());
     }
 
+    /**
+     * Add the readable bytes of a {@link ByteBuf} as argument without copying them. The argument is represented as bulk
+     * string. {@link CommandEncoder} writes a retained slice of the buffer to the channel so the content reaches the transport
+     * without passing through the command buffer. The reader index of {@code buffer} is not modified.
+     * <p>
+     * The caller retains ownership of {@code buffer}. The buffer must neither be released nor modified until the command is
+     * completed.
+     * </p>
+     *
+     * @param buffer the buffer, must not be {@literal null}.
+     * @return the command args.
+     */
+    public CommandArgs<K, V> add(ByteBuf buffer) {
+
+        LettuceAssert.notNull(buffer, "ByteBuf must not be null");
+
+        zeroCopyArguments = true;
+        singularArguments.add(ByteBufArgument.of(buffer, buffer.readerIndex(), buffer.readableBytes()));
+        return this;
+    }
+
+    /**
+     * Add a region of a {@link File} as argument. The argument is represented as bulk string. {@link CommandEncoder} transfers
+     * the region as {@link FileRegion} if the transport supports it so the content is sent without entering the Java heap.
+     * The region is copied if the channel uses SSL. The file is opened each time the command is encoded and must not shrink
+     * until the command is completed.
+     *
+     * @param file the file, must not be {@literal null}.
+     * @param position the start position of the region.
+     * @param length the number of bytes to send.
+     * @return the command args.
+     */
+    public CommandArgs<K, V> add(File file, long position, int length) {
+
+        LettuceAssert.notNull(file, "File must not be null");
+        LettuceAssert.isTrue(position >= 0, "Position must be greater or equal to 0");
+        LettuceAssert.isTrue(length >= 0, "Length must be greater or equal to 0");
+
+        zeroCopyArguments = true;
+        singularArguments.add(FileArgument.of(file, position, length));
+        return this;
+    }
+
+    /**
+     *
+     * @return {@literal true} if arguments were added using {@link #add(ByteBuf)} or {@link #add(File, long, int)}.
+     */
+    boolean hasZeroCopyArguments() {
+        return zeroCopyArguments;
+    }
+
     @Override
     public String toString() {
 
@@ -272,8 +415,15 @@ public class CommandArgs<K, V> {
         sb.append(getClass().getSimpleName());
 
         ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(singularArguments.size() * 10);
-        encode(buffer);
-        buffer.resetReaderIndex();
+        for (SingularArgument singularArgument : singularArguments) {
+
+            // describe zero-copy payloads instead of reading them
+            if (singularArgument instanceof ZeroCopyArgument) {
+                ((ZeroCopyArgument) singularArgument).describe(buffer);
+            } else {
+                singularArgument.encode(buffer);
+            }
+        }
 
         byte[] bytes = new byte[buffer.readableBytes()];
         buffer.readBytes(bytes);
@@ -313,11 +463,37 @@ public class CommandArgs<K, V> {
             return null;
         }
 
+        return encodeFirstKey().duplicate();
+    }
+
+    /**
+     * Returns the cluster slot of the first key argument. The slot is calculated once from the byte-encoded key. The encoded
+     * key is retained and written by {@link #encode(ByteBuf)} so the key is not encoded a second time.
+     *
+     * @return the slot of the first key argument or {@literal -1} if the args contain no key.
+     * @since 4.3
+     */
+    public int getFirstKeySlot() {
+
+        if (firstKey == null) {
+            return -1;
+        }
+
+        if (firstKeySlot == -1) {
+            firstKeySlot = SlotHash.getSlot(encodeFirstKey());
+        }
+
+        return firstKeySlot;
+    }
+
+    private ByteBuffer encodeFirstKey() {
+
         if (firstEncodedKey == null) {
             firstEncodedKey = codec.encodeKey(firstKey);
+            firstKeyArgument.encoded = firstEncodedKey;
         }
 
-        return firstEncodedKey.duplicate();
+        return firstEncodedKey;
     }
 
     /**
@@ -332,6 +508,61 @@ public class CommandArgs<K, V> {
         }
     }
 
+    /**
+     * Encode the {@link CommandArgs} to a sequence of segments that are written to the channel one after another. Arguments are
+     * written to the last segment, a {@link ByteBuf}. Payloads of arguments added with {@link #add(ByteBuf)} and
+     * {@link #add(File, long, int)} become separate segments followed by a new {@link ByteBuf} for the remaining arguments.
+     * All segments are owned by the caller, also if encoding fails.
+     *
+     * @param segments the segments, the last segment must be a {@link ByteBuf}.
+     * @param alloc the allocator for buffers following a payload.
+     * @param fileRegion {@literal true} if the transport is able to write {@link FileRegion}s.
+     */
+    void encode(List<Object> segments, ByteBufAllocator alloc, boolean fileRegion) {
+
+        ByteBuf buf = (ByteBuf) segments.get(segments.size() - 1);
+
+        for (SingularArgument singularArgument : singularArguments) {
+
+            if (!(singularArgument instanceof ZeroCopyArgument)) {
+                singularArgument.encode(buf);
+                continue;
+            }
+
+            ZeroCopyArgument argument = (ZeroCopyArgument) singularArgument;
+            Object payload = argument.retainedPayload(fileRegion);
+
+            if (payload == null) {
+                argument.encode(buf);
+                continue;
+            }
+
+            segments.add(payload);
+            argument.writeHeader(buf);
+
+            buf = alloc.ioBuffer();
+            segments.add(buf);
+            buf.writeBytes(CRLF);
+        }
+    }
+
+    /**
+     * Estimate the number of bytes of the encoded arguments. The size of numeric, string and {@code byte[]} arguments as well
+     * as keys and values of {@link ByteArrayCodec} is exact. Keys and values are estimated using {@link ToByteBufEncoder#estimateSize(Object)} if the codec implements
+     * {@link ToByteBufEncoder}. Keys and values of other codecs are encoded to determine their size and the encoded form is
+     * retained for {@link #encode(ByteBuf)}.
+     *
+     * @return the estimated number of bytes of the encoded arguments.
+     */
+    public long estimateSize() {
+
+        long size = 0;
+        for (SingularArgument singularArgument : singularArguments) {
+            size += singularArgument.estimateSize();
+        }
+        return size;
+    }
+
     /**
      * Single argument wrapper that can be encoded.
      */
@@ -343,6 +574,40 @@ public class CommandArgs<K, V> {
          * @param buffer
          */
         abstract void encode(ByteBuf buffer);
+
+        /**
+         * Return the argument to its pool. No-op for arguments that are not pooled.
+         */
+        void recycle() {
+        }
+
+        /**
+         * Estimate the number of bytes written by {@link #encode(ByteBuf)}.
+         *
+         * @return the estimated number of bytes.
+         */
+        abstract int estimateSize();
+
+        /**
+         * Size of a bulk string argument ({@code $<length>\r\n<payload>\r\n}) with {@code length} payload bytes.
+         *
+         * @param length number of payload bytes.
+         * @return the encoded size.
+         */
+        static int bulkStringSize(int length) {
+            return 1 + IntegerArgument.digitCount(length) + CRLF.length + length + CRLF.length;
+        }
+
+        /**
+         * Check whether {@code codec} encodes {@code byte[]} keys and values as-is. Subclasses of {@link ByteArrayCodec} may
+         * encode differently and are therefore not considered raw.
+         *
+         * @param codec the codec.
+         * @return {@literal true} if the encoded size of a {@code byte[]} equals its length.
+         */
+        static boolean isRawByteArrayCodec(RedisCodec<?, ?> codec) {
+            return codec.getClass() == ByteArrayCodec.class || codec == ExperimentalByteArrayCodec.INSTANCE;
+        }
     }
 
     static class BytesArgument extends SingularArgument {
@@ -362,6 +627,11 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length);
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -374,8 +644,246 @@ public class CommandArgs<K, V> {
         }
     }
 
+    static class KeywordArgument extends SingularArgument {
+
+        final EncodedKeyword keyword;
+
+        private KeywordArgument(EncodedKeyword keyword) {
+            this.keyword = keyword;
+        }
+
+        static KeywordArgument of(EncodedKeyword keyword) {
+            return new KeywordArgument(keyword);
+        }
+
+        @Override
+        void encode(ByteBuf target) {
+            keyword.writeBulkString(target);
+        }
+
+        @Override
+        int estimateSize() {
+            return keyword.getBulkStringLength();
+        }
+    }
+
+    /**
+     * Argument whose payload can be written to the channel as separate message instead of being copied into the command
+     * buffer.
+     */
+    static abstract class ZeroCopyArgument extends SingularArgument {
+
+        final int length;
+
+        ZeroCopyArgument(int length) {
+            this.length = length;
+        }
+
+        @Override
+        void encode(ByteBuf target) {
+
+            target.ensureWritable(estimateSize());
+
+            writeHeader(target);
+            copyPayload(target);
+            target.writeBytes(CRLF);
+        }
+
+        @Override
+        int estimateSize() {
+            return bulkStringSize(length);
+        }
+
+        void writeHeader(ByteBuf target) {
+
+            target.writeByte('$');
+            IntegerArgument.writeInteger(target, length);
+            target.writeBytes(CRLF);
+        }
+
+        void describe(ByteBuf target) {
+
+            writeHeader(target);
+            target.writeBytes(("<" + length + " bytes>").getBytes(LettuceCharsets.ASCII));
+            target.writeBytes(CRLF);
+        }
+
+        /**
+         * Copy the payload to {@code target}.
+         *
+         * @param target the target buffer.
+         */
+        abstract void copyPayload(ByteBuf target);
+
+        /**
+         * Create a message carrying the payload. The message is released by the channel once it is written.
+         *
+         * @param fileRegion {@literal true} if the transport is able to write {@link FileRegion}s.
+         * @return the payload message or {@literal null} if the payload must be copied using {@link #encode(ByteBuf)}.
+         */
+        abstract Object retainedPayload(boolean fileRegion);
+    }
+
+    static class ByteBufArgument extends ZeroCopyArgument {
+
+        final ByteBuf buffer;
+        final int index;
+
+        private ByteBufArgument(ByteBuf buffer, int index, int length) {
+            super(length);
+            this.buffer = buffer;
+            this.index = index;
+        }
+
+        static ByteBufArgument of(ByteBuf buffer, int index, int length) {
+            return new ByteBufArgument(buffer, index, length);
+        }
+
+        @Override
+        void copyPayload(ByteBuf target) {
+            target.writeBytes(buffer, index, length);
+        }
+
+        @Override
+        Object retainedPayload(boolean fileRegion) {
+            return buffer.slice(index, length).retain();
+        }
+    }
+
+    static class FileArgument extends ZeroCopyArgument {
+
+        final File file;
+        final long position;
+
+        private FileArgument(File file, long position, int length) {
+            super(length);
+            this.file = file;
+            this.position = position;
+        }
+
+        static FileArgument of(File file, long position, int length) {
+            return new FileArgument(file, position, length);
+        }
+
+        @Override
+        void copyPayload(ByteBuf target) {
+
+            try (FileChannel channel = open()) {
+
+                channel.position(position);
+
+                int written = 0;
+                while (written < length) {
+
+                    int read = target.writeBytes(channel, length - written);
+                    if (read < 0) {
+                        throw new RedisException("Unexpected end of file " + file);
+                    }
+
+                    written += read;
+                }
+            } catch (IOException e) {
+                throw new RedisException("Cannot read " + file, e);
+            }
+        }
+
+        @Override
+        Object retainedPayload(boolean fileRegion) {
+
+            if (!fileRegion) {
+                return null;
+            }
+
+            FileChannel channel = open();
+            return new DefaultFileRegion(channel, position, length);
+        }
+
+        /**
+         * Open the file and verify that it contains the region. Sending fewer bytes than announced in the bulk string header
+         * would leave the connection out of sync.
+         */
+        private FileChannel open() {
+
+            FileChannel channel = null;
+            try {
+
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                if (channel.size() >= position + length) {
+                    return channel;
+                }
+            } catch (IOException e) {
+                close(channel);
+                throw new RedisException("Cannot open " + file, e);
+            }
+
+            close(channel);
+            throw new RedisException("File " + file + " is shorter than the requested region");
+        }
+
+        private static void close(FileChannel channel) {
+
+            if (channel == null) {
+                return;
+            }
+
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
     static class ByteBufferArgument {
 
+        /**
+         * Reserve space for the bulk string header of a payload with an expected length of {@code estimatedLength} bytes and
+         * advance the writer index to the payload position. The payload is written directly to {@code target} afterwards and
+         * completed with {@link #completeBulkString(ByteBuf, int, int)}.
+         *
+         * @param target the target buffer.
+         * @param estimatedLength expected number of payload bytes.
+         * @return the number of bytes reserved for the header.
+         */
+        static int reserveBulkStringHeader(ByteBuf target, int estimatedLength) {
+
+            int headerLength = 1 + IntegerArgument.digitCount(Math.max(estimatedLength, 0)) + CRLF.length;
+
+            target.ensureWritable(headerLength + Math.max(estimatedLength, 0) + CRLF.length);
+            target.writerIndex(target.writerIndex() + headerLength);
+
+            return headerLength;
+        }
+
+        /**
+         * Write the bulk string header for the payload written since {@code payloadStart} and terminate the bulk string. The
+         * payload is moved if the header requires a different number of bytes than reserved.
+         *
+         * @param target the target buffer.
+         * @param payloadStart writer index at which the payload starts.
+         * @param reservedHeaderLength number of bytes reserved by {@link #reserveBulkStringHeader(ByteBuf, int)}.
+         */
+        static void completeBulkString(ByteBuf target, int payloadStart, int reservedHeaderLength) {
+
+            int length = target.writerIndex() - payloadStart;
+            int digits = IntegerArgument.digitCount(length);
+            int headerStart = payloadStart - reservedHeaderLength;
+
+            if (1 + digits + CRLF.length != reservedHeaderLength) {
+
+                ByteBuf payload = target.copy(payloadStart, length);
+                target.writerIndex(headerStart);
+                writeByteBuf(target, payload);
+                payload.release();
+                return;
+            }
+
+            target.setByte(headerStart, '$');
+            IntegerArgument.setDigits(target, headerStart + 1, length, digits);
+            target.setBytes(payloadStart - CRLF.length, CRLF);
+            target.writeBytes(CRLF);
+        }
+
         static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
 
             target.writeByte('$');
@@ -418,21 +926,102 @@ public class CommandArgs<K, V> {
 
         @Override
         void encode(ByteBuf target) {
-            StringArgument.writeString(target, Long.toString(val));
+            writeBulkString(target, val);
+        }
+
+        @Override
+        int estimateSize() {
+            return bulkStringSize(length(val));
+        }
+
+        /**
+         * Write {@code value} as bulk string without creating an intermediate {@link String}.
+         */
+        static void writeBulkString(ByteBuf target, long value) {
+
+            target.writeByte('$');
+
+            writeInteger(target, length(value));
+            target.writeBytes(CRLF);
+
+            writeInteger(target, value);
+            target.writeBytes(CRLF);
         }
 
+        /**
+         * Write the decimal representation of {@code value} without creating an intermediate {@link String}.
+         */
         static void writeInteger(ByteBuf target, long value) {
 
-            if (value < 10) {
+            if (value >= 0 && value < 10) {
                 target.writeByte((byte) ('0' + value));
                 return;
             }
 
-            String asString = Long.toString(value);
+            if (value == Long.MIN_VALUE) {
+                target.writeBytes(LONG_MIN_VALUE);
+                return;
+            }
+
+            if (value < 0) {
+                target.writeByte('-');
+                value = -value;
+            }
+
+            int digits = digitCount(value);
+            target.ensureWritable(digits);
+
+            int index = target.writerIndex();
+            setDigits(target, index, value, digits);
+            target.writerIndex(index + digits);
+        }
+
+        /**
+         * Set the {@code digits} decimal digits of the non-negative {@code value} starting at {@code index}.
+         */
+        static void setDigits(ByteBuf target, int index, long value, int digits) {
+
+            for (int i = index + digits - 1; i >= index; i--) {
+                target.setByte(i, (byte) ('0' + value % 10));
+                value /= 10;
+            }
+        }
+
+        /**
+         * @return the number of characters of the decimal representation of {@code value}.
+         */
+        static int length(long value) {
+
+            if (value == Long.MIN_VALUE) {
+                return LONG_MIN_VALUE.length;
+            }
+
+            return value < 0 ? 1 + digitCount(-value) : digitCount(value);
+        }
+
+        /**
+         * @return the number of decimal digits of the non-negative {@code value}.
+         */
+        static int digitCount(long value) {
 
-            for (int i = 0; i < asString.length(); i++) {
-                target.writeByte((byte) asString.charAt(i));
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+                if (value < POWERS_OF_TEN[i]) {
+                    return i;
+                }
             }
+
+            return POWERS_OF_TEN.length;
+        }
+    }
+
+    static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(LettuceCharsets.ASCII);
+
+    static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
         }
     }
 
@@ -451,7 +1040,11 @@ public class CommandArgs<K, V> {
 
     static class DoubleArgument extends SingularArgument {
 
+        private static final byte[] DECIMAL_ZERO = ".0".getBytes(LettuceCharsets.ASCII);
+        private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0d);
+
         final double val;
+        private String string;
 
         private DoubleArgument(double val) {
             this.val = val;
@@ -463,7 +1056,48 @@ public class CommandArgs<K, V> {
 
         @Override
         void encode(ByteBuf target) {
-            StringArgument.writeString(target, Double.toString(val));
+
+            if (isSmallIntegral(val)) {
+
+                target.writeByte('$');
+
+                IntegerArgument.writeInteger(target, IntegerArgument.length((long) val) + DECIMAL_ZERO.length);
+                target.writeBytes(CRLF);
+
+                IntegerArgument.writeInteger(target, (long) val);
+                target.writeBytes(DECIMAL_ZERO);
+                target.writeBytes(CRLF);
+                return;
+            }
+
+            StringArgument.writeString(target, asString());
+        }
+
+        @Override
+        int estimateSize() {
+
+            if (isSmallIntegral(val)) {
+                return bulkStringSize(IntegerArgument.length((long) val) + DECIMAL_ZERO.length);
+            }
+
+            return bulkStringSize(asString().length());
+        }
+
+        private String asString() {
+
+            if (string == null) {
+                string = Double.toString(val);
+            }
+
+            return string;
+        }
+
+        /**
+         * Integral values below 10^7 are represented by {@link Double#toString(double)} as integer followed by {@code .0} and
+         * can be written without creating a {@link String}.
+         */
+        private static boolean isSmallIntegral(double val) {
+            return val == (long) val && Math.abs(val) < 1e7 && Double.doubleToRawLongBits(val) != NEGATIVE_ZERO;
         }
     }
 
@@ -484,6 +1118,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length());
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -500,16 +1139,52 @@ public class CommandArgs<K, V> {
 
     static class KeyArgument<K, V> extends SingularArgument {
 
-        final K key;
-        final RedisCodec<K, V> codec;
+        private static final Recycler<KeyArgument<?, ?>> RECYCLER = new Recycler<KeyArgument<?, ?>>() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            protected KeyArgument<?, ?> newObject(Handle handle) {
+                return new KeyArgument<>(null, null, handle);
+            }
+        };
+
+        K key;
+        RedisCodec<K, V> codec;
+        private ByteBuffer encoded;
+        private int estimatedSize = -1;
+        @SuppressWarnings("rawtypes")
+        private final Recycler.Handle handle;
 
-        private KeyArgument(K key, RedisCodec<K, V> codec) {
+        @SuppressWarnings("rawtypes")
+        private KeyArgument(K key, RedisCodec<K, V> codec, Recycler.Handle handle) {
             this.key = key;
             this.codec = codec;
+            this.handle = handle;
         }
 
         static <K, V> KeyArgument<K, V> of(K key, RedisCodec<K, V> codec) {
-            return new KeyArgument<>(key, codec);
+            return new KeyArgument<>(key, codec, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> KeyArgument<K, V> newInstance(K key, RedisCodec<K, V> codec) {
+
+            KeyArgument<K, V> argument = (KeyArgument<K, V>) RECYCLER.get();
+            argument.key = key;
+            argument.codec = codec;
+            return argument;
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "deprecation" })
+        void recycle() {
+
+            if (handle != null) {
+                key = null;
+                codec = null;
+                encoded = null;
+                estimatedSize = -1;
+                RECYCLER.recycle(this, handle);
+            }
         }
 
         @Override
@@ -520,34 +1195,90 @@ public class CommandArgs<K, V> {
                 return;
             }
 
-            if (codec instanceof ToByteBufEncoder) {
+            if (encoded == null && codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key));
-                toByteBufEncoder.encodeKey(key, temporaryBuffer);
+                int headerLength = ByteBufferArgument.reserveBulkStringHeader(target,
+                        estimatedSize != -1 ? estimatedSize : toByteBufEncoder.estimateSize(key));
+                int payloadStart = target.writerIndex();
 
-                ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                temporaryBuffer.release();
+                toByteBufEncoder.encodeKey(key, target);
+                ByteBufferArgument.completeBulkString(target, payloadStart, headerLength);
 
                 return;
             }
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
+            ByteBufferArgument.writeByteBuffer(target, encoded != null ? encoded.duplicate() : codec.encodeKey(key));
+        }
+
+        @Override
+        int estimateSize() {
+
+            if (key instanceof byte[] && isRawByteArrayCodec(codec)) {
+                return bulkStringSize(((byte[]) key).length);
+            }
+
+            if (encoded == null && codec instanceof ToByteBufEncoder) {
+                estimatedSize = ((ToByteBufEncoder<K, V>) codec).estimateSize(key);
+                return bulkStringSize(estimatedSize);
+            }
+
+            if (encoded == null) {
+                encoded = codec.encodeKey(key);
+            }
+
+            return bulkStringSize(encoded.remaining());
         }
     }
 
     static class ValueArgument<K, V> extends SingularArgument {
 
-        final V val;
-        final RedisCodec<K, V> codec;
+        private static final Recycler<ValueArgument<?, ?>> RECYCLER = new Recycler<ValueArgument<?, ?>>() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            protected ValueArgument<?, ?> newObject(Handle handle) {
+                return new ValueArgument<>(null, null, handle);
+            }
+        };
+
+        V val;
+        RedisCodec<K, V> codec;
+        private ByteBuffer encoded;
+        private int estimatedSize = -1;
+        @SuppressWarnings("rawtypes")
+        private final Recycler.Handle handle;
 
-        private ValueArgument(V val, RedisCodec<K, V> codec) {
+        @SuppressWarnings("rawtypes")
+        private ValueArgument(V val, RedisCodec<K, V> codec, Recycler.Handle handle) {
             this.val = val;
             this.codec = codec;
+            this.handle = handle;
         }
 
         static <K, V> ValueArgument<K, V> of(V val, RedisCodec<K, V> codec) {
-            return new ValueArgument<>(val, codec);
+            return new ValueArgument<>(val, codec, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> ValueArgument<K, V> newInstance(V val, RedisCodec<K, V> codec) {
+
+            ValueArgument<K, V> argument = (ValueArgument<K, V>) RECYCLER.get();
+            argument.val = val;
+            argument.codec = codec;
+            return argument;
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "deprecation" })
+        void recycle() {
+
+            if (handle != null) {
+                val = null;
+                codec = null;
+                encoded = null;
+                estimatedSize = -1;
+                RECYCLER.recycle(this, handle);
+            }
         }
 
         @Override
@@ -561,16 +1292,36 @@ public class CommandArgs<K, V> {
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(val));
-                toByteBufEncoder.encodeValue(val, temporaryBuffer);
+                int headerLength = ByteBufferArgument.reserveBulkStringHeader(target,
+                        estimatedSize != -1 ? estimatedSize : toByteBufEncoder.estimateSize(val));
+                int payloadStart = target.writerIndex();
 
-                ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                temporaryBuffer.release();
+                toByteBufEncoder.encodeValue(val, target);
+                ByteBufferArgument.completeBulkString(target, payloadStart, headerLength);
 
                 return;
             }
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
+            ByteBufferArgument.writeByteBuffer(target, encoded != null ? encoded.duplicate() : codec.encodeValue(val));
+        }
+
+        @Override
+        int estimateSize() {
+
+            if (val instanceof byte[] && isRawByteArrayCodec(codec)) {
+                return bulkStringSize(((byte[]) val).length);
+            }
+
+            if (codec instanceof ToByteBufEncoder) {
+                estimatedSize = ((ToByteBufEncoder<K, V>) codec).estimateSize(val);
+                return bulkStringSize(estimatedSize);
+            }
+
+            if (encoded == null) {
+                encoded = codec.encodeValue(val);
+            }
+
+            return bulkStringSize(encoded.remaining());
         }
     }
 
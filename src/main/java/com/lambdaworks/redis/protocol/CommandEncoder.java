@@ -3,19 +3,28 @@
 package com.lambdaworks.redis.protocol;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.lambdaworks.redis.EpollProvider;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.channel.Channel;
-import io.netty.channel.ChannelHandler;
-import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.*;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseCombiner;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
- * A netty {@link ChannelHandler} responsible for encoding commands.
+ * A netty {@link ChannelHandler} responsible for encoding commands. Commands carrying arguments added with
+ * {@link CommandArgs#add(ByteBuf)} or {@link CommandArgs#add(java.io.File, long, int)} are written as a sequence of messages
+ * so their payload is passed to the transport as retained {@link ByteBuf} slice or {@link FileRegion} instead of being copied.
  * 
  * @author Mark Paluch
  */
@@ -26,6 +35,7 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     private final boolean traceEnabled = logger.isTraceEnabled();
     private final boolean debugEnabled = logger.isDebugEnabled();
+    private final boolean preferDirect;
 
     public CommandEncoder() {
         this(true);
@@ -33,24 +43,96 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     public CommandEncoder(boolean preferDirect) {
         super(preferDirect);
+        this.preferDirect = preferDirect;
     }
 
     @Override
-    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
 
-        if (msg instanceof Collection) {
+        if (!hasZeroCopyArguments(msg)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
 
-            if (preferDirect) {
-                return ctx.alloc().ioBuffer(((Collection) msg).size() * 16);
-            } else {
-                return ctx.alloc().heapBuffer(((Collection) msg).size() * 16);
+        List<Object> segments = encodeSegments(ctx, msg);
+
+        PromiseCombiner combiner = new PromiseCombiner();
+        for (Object segment : segments) {
+
+            if (segment instanceof ByteBuf && !((ByteBuf) segment).isReadable()) {
+                ((ByteBuf) segment).release();
+                continue;
             }
+
+            ChannelPromise segmentPromise = ctx.newPromise();
+            combiner.add(segmentPromise);
+            ctx.write(segment, segmentPromise);
+        }
+
+        combiner.finish(promise);
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
+
+        int size = estimateSize(msg);
+
+        if (size <= 0) {
+            return preferDirect ? ctx.alloc().ioBuffer() : ctx.alloc().heapBuffer();
         }
 
         if (preferDirect) {
-            return ctx.alloc().ioBuffer();
+            return ctx.alloc().ioBuffer(size);
         } else {
-            return ctx.alloc().heapBuffer();
+            return ctx.alloc().heapBuffer(size);
+        }
+    }
+
+    /**
+     * Compute the number of bytes required to encode a {@link RedisCommand} or a {@link Collection} of commands so the buffer
+     * can be allocated once with the required size. The size is exact unless keys or values are encoded with a
+     * {@link com.lambdaworks.redis.codec.ToByteBufEncoder} that estimates their size.
+     *
+     * @param msg the command or collection of commands.
+     * @return the number of bytes or {@literal 0} if the size cannot be determined.
+     */
+    @SuppressWarnings("unchecked")
+    static int estimateSize(Object msg) {
+
+        long size = 0;
+
+        if (msg instanceof RedisCommand) {
+            size = estimateSize((RedisCommand<?, ?, ?>) msg);
+        }
+
+        if (msg instanceof Collection) {
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                size += estimateSize(command);
+            }
+        }
+
+        return size > Integer.MAX_VALUE ? 0 : (int) size;
+    }
+
+    private static long estimateSize(RedisCommand<?, ?, ?> command) {
+
+        try {
+
+            ProtocolKeyword type = command.getType();
+            CommandArgs<?, ?> args = command.getArgs();
+
+            if (type == null) {
+                return 0;
+            }
+
+            int count = 1 + (args != null ? args.count() : 0);
+
+            return 1 + CommandArgs.IntegerArgument.length(count) + CommandArgs.CRLF.length
+                    + CommandArgs.SingularArgument.bulkStringSize(type.getBytes().length)
+                    + (args != null ? args.estimateSize() : 0);
+        } catch (RuntimeException e) {
+            // encoding reports the failure to the command
+            return 0;
         }
     }
 
@@ -91,6 +173,98 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Object> encodeSegments(ChannelHandlerContext ctx, Object msg) {
+
+        boolean fileRegion = isFileRegionSupported(ctx);
+        List<Object> segments = new ArrayList<>();
+        segments.add(preferDirect ? ctx.alloc().ioBuffer() : ctx.alloc().heapBuffer());
+
+        Collection<RedisCommand<?, ?, ?>> commands = msg instanceof Collection ? (Collection<RedisCommand<?, ?, ?>>) msg
+                : Collections.singletonList((RedisCommand<?, ?, ?>) msg);
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+
+            if (hasZeroCopyArguments(command)) {
+                encodeSegments(ctx, segments, command, fileRegion);
+            } else {
+                encode(ctx, (ByteBuf) segments.get(segments.size() - 1), command);
+            }
+        }
+
+        return segments;
+    }
+
+    /**
+     * Encode a command with zero-copy arguments from its type and {@link CommandArgs}.
+     */
+    private void encodeSegments(ChannelHandlerContext ctx, List<Object> segments, RedisCommand<?, ?, ?> command,
+            boolean fileRegion) {
+
+        int mark = segments.size();
+        ByteBuf out = (ByteBuf) segments.get(mark - 1);
+        out.markWriterIndex();
+
+        try {
+            CommandArgs<?, ?> args = command.getArgs();
+            Command.encodeFrameHeader(out, command.getType(), 1 + args.count());
+            args.encode(segments, ctx.alloc(), fileRegion);
+        } catch (RuntimeException e) {
+
+            while (segments.size() > mark) {
+                ReferenceCountUtil.release(segments.remove(segments.size() - 1));
+            }
+
+            out.resetWriterIndex();
+            command.completeExceptionally(new EncoderException(
+                    "Cannot encode command. Please close the connection as the connection state may be out of sync.",
+                    e));
+        }
+
+        if (debugEnabled) {
+            logger.debug("{} writing command {}", logPrefix(ctx.channel()), command);
+        }
+    }
+
+    private static boolean hasZeroCopyArguments(Object msg) {
+
+        if (msg instanceof RedisCommand) {
+            return hasZeroCopyArguments((RedisCommand<?, ?, ?>) msg);
+        }
+
+        if (msg instanceof Collection) {
+            for (Object command : (Collection<?>) msg) {
+                if (command instanceof RedisCommand && hasZeroCopyArguments((RedisCommand<?, ?, ?>) command)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasZeroCopyArguments(RedisCommand<?, ?, ?> command) {
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return args != null && args.hasZeroCopyArguments();
+    }
+
+    /**
+     * {@link FileRegion}s are written by TCP and Unix domain socket transports. Other transports and the {@link SslHandler}
+     * accept {@link ByteBuf}s only.
+     */
+    private static boolean isFileRegionSupported(ChannelHandlerContext ctx) {
+
+        Channel channel = ctx.channel();
+        return (channel instanceof SocketChannel || isDomainSocketChannel(channel))
+                && ctx.pipeline().get(SslHandler.class) == null;
+    }
+
+    private static boolean isDomainSocketChannel(Channel channel) {
+        return EpollProvider.epollDomainSocketChannelClass != null
+                && EpollProvider.epollDomainSocketChannelClass.isInstance(channel);
+    }
+
     private String logPrefix(Channel channel) {
         StringBuffer buffer = new StringBuffer(64);
         buffer.append('[').append(ChannelLogDescriptor.logDescriptor(channel)).append(']');
@@ -7,19 +7,28 @@ import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.internal.LettuceSets;
+import com.lambdaworks.redis.resource.AwaitStrategy;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.internal.logging.InternalLogLevel;
@@ -41,6 +50,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private static final WriteLogListener WRITE_LOG_LISTENER = new WriteLogListener();
     private static final AtomicLong CHANNEL_COUNTER = new AtomicLong();
 
+    // matches the default tick duration of HashedWheelTimer, deadlines cannot be observed more precisely
+    private static final long DEADLINE_SWEEP_INTERVAL_MS = 100;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<Command> QUEUED_BYTES = AtomicLongFieldUpdater.newUpdater(Command.class,
+            "queuedBytes");
+
     /**
      * When we encounter an unexpected IOException we look for these {@link Throwable#getMessage() messages} (because we have no
      * better way to distinguish) and log them at DEBUG rather than WARN, since they are generally caused by unclean client
@@ -59,6 +74,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     // all access to the commandBuffer is synchronized
     protected final Deque<RedisCommand<K, V, ?>> commandBuffer = LettuceFactories.newConcurrentQueue();
     protected final Deque<RedisCommand<K, V, ?>> transportBuffer = LettuceFactories.newConcurrentQueue();
+
+    // commands enqueued by application threads in WriteMode.MPSC, only polled through drainPendingWritesTo
+    protected final Queue<RedisCommand<K, V, ?>> pendingWrites;
+    // serializes consumers of pendingWrites: the event loop and reset/close
+    private final Object pendingWritesConsumerLock = new Object();
     protected final ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(8192 * 8);
     protected final RedisStateMachine<K, V> rsm = new RedisStateMachine<K, V>();
     protected volatile Channel channel;
@@ -70,13 +90,62 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     // If DEBUG level logging has been enabled at startup.
     private final boolean debugEnabled;
     private final Reliability reliability;
+    private final boolean directCumulation;
+    private final boolean mpscWrites;
+    private final boolean autoBatch;
+    private final int maxBatchSize;
+    private final int maxBatchBytes;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // request queue accounting, only enabled if the request queue is bounded
+    private final boolean boundedRequestQueue;
+    private final boolean estimateRequestBytes;
+    private final int requestQueueSize;
+    private final long requestQueueBytes;
+    private final AtomicInteger inFlightCommands = new AtomicInteger();
+    private final AtomicLong inFlightBytes = new AtomicLong();
+    private final AtomicInteger requestQueueWaiters = new AtomicInteger();
+    private final Object requestQueueMonitor = new Object();
+
+    // command deadlines, swept periodically using the connection timer
+    private final long commandDeadlineNs;
+    private final AwaitStrategy awaitStrategy;
+    private final AtomicBoolean deadlineSweepScheduled = new AtomicBoolean();
+    private final TimerTask deadlineSweepTask = new TimerTask() {
+        @Override
+        public void run(Timeout timeout) throws Exception {
+            sweepExpiredCommands();
+        }
+    };
+    private final Runnable expireCommandsTask = new Runnable() {
+        @Override
+        public void run() {
+            expireCommands();
+        }
+    };
+    private volatile Timer timer;
+
+    // reading is suspended while a demand-aware command has no demand, accessed only by the event loop
+    private boolean readSuspended;
+    private final DemandAware.Source backpressureSource = new DemandAware.Source() {
+        @Override
+        public void requestMore() {
+            resumeReading();
+        }
+    };
+    private final Runnable drainPendingWritesTask = new Runnable() {
+        @Override
+        public void run() {
+            drainPendingWrites();
+        }
+    };
 
     private volatile LifecycleState lifecycleState = LifecycleState.NOT_CONNECTED;
     private Thread exclusiveLockOwner;
     private RedisChannelHandler<K, V> redisChannelHandler;
     private Throwable connectionError;
     private String logPrefix;
-    private boolean autoFlushCommands = true;
+    private volatile boolean autoFlushCommands = true;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -97,6 +166,21 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         this.traceEnabled = logger.isTraceEnabled();
         this.debugEnabled = logger.isDebugEnabled();
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
+        this.directCumulation = clientOptions.getCumulationMode() == ClientOptions.CumulationMode.DIRECT;
+        this.autoBatch = clientOptions.getWriteMode() == ClientOptions.WriteMode.AUTO_BATCH;
+        this.mpscWrites = autoBatch || clientOptions.getWriteMode() == ClientOptions.WriteMode.MPSC;
+        this.maxBatchSize = clientOptions.getMaxBatchSize();
+        this.maxBatchBytes = clientOptions.getMaxBatchBytes();
+        this.pendingWrites = mpscWrites ? LettuceFactories.<RedisCommand<K, V, ?>> newMpscQueue() : null;
+        this.requestQueueSize = clientOptions.getRequestQueueSize();
+        this.requestQueueBytes = clientOptions.getRequestQueueBytes();
+        this.estimateRequestBytes = requestQueueBytes != Long.MAX_VALUE;
+        this.boundedRequestQueue = estimateRequestBytes || requestQueueSize != Integer.MAX_VALUE;
+
+        TimeUnit commandDeadlineUnit = clientOptions.getCommandDeadlineUnit();
+        this.commandDeadlineNs = commandDeadlineUnit != null ? commandDeadlineUnit.toNanos(clientOptions.getCommandDeadline())
+                : 0;
+        this.awaitStrategy = clientResources.awaitStrategy() != null ? clientResources.awaitStrategy() : AwaitStrategy.park();
     }
 
     /**
@@ -180,6 +264,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.trace("{} Buffer: {}", logPrefix(), input.toString(Charset.defaultCharset()).trim());
             }
 
+            if (directCumulation) {
+                decodeDirect(ctx, input);
+                return;
+            }
+
             buffer.writeBytes(input);
 
             decode(ctx, buffer);
@@ -188,6 +277,44 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
     }
 
+    /**
+     * Decode straight from the received {@link ByteBuf}. Only a response element that spans multiple reads is gathered in
+     * {@link #buffer}: its beginning (remaining bytes of the previous read) is completed with the received bytes up to the
+     * next line end. Decoding continues on {@code input} once the gathered bytes are consumed.
+     *
+     * @param ctx the channel handler context.
+     * @param input the received buffer.
+     * @throws InterruptedException
+     */
+    private void decodeDirect(ChannelHandlerContext ctx, ByteBuf input) throws InterruptedException {
+
+        if (buffer.isReadable()) {
+
+            int lineEnd = input.indexOf(input.readerIndex(), input.writerIndex(), (byte) '\n');
+            buffer.writeBytes(input, lineEnd == -1 ? input.readableBytes() : lineEnd - input.readerIndex() + 1);
+            decode(ctx, buffer);
+
+            if (buffer.isReadable() && input.isReadable()) {
+                // decoder requires more data than the completed line, fall back to merging this read
+                buffer.writeBytes(input);
+                decode(ctx, buffer);
+            }
+        }
+
+        if (!buffer.isReadable() && input.isReadable()) {
+            buffer.clear();
+            decode(ctx, input);
+        }
+
+        if (input.isReadable() && buffer.refCnt() != 0) {
+            buffer.writeBytes(input);
+        }
+
+        if (buffer.refCnt() != 0) {
+            buffer.discardReadBytes();
+        }
+    }
+
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) throws InterruptedException {
 
         while (!queue.isEmpty()) {
@@ -200,12 +327,21 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             WithLatency withLatency = getWithLatency(command);
 
             if (!rsm.decode(buffer, command, command.getOutput())) {
+
+                // the decoder consumes bulk string content as it arrives so large replies are not gathered in the buffer
+                discardSomeReadBytes(buffer);
+                suspendReadingWithoutDemand(command);
                 return;
             }
 
+            if (readSuspended) {
+                completeSuspendedRead(command);
+            }
+
             recordLatency(withLatency, command.getType());
 
             queue.poll();
+            releaseRequestQueueCapacity(command);
 
             try {
                 command.complete();
@@ -213,10 +349,99 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.warn("{} Unexpected exception during command completion: {}", logPrefix, e.toString(), e);
             }
 
-            if (buffer.refCnt() != 0) {
-                buffer.discardReadBytes();
+            discardReadBytes(buffer);
+        }
+    }
+
+    /**
+     * Discard bytes that were consumed by the decoder. Using {@link ClientOptions.CumulationMode#DIRECT}, read bytes are
+     * discarded once the received data was decoded to avoid compacting the received buffer.
+     *
+     * @param buffer the buffer to compact.
+     */
+    protected void discardReadBytes(ByteBuf buffer) {
+
+        if (!directCumulation && buffer.refCnt() != 0) {
+            buffer.discardReadBytes();
+        }
+    }
+
+    /**
+     * Discard consumed bytes of an incomplete response once they exceed a significant part of the buffer.
+     *
+     * @param buffer the buffer to compact.
+     */
+    private void discardSomeReadBytes(ByteBuf buffer) {
+
+        if (!directCumulation && buffer.refCnt() != 0) {
+            buffer.discardSomeReadBytes();
+        }
+    }
+
+    /**
+     * Suspend reading from the channel if {@code command} is a {@link DemandAware.Sink} without demand. Reading is resumed once
+     * the sink requests more data or the command completes.
+     *
+     * @param command the command whose reply is incomplete.
+     */
+    private void suspendReadingWithoutDemand(RedisCommand<K, V, ?> command) {
+
+        DemandAware.Sink sink = getDemandAwareSink(command);
+        if (sink == null || sink.hasDemand() || channel == null) {
+            return;
+        }
+
+        if (debugEnabled) {
+            logger.debug("{} Suspending reads, no demand for {}", logPrefix(), command);
+        }
+
+        readSuspended = true;
+        sink.setSource(backpressureSource);
+        channel.config().setAutoRead(false);
+
+        // demand signaled before the source was registered
+        if (sink.hasDemand()) {
+            resumeReading();
+        }
+    }
+
+    private void completeSuspendedRead(RedisCommand<K, V, ?> command) {
+
+        DemandAware.Sink sink = getDemandAwareSink(command);
+        if (sink != null) {
+            sink.removeSource();
+        }
+
+        readSuspended = false;
+        resumeReading();
+    }
+
+    private void resumeReading() {
+
+        Channel channel = this.channel;
+        if (channel != null && !channel.config().isAutoRead()) {
+
+            if (debugEnabled) {
+                logger.debug("{} Resuming reads", logPrefix());
+            }
+
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    private static DemandAware.Sink getDemandAwareSink(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> current = command;
+        while (!(current instanceof DemandAware.Sink)) {
+
+            if (!(current instanceof DecoratedCommand)) {
+                return null;
             }
+
+            current = ((DecoratedCommand<?, ?, ?>) current).getDelegate();
         }
+
+        return (DemandAware.Sink) current;
     }
 
     private WithLatency getWithLatency(RedisCommand<K, V, ?> command) {
@@ -236,26 +461,27 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
 
-        if (withLatency != null && clientResources.commandLatencyCollector().isEnabled() && channel != null
-                && remote() != null) {
+        if (withLatency == null || !clientResources.commandLatencyCollector().isEnabled()) {
+            return;
+        }
+
+        Channel channel = this.channel;
+        SocketAddress remote = channel != null ? channel.remoteAddress() : null;
+
+        if (remote != null) {
 
             long firstResponseLatency = nanoTime() - withLatency.getFirstResponse();
             long completionLatency = nanoTime() - withLatency.getSent();
 
-            clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType, firstResponseLatency,
-                    completionLatency);
+            clientResources.commandLatencyCollector().recordCommandLatency(local(channel), remote, commandType,
+                    firstResponseLatency, completionLatency);
         }
     }
 
-    private SocketAddress remote() {
-        return channel.remoteAddress();
-    }
+    private static SocketAddress local(Channel channel) {
 
-    private SocketAddress local() {
-        if (channel.localAddress() != null) {
-            return channel.localAddress();
-        }
-        return LocalAddress.ANY;
+        SocketAddress localAddress = channel.localAddress();
+        return localAddress != null ? localAddress : LocalAddress.ANY;
     }
 
     @Override
@@ -263,6 +489,14 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         LettuceAssert.notNull(command, "Command must not be null");
 
+        applyDeadline(command);
+        applyAwaitStrategy(command);
+        acquireRequestQueueCapacity(command);
+
+        if (mpscWrites && writeToPendingWrites(command)) {
+            return command;
+        }
+
         try {
             incrementWriters();
 
@@ -270,12 +504,6 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 throw new RedisException("Connection is closed");
             }
 
-            if (clientOptions.getRequestQueueSize() != Integer.MAX_VALUE
-                    && commandBuffer.size() + queue.size() >= clientOptions.getRequestQueueSize()) {
-                throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
-                        + ". Commands are not accepted until the queue size drops.");
-            }
-
             if ((channel == null || !isConnected()) && isRejectCommand()) {
                 throw new RedisException("Currently not connected. Commands are rejected.");
             }
@@ -296,6 +524,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             } else {
                 bufferCommand(command);
             }
+        } catch (RuntimeException e) {
+            releaseRequestQueueCapacity(command);
+            throw e;
         } finally {
             decrementWriters();
             if (debugEnabled) {
@@ -306,6 +537,524 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return command;
     }
 
+    /**
+     * Write {@code commands} using a single flush if the channel is active and commands are flushed automatically. Commands
+     * are buffered if the channel is not active. Lock-free writes enqueue the commands individually as the pending writes are
+     * drained in one batch.
+     *
+     * @param commands the commands.
+     */
+    @Override
+    public void writeAll(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (mpscWrites || !autoFlushCommands || commands.size() < 2) {
+            RedisChannelWriter.super.writeAll(commands);
+            return;
+        }
+
+        List<RedisCommand<K, V, ?>> toWrite = new ArrayList<>(commands.size());
+
+        try {
+            for (RedisCommand<K, V, ?> command : commands) {
+
+                LettuceAssert.notNull(command, "Command must not be null");
+
+                applyDeadline(command);
+                applyAwaitStrategy(command);
+                acquireRequestQueueCapacity(command);
+                toWrite.add(command);
+            }
+        } catch (RuntimeException e) {
+            releaseRequestQueueCapacity(toWrite);
+            throw e;
+        }
+
+        try {
+            incrementWriters();
+
+            if (lifecycleState == LifecycleState.CLOSED) {
+                throw new RedisException("Connection is closed");
+            }
+
+            if ((channel == null || !isConnected()) && isRejectCommand()) {
+                throw new RedisException("Currently not connected. Commands are rejected.");
+            }
+
+            Channel channel = this.channel;
+            if (channel != null && isConnected() && channel.isActive()) {
+                writeToChannel(toWrite);
+                recordBatchSize(toWrite.size());
+            } else {
+                for (RedisCommand<K, V, ?> command : toWrite) {
+                    writeToBuffer(command);
+                }
+            }
+        } catch (RuntimeException e) {
+            releaseRequestQueueCapacity(toWrite);
+            throw e;
+        } finally {
+            decrementWriters();
+            if (debugEnabled) {
+                logger.debug("{} writeAll() done", logPrefix());
+            }
+        }
+    }
+
+    /**
+     * Apply {@link ClientOptions#getCommandDeadline()} to {@code command} unless the command carries its own deadline and
+     * schedule sweeping expired commands.
+     *
+     * @param command the command.
+     */
+    private void applyDeadline(RedisCommand<K, V, ?> command) {
+
+        WithDeadline withDeadline = getWithDeadline(command);
+        if (withDeadline == null) {
+            return;
+        }
+
+        if (withDeadline.getDeadline() == 0) {
+
+            if (commandDeadlineNs == 0) {
+                return;
+            }
+
+            withDeadline.deadline(nanoTime() + commandDeadlineNs);
+        }
+
+        scheduleDeadlineSweep();
+    }
+
+    /**
+     * Complete {@code command} exceptionally if its deadline has passed.
+     *
+     * @param command the command.
+     * @return {@literal true} if the command is expired.
+     */
+    private boolean expire(RedisCommand<K, V, ?> command) {
+
+        WithDeadline withDeadline = getWithDeadline(command);
+        if (withDeadline == null || withDeadline.getDeadline() == 0 || nanoTime() - withDeadline.getDeadline() < 0) {
+            return false;
+        }
+
+        if (debugEnabled) {
+            logger.debug("{} Command {} expired", logPrefix(), command);
+        }
+
+        command.completeExceptionally(new RedisCommandTimeoutException("Command timed out: deadline exceeded"));
+        return true;
+    }
+
+    /**
+     * Apply the {@link ClientResources#awaitStrategy()} to {@code command}. Commands use {@link AwaitStrategy#park()} unless
+     * configured otherwise.
+     *
+     * @param command the command.
+     */
+    private void applyAwaitStrategy(RedisCommand<K, V, ?> command) {
+
+        if (awaitStrategy == AwaitStrategy.park()) {
+            return;
+        }
+
+        RedisCommand<?, ?, ?> current = command;
+        while (!(current instanceof AsyncCommand)) {
+
+            if (!(current instanceof DecoratedCommand)) {
+                return;
+            }
+
+            current = ((DecoratedCommand<?, ?, ?>) current).getDelegate();
+        }
+
+        ((AsyncCommand<?, ?, ?>) current).awaitStrategy(awaitStrategy);
+    }
+
+    private static WithDeadline getWithDeadline(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> current = command;
+        while (!(current instanceof WithDeadline)) {
+
+            if (!(current instanceof DecoratedCommand)) {
+                return null;
+            }
+
+            current = ((DecoratedCommand<?, ?, ?>) current).getDelegate();
+        }
+
+        return (WithDeadline) current;
+    }
+
+    private void scheduleDeadlineSweep() {
+
+        Timer timer = this.timer;
+        if (timer == null || isClosed() || !deadlineSweepScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            timer.newTimeout(deadlineSweepTask, DEADLINE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            // timer was stopped, the client is shutting down
+            deadlineSweepScheduled.set(false);
+        }
+    }
+
+    /**
+     * Expire commands on the event loop as {@link #queue} is confined to it. Without a registered channel, only buffered
+     * commands are expired.
+     */
+    private void sweepExpiredCommands() {
+
+        Channel channel = this.channel;
+        if (channel != null && channel.isRegistered()) {
+            try {
+                channel.eventLoop().execute(expireCommandsTask);
+                return;
+            } catch (RejectedExecutionException e) {
+                // event loop is shutting down
+            }
+        }
+
+        expireCommands();
+    }
+
+    /**
+     * Complete expired commands exceptionally. Buffered commands are dropped, commands that were already sent remain in
+     * {@link #queue} until their response arrives. The sweep is rescheduled as long as commands are pending.
+     */
+    private void expireCommands() {
+
+        deadlineSweepScheduled.set(false);
+
+        Iterator<RedisCommand<K, V, ?>> iterator = commandBuffer.iterator();
+        while (iterator.hasNext()) {
+
+            RedisCommand<K, V, ?> command = iterator.next();
+            if (expire(command)) {
+                iterator.remove();
+                releaseRequestQueueCapacity(command);
+            }
+        }
+
+        Channel channel = this.channel;
+        if (channel != null && channel.eventLoop().inEventLoop()) {
+            for (RedisCommand<K, V, ?> command : queue) {
+                expire(command);
+            }
+        }
+
+        if (!commandBuffer.isEmpty() || !queue.isEmpty() || (pendingWrites != null && !pendingWrites.isEmpty())) {
+            scheduleDeadlineSweep();
+        }
+    }
+
+    /**
+     * Account {@code command} in the request queue. Commands are accounted from the time they are written until they are
+     * completed with a response, fail or get canceled. Capacity is reserved before checking the limits so concurrent writers
+     * cannot exceed the bounds. A single command that exceeds {@link ClientOptions#getRequestQueueBytes()} on its own is
+     * accepted if no other bytes are in flight.
+     *
+     * @param command the command.
+     * @throws RedisException if the request queue is full and {@link ClientOptions.RequestQueueFullBehavior#REJECT_COMMANDS
+     *         commands are rejected} or the wait timed out.
+     */
+    @SuppressWarnings("rawtypes")
+    private void acquireRequestQueueCapacity(RedisCommand<K, V, ?> command) {
+
+        if (!boundedRequestQueue) {
+            return;
+        }
+
+        // only commands backed by Command can be accounted, other implementations are not bounded
+        RedisCommand<K, V, ?> unwrapped = CommandWrapper.unwrap(command);
+        if (!(unwrapped instanceof Command)) {
+            return;
+        }
+
+        Command accounted = (Command) unwrapped;
+        if (accounted.queuedBytes != -1) {
+            return;
+        }
+
+        long bytes = estimateRequestBytes && accounted.getArgs() != null ? accounted.getArgs().estimateSize() : 0;
+
+        if (!tryReserveRequestQueueCapacity(bytes)) {
+            awaitRequestQueueCapacity(bytes);
+        }
+
+        QUEUED_BYTES.set(accounted, bytes);
+    }
+
+    private boolean tryReserveRequestQueueCapacity(long bytes) {
+
+        int commands = inFlightCommands.incrementAndGet();
+        long totalBytes = inFlightBytes.addAndGet(bytes);
+
+        if (commands <= requestQueueSize && (totalBytes <= requestQueueBytes || totalBytes == bytes)) {
+            return true;
+        }
+
+        inFlightCommands.decrementAndGet();
+        inFlightBytes.addAndGet(-bytes);
+        return false;
+    }
+
+    /**
+     * Wait until capacity is available using {@link ClientOptions.RequestQueueFullBehavior#WAIT}. The event loop and the
+     * thread holding the exclusive writer lock must not wait as they are required to complete queued commands.
+     */
+    private void awaitRequestQueueCapacity(long bytes) {
+
+        Channel channel = this.channel;
+        if (clientOptions.getRequestQueueFullBehavior() != ClientOptions.RequestQueueFullBehavior.WAIT
+                || (channel != null && channel.eventLoop().inEventLoop()) || exclusiveLockOwner == Thread.currentThread()) {
+            throw requestQueueFull();
+        }
+
+        long timeout = clientOptions.getRequestQueueWaitTimeoutUnit().toNanos(clientOptions.getRequestQueueWaitTimeout());
+        long deadline = System.nanoTime() + timeout;
+
+        if (debugEnabled) {
+            logger.debug("{} write() waiting for request queue capacity", logPrefix());
+        }
+
+        requestQueueWaiters.incrementAndGet();
+        try {
+            synchronized (requestQueueMonitor) {
+                while (!tryReserveRequestQueueCapacity(bytes)) {
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || isClosed()) {
+                        throw requestQueueFull();
+                    }
+
+                    TimeUnit.NANOSECONDS.timedWait(requestQueueMonitor, remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } finally {
+            requestQueueWaiters.decrementAndGet();
+        }
+    }
+
+    private RedisException requestQueueFull() {
+
+        if (inFlightCommands.get() >= requestQueueSize) {
+            return new RedisException("Request queue size exceeded: " + requestQueueSize
+                    + ". Commands are not accepted until the queue size drops.");
+        }
+
+        return new RedisException("Request queue bytes exceeded: " + requestQueueBytes
+                + ". Commands are not accepted until the queued bytes drop.");
+    }
+
+    /**
+     * Release the request queue capacity held by {@code command}. Releasing a command that is not accounted is a no-op so
+     * each exit path may release a command regardless of the path it came from. Subclasses that complete commands on their
+     * own must release them before completing them.
+     *
+     * @param command the command.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected void releaseRequestQueueCapacity(RedisCommand<?, ?, ?> command) {
+
+        if (!boundedRequestQueue) {
+            return;
+        }
+
+        RedisCommand<?, ?, ?> unwrapped = CommandWrapper.unwrap((RedisCommand) command);
+        if (!(unwrapped instanceof Command)) {
+            return;
+        }
+
+        long bytes = QUEUED_BYTES.getAndSet((Command) unwrapped, -1);
+        if (bytes == -1) {
+            return;
+        }
+
+        inFlightCommands.decrementAndGet();
+        inFlightBytes.addAndGet(-bytes);
+
+        if (requestQueueWaiters.get() != 0) {
+            synchronized (requestQueueMonitor) {
+                requestQueueMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Release the request queue capacity held by {@code commands}. Commands that are handed over to a different writer must be
+     * released first so the receiving writer accounts them on its own.
+     *
+     * @param commands the commands.
+     */
+    protected void releaseRequestQueueCapacity(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        if (!boundedRequestQueue) {
+            return;
+        }
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            releaseRequestQueueCapacity(command);
+        }
+    }
+
+    /**
+     * Returns the number of commands that were written to this connection and did not complete yet. Commands are only
+     * accounted if the request queue is bounded by {@link ClientOptions#getRequestQueueSize()} or
+     * {@link ClientOptions#getRequestQueueBytes()}.
+     *
+     * @return the number of in-flight commands, {@literal 0} if the request queue is unbounded.
+     */
+    @Override
+    public int getInFlightCommands() {
+        return inFlightCommands.get();
+    }
+
+    /**
+     * Returns the estimated number of encoded bytes of commands that were written to this connection and did not complete
+     * yet. Bytes are only accounted if the request queue is bounded by {@link ClientOptions#getRequestQueueBytes()}.
+     *
+     * @return the number of in-flight bytes, {@literal 0} if the request queue is not bounded in bytes.
+     */
+    @Override
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    /**
+     * Enqueue {@code command} without synchronizing on {@link #stateLock} and schedule draining on the event loop. Commands are
+     * only enqueued while the connection is active and commands are flushed automatically. The thread that holds the exclusive
+     * writer lock writes directly so commands issued during activation are not reordered. The event loop writes directly
+     * unless commands are batched automatically.
+     *
+     * @param command the command.
+     * @return {@literal true} if the command was enqueued, {@literal false} to use the synchronized write path.
+     */
+    private boolean writeToPendingWrites(RedisCommand<K, V, ?> command) {
+
+        Channel channel = this.channel;
+
+        if (!autoFlushCommands || channel == null || !isConnected() || exclusiveLockOwner == Thread.currentThread()
+                || (!autoBatch && channel.eventLoop().inEventLoop())) {
+            return false;
+        }
+
+        if (debugEnabled) {
+            logger.debug("{} write() enqueue command {}", logPrefix(), command);
+        }
+
+        pendingWrites.offer(command);
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                channel.eventLoop().execute(drainPendingWritesTask);
+            } catch (RejectedExecutionException e) {
+                drainPendingWrites();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Drain {@link #pendingWrites} and write the commands as one batch. Commands are buffered if the channel became inactive in
+     * the meantime.
+     */
+    private void drainPendingWrites() {
+
+        drainScheduled.set(false);
+
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>();
+        drainPendingWritesTo(commands);
+
+        if (debugEnabled) {
+            logger.debug("{} drainPendingWrites() Writing {} commands", logPrefix(), commands.size());
+        }
+
+        Channel channel = this.channel;
+
+        if (channel != null && isConnected() && channel.isActive()) {
+
+            if (autoBatch) {
+                writeInBatches(channel, commands);
+            } else {
+                writeToChannel(commands);
+                recordBatchSize(commands.size());
+            }
+            return;
+        }
+
+        try {
+            incrementWriters();
+            for (RedisCommand<K, V, ?> pending : commands) {
+                writeToBuffer(pending);
+            }
+        } finally {
+            decrementWriters();
+        }
+    }
+
+    /**
+     * Write {@code commands} and flush after {@link ClientOptions#getMaxBatchSize()} commands, once the transport holds
+     * {@link ClientOptions#getMaxBatchBytes()} pending bytes and after the last command.
+     *
+     * @param channel the channel.
+     * @param commands the commands to write.
+     */
+    private void writeInBatches(Channel channel, List<RedisCommand<K, V, ?>> commands) {
+
+        int batchSize = 0;
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            transportBuffer.add(command);
+            addWriteListener(channel.write(command), command);
+            batchSize++;
+
+            if (batchSize >= maxBatchSize || pendingWriteBytes(channel) >= maxBatchBytes) {
+                channel.flush();
+                recordBatchSize(batchSize);
+                batchSize = 0;
+            }
+        }
+
+        if (batchSize > 0) {
+            channel.flush();
+            recordBatchSize(batchSize);
+        }
+    }
+
+    private static long pendingWriteBytes(Channel channel) {
+
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        return outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0;
+    }
+
+    private void recordBatchSize(int batchSize) {
+
+        if (!clientResources.commandLatencyCollector().isEnabled()) {
+            return;
+        }
+
+        Channel channel = this.channel;
+        SocketAddress remote = channel != null ? channel.remoteAddress() : null;
+
+        if (remote != null) {
+            clientResources.commandLatencyCollector().recordBatchSize(local(channel), remote, batchSize);
+        }
+    }
+
     protected <C extends RedisCommand<K, V, T>, T> void writeToBuffer(C command) {
 
         if (commandBuffer.contains(command) || queue.contains(command)) {
@@ -316,6 +1065,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             if (debugEnabled) {
                 logger.debug("{} writeToBuffer() Completing command {} due to connection error", logPrefix(), command);
             }
+            releaseRequestQueueCapacity(command);
             command.completeExceptionally(connectionError);
 
             return;
@@ -325,15 +1075,20 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     protected <C extends RedisCommand<K, V, T>, T> void writeToChannel(C command, Channel channel) {
+        addWriteListener(writeAndFlush(command), command);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void addWriteListener(ChannelFuture future, RedisCommand<K, V, ?> command) {
 
         if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
-            writeAndFlush(command).addListener(new AtMostOnceWriteListener(command, queue));
+            future.addListener(new AtMostOnceWriteListener(command));
         }
 
         if (reliability == Reliability.AT_LEAST_ONCE) {
             // commands are ok to stay within the queue, reconnect will retrigger them
-            writeAndFlush(command).addListener(WRITE_LOG_LISTENER);
+            future.addListener(WRITE_LOG_LISTENER);
         }
     }
 
@@ -473,15 +1228,21 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.debug("{} flushCommands() Flushing {} commands", logPrefix(), queuedCommands.size());
             }
 
-            if (reliability == Reliability.AT_MOST_ONCE) {
-                // cancel on exceptions and remove from queue, because there is no housekeeping
-                writeAndFlush(queuedCommands).addListener(new AtMostOnceWriteListener(queuedCommands, this.queue));
-            }
+            writeToChannel(queuedCommands);
+        }
+    }
 
-            if (reliability == Reliability.AT_LEAST_ONCE) {
-                // commands are ok to stay within the queue, reconnect will retrigger them
-                writeAndFlush(queuedCommands).addListener(WRITE_LOG_LISTENER);
-            }
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void writeToChannel(List<RedisCommand<K, V, ?>> commands) {
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            writeAndFlush(commands).addListener(new AtMostOnceWriteListener(commands));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            writeAndFlush(commands).addListener(WRITE_LOG_LISTENER);
         }
     }
 
@@ -530,8 +1291,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private void writeSingleCommand(ChannelHandlerContext ctx, RedisCommand<K, V, ?> command, ChannelPromise promise)
             throws Exception {
 
-        if (command.isCancelled()) {
+        if (command.isCancelled() || expire(command)) {
             transportBuffer.remove(command);
+            releaseRequestQueueCapacity(command);
             return;
         }
 
@@ -547,7 +1309,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         boolean cancelledCommands = false;
         for (RedisCommand<K, V, ?> command : commands) {
-            if (command.isCancelled()) {
+            if (command.isCancelled() || expire(command)) {
                 cancelledCommands = true;
                 break;
             }
@@ -559,8 +1321,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
             for (RedisCommand<K, V, ?> command : commands) {
 
-                if (command.isCancelled()) {
+                if (command.isCancelled() || expire(command)) {
                     transportBuffer.remove(command);
+                    releaseRequestQueueCapacity(command);
                     continue;
                 }
 
@@ -585,6 +1348,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
             if (command.getOutput() == null) {
                 // fire&forget commands are excluded from metrics
+                releaseRequestQueueCapacity(command);
                 command.complete();
             } else {
 
@@ -762,6 +1526,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 // Allows to run onConnect commands before executing buffered commands
                 commandBuffer.addAll(queue);
                 queue.removeAll(commandBuffer);
+                drainPendingWritesTo(commandBuffer);
 
             } finally {
                 unlockWritersExclusive();
@@ -769,6 +1534,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         rsm.reset();
+        readSuspended = false;
 
         if (debugEnabled) {
             logger.debug("{} channelInactive() done", logPrefix());
@@ -805,6 +1571,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             }
         }
 
+        releaseRequestQueueCapacity(toCancel);
+
         for (RedisCommand<K, V, ?> cmd : toCancel) {
             if (cmd.getOutput() != null) {
                 cmd.getOutput().setError(message);
@@ -835,9 +1603,34 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             toCancel.addAll(commandBuffer);
             commandBuffer.clear();
         }
+
+        drainPendingWritesTo(toCancel);
         return toCancel;
     }
 
+    /**
+     * Move commands from {@link #pendingWrites} that were not drained yet to {@code target}. {@link #pendingWrites} is a
+     * single-consumer queue that is drained by the event loop and by {@link #reset()}, {@link #close()} and
+     * {@link #initialState()} from application threads. Consumers are serialized so the queue never has concurrent
+     * consumers. Producers are not affected and enqueue without locking.
+     *
+     * @param target the target collection.
+     */
+    protected void drainPendingWritesTo(Collection<RedisCommand<K, V, ?>> target) {
+
+        if (pendingWrites == null) {
+            return;
+        }
+
+        synchronized (pendingWritesConsumerLock) {
+
+            RedisCommand<K, V, ?> command;
+            while ((command = pendingWrites.poll()) != null) {
+                target.add(command);
+            }
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
 
@@ -845,6 +1638,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (!queue.isEmpty()) {
             RedisCommand<K, V, ?> command = queue.poll();
+            releaseRequestQueueCapacity(command);
             if (debugEnabled) {
                 logger.debug("{} Storing exception in {}", logPrefix(), command);
             }
@@ -931,9 +1725,17 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     public void initialState() {
 
         setState(LifecycleState.NOT_CONNECTED);
+        releaseRequestQueueCapacity(queue);
         queue.clear();
+        releaseRequestQueueCapacity(commandBuffer);
         commandBuffer.clear();
 
+        if (pendingWrites != null) {
+            List<RedisCommand<K, V, ?>> pending = new ArrayList<>();
+            drainPendingWritesTo(pending);
+            releaseRequestQueueCapacity(pending);
+        }
+
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
             currentChannel.pipeline().fireUserEventTriggered(new ConnectionEvents.PrepareClose());
@@ -942,6 +1744,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
     }
 
+    /**
+     * Set the {@link Timer} used to expire commands with a deadline. Commands are still dropped before being written once
+     * their deadline has passed if no timer is set.
+     *
+     * @param timer the timer, may be {@literal null}.
+     */
+    public void setTimer(Timer timer) {
+        this.timer = timer;
+    }
+
     @Override
     public void setRedisChannelHandler(RedisChannelHandler<K, V> redisChannelHandler) {
         this.redisChannelHandler = redisChannelHandler;
@@ -974,19 +1786,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         AT_MOST_ONCE, AT_LEAST_ONCE;
     }
 
-    private static class AtMostOnceWriteListener<K, V, T> implements ChannelFutureListener {
+    private class AtMostOnceWriteListener implements ChannelFutureListener {
 
-        private final Collection<RedisCommand<K, V, T>> sentCommands;
-        private final Queue<?> queue;
+        private final Collection<RedisCommand<K, V, ?>> sentCommands;
 
-        @SuppressWarnings({ "unchecked", "rawtypes" })
-        public AtMostOnceWriteListener(RedisCommand<K, V, T> sentCommand, Queue<?> queue) {
-            this((Collection) LettuceLists.newList(sentCommand), queue);
+        public AtMostOnceWriteListener(RedisCommand<K, V, ?> sentCommand) {
+            this(LettuceLists.<RedisCommand<K, V, ?>> newList(sentCommand));
         }
 
-        public AtMostOnceWriteListener(Collection<RedisCommand<K, V, T>> sentCommand, Queue<?> queue) {
+        public AtMostOnceWriteListener(Collection<RedisCommand<K, V, ?>> sentCommand) {
             this.sentCommands = sentCommand;
-            this.queue = queue;
         }
 
         @Override
@@ -999,6 +1808,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 }
 
                 queue.removeAll(sentCommands);
+                releaseRequestQueueCapacity(sentCommands);
             }
         }
     }
@@ -21,8 +21,11 @@ public enum CommandKeyword implements ProtocolKeyword {
 
     public final byte[] bytes;
 
+    final EncodedKeyword encoded;
+
     private CommandKeyword() {
         bytes = name().getBytes(LettuceCharsets.ASCII);
+        encoded = EncodedKeyword.keyword(bytes);
     }
 
     @Override
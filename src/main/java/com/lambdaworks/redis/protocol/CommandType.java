@@ -78,8 +78,11 @@ public enum CommandType implements ProtocolKeyword {
 
     public final byte[] bytes;
 
+    final EncodedKeyword encoded;
+
     private CommandType() {
         bytes = name().getBytes(LettuceCharsets.ASCII);
+        encoded = EncodedKeyword.command(bytes);
     }
 
     @Override
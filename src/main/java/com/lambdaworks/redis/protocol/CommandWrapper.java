@@ -14,13 +14,24 @@ import io.netty.buffer.ByteBuf;
  */
 public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, CompleteableCommand<T>, DecoratedCommand<K, V, T> {
 
-    protected final RedisCommand<K, V, T> command;
-    private final List<Consumer<? super T>> onComplete = new ArrayList<>();
+    protected RedisCommand<K, V, T> command;
+    private List<Consumer<? super T>> onComplete;
 
     public CommandWrapper(RedisCommand<K, V, T> command) {
         this.command = command;
     }
 
+    /**
+     * Wrap {@code command} and drop registered completion callbacks. Allows pooled wrappers to be reused for another command.
+     *
+     * @param command the command to wrap.
+     * @since 4.3
+     */
+    protected void reset(RedisCommand<K, V, T> command) {
+        this.command = command;
+        this.onComplete = null;
+    }
+
     @Override
     public CommandOutput<K, V, T> getOutput() {
         return command.getOutput();
@@ -31,6 +42,10 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
         command.complete();
 
+        if (onComplete == null) {
+            return;
+        }
+
         for (Consumer<? super T> consumer : onComplete) {
             if (getOutput() != null) {
                 consumer.accept(getOutput().get());
@@ -77,6 +92,10 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
     @Override
     public void onComplete(Consumer<? super T> action) {
+        if (onComplete == null) {
+            onComplete = new ArrayList<>();
+        }
+
         onComplete.add(action);
     }
 
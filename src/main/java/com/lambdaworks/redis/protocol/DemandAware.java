@@ -0,0 +1,49 @@
+package com.lambdaworks.redis.protocol;
+
+/**
+ * Interface for components that are aware of the demand of a consumer. A {@link Sink} signals whether its consumer is able to
+ * accept more data. A {@link Source} is notified once the consumer requests more data after the {@link Sink} had no demand.
+ * <p>
+ * {@link CommandHandler} suspends reading from the channel while the reply to a {@link Sink} command is incomplete and the
+ * {@link Sink} has no demand, and resumes reading once the {@link Source} is asked for more data.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface DemandAware {
+
+    /**
+     * A demand-aware sink.
+     */
+    interface Sink {
+
+        /**
+         *
+         * @return {@literal true} if the sink is able to accept more data.
+         */
+        boolean hasDemand();
+
+        /**
+         * Set the {@link Source} to notify once demand is signaled.
+         *
+         * @param source the source, must not be {@literal null}.
+         */
+        void setSource(Source source);
+
+        /**
+         * Remove the {@link Source}.
+         */
+        void removeSource();
+    }
+
+    /**
+     * A data source that is able to continue producing data once demand is signaled.
+     */
+    interface Source {
+
+        /**
+         * Signal demand to the source.
+         */
+        void requestMore();
+    }
+}
@@ -0,0 +1,110 @@
+package com.lambdaworks.redis.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Precomputed RESP representation of a {@link ProtocolKeyword}. Holds the keyword as bulk string ({@code $<len>\r\n<NAME>\r\n})
+ * and optionally the frame headers ({@code *<argc>\r\n$<len>\r\n<NAME>\r\n}) of commands with up to
+ * {@link #CACHED_ARGUMENT_COUNT} arguments so writing the fixed part of a frame is a single bulk copy.
+ * <p>
+ * All segments are stored in one buffer that is neither released nor modified after construction. Segments are copied
+ * using absolute indexes so instances can be shared across threads.
+ * </p>
+ *
+ * @author Mark Paluch
+ */
+final class EncodedKeyword {
+
+    /**
+     * Maximum number of arguments (including the command itself) for which frame headers are cached.
+     */
+    static final int CACHED_ARGUMENT_COUNT = 8;
+
+    private final ByteBuf segments;
+    private final int bulkStringLength;
+    private final int[] headerOffsets;
+    private final int[] headerLengths;
+
+    private EncodedKeyword(byte[] name, boolean frameHeaders) {
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        CommandArgs.BytesArgument.writeBytes(buffer, name);
+        this.bulkStringLength = buffer.readableBytes();
+
+        int headers = frameHeaders ? CACHED_ARGUMENT_COUNT + 1 : 0;
+        this.headerOffsets = new int[headers];
+        this.headerLengths = new int[headers];
+
+        for (int count = 1; count < headers; count++) {
+
+            headerOffsets[count] = buffer.writerIndex();
+
+            buffer.writeByte('*');
+            CommandArgs.IntegerArgument.writeInteger(buffer, count);
+            buffer.writeBytes(CommandArgs.CRLF);
+            CommandArgs.BytesArgument.writeBytes(buffer, name);
+
+            headerLengths[count] = buffer.writerIndex() - headerOffsets[count];
+        }
+
+        this.segments = Unpooled.unreleasableBuffer(buffer);
+    }
+
+    /**
+     * Create the bulk string representation of a keyword.
+     *
+     * @param name the encoded keyword.
+     * @return the {@link EncodedKeyword}.
+     */
+    static EncodedKeyword keyword(byte[] name) {
+        return new EncodedKeyword(name, false);
+    }
+
+    /**
+     * Create the bulk string representation and frame headers of a command.
+     *
+     * @param name the encoded command name.
+     * @return the {@link EncodedKeyword}.
+     */
+    static EncodedKeyword command(byte[] name) {
+        return new EncodedKeyword(name, true);
+    }
+
+    /**
+     * Write the keyword as bulk string.
+     *
+     * @param target the target buffer.
+     */
+    void writeBulkString(ByteBuf target) {
+        target.writeBytes(segments, 0, bulkStringLength);
+    }
+
+    /**
+     * @return number of bytes written by {@link #writeBulkString(ByteBuf)}.
+     */
+    int getBulkStringLength() {
+        return bulkStringLength;
+    }
+
+    /**
+     * Write the frame header of a command with {@code count} arguments (including the command itself) followed by the command
+     * name.
+     *
+     * @param target the target buffer.
+     * @param count the number of arguments.
+     */
+    void writeFrameHeader(ByteBuf target, int count) {
+
+        if (count > 0 && count < headerOffsets.length) {
+            target.writeBytes(segments, headerOffsets[count], headerLengths[count]);
+            return;
+        }
+
+        target.writeByte('*');
+        CommandArgs.IntegerArgument.writeInteger(target, count);
+        target.writeBytes(CommandArgs.CRLF);
+        writeBulkString(target);
+    }
+}
@@ -0,0 +1,380 @@
+package com.lambdaworks.redis.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+
+import io.netty.buffer.AbstractByteBuf;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Reusable read-only view of a region of a {@link ByteBuf}. {@link #wrap(ByteBuf, int, int)} points the view at a region of a
+ * buffer without allocating so a single instance can expose every response element of a decoder. The view shares content and
+ * reference count with the wrapped buffer and is valid until it is pointed at a different region or the wrapped buffer is
+ * discarded or released.
+ * <p>
+ * The view compiles against Netty 4.0 and 4.1: methods that only exist in Netty 4.1 are declared without {@link Override} and
+ * little-endian accessors are derived from their big-endian counterparts.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class ReadOnlyByteBufView extends AbstractByteBuf {
+
+    private ByteBuf buffer;
+    private int adjustment;
+    private int length;
+
+    ReadOnlyByteBufView() {
+        super(0);
+    }
+
+    /**
+     * Point the view at {@code length} bytes of {@code buffer} starting at {@code index}. The view is readable from {@code 0}
+     * to {@code length}.
+     *
+     * @param buffer the buffer to expose.
+     * @param index the start index within {@code buffer}.
+     * @param length the number of bytes.
+     * @return {@code this} view.
+     */
+    ReadOnlyByteBufView wrap(ByteBuf buffer, int index, int length) {
+
+        this.buffer = buffer;
+        this.adjustment = index;
+        this.length = length;
+
+        setIndex(0, length);
+        markReaderIndex();
+        markWriterIndex();
+
+        return this;
+    }
+
+    /**
+     * Drop the reference to the wrapped buffer.
+     */
+    void detach() {
+        this.buffer = null;
+        this.adjustment = 0;
+        this.length = 0;
+        setIndex(0, 0);
+    }
+
+    @Override
+    public ByteBuf unwrap() {
+        return buffer;
+    }
+
+    @Override
+    public int refCnt() {
+        return buffer.refCnt();
+    }
+
+    @Override
+    public ByteBuf retain() {
+        buffer.retain();
+        return this;
+    }
+
+    @Override
+    public ByteBuf retain(int increment) {
+        buffer.retain(increment);
+        return this;
+    }
+
+    public ByteBuf touch() {
+        return this;
+    }
+
+    public ByteBuf touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return buffer.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return buffer.release(decrement);
+    }
+
+    @Override
+    public ByteBufAllocator alloc() {
+        return buffer.alloc();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ByteOrder order() {
+        return buffer.order();
+    }
+
+    @Override
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable() {
+        return false;
+    }
+
+    @Override
+    public boolean isWritable(int numBytes) {
+        return false;
+    }
+
+    @Override
+    public int capacity() {
+        return length;
+    }
+
+    @Override
+    public ByteBuf capacity(int newCapacity) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public boolean hasArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] array() {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public int arrayOffset() {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public boolean hasMemoryAddress() {
+        return false;
+    }
+
+    @Override
+    public long memoryAddress() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ByteBuf discardReadBytes() {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    protected byte _getByte(int index) {
+        return buffer.getByte(index + adjustment);
+    }
+
+    @Override
+    protected short _getShort(int index) {
+        return buffer.getShort(index + adjustment);
+    }
+
+    protected short _getShortLE(int index) {
+        return Short.reverseBytes(_getShort(index));
+    }
+
+    @Override
+    protected int _getUnsignedMedium(int index) {
+        return buffer.getUnsignedMedium(index + adjustment);
+    }
+
+    protected int _getUnsignedMediumLE(int index) {
+        return (_getByte(index) & 0xff) | (_getByte(index + 1) & 0xff) << 8 | (_getByte(index + 2) & 0xff) << 16;
+    }
+
+    @Override
+    protected int _getInt(int index) {
+        return buffer.getInt(index + adjustment);
+    }
+
+    protected int _getIntLE(int index) {
+        return Integer.reverseBytes(_getInt(index));
+    }
+
+    @Override
+    protected long _getLong(int index) {
+        return buffer.getLong(index + adjustment);
+    }
+
+    protected long _getLongLE(int index) {
+        return Long.reverseBytes(_getLong(index));
+    }
+
+    @Override
+    public ByteBuf getBytes(int index, ByteBuf dst, int dstIndex, int length) {
+        checkIndex(index, length);
+        buffer.getBytes(index + adjustment, dst, dstIndex, length);
+        return this;
+    }
+
+    @Override
+    public ByteBuf getBytes(int index, byte[] dst, int dstIndex, int length) {
+        checkIndex(index, length);
+        buffer.getBytes(index + adjustment, dst, dstIndex, length);
+        return this;
+    }
+
+    @Override
+    public ByteBuf getBytes(int index, ByteBuffer dst) {
+        checkIndex(index, dst.remaining());
+        buffer.getBytes(index + adjustment, dst);
+        return this;
+    }
+
+    @Override
+    public ByteBuf getBytes(int index, OutputStream out, int length) throws IOException {
+        checkIndex(index, length);
+        buffer.getBytes(index + adjustment, out, length);
+        return this;
+    }
+
+    @Override
+    public int getBytes(int index, GatheringByteChannel out, int length) throws IOException {
+        checkIndex(index, length);
+        return buffer.getBytes(index + adjustment, out, length);
+    }
+
+    public int getBytes(int index, FileChannel out, long position, int length) throws IOException {
+        checkIndex(index, length);
+        return out.write(nioBuffer(index, length), position);
+    }
+
+    @Override
+    protected void _setByte(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    protected void _setShort(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    protected void _setShortLE(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    protected void _setMedium(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    protected void _setMediumLE(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    protected void _setInt(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    protected void _setIntLE(int index, int value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    protected void _setLong(int index, long value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    protected void _setLongLE(int index, long value) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public ByteBuf setBytes(int index, ByteBuf src, int srcIndex, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public ByteBuf setBytes(int index, byte[] src, int srcIndex, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public ByteBuf setBytes(int index, ByteBuffer src) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public int setBytes(int index, InputStream in, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public int setBytes(int index, ScatteringByteChannel in, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public int setBytes(int index, FileChannel in, long position, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public ByteBuf copy(int index, int length) {
+        checkIndex(index, length);
+        return buffer.copy(index + adjustment, length);
+    }
+
+    @Override
+    public ByteBuf slice(int index, int length) {
+        checkIndex(index, length);
+        return new ReadOnlyByteBufView().wrap(buffer, index + adjustment, length);
+    }
+
+    @Override
+    public ByteBuf duplicate() {
+
+        ReadOnlyByteBufView duplicate = new ReadOnlyByteBufView().wrap(buffer, adjustment, length);
+        duplicate.setIndex(readerIndex(), writerIndex());
+        return duplicate;
+    }
+
+    @Override
+    public int nioBufferCount() {
+        return buffer.nioBufferCount();
+    }
+
+    @Override
+    public ByteBuffer nioBuffer(int index, int length) {
+        checkIndex(index, length);
+        return buffer.nioBuffer(index + adjustment, length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public ByteBuffer internalNioBuffer(int index, int length) {
+        return nioBuffer(index, length);
+    }
+
+    @Override
+    public ByteBuffer[] nioBuffers(int index, int length) {
+
+        checkIndex(index, length);
+
+        ByteBuffer[] buffers = buffer.nioBuffers(index + adjustment, length);
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = buffers[i].asReadOnlyBuffer();
+        }
+
+        return buffers;
+    }
+}
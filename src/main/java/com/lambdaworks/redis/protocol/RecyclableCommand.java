@@ -0,0 +1,97 @@
+package com.lambdaworks.redis.protocol;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.output.CommandOutput;
+
+import io.netty.util.Recycler;
+
+/**
+ * A {@link Command} that is obtained from a thread-local pool. A recyclable command must be {@link #recycle() recycled} only
+ * once its lifecycle ended within the client, i.e. the command completed, its result was retrieved and no other component
+ * holds a reference to it. Pooled {@link CommandArgs} that were created for this command are recycled along with the command.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Command output type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RecyclableCommand<K, V, T> extends Command<K, V, T> {
+
+    private static final Recycler<RecyclableCommand<?, ?, ?>> RECYCLER = new Recycler<RecyclableCommand<?, ?, ?>>() {
+        @Override
+        @SuppressWarnings("rawtypes")
+        protected RecyclableCommand<?, ?, ?> newObject(Handle handle) {
+            return new RecyclableCommand<>(handle);
+        }
+    };
+
+    @SuppressWarnings("rawtypes")
+    private final Recycler.Handle handle;
+
+    @SuppressWarnings("rawtypes")
+    private RecyclableCommand(Recycler.Handle handle) {
+        super(CommandType.PING, null);
+        this.handle = handle;
+    }
+
+    /**
+     * Obtain a pooled command with the supplied type, output and args.
+     *
+     * @param type Command type, must not be {@literal null}.
+     * @param output Command output, can be {@literal null}.
+     * @param args Command args, can be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Command output type.
+     * @return the command.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V, T> RecyclableCommand<K, V, T> newInstance(ProtocolKeyword type, CommandOutput<K, V, T> output,
+            CommandArgs<K, V> args) {
+
+        LettuceAssert.notNull(type, "Command type must not be null");
+
+        RecyclableCommand<K, V, T> command = (RecyclableCommand<K, V, T>) RECYCLER.get();
+        command.reset(type, output, args);
+        return command;
+    }
+
+    /**
+     * Return the {@link RecyclableCommand} backing {@code future} to the pool once {@code future} completed. Callers must no
+     * longer hold a reference to {@code future}, i.e. its result was retrieved and the future was not exposed. Completion is
+     * read from the future and not from the command as the command state is not guaranteed to be visible outside the I/O
+     * thread. Futures that are not completed or not backed by a {@link RecyclableCommand} are left untouched.
+     *
+     * @param future the future, can be {@literal null}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static void recycle(RedisFuture<?> future) {
+
+        if (!(future instanceof RedisCommand) || !future.isDone()) {
+            return;
+        }
+
+        RedisCommand<?, ?, ?> command = CommandWrapper.unwrap((RedisCommand) future);
+        if (command instanceof RecyclableCommand) {
+            ((RecyclableCommand<?, ?, ?>) command).recycle();
+        }
+    }
+
+    /**
+     * Return this command and its pooled {@link CommandArgs} to the pool. The command must not be used after recycling.
+     */
+    @SuppressWarnings({ "unchecked", "deprecation" })
+    public void recycle() {
+
+        CommandArgs<K, V> args = this.args;
+        reset(CommandType.PING, null, null);
+
+        if (args != null) {
+            args.recycle();
+        }
+
+        RECYCLER.recycle(this, handle);
+    }
+}
@@ -6,10 +6,10 @@ import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.State.Type.*;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.output.ChunkedOutput;
 import com.lambdaworks.redis.output.CommandOutput;
 
 import io.netty.buffer.ByteBuf;
@@ -40,12 +40,21 @@ public class RedisStateMachine<K, V> {
 
         Type type = null;
         int count = -1;
+
+        /**
+         * Reset the state so it can be reused for the next response element.
+         */
+        void reset() {
+            this.type = null;
+            this.count = -1;
+        }
     }
 
     private final State[] stack = new State[32];
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final LongProcessor longProcessor;
     private final ByteBuf responseElementBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(1024);
+    private final ReadOnlyByteBufView responseElementView = new ReadOnlyByteBufView();
     private final AtomicBoolean closed = new AtomicBoolean();
 
     private int stackElements;
@@ -55,6 +64,10 @@ public class RedisStateMachine<K, V> {
      */
     public RedisStateMachine() {
 
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new State();
+        }
+
         Version nettyBufferVersion = Version.identify().get("netty-buffer");
 
         boolean useNetty40ByteBufCompatibility = false;
@@ -105,7 +118,7 @@ public class RedisStateMachine<K, V> {
         }
 
         if (isEmpty(stack)) {
-            add(stack, new State());
+            push(stack);
         }
 
         if (output == null) {
@@ -159,6 +172,12 @@ public class RedisStateMachine<K, V> {
                         state.type = BYTES;
                         state.count = length + 2;
                         buffer.markReaderIndex();
+
+                        if (output instanceof ChunkedOutput) {
+                            safeStartChunks((ChunkedOutput) output, length, command);
+                        } else {
+                            prepareResponseElementBuffer(length);
+                        }
                         continue loop;
                     }
                     break;
@@ -178,11 +197,25 @@ public class RedisStateMachine<K, V> {
                     }
 
                     state.count--;
-                    addFirst(stack, new State());
+                    push(stack);
 
                     continue loop;
                 case BYTES:
-                    if ((bytes = readBytes(buffer, state.count)) == null) {
+                    if (output instanceof ChunkedOutput) {
+                        if (!readChunks(buffer, state, (ChunkedOutput) output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
+
+                    if (responseElementBuffer.writerIndex() == 0 && buffer.readableBytes() >= state.count) {
+                        ByteBuf view = readBytesView(buffer, state.count - 2);
+                        buffer.skipBytes(2);
+                        safeSetBytes(output, view, command);
+                        break;
+                    }
+
+                    if ((bytes = readBytes(buffer, state)) == null) {
                         break loop;
                     }
                     safeSet(output, bytes, command);
@@ -208,7 +241,10 @@ public class RedisStateMachine<K, V> {
      * Reset the state machine.
      */
     public void reset() {
-        Arrays.fill(stack, null);
+
+        for (int i = 0; i < stackElements; i++) {
+            stack[i].reset();
+        }
         stackElements = 0;
     }
 
@@ -218,6 +254,7 @@ public class RedisStateMachine<K, V> {
     public void close() {
         if(closed.compareAndSet(false, true)) {
             responseElementBuffer.release();
+            responseElementView.detach();
         }
     }
 
@@ -274,44 +311,106 @@ public class RedisStateMachine<K, V> {
         return bytes;
     }
 
-    private ByteBuffer readBytes(ByteBuf buffer, int count) {
+    private void prepareResponseElementBuffer(int size) {
 
-        ByteBuffer bytes = null;
+        responseElementBuffer.clear();
 
-        if (buffer.readableBytes() >= count) {
-            responseElementBuffer.clear();
+        if (responseElementBuffer.capacity() < size) {
+            responseElementBuffer.capacity(size);
+        }
+    }
 
-            int size = count - 2;
+    /**
+     * Read the bulk string content of {@code state}. Available bytes are consumed even if the bulk string is not complete yet
+     * so a bulk string that spans multiple reads does not need to be gathered by the caller. {@link State#count} tracks the
+     * remaining number of bytes including the trailing {@code CRLF}.
+     *
+     * @param buffer the buffer to read from.
+     * @param state the current state.
+     * @return the bulk string content or {@literal null} if the bulk string is incomplete.
+     */
+    private ByteBuffer readBytes(ByteBuf buffer, State state) {
 
-            if (responseElementBuffer.capacity() < size) {
-                responseElementBuffer.capacity(size);
-            }
-            buffer.readBytes(responseElementBuffer, size);
+        int remaining = state.count - 2;
 
-            bytes = responseElementBuffer.internalNioBuffer(0, size);
-            buffer.readerIndex(buffer.readerIndex() + 2);
+        if (remaining > 0) {
+
+            int length = Math.min(remaining, buffer.readableBytes());
+            buffer.readBytes(responseElementBuffer, length);
+            state.count -= length;
+            remaining -= length;
         }
-        return bytes;
+
+        if (remaining > 0 || buffer.readableBytes() < 2) {
+            return null;
+        }
+
+        buffer.skipBytes(2);
+        return responseElementBuffer.internalNioBuffer(0, responseElementBuffer.writerIndex());
+    }
+
+    /**
+     * Forward the available bulk string content of {@code state} to a {@link ChunkedOutput} without gathering it.
+     * {@link State#count} tracks the remaining number of bytes including the trailing {@code CRLF}.
+     *
+     * @param buffer the buffer to read from.
+     * @param state the current state.
+     * @param output the output receiving the chunks.
+     * @param command the command.
+     * @return {@literal true} if the bulk string is complete.
+     */
+    private boolean readChunks(ByteBuf buffer, State state, ChunkedOutput output, RedisCommand<K, V, ?> command) {
+
+        int remaining = state.count - 2;
+
+        if (remaining > 0 && buffer.isReadable()) {
+
+            int length = Math.min(remaining, buffer.readableBytes());
+            safeSetChunk(output, readBytesView(buffer, length), command);
+            state.count -= length;
+            remaining -= length;
+        }
+
+        if (remaining > 0 || buffer.readableBytes() < 2) {
+            return false;
+        }
+
+        buffer.skipBytes(2);
+        return true;
+    }
+
+    /**
+     * Expose {@code length} bytes of {@code buffer} as read-only view without copying its content. The view is reused for
+     * every response element and is only valid until the next response element is read.
+     *
+     * @param buffer the buffer to read from.
+     * @param length the number of bytes.
+     * @return read-only view of the content.
+     */
+    private ByteBuf readBytesView(ByteBuf buffer, int length) {
+
+        int index = buffer.readerIndex();
+        buffer.skipBytes(length);
+
+        return responseElementView.wrap(buffer, index, length);
     }
 
     /**
-     * Remove the head element from the stack.
+     * Remove the head element from the stack. The {@link State} slot is retained for reuse.
      *
      * @param stack
      */
     private void remove(State[] stack) {
-        stack[stackElements - 1] = null;
         stackElements--;
     }
 
     /**
-     * Add the element to the stack to be the new head element.
+     * Reuse the next preallocated {@link State} slot to be the new head element.
      *
      * @param stack
-     * @param state
      */
-    private void addFirst(State[] stack, State state) {
-        stack[stackElements++] = state;
+    private void push(State[] stack) {
+        stack[stackElements++].reset();
     }
 
     /**
@@ -324,22 +423,6 @@ public class RedisStateMachine<K, V> {
         return stack[stackElements - 1];
     }
 
-    /**
-     * Add a state as tail element. This method shifts the whole stack if the stack is not empty.
-     *
-     * @param stack
-     * @param state
-     */
-    private void add(State[] stack, State state) {
-
-        if (stackElements != 0) {
-            System.arraycopy(stack, 0, stack, 1, stackElements);
-        }
-
-        stack[0] = state;
-        stackElements++;
-    }
-
     /**
      * @param stack
      * @return number of stack elements.
@@ -388,6 +471,54 @@ public class RedisStateMachine<K, V> {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setBytes(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     */
+    protected void safeSetBytes(CommandOutput<K, V, ?> output, ByteBuf bytes, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setBytes(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Safely calls {@link ChunkedOutput#startChunks(int)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param length
+     * @param command
+     */
+    protected void safeStartChunks(ChunkedOutput output, int length, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.startChunks(length);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Safely calls {@link ChunkedOutput#setChunk(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param chunk
+     * @param command
+     */
+    protected void safeSetChunk(ChunkedOutput output, ByteBuf chunk, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setChunk(chunk);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#multi(int)}. Completes a command exceptionally in case an exception occurs.
      *
@@ -1,7 +1,5 @@
 package com.lambdaworks.redis.protocol;
 
-import java.util.concurrent.CountDownLatch;
-
 /**
  * A wrapper for commands within a {@literal MULTI} transaction. Commands triggered within a transaction will be completed
  * twice. Once on the submission and once during {@literal EXEC}. Only the second completion will complete the underlying
@@ -17,8 +15,7 @@ import java.util.concurrent.CountDownLatch;
 public class TransactionalCommand<K, V, T> extends AsyncCommand<K, V, T> implements RedisCommand<K, V, T> {
 
     public TransactionalCommand(RedisCommand<K, V, T> command) {
-        super(command);
-        latch = new CountDownLatch(2);
+        super(command, 2);
     }
 
 }
@@ -0,0 +1,22 @@
+package com.lambdaworks.redis.protocol;
+
+/**
+ * Interface to items that expire at a deadline. Deadlines are expressed in {@link System#nanoTime()} units.
+ *
+ * @author Mark Paluch
+ */
+interface WithDeadline {
+
+    /**
+     * Sets the deadline of the item.
+     *
+     * @param deadline the deadline in {@link System#nanoTime()} units, {@literal 0} to clear the deadline.
+     */
+    void deadline(long deadline);
+
+    /**
+     *
+     * @return the deadline in {@link System#nanoTime()} units, {@literal 0} if the item has no deadline.
+     */
+    long getDeadline();
+}
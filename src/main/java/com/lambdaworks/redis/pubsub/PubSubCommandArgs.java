@@ -29,4 +29,13 @@ class PubSubCommandArgs<K, V> extends CommandArgs<K, V> {
     public ByteBuffer getFirstEncodedKey() {
         return null;
     }
+
+    /**
+     *
+     * @return always {@literal -1}.
+     */
+    @Override
+    public int getFirstKeySlot() {
+        return -1;
+    }
 }
@@ -51,8 +51,10 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
             if (!rsm.decode(buffer, currentOutput)) {
                 return;
             }
-            queue.poll().complete();
-            buffer.discardReadBytes();
+            RedisCommand<K, V, ?> command = queue.poll();
+            releaseRequestQueueCapacity(command);
+            command.complete();
+            discardReadBytes(buffer);
             if (currentOutput instanceof PubSubOutput) {
                 ctx.fireChannelRead(currentOutput);
             }
@@ -61,7 +63,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
         while (rsm.decode(buffer, output)) {
             ctx.fireChannelRead(output);
             output = new PubSubOutput<K, V, V>(codec);
-            buffer.discardReadBytes();
+            discardReadBytes(buffer);
         }
     }
 
@@ -0,0 +1,63 @@
+package com.lambdaworks.redis.pubsub;
+
+import com.lambdaworks.redis.RedisCommandsImpl;
+import com.lambdaworks.redis.pubsub.api.sync.RedisPubSubCommands;
+
+/**
+ * A synchronous and thread-safe Redis PubSub API.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisPubSubCommandsImpl<K, V> extends RedisCommandsImpl<K, V> implements RedisPubSubCommands<K, V> {
+
+    private final RedisPubSubAsyncCommandsImpl<K, V> pubSubAsync;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection.
+     * @param async the asynchronous API of {@code connection}.
+     */
+    public RedisPubSubCommandsImpl(StatefulRedisPubSubConnection<K, V> connection, RedisPubSubAsyncCommandsImpl<K, V> async) {
+        super(connection, async);
+        this.pubSubAsync = async;
+    }
+
+    @Override
+    public void addListener(RedisPubSubListener<K, V> listener) {
+        pubSubAsync.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(RedisPubSubListener<K, V> listener) {
+        pubSubAsync.removeListener(listener);
+    }
+
+    @Override
+    public void psubscribe(K... patterns) {
+        await(pubSubAsync.psubscribe(patterns));
+    }
+
+    @Override
+    public void punsubscribe(K... patterns) {
+        await(pubSubAsync.punsubscribe(patterns));
+    }
+
+    @Override
+    public void subscribe(K... channels) {
+        await(pubSubAsync.subscribe(channels));
+    }
+
+    @Override
+    public void unsubscribe(K... channels) {
+        await(pubSubAsync.unsubscribe(channels));
+    }
+
+    @Override
+    public StatefulRedisPubSubConnection<K, V> getStatefulConnection() {
+        return (StatefulRedisPubSubConnection<K, V>) connection;
+    }
+}
@@ -91,7 +91,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
 
     @Override
     protected RedisPubSubCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisConnection.class, RedisClusterConnection.class, RedisPubSubCommands.class);
+        return new RedisPubSubCommandsImpl<>(this, (RedisPubSubAsyncCommandsImpl<K, V>) async);
     }
 
     @Override
@@ -0,0 +1,68 @@
+package com.lambdaworks.redis.resource;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Base class for await strategies and factory class to create particular instances. An {@link AwaitStrategy} controls how a
+ * thread waits for the completion of a command, for example when using the synchronous API.
+ * <p>
+ * Await strategies are stateless instances that can be shared amongst multiple users (such as connections).
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ * @see DefaultClientResources.Builder#awaitStrategy(AwaitStrategy)
+ */
+public abstract class AwaitStrategy {
+
+    private static final long DEFAULT_SPIN_TIME_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Wait up to the specified time for {@code future} to complete. Implementations return as soon as the future completes,
+     * regardless whether it completed successfully, exceptionally or by cancellation.
+     *
+     * @param future the future to wait for.
+     * @param timeout maximum time to wait.
+     * @param unit unit of time for the timeout.
+     * @return {@literal true} if the future completed within the timeout.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     */
+    public abstract boolean await(Future<?> future, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Creates a new {@link AwaitStrategy} that parks the waiting thread until the future completes.
+     *
+     * @return a new instance of a parking {@link AwaitStrategy}.
+     */
+    public static AwaitStrategy park() {
+        return ParkingAwaitStrategy.INSTANCE;
+    }
+
+    /**
+     * Creates a new {@link AwaitStrategy} that busy-spins for up to {@literal 50 MICROSECONDS} before parking the waiting
+     * thread. Spinning trades CPU time for lower latency when replies arrive within the spin time, such as over loopback or
+     * in the same network segment.
+     *
+     * @return a new instance of a spin-then-park {@link AwaitStrategy}.
+     */
+    public static AwaitStrategy spinThenPark() {
+        return new SpinThenParkAwaitStrategy(DEFAULT_SPIN_TIME_NS);
+    }
+
+    /**
+     * Creates a new {@link AwaitStrategy} that busy-spins for up to {@code spinTime} before parking the waiting thread.
+     *
+     * @param spinTime the maximum time to spin, must be greater or equal to {@literal 0}.
+     * @param unit the unit of {@code spinTime}, must not be {@literal null}.
+     * @return a new instance of a spin-then-park {@link AwaitStrategy}.
+     */
+    public static AwaitStrategy spinThenPark(long spinTime, TimeUnit unit) {
+
+        LettuceAssert.isTrue(spinTime >= 0, "Spin time must be greater or equal to 0");
+        LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+        return new SpinThenParkAwaitStrategy(unit.toNanos(spinTime));
+    }
+}
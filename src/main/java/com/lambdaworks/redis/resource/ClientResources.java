@@ -120,4 +120,14 @@ public interface ClientResources {
      * @return the reconnect {@link Delay}.
      */
     Delay reconnectDelay();
+
+    /**
+     * Returns the {@link AwaitStrategy} used to wait for command completion. Defaults to {@link AwaitStrategy#park()}.
+     *
+     * @return the {@link AwaitStrategy}.
+     * @since 4.3
+     */
+    default AwaitStrategy awaitStrategy() {
+        return AwaitStrategy.park();
+    }
 }
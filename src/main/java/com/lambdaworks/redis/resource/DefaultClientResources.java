@@ -41,6 +41,7 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * <li>a {@code commandLatencyCollector} which is a provided instance of
  * {@link com.lambdaworks.redis.metrics.CommandLatencyCollector}.</li>
  * <li>a {@code dnsResolver} which is a provided instance of {@link DnsResolver}.</li>
+ * <li>an {@code awaitStrategy} which is a provided instance of {@link AwaitStrategy}.</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -80,6 +81,7 @@ public class DefaultClientResources implements ClientResources {
     private final MetricEventPublisher metricEventPublisher;
     private final DnsResolver dnsResolver;
     private final Supplier<Delay> reconnectDelay;
+    private final AwaitStrategy awaitStrategy;
 
     private volatile boolean shutdownCalled = false;
 
@@ -161,6 +163,7 @@ public class DefaultClientResources implements ClientResources {
         }
 
         reconnectDelay = builder.reconnectDelay;
+        awaitStrategy = builder.awaitStrategy;
     }
 
     /**
@@ -196,6 +199,7 @@ public class DefaultClientResources implements ClientResources {
         private EventPublisherOptions commandLatencyPublisherOptions = DefaultEventPublisherOptions.create();
         private DnsResolver dnsResolver = DnsResolvers.JVM_DEFAULT;
         private Supplier<Delay> reconnectDelay = DEFAULT_RECONNECT_DELAY;
+        private AwaitStrategy awaitStrategy = AwaitStrategy.park();
 
         /**
          * @deprecated Use {@link DefaultClientResources#builder()}
@@ -347,6 +351,22 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link AwaitStrategy} to wait for command completion, for example when using the synchronous API. Defaults
+         * to {@link AwaitStrategy#park()}. Use {@link AwaitStrategy#spinThenPark()} to reduce latency of synchronous calls for
+         * the cost of CPU time.
+         *
+         * @param awaitStrategy the await strategy, must not be {@literal null}.
+         * @return this
+         */
+        public Builder awaitStrategy(AwaitStrategy awaitStrategy) {
+
+            LettuceAssert.notNull(awaitStrategy, "AwaitStrategy must not be null");
+
+            this.awaitStrategy = awaitStrategy;
+            return this;
+        }
+
         /**
          *
          * @return a new instance of {@link DefaultClientResources}.
@@ -477,4 +497,9 @@ public class DefaultClientResources implements ClientResources {
     public Delay reconnectDelay() {
         return reconnectDelay.get();
     }
+
+    @Override
+    public AwaitStrategy awaitStrategy() {
+        return awaitStrategy;
+    }
 }
@@ -0,0 +1,35 @@
+package com.lambdaworks.redis.resource;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link AwaitStrategy} that parks the waiting thread until the future completes.
+ *
+ * @author Mark Paluch
+ */
+class ParkingAwaitStrategy extends AwaitStrategy {
+
+    static final ParkingAwaitStrategy INSTANCE = new ParkingAwaitStrategy();
+
+    @Override
+    public boolean await(Future<?> future, long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (future.isDone()) {
+            return true;
+        }
+
+        try {
+            future.get(timeout, unit);
+        } catch (ExecutionException | CancellationException e) {
+            // completed nonetheless
+        } catch (TimeoutException e) {
+            return false;
+        }
+
+        return true;
+    }
+}
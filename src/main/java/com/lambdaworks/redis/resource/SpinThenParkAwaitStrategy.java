@@ -0,0 +1,46 @@
+package com.lambdaworks.redis.resource;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AwaitStrategy} that busy-spins for a limited time before it parks the waiting thread. Spinning is disabled on
+ * uniprocessors because the spinning thread would delay the thread that completes the future.
+ *
+ * @author Mark Paluch
+ */
+class SpinThenParkAwaitStrategy extends AwaitStrategy {
+
+    private static final boolean MULTIPROCESSOR = Runtime.getRuntime().availableProcessors() > 1;
+
+    private final long spinTimeNs;
+
+    SpinThenParkAwaitStrategy(long spinTimeNs) {
+        this.spinTimeNs = MULTIPROCESSOR ? spinTimeNs : 0;
+    }
+
+    @Override
+    public boolean await(Future<?> future, long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (future.isDone()) {
+            return true;
+        }
+
+        long timeoutNs = unit.toNanos(timeout);
+        long start = System.nanoTime();
+        long spinNs = Math.min(spinTimeNs, timeoutNs);
+
+        while (System.nanoTime() - start < spinNs) {
+
+            if (future.isDone()) {
+                return true;
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        return ParkingAwaitStrategy.INSTANCE.await(future, timeoutNs - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,107 @@
+package com.lambdaworks.redis.sentinel;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.sentinel.api.StatefulRedisSentinelConnection;
+import com.lambdaworks.redis.sentinel.api.sync.RedisSentinelCommands;
+
+/**
+ * Synchronous executed commands. Commands are invoked on {@link RedisSentinelAsyncCommandsImpl} and awaited using
+ * {@link #await(RedisFuture)}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @generated by com.lambdaworks.apigenerator.CreateSyncApiImplementation
+ */
+public abstract class AbstractRedisSentinelCommands<K, V> implements RedisSentinelCommands<K, V> {
+
+    protected final RedisSentinelAsyncCommandsImpl<K, V> async;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param async the asynchronous API to invoke commands on.
+     */
+    protected AbstractRedisSentinelCommands(RedisSentinelAsyncCommandsImpl<K, V> async) {
+        this.async = async;
+    }
+
+    /**
+     * Await the result of a command.
+     *
+     * @param future the command future.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    protected abstract <T> T await(RedisFuture<T> future);
+
+    @Override
+    public SocketAddress getMasterAddrByName(K key) {
+        return await(async.getMasterAddrByName(key));
+    }
+
+    @Override
+    public List<Map<K, V>> masters() {
+        return await(async.masters());
+    }
+
+    @Override
+    public Map<K, V> master(K key) {
+        return await(async.master(key));
+    }
+
+    @Override
+    public List<Map<K, V>> slaves(K key) {
+        return await(async.slaves(key));
+    }
+
+    @Override
+    public Long reset(K key) {
+        return await(async.reset(key));
+    }
+
+    @Override
+    public String failover(K key) {
+        return await(async.failover(key));
+    }
+
+    @Override
+    public String monitor(K key, String ip, int port, int quorum) {
+        return await(async.monitor(key, ip, port, quorum));
+    }
+
+    @Override
+    public String set(K key, String option, V value) {
+        return await(async.set(key, option, value));
+    }
+
+    @Override
+    public String remove(K key) {
+        return await(async.remove(key));
+    }
+
+    @Override
+    public String ping() {
+        return await(async.ping());
+    }
+
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return async.isOpen();
+    }
+
+    @Override
+    public StatefulRedisSentinelConnection<K, V> getStatefulConnection() {
+        return async.getStatefulConnection();
+    }
+}
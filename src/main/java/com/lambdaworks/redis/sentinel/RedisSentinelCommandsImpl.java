@@ -0,0 +1,34 @@
+package com.lambdaworks.redis.sentinel;
+
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulConnection;
+
+/**
+ * A synchronous and thread-safe API for a Redis Sentinel connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisSentinelCommandsImpl<K, V> extends AbstractRedisSentinelCommands<K, V> {
+
+    private final StatefulConnection<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection.
+     * @param async the asynchronous API of {@code connection}.
+     */
+    public RedisSentinelCommandsImpl(StatefulConnection<K, V> connection, RedisSentinelAsyncCommandsImpl<K, V> async) {
+        super(async);
+        this.connection = connection;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+}
@@ -29,8 +29,9 @@ public class StatefulRedisSentinelConnectionImpl<K, V> extends RedisChannelHandl
         super(writer, timeout, unit);
 
         this.codec = codec;
-        this.async = new RedisSentinelAsyncCommandsImpl<>(this, codec);
-        this.sync = syncHandler(async, RedisSentinelCommands.class);
+        RedisSentinelAsyncCommandsImpl<K, V> async = new RedisSentinelAsyncCommandsImpl<>(this, codec);
+        this.async = async;
+        this.sync = new RedisSentinelCommandsImpl<>(this, async);
         this.reactive = new RedisSentinelReactiveCommandsImpl<>(this, codec);
     }
 
@@ -0,0 +1,83 @@
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Asynchronous connection pool support for {@link BoundedAsyncPool}. Connection pool creation requires a {@link Supplier} that
+ * connects asynchronously to Redis. Acquiring a connection does not block the calling thread which allows using pooled
+ * connections from event loop threads or reactive code that require exclusive access to a connection, for example for
+ * transactions or blocking commands. The pool can allocate either wrapped or direct connections.
+ * <ul>
+ * <li>Wrapped instances will return the connection back to the pool when called {@link StatefulConnection#close()}.</li>
+ * <li>Regular connections need to be returned to the pool with {@link AsyncPool#release(Object)}</li>
+ * </ul>
+ *
+ * <h2>Example usage</h2>
+ *
+ * <pre>
+ * // application initialization
+ * RedisClient client = RedisClient.create();
+ * BoundedAsyncPool&lt;StatefulRedisConnection&lt;String, String&gt;&gt; pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+ *         () -&gt; client.connectStatefulAsync(StringCodec.UTF8, RedisURI.create(host, port)), BoundedPoolConfig.create());
+ *
+ * // executing work
+ * CompletionStage&lt;String&gt; result = pool.acquire().thenCompose(connection -&gt; {
+ *     return connection.async().set("key", "value").whenComplete((s, throwable) -&gt; connection.close());
+ * });
+ *
+ * // terminating
+ * pool.close();
+ * client.shutdown();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public abstract class AsyncConnectionPoolSupport {
+
+    private AsyncConnectionPoolSupport() {
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier}. Allocated instances are wrapped and must not be
+     * returned with {@link AsyncPool#release(Object)}. The pool is pre-warmed in the background to
+     * {@link BoundedPoolConfig#getMinIdle()} connections.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<? extends CompletionStage<T>> connectionSupplier, BoundedPoolConfig config) {
+        return createBoundedObjectPool(connectionSupplier, config, true);
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier}. The pool is pre-warmed in the background to
+     * {@link BoundedPoolConfig#getMinIdle()} connections.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param wrapConnections {@literal false} to return direct connections that need to be returned to the pool using
+     *        {@link AsyncPool#release(Object)}. {@literal true} to return wrapped connection that are returned to the pool
+     *        when invoking {@link StatefulConnection#close()}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<? extends CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        BoundedAsyncPool<T> pool = new BoundedAsyncPool<>(connectionSupplier, config, wrapConnections);
+        pool.createIdle();
+
+        return pool;
+    }
+}
@@ -0,0 +1,43 @@
+package com.lambdaworks.redis.support;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface declaring non-blocking object pool methods. Acquiring and releasing objects does not block the calling thread, so
+ * pools can be used from event loop threads and reactive code.
+ *
+ * @param <T> pooled object type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface AsyncPool<T> extends Closeable {
+
+    /**
+     * Acquire an object from this pool. The returned future completes with an idle or newly created object, or exceptionally
+     * if the object cannot be created, the pool is exhausted and its wait queue is full, or the pool is closed.
+     *
+     * @return future that is completed with the acquired object.
+     */
+    CompletableFuture<T> acquire();
+
+    /**
+     * Release an object back to this pool. The object must have been acquired from this pool.
+     *
+     * @param object the object to release, must not be {@literal null}.
+     * @return future that is completed once the object was returned to the pool or destroyed.
+     */
+    CompletableFuture<Void> release(T object);
+
+    /**
+     * Destroy all idle objects. Objects in use are not affected.
+     */
+    void clear();
+
+    /**
+     * Close this pool. Idle objects are destroyed and pending acquisitions are completed exceptionally. Objects in use are
+     * destroyed when they are released.
+     */
+    @Override
+    void close();
+}
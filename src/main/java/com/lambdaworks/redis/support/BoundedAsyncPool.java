@@ -0,0 +1,392 @@
+package com.lambdaworks.redis.support;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.internal.LettuceFactories;
+
+/**
+ * Bounded {@link AsyncPool} for connections. Connections are created through a {@link Supplier} of {@link CompletionStage}s
+ * so creating a connection does not block the acquiring thread.
+ * <p>
+ * The pool holds at most {@link BoundedPoolConfig#getMaxTotal()} connections. Acquisitions that cannot be served by an idle
+ * or a new connection are queued until a connection is released. The queue is bounded by
+ * {@link BoundedPoolConfig#getMaxPendingAcquires()}. The pool keeps at least {@link BoundedPoolConfig#getMinIdle()} idle
+ * connections once {@link #createIdle()} was called and replaces destroyed connections in the background.
+ * <p>
+ * Wrapped connections return to the pool when calling {@link StatefulConnection#close()}, direct connections must be
+ * returned with {@link #release(StatefulConnection)}.
+ *
+ * @param <T> connection type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @see AsyncConnectionPoolSupport
+ */
+public class BoundedAsyncPool<T extends StatefulConnection<?, ?>> implements AsyncPool<T> {
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final Supplier<? extends CompletionStage<T>> connectionSupplier;
+    private final BoundedPoolConfig config;
+    private final boolean wrapConnections;
+
+    private final Deque<T> idle = LettuceFactories.newConcurrentQueue();
+    private final Deque<CompletableFuture<T>> waiters = LettuceFactories.newConcurrentQueue();
+
+    private final AtomicInteger objectCount = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final AtomicInteger creatingIdle = new AtomicInteger();
+
+    private volatile boolean closed = false;
+
+    BoundedAsyncPool(Supplier<? extends CompletionStage<T>> connectionSupplier, BoundedPoolConfig config,
+            boolean wrapConnections) {
+
+        LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        this.connectionSupplier = connectionSupplier;
+        this.config = config;
+        this.wrapConnections = wrapConnections;
+    }
+
+    /**
+     * Create idle connections until the pool holds {@link BoundedPoolConfig#getMinIdle()} connections.
+     *
+     * @return future that is completed once the connections are created. The future completes exceptionally if a connection
+     *         cannot be created.
+     */
+    public CompletableFuture<Void> createIdle() {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        while (!closed && idleCount.get() + creatingIdle.get() < config.getMinIdle() && reserveObject()) {
+
+            creatingIdle.incrementAndGet();
+            futures.add(create().thenAccept(this::returnToPool)
+                    .whenComplete((v, throwable) -> creatingIdle.decrementAndGet()));
+        }
+
+        if (futures.isEmpty()) {
+            return COMPLETED;
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+    }
+
+    @Override
+    public CompletableFuture<T> acquire() {
+
+        if (closed) {
+            return failed(new RedisException("Pool is closed"));
+        }
+
+        T connection = pollIdle();
+        if (connection != null) {
+            return CompletableFuture.completedFuture(wrap(connection));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        if (reserveObject()) {
+            createFor(result);
+            return result;
+        }
+
+        if (waiterCount.incrementAndGet() > config.getMaxPendingAcquires()) {
+            waiterCount.decrementAndGet();
+            return failed(new RedisException("Pool exhausted: " + config.getMaxPendingAcquires()
+                    + " acquisitions are already waiting for a connection"));
+        }
+
+        waiters.offer(result);
+
+        // canceled or externally failed acquisitions must not occupy the wait queue
+        result.whenComplete((c, throwable) -> {
+            if (throwable != null && waiters.remove(result)) {
+                waiterCount.decrementAndGet();
+            }
+        });
+
+        dispatch();
+
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> release(T object) {
+
+        LettuceAssert.notNull(object, "Object must not be null");
+
+        if (ConnectionPoolSupport.isWrapped(object)) {
+            object.close();
+            return COMPLETED;
+        }
+
+        returnToPool(object);
+        return COMPLETED;
+    }
+
+    @Override
+    public void clear() {
+
+        T connection;
+        while ((connection = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            destroy(connection);
+        }
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        CompletableFuture<T> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiterCount.decrementAndGet();
+            waiter.completeExceptionally(new RedisException("Pool is closed"));
+        }
+
+        clear();
+    }
+
+    /**
+     * @return the number of idle connections.
+     */
+    public int getIdle() {
+        return idleCount.get();
+    }
+
+    /**
+     * @return the number of connections held by the pool including connections that are in use or being created.
+     */
+    public int getObjectCount() {
+        return objectCount.get();
+    }
+
+    /**
+     * @return the number of acquisitions waiting for a connection.
+     */
+    public int getPendingAcquires() {
+        return waiterCount.get();
+    }
+
+    /**
+     * @return the pool configuration.
+     */
+    public BoundedPoolConfig getConfig() {
+        return config;
+    }
+
+    private T wrap(T connection) {
+        return wrapConnections ? ConnectionPoolSupport.wrapConnection(connection, this::returnToPool) : connection;
+    }
+
+    /**
+     * Complete an acquisition with {@code connection}.
+     *
+     * @return {@literal false} if the acquisition was already completed or canceled and the connection was not handed out.
+     */
+    private boolean deliver(CompletableFuture<T> acquisition, T connection) {
+        return !acquisition.isDone() && acquisition.complete(wrap(connection));
+    }
+
+    private boolean reserveObject() {
+
+        for (;;) {
+
+            int current = objectCount.get();
+            if (current >= config.getMaxTotal()) {
+                return false;
+            }
+
+            if (objectCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Create a connection for a reserved slot and hand it to {@code acquisition}.
+     */
+    private void createFor(CompletableFuture<T> acquisition) {
+
+        create().whenComplete((c, throwable) -> {
+
+            if (throwable != null) {
+                acquisition.completeExceptionally(throwable);
+                return;
+            }
+
+            if (!deliver(acquisition, c)) {
+                returnToPool(c);
+            }
+        });
+    }
+
+    /**
+     * Create a connection for a reserved slot. The slot is released if the connection cannot be created.
+     */
+    private CompletableFuture<T> create() {
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletionStage<T> connection;
+
+        try {
+            connection = connectionSupplier.get();
+        } catch (RuntimeException e) {
+            objectCount.decrementAndGet();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        connection.whenComplete((c, throwable) -> {
+
+            if (throwable != null) {
+                objectCount.decrementAndGet();
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            if (closed) {
+                destroy(c);
+                result.completeExceptionally(new RedisException("Pool is closed"));
+                return;
+            }
+
+            result.complete(c);
+        });
+
+        return result;
+    }
+
+    private T pollIdle() {
+
+        T connection;
+        while ((connection = idle.poll()) != null) {
+
+            idleCount.decrementAndGet();
+
+            if (config.isTestOnAcquire() && !connection.isOpen()) {
+                destroy(connection);
+                continue;
+            }
+
+            return connection;
+        }
+
+        return null;
+    }
+
+    private void returnToPool(T connection) {
+
+        if (closed || (config.isTestOnRelease() && !connection.isOpen())) {
+            destroy(connection);
+            return;
+        }
+
+        CompletableFuture<T> waiter;
+        while ((waiter = waiters.poll()) != null) {
+
+            waiterCount.decrementAndGet();
+            if (deliver(waiter, connection)) {
+                return;
+            }
+        }
+
+        if (idleCount.get() >= config.getMaxIdle()) {
+            destroy(connection);
+            return;
+        }
+
+        idleCount.incrementAndGet();
+        idle.offer(connection);
+        dispatch();
+    }
+
+    /**
+     * Hand idle connections to waiting acquisitions. Called after publishing a waiter or an idle connection so that a
+     * connection released concurrently with an acquisition is not left idle while the acquisition waits.
+     */
+    private void dispatch() {
+
+        while (!waiters.isEmpty() && !idle.isEmpty()) {
+
+            CompletableFuture<T> waiter = waiters.poll();
+            if (waiter == null) {
+                return;
+            }
+
+            T connection = pollIdle();
+            if (connection == null) {
+                waiters.offerFirst(waiter);
+                continue;
+            }
+
+            waiterCount.decrementAndGet();
+            if (!deliver(waiter, connection)) {
+                idleCount.incrementAndGet();
+                idle.offerFirst(connection);
+            }
+        }
+    }
+
+    private void destroy(T connection) {
+
+        objectCount.decrementAndGet();
+
+        try {
+            connection.close();
+        } finally {
+            replenish();
+        }
+    }
+
+    /**
+     * Create connections for waiting acquisitions and to restore the minimum number of idle connections after a connection
+     * was destroyed.
+     */
+    private void replenish() {
+
+        if (closed) {
+            return;
+        }
+
+        while (!waiters.isEmpty() && reserveObject()) {
+
+            CompletableFuture<T> waiter = waiters.poll();
+            if (waiter == null) {
+                objectCount.decrementAndGet();
+                break;
+            }
+
+            waiterCount.decrementAndGet();
+            createFor(waiter);
+        }
+
+        if (idleCount.get() < config.getMinIdle()) {
+            createIdle();
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,212 @@
+package com.lambdaworks.redis.support;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Configuration for asynchronous pools created with {@link AsyncConnectionPoolSupport}. The pool holds at most
+ * {@link #getMaxTotal()} objects and keeps between {@link #getMinIdle()} and {@link #getMaxIdle()} idle objects.
+ * Acquisitions that cannot be served immediately are queued up to {@link #getMaxPendingAcquires()}.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class BoundedPoolConfig {
+
+    public static final int DEFAULT_MAX_TOTAL = 8;
+    public static final int DEFAULT_MAX_IDLE = 8;
+    public static final int DEFAULT_MIN_IDLE = 0;
+    public static final int DEFAULT_MAX_PENDING_ACQUIRES = Integer.MAX_VALUE;
+    public static final boolean DEFAULT_TEST_ON_ACQUIRE = false;
+    public static final boolean DEFAULT_TEST_ON_RELEASE = false;
+
+    private final int maxTotal;
+    private final int maxIdle;
+    private final int minIdle;
+    private final int maxPendingAcquires;
+    private final boolean testOnAcquire;
+    private final boolean testOnRelease;
+
+    protected BoundedPoolConfig(Builder builder) {
+
+        this.maxTotal = builder.maxTotal;
+        this.maxIdle = builder.maxIdle;
+        this.minIdle = builder.minIdle;
+        this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.testOnAcquire = builder.testOnAcquire;
+        this.testOnRelease = builder.testOnRelease;
+    }
+
+    /**
+     * Returns a new {@link BoundedPoolConfig.Builder} to construct {@link BoundedPoolConfig}.
+     *
+     * @return a new {@link BoundedPoolConfig.Builder} to construct {@link BoundedPoolConfig}.
+     */
+    public static BoundedPoolConfig.Builder builder() {
+        return new BoundedPoolConfig.Builder();
+    }
+
+    /**
+     * Create a new instance of {@link BoundedPoolConfig} with default settings.
+     *
+     * @return a new instance of {@link BoundedPoolConfig} with default settings
+     */
+    public static BoundedPoolConfig create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link BoundedPoolConfig}.
+     */
+    public static class Builder {
+
+        private int maxTotal = DEFAULT_MAX_TOTAL;
+        private int maxIdle = DEFAULT_MAX_IDLE;
+        private int minIdle = DEFAULT_MIN_IDLE;
+        private int maxPendingAcquires = DEFAULT_MAX_PENDING_ACQUIRES;
+        private boolean testOnAcquire = DEFAULT_TEST_ON_ACQUIRE;
+        private boolean testOnRelease = DEFAULT_TEST_ON_RELEASE;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of objects (idle and in use) held by the pool. Defaults to {@literal 8}. See
+         * {@link #DEFAULT_MAX_TOTAL}.
+         *
+         * @param maxTotal the maximum number of objects, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder maxTotal(int maxTotal) {
+
+            LettuceAssert.isTrue(maxTotal > 0, "Max total must be greater than zero");
+
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of idle objects. Objects released while the pool holds {@code maxIdle} idle objects are
+         * destroyed. Defaults to {@literal 8}. See {@link #DEFAULT_MAX_IDLE}.
+         *
+         * @param maxIdle the maximum number of idle objects, must not be negative.
+         * @return {@code this}
+         */
+        public Builder maxIdle(int maxIdle) {
+
+            LettuceAssert.isTrue(maxIdle >= 0, "Max idle must not be negative");
+
+            this.maxIdle = maxIdle;
+            return this;
+        }
+
+        /**
+         * Set the minimum number of idle objects. The pool is pre-warmed to {@code minIdle} objects and creates new objects
+         * in the background when idle objects are destroyed. Defaults to {@literal 0}. See {@link #DEFAULT_MIN_IDLE}.
+         *
+         * @param minIdle the minimum number of idle objects, must not be negative.
+         * @return {@code this}
+         */
+        public Builder minIdle(int minIdle) {
+
+            LettuceAssert.isTrue(minIdle >= 0, "Min idle must not be negative");
+
+            this.minIdle = minIdle;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of acquisitions that wait for an object while the pool is exhausted. Acquisitions exceeding
+         * the limit are completed exceptionally. Defaults to {@link Integer#MAX_VALUE}. See
+         * {@link #DEFAULT_MAX_PENDING_ACQUIRES}.
+         *
+         * @param maxPendingAcquires the maximum number of waiting acquisitions, must not be negative.
+         * @return {@code this}
+         */
+        public Builder maxPendingAcquires(int maxPendingAcquires) {
+
+            LettuceAssert.isTrue(maxPendingAcquires >= 0, "Max pending acquires must not be negative");
+
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
+        /**
+         * Enables validation of idle objects before they are handed out. Invalid objects are destroyed. Defaults to
+         * {@literal false}. See {@link #DEFAULT_TEST_ON_ACQUIRE}.
+         *
+         * @param testOnAcquire true/false
+         * @return {@code this}
+         */
+        public Builder testOnAcquire(boolean testOnAcquire) {
+            this.testOnAcquire = testOnAcquire;
+            return this;
+        }
+
+        /**
+         * Enables validation of objects when they are released to the pool. Invalid objects are destroyed. Defaults to
+         * {@literal false}. See {@link #DEFAULT_TEST_ON_RELEASE}.
+         *
+         * @param testOnRelease true/false
+         * @return {@code this}
+         */
+        public Builder testOnRelease(boolean testOnRelease) {
+            this.testOnRelease = testOnRelease;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link BoundedPoolConfig}.
+         *
+         * @return new instance of {@link BoundedPoolConfig}
+         */
+        public BoundedPoolConfig build() {
+
+            LettuceAssert.isTrue(minIdle <= maxIdle, "Min idle must not be greater than max idle");
+            LettuceAssert.isTrue(minIdle <= maxTotal, "Min idle must not be greater than max total");
+
+            return new BoundedPoolConfig(this);
+        }
+    }
+
+    /**
+     * @return the maximum number of objects (idle and in use) held by the pool.
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * @return the maximum number of idle objects.
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @return the minimum number of idle objects.
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * @return the maximum number of acquisitions that wait for an object while the pool is exhausted.
+     */
+    public int getMaxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
+    /**
+     * @return {@literal true} if idle objects are validated before they are handed out.
+     */
+    public boolean isTestOnAcquire() {
+        return testOnAcquire;
+    }
+
+    /**
+     * @return {@literal true} if objects are validated when they are released to the pool.
+     */
+    public boolean isTestOnRelease() {
+        return testOnRelease;
+    }
+}
@@ -5,11 +5,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
@@ -26,6 +26,7 @@ import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.internal.AbstractInvocationHandler;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.masterslave.StatefulRedisMasterSlaveConnection;
 
 /**
  * Connection pool support for {@link GenericObjectPool} and {@link SoftReferenceObjectPool}. Connection pool creation requires
@@ -104,13 +105,25 @@ public abstract class ConnectionPoolSupport {
         LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
         LettuceAssert.notNull(config, "GenericObjectPoolConfig must not be null");
 
-        AtomicReference<ObjectPool<T>> poolRef = new AtomicReference<>();
-        Supplier<T> providerToUse = wrapConnections ? wrappedConnectionSupplier(connectionSupplier, poolRef)
-                : connectionSupplier;
+        GenericObjectPool<T> pool = new GenericObjectPool<T>(new RedisPooledObjectFactory<>(connectionSupplier), config) {
 
-        GenericObjectPool<T> pool = new GenericObjectPool<>(new RedisPooledObjectFactory<T>(providerToUse), config);
+            @Override
+            public T borrowObject(long borrowMaxWaitMillis) throws Exception {
+
+                T connection = super.borrowObject(borrowMaxWaitMillis);
+                return wrapConnections ? wrapConnection(connection, this::returnObject) : connection;
+            }
 
-        poolRef.set(pool);
+            @Override
+            public void returnObject(T obj) {
+                super.returnObject(unwrap(obj));
+            }
+
+            @Override
+            public void invalidateObject(T obj) throws Exception {
+                super.invalidateObject(unwrap(obj));
+            }
+        };
 
         return pool;
     }
@@ -143,36 +156,133 @@ public abstract class ConnectionPoolSupport {
 
         LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
 
-        AtomicReference<ObjectPool<T>> poolRef = new AtomicReference<>();
-        Supplier<T> providerToUse = wrapConnections ? wrappedConnectionSupplier(connectionSupplier, poolRef)
-                : connectionSupplier;
+        SoftReferenceObjectPool<T> pool = new SoftReferenceObjectPool<T>(new RedisPooledObjectFactory<>(connectionSupplier)) {
 
-        SoftReferenceObjectPool<T> pool = new SoftReferenceObjectPool<>(new RedisPooledObjectFactory<>(providerToUse));
-        poolRef.set(pool);
+            @Override
+            public synchronized T borrowObject() throws Exception {
+
+                T connection = super.borrowObject();
+                return wrapConnections ? wrapConnection(connection, this::returnObject) : connection;
+            }
+
+            @Override
+            public synchronized void returnObject(T obj) throws Exception {
+                super.returnObject(unwrap(obj));
+            }
+
+            @Override
+            public synchronized void invalidateObject(T obj) throws Exception {
+                super.invalidateObject(unwrap(obj));
+            }
+        };
 
         return pool;
     }
 
+    /**
+     * Wrap {@code connection} in a handle that hands the connection to {@code origin} when calling
+     * {@link StatefulConnection#close()} instead of closing the connection. Standalone and Master/Slave connections are
+     * wrapped in a {@link PooledStatefulRedisConnection} that delegates directly to the connection. Other connection types
+     * are wrapped in a dynamic proxy, see {@link #proxyConnection(Object, Origin)}.
+     *
+     * @param connection the connection to wrap.
+     * @param origin callback to return the connection to its pool.
+     * @param <T> connection type.
+     * @return the wrapped connection.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <T> T wrapConnection(T connection, Origin<T> origin) {
+
+        Class<?> type = connection.getClass();
+
+        if (type == StatefulRedisConnectionImpl.class) {
+            return (T) new PooledStatefulRedisConnection((StatefulRedisConnectionImpl) connection, (Origin) origin);
+        }
+
+        if (type.getSuperclass() == StatefulRedisConnectionImpl.class
+                && connection instanceof StatefulRedisMasterSlaveConnection) {
+            return (T) new PooledStatefulRedisMasterSlaveConnection((StatefulRedisConnectionImpl) connection,
+                    (Origin) origin);
+        }
+
+        return proxyConnection(connection, origin);
+    }
+
+    /**
+     * Wrap {@code connection} in a dynamic proxy that hands the connection to {@code origin} when calling
+     * {@link StatefulConnection#close()} instead of closing the connection. Method calls on the proxy and its APIs are
+     * dispatched reflectively.
+     *
+     * @param connection the connection to wrap.
+     * @param origin callback to return the connection to its pool.
+     * @param <T> connection type.
+     * @return the wrapped connection.
+     */
     @SuppressWarnings("unchecked")
-    private static <T> Supplier<T> wrappedConnectionSupplier(Supplier<T> connectionSupplier,
-            AtomicReference<ObjectPool<T>> poolRef) {
+    static <T> T proxyConnection(T connection, Origin<T> origin) {
 
-        return new Supplier<T>() {
+        ReturnObjectOnCloseInvocationHandler<T> handler = new ReturnObjectOnCloseInvocationHandler<>(connection, origin);
 
-            @Override
-            public T get() {
+        T proxiedConnection = (T) Proxy.newProxyInstance(ConnectionPoolSupport.class.getClassLoader(),
+                connection.getClass().getInterfaces(), handler);
+        handler.setProxiedConnection(proxiedConnection);
 
-                T connection = connectionSupplier.get();
-                ReturnObjectOnCloseInvocationHandler<T> handler = new ReturnObjectOnCloseInvocationHandler<>(connection,
-                        poolRef.get());
+        return proxiedConnection;
+    }
 
-                T proxiedConnection = (T) Proxy.newProxyInstance(getClass().getClassLoader(),
-                        connection.getClass().getInterfaces(), handler);
-                handler.setProxiedConnection(proxiedConnection);
+    /**
+     * Returns whether {@code object} was created by {@link #wrapConnection(Object, Origin)}.
+     *
+     * @param object the object to inspect.
+     * @return {@literal true} if {@code object} is a wrapped connection.
+     */
+    static boolean isWrapped(Object object) {
+        return object instanceof PooledConnection || (Proxy.isProxyClass(object.getClass())
+                && Proxy.getInvocationHandler(object) instanceof ReturnObjectOnCloseInvocationHandler);
+    }
 
-                return proxiedConnection;
-            }
-        };
+    /**
+     * Resolve the pooled connection of a wrapped connection. Returns {@code object} if it is not wrapped.
+     *
+     * @param object the connection.
+     * @param <T> connection type.
+     * @return the pooled connection.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(T object) {
+
+        if (!isWrapped(object)) {
+            return object;
+        }
+
+        T connection;
+        if (object instanceof PooledConnection) {
+            connection = (T) ((PooledConnection) object).getTargetConnection();
+        } else {
+            connection = ((ReturnObjectOnCloseInvocationHandler<T>) Proxy.getInvocationHandler(object)).getConnection();
+        }
+
+        if (connection == null) {
+            throw new RedisException("Connection is deallocated and cannot be used anymore.");
+        }
+
+        return connection;
+    }
+
+    /**
+     * Callback to return a pooled connection to its pool.
+     *
+     * @param <T> connection type.
+     */
+    interface Origin<T> {
+
+        /**
+         * Return {@code connection} to the pool.
+         *
+         * @param connection the pooled connection.
+         * @throws Exception if the pool rejects the connection.
+         */
+        void returnObject(T connection) throws Exception;
     }
 
     /**
@@ -201,6 +311,11 @@ public abstract class ConnectionPoolSupport {
         public boolean validateObject(PooledObject<T> p) {
             return p.getObject().isOpen();
         }
+
+        @Override
+        public void destroyObject(PooledObject<T> p) throws Exception {
+            p.getObject().close();
+        }
     }
 
     /**
@@ -216,9 +331,9 @@ public abstract class ConnectionPoolSupport {
         private T proxiedConnection;
         private Map<Method, Object> connectionProxies = new ConcurrentHashMap<>(5, 1);
 
-        private final ObjectPool<T> pool;
+        private final Origin<T> pool;
 
-        ReturnObjectOnCloseInvocationHandler(T connection, ObjectPool<T> pool) {
+        ReturnObjectOnCloseInvocationHandler(T connection, Origin<T> pool) {
             this.connection = connection;
             this.pool = pool;
         }
@@ -240,8 +355,9 @@ public abstract class ConnectionPoolSupport {
             }
 
             if (method.getName().equals("close")) {
-                pool.returnObject(proxiedConnection);
-                connection = null;
+                T connection = this.connection;
+                this.connection = null;
+                pool.returnObject(connection);
                 proxiedConnection = null;
                 connectionProxies.clear();
                 return null;
@@ -0,0 +1,16 @@
+package com.lambdaworks.redis.support;
+
+/**
+ * Connection handle handed out by a pool that returns its target connection to the pool when closed.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+interface PooledConnection {
+
+    /**
+     *
+     * @return the pooled connection or {@literal null} if the handle was closed.
+     */
+    Object getTargetConnection();
+}
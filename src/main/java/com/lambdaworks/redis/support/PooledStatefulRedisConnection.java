@@ -0,0 +1,181 @@
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Pooled handle to a {@link StatefulRedisConnectionImpl}. The handle delegates to the pooled connection and returns the
+ * connection to its pool when calling {@link #close()} instead of closing it. The {@link #sync()}, {@link #async()} and
+ * {@link #reactive()} APIs are bound to the handle so closing an API returns the connection to the pool as well. A handle
+ * cannot be used anymore once it was closed.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class PooledStatefulRedisConnection<K, V> implements StatefulRedisConnection<K, V>, PooledConnection {
+
+    private final ConnectionPoolSupport.Origin<StatefulRedisConnection<K, V>> origin;
+    private final RedisCodec<K, V> codec;
+
+    private StatefulRedisConnectionImpl<K, V> connection;
+
+    // APIs are created on first use. Concurrent initialization creates equivalent instances bound to this handle.
+    private RedisAsyncCommandsImpl<K, V> async;
+    private RedisCommands<K, V> sync;
+    private RedisReactiveCommands<K, V> reactive;
+
+    PooledStatefulRedisConnection(StatefulRedisConnectionImpl<K, V> connection,
+            ConnectionPoolSupport.Origin<StatefulRedisConnection<K, V>> origin) {
+
+        this.connection = connection;
+        this.codec = connection.getCodec();
+        this.origin = origin;
+    }
+
+    @Override
+    public RedisCommands<K, V> sync() {
+
+        connection();
+
+        if (sync == null) {
+            sync = new RedisCommandsImpl<>(this, asyncImpl());
+        }
+        return sync;
+    }
+
+    @Override
+    public RedisAsyncCommands<K, V> async() {
+
+        connection();
+        return asyncImpl();
+    }
+
+    @Override
+    public RedisReactiveCommands<K, V> reactive() {
+
+        connection();
+
+        if (reactive == null) {
+            reactive = new RedisReactiveCommandsImpl<>(this, codec);
+        }
+        return reactive;
+    }
+
+    @Override
+    public boolean isMulti() {
+        return connection().isMulti();
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        connection().setTimeout(timeout, unit);
+    }
+
+    @Override
+    public TimeUnit getTimeoutUnit() {
+        return connection().getTimeoutUnit();
+    }
+
+    @Override
+    public long getTimeout() {
+        return connection().getTimeout();
+    }
+
+    @Override
+    public <T, C extends RedisCommand<K, V, T>> C dispatch(C command) {
+        return connection().dispatch(command);
+    }
+
+    /**
+     * Return the connection to the pool. The handle is deallocated and cannot be used anymore.
+     */
+    @Override
+    public void close() {
+
+        StatefulRedisConnectionImpl<K, V> connection = connection();
+
+        this.connection = null;
+        this.async = null;
+        this.sync = null;
+        this.reactive = null;
+
+        try {
+            origin.returnObject(connection);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RedisException(e);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return connection().isOpen();
+    }
+
+    @Override
+    public ClientOptions getOptions() {
+        return connection().getOptions();
+    }
+
+    @Override
+    public void reset() {
+        connection().reset();
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        connection().setAutoFlushCommands(autoFlush);
+    }
+
+    @Override
+    public void flushCommands() {
+        connection().flushCommands();
+    }
+
+    @Override
+    public int getInFlightCommands() {
+        return connection().getInFlightCommands();
+    }
+
+    @Override
+    public long getInFlightBytes() {
+        return connection().getInFlightBytes();
+    }
+
+    @Override
+    public StatefulRedisConnectionImpl<K, V> getTargetConnection() {
+        return connection;
+    }
+
+    /**
+     *
+     * @return the pooled connection.
+     * @throws RedisException if the handle was closed.
+     */
+    protected StatefulRedisConnectionImpl<K, V> connection() {
+
+        StatefulRedisConnectionImpl<K, V> connection = this.connection;
+        if (connection == null) {
+            throw new RedisException("Connection is deallocated and cannot be used anymore.");
+        }
+        return connection;
+    }
+
+    private RedisAsyncCommandsImpl<K, V> asyncImpl() {
+
+        if (async == null) {
+            async = new RedisAsyncCommandsImpl<>(this, codec);
+        }
+        return async;
+    }
+}
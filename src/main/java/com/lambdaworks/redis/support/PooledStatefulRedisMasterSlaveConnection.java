@@ -0,0 +1,39 @@
+package com.lambdaworks.redis.support;
+
+import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.masterslave.StatefulRedisMasterSlaveConnection;
+
+/**
+ * Pooled handle to a {@link StatefulRedisMasterSlaveConnection}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @see PooledStatefulRedisConnection
+ */
+class PooledStatefulRedisMasterSlaveConnection<K, V> extends PooledStatefulRedisConnection<K, V>
+        implements StatefulRedisMasterSlaveConnection<K, V> {
+
+    PooledStatefulRedisMasterSlaveConnection(StatefulRedisConnectionImpl<K, V> connection,
+            ConnectionPoolSupport.Origin<StatefulRedisConnection<K, V>> origin) {
+        super(connection, origin);
+    }
+
+    @Override
+    public void setReadFrom(ReadFrom readFrom) {
+        masterSlave().setReadFrom(readFrom);
+    }
+
+    @Override
+    public ReadFrom getReadFrom() {
+        return masterSlave().getReadFrom();
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisMasterSlaveConnection<K, V> masterSlave() {
+        return (StatefulRedisMasterSlaveConnection<K, V>) connection();
+    }
+}
@@ -0,0 +1,305 @@
+package com.lambdaworks.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.TypeParameter;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.lambdaworks.redis.internal.LettuceSets;
+
+/**
+ * Create abstract sync API implementations based on the templates. Each method invokes the corresponding method of the
+ * asynchronous API implementation and awaits its result. Subclasses provide the await strategy.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(Parameterized.class)
+public class CreateSyncApiImplementation {
+
+    private static final int LINE_LENGTH = 128;
+
+    /**
+     * Not a template but the sync interface that declares the cluster node commands shared by standalone and cluster
+     * connections.
+     */
+    private static final String CLUSTER_COMMANDS = "RedisClusterCommands";
+
+    private Set<String> KEEP_METHOD_RESULT_TYPE = LettuceSets.unmodifiableSet("shutdown", "debugOom", "debugSegfault",
+            "digest", "close", "isOpen", "BaseRedisCommands.reset", "getStatefulConnection", "setTimeout", "auth");
+
+    private final String targetPackage;
+    private final String targetName;
+    private final String asyncType;
+    private final List<String> templateNames;
+
+    @Parameterized.Parameters(name = "Create {1}")
+    public static List<Object[]> arguments() {
+
+        List<String> redisTemplates = new ArrayList<>(Arrays.asList(Constants.TEMPLATE_NAMES));
+        redisTemplates.remove("RedisSentinelCommands");
+        redisTemplates.add(CLUSTER_COMMANDS);
+
+        List<Object[]> result = new ArrayList<>();
+        result.add(new Object[] { "com.lambdaworks.redis", "AbstractRedisCommands", "AbstractRedisAsyncCommands",
+                redisTemplates });
+        result.add(new Object[] { "com.lambdaworks.redis.sentinel", "AbstractRedisSentinelCommands",
+                "RedisSentinelAsyncCommandsImpl", Collections.singletonList("RedisSentinelCommands") });
+        return result;
+    }
+
+    /**
+     * @param targetPackage
+     * @param targetName
+     * @param asyncType
+     * @param templateNames
+     */
+    public CreateSyncApiImplementation(String targetPackage, String targetName, String asyncType,
+            List<String> templateNames) {
+        this.targetPackage = targetPackage;
+        this.targetName = targetName;
+        this.asyncType = asyncType;
+        this.templateNames = templateNames;
+    }
+
+    @Test
+    public void createImplementation() throws Exception {
+
+        Set<String> imports = new TreeSet<>();
+        List<String> interfaces = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        StringBuilder methods = new StringBuilder();
+
+        imports.add("com.lambdaworks.redis.RedisFuture");
+
+        for (String templateName : templateNames) {
+
+            String syncPackage;
+            File templateFile;
+
+            if (templateName.equals(CLUSTER_COMMANDS)) {
+                syncPackage = "com.lambdaworks.redis.cluster.api.sync";
+                templateFile = new File(Constants.SOURCES, syncPackage.replace('.', '/') + "/" + templateName + ".java");
+            } else {
+                syncPackage = templateName.contains("RedisSentinel") ? "com.lambdaworks.redis.sentinel.api.sync"
+                        : "com.lambdaworks.redis.api.sync";
+                templateFile = new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/" + templateName + ".java");
+            }
+
+            CompilationUnit template = JavaParser.parse(templateFile);
+            ClassOrInterfaceDeclaration type = (ClassOrInterfaceDeclaration) template.getTypes().get(0);
+
+            if (template.getImports() != null) {
+                for (ImportDeclaration importDeclaration : template.getImports()) {
+                    if (!importDeclaration.isAsterisk() && !importDeclaration.isStatic()) {
+                        imports.add(importDeclaration.getName().toString());
+                    }
+                }
+            }
+
+            imports.add(syncPackage + "." + templateName);
+            interfaces.add(templateName + "<K, V>");
+
+            for (BodyDeclaration member : type.getMembers()) {
+
+                if (!(member instanceof MethodDeclaration)) {
+                    continue;
+                }
+
+                MethodDeclaration method = (MethodDeclaration) member;
+                if (signatures.add(signature(method))) {
+                    methods.append(createMethod(type, method));
+                }
+            }
+        }
+
+        imports.removeIf(name -> !isReferenced(name, methods) && !name.endsWith(".RedisFuture")
+                && interfaces.stream().noneMatch(type -> type.startsWith(name.substring(name.lastIndexOf('.') + 1) + "<")));
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(targetPackage).append(";\n\n");
+
+        appendImports(source, imports.stream().filter(name -> name.startsWith("java.")).collect(Collectors.toList()));
+        appendImports(source, imports.stream().filter(name -> !name.startsWith("java."))
+                .filter(name -> !name.substring(0, name.lastIndexOf('.')).equals(targetPackage)).collect(Collectors.toList()));
+
+        source.append("/**\n");
+        source.append(" * Synchronous executed commands. Commands are invoked on {@link ").append(asyncType)
+                .append("} and awaited using\n");
+        source.append(" * {@link #await(RedisFuture)}.\n");
+        source.append(" *\n");
+        source.append(" * @param <K> Key type.\n");
+        source.append(" * @param <V> Value type.\n");
+        source.append(" * @author Mark Paluch\n");
+        source.append(" * @since 4.3\n");
+        source.append(" * @generated by ").append(getClass().getName()).append("\n");
+        source.append(" */\n");
+        source.append(wrap("public abstract class " + targetName + "<K, V> implements " + String.join(", ", interfaces)
+                + " {", "        "));
+        source.append("\n");
+
+        source.append("    protected final ").append(asyncType).append("<K, V> async;\n\n");
+        source.append("    /**\n");
+        source.append("     * Initialize a new instance.\n");
+        source.append("     *\n");
+        source.append("     * @param async the asynchronous API to invoke commands on.\n");
+        source.append("     */\n");
+        source.append("    protected ").append(targetName).append("(").append(asyncType).append("<K, V> async) {\n");
+        source.append("        this.async = async;\n");
+        source.append("    }\n\n");
+        source.append("    /**\n");
+        source.append("     * Await the result of a command.\n");
+        source.append("     *\n");
+        source.append("     * @param future the command future.\n");
+        source.append("     * @param <T> result type.\n");
+        source.append("     * @return the command result.\n");
+        source.append("     */\n");
+        source.append("    protected abstract <T> T await(RedisFuture<T> future);\n");
+        source.append(methods);
+        source.append("}\n");
+
+        File target = new File(Constants.SOURCES, targetPackage.replace('.', '/') + "/" + targetName + ".java");
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write(source.toString().getBytes());
+        }
+    }
+
+    private String createMethod(ClassOrInterfaceDeclaration type, MethodDeclaration method) {
+
+        List<String> parameters = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+
+        for (Parameter parameter : method.getParameters()) {
+            parameters.add(parameter.getType().toStringWithoutComments() + (parameter.isVarArgs() ? "... " : " ")
+                    + parameter.getId().getName());
+            arguments.add(parameter.getId().getName());
+        }
+
+        String typeParameters = "";
+        if (method.getTypeParameters() != null && !method.getTypeParameters().isEmpty()) {
+            typeParameters = "<" + method.getTypeParameters().stream().map(TypeParameter::toStringWithoutComments)
+                    .collect(Collectors.joining(", ")) + "> ";
+        }
+
+        String returnType = method.getType().toStringWithoutComments();
+        String invocation = "async." + method.getName() + "(" + String.join(", ", arguments) + ")";
+        boolean keepResultType = KEEP_METHOD_RESULT_TYPE.contains(method.getName())
+                || KEEP_METHOD_RESULT_TYPE.contains(type.getName() + "." + method.getName());
+
+        String body;
+        if (keepResultType) {
+            body = returnType.equals("void") ? invocation + ";" : "return " + invocation + ";";
+        } else {
+            body = returnType.equals("void") ? "await(" + invocation + ");" : "return await(" + invocation + ");";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("\n");
+        if (isDeprecated(method)) {
+            result.append("    @Deprecated\n");
+        }
+        result.append("    @Override\n");
+        if (hasGenericVarArgs(method)) {
+            result.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        result.append(wrap("    public " + typeParameters + returnType + " " + method.getName() + "("
+                + String.join(", ", parameters) + ") {", "            "));
+        result.append(wrap("        " + body, "                "));
+        result.append("    }\n");
+        return result.toString();
+    }
+
+    private static boolean isDeprecated(MethodDeclaration method) {
+
+        if (method.getComment() != null && method.getComment().getContent().contains("@deprecated")) {
+            return true;
+        }
+
+        return method.getAnnotations() != null && method.getAnnotations().stream()
+                .anyMatch(annotation -> annotation.getName().getName().equals("Deprecated"));
+    }
+
+    /**
+     * Varargs of a type variable or a parameterized type are not reifiable and cause heap pollution warnings.
+     */
+    private static boolean hasGenericVarArgs(MethodDeclaration method) {
+
+        Set<String> typeVariables = new HashSet<>(Arrays.asList("K", "V"));
+        if (method.getTypeParameters() != null) {
+            method.getTypeParameters().forEach(typeParameter -> typeVariables.add(typeParameter.getName()));
+        }
+
+        return method.getParameters().stream().filter(Parameter::isVarArgs).map(p -> p.getType().toStringWithoutComments())
+                .anyMatch(type -> type.contains("<") || typeVariables.contains(type));
+    }
+
+    private static boolean isReferenced(String importName, CharSequence code) {
+
+        String simpleName = importName.substring(importName.lastIndexOf('.') + 1);
+        return Pattern.compile("\\b" + simpleName + "\\b").matcher(code).find();
+    }
+
+    private static String signature(MethodDeclaration method) {
+        return method.getName() + method.getParameters().stream().map(p -> p.getType().toStringWithoutComments() + (p.isVarArgs() ? "..." : ""))
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static void appendImports(StringBuilder source, List<String> imports) {
+
+        if (imports.isEmpty()) {
+            return;
+        }
+
+        for (String name : imports) {
+            source.append("import ").append(name).append(";\n");
+        }
+        source.append("\n");
+    }
+
+    /**
+     * Wrap a line after the last opening parenthesis or comma outside of type arguments that fits into {@link #LINE_LENGTH}.
+     */
+    private static String wrap(String line, String continuationIndent) {
+
+        StringBuilder result = new StringBuilder();
+        String remainder = line;
+
+        while (remainder.length() > LINE_LENGTH) {
+
+            int split = -1;
+            int depth = 0;
+            for (int i = 0; i < LINE_LENGTH; i++) {
+
+                char c = remainder.charAt(i);
+                if (c == '<') {
+                    depth++;
+                } else if (c == '>') {
+                    depth--;
+                } else if ((c == '(' || c == ',') && depth == 0) {
+                    split = i;
+                }
+            }
+
+            if (split <= continuationIndent.length()) {
+                break;
+            }
+
+            result.append(remainder.substring(0, split + 1)).append("\n");
+            remainder = continuationIndent + remainder.substring(split + 1).trim();
+        }
+
+        return result.append(remainder).append("\n").toString();
+    }
+}
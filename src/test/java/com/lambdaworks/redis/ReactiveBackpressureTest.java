@@ -0,0 +1,114 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.code.tempusfugit.temporal.Duration;
+import com.lambdaworks.Wait;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.server.ListResponseServer;
+
+import io.netty.channel.Channel;
+import rx.observers.TestSubscriber;
+
+/**
+ * Tests for demand-driven emission of multi-element replies using a local server that replies with a multi-million element
+ * list.
+ *
+ * @author Mark Paluch
+ */
+public class ReactiveBackpressureTest {
+
+    private static final int SIZE = 2_000_000;
+
+    private ListResponseServer server;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+
+    @Before
+    public void before() throws Exception {
+
+        server = new ListResponseServer(SIZE);
+        server.initialize();
+
+        client = RedisClient.create(RedisURI.create("127.0.0.1", server.getPort()));
+        connection = client.connect();
+    }
+
+    @After
+    public void after() throws Exception {
+
+        connection.close();
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test(timeout = 60000)
+    public void shouldSuspendReadingWithoutDemand() throws Exception {
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0);
+        connection.reactive().lrange("list", 0, -1).subscribe(subscriber);
+
+        subscriber.requestMore(10);
+
+        Wait.untilEquals(10, () -> subscriber.getOnNextEvents().size()).waitOrTimeout();
+        Wait.untilTrue(() -> !getChannel().config().isAutoRead()).waitOrTimeout();
+
+        Thread.sleep(100);
+        assertThat(subscriber.getOnNextEvents()).hasSize(10);
+        subscriber.assertNoTerminalEvent();
+
+        for (int requested = 10; requested < SIZE; requested += 100_000) {
+
+            subscriber.requestMore(100_000);
+
+            int expected = Math.min(requested + 100_000, SIZE);
+            Wait.untilEquals(expected, () -> subscriber.getOnNextEvents().size()).during(Duration.seconds(30))
+                    .waitOrTimeout();
+        }
+
+        subscriber.awaitTerminalEvent(30, TimeUnit.SECONDS);
+        subscriber.assertCompleted();
+
+        List<String> elements = subscriber.getOnNextEvents();
+        assertThat(elements).hasSize(SIZE);
+        assertThat(elements.get(0)).isEqualTo(ListResponseServer.element(0));
+        assertThat(elements.get(SIZE - 1)).isEqualTo(ListResponseServer.element(SIZE - 1));
+        assertThat(getChannel().config().isAutoRead()).isTrue();
+    }
+
+    @Test(timeout = 60000)
+    public void shouldResumeReadingOnUnsubscribe() throws Exception {
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0);
+        connection.reactive().lrange("list", 0, -1).subscribe(subscriber);
+
+        subscriber.requestMore(1);
+        Wait.untilTrue(() -> !getChannel().config().isAutoRead()).waitOrTimeout();
+
+        subscriber.unsubscribe();
+
+        Wait.untilTrue(() -> getChannel().config().isAutoRead()).waitOrTimeout();
+        assertThat(subscriber.getOnNextEvents()).hasSize(1);
+    }
+
+    @Test(timeout = 60000)
+    public void shouldEmitAllElementsWithoutBackpressure() throws Exception {
+
+        List<String> elements = connection.reactive().lrange("list", 0, -1).toList().toBlocking().single();
+
+        assertThat(elements).hasSize(SIZE);
+        assertThat(elements.get(SIZE - 1)).isEqualTo(ListResponseServer.element(SIZE - 1));
+    }
+
+    private Channel getChannel() {
+        return (Channel) ReflectionTestUtils.getField(((RedisChannelHandler<?, ?>) connection).getChannelWriter(), "channel");
+    }
+}
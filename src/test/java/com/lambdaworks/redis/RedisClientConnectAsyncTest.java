@@ -0,0 +1,102 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.Wait;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.server.ListResponseServer;
+import com.lambdaworks.redis.support.AsyncConnectionPoolSupport;
+import com.lambdaworks.redis.support.BoundedAsyncPool;
+import com.lambdaworks.redis.support.BoundedPoolConfig;
+
+/**
+ * Tests for {@link RedisClient#connectStatefulAsync(com.lambdaworks.redis.codec.RedisCodec, RedisURI)} using a local server.
+ *
+ * @author Mark Paluch
+ */
+public class RedisClientConnectAsyncTest {
+
+    private ListResponseServer server;
+    private RedisClient client;
+
+    @Before
+    public void before() throws Exception {
+
+        server = new ListResponseServer(1);
+        server.initialize();
+
+        client = RedisClient.create();
+    }
+
+    @After
+    public void after() throws Exception {
+
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldConnectAsynchronously() throws Exception {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = client.connectStatefulAsync(StringCodec.UTF8,
+                RedisURI.create("127.0.0.1", server.getPort()));
+
+        StatefulRedisConnection<String, String> connection = future.get(10, TimeUnit.SECONDS);
+
+        assertThat(connection.isOpen()).isTrue();
+        assertThat(connection.sync().lrange("key", 0, -1)).containsExactly(ListResponseServer.element(0));
+
+        connection.close();
+    }
+
+    @Test
+    public void shouldFailConnectAsynchronously() throws Exception {
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = client.connectStatefulAsync(StringCodec.UTF8,
+                RedisURI.create("127.0.0.1", port));
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(RedisConnectionException.class);
+        }
+    }
+
+    @Test
+    public void shouldPoolAsynchronousConnections() throws Exception {
+
+        RedisURI redisURI = RedisURI.create("127.0.0.1", server.getPort());
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport
+                .createBoundedObjectPool(() -> client.connectStatefulAsync(StringCodec.UTF8, redisURI),
+                        BoundedPoolConfig.builder().minIdle(2).build());
+
+        Wait.untilEquals(2, pool::getIdle).waitOrTimeout();
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get(10, TimeUnit.SECONDS);
+        assertThat(connection.async().lrange("key", 0, -1).get(10, TimeUnit.SECONDS))
+                .containsExactly(ListResponseServer.element(0));
+        connection.close();
+
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+
+        pool.close();
+    }
+}
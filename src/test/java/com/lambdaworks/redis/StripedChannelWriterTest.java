@@ -0,0 +1,181 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class StripedChannelWriterTest {
+
+    private final RedisCodec<String, String> codec = new Utf8StringCodec();
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> stripe0;
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> stripe1;
+
+    @Mock
+    private RedisChannelWriter<String, String> writer0;
+
+    @Mock
+    private RedisChannelWriter<String, String> writer1;
+
+    @Before
+    public void before() throws Exception {
+
+        when(stripe0.getChannelWriter()).thenReturn(writer0);
+        when(stripe1.getChannelWriter()).thenReturn(writer1);
+        when(writer0.write(any())).then(invocation -> invocation.getArguments()[0]);
+        when(writer1.write(any())).then(invocation -> invocation.getArguments()[0]);
+        when(stripe0.dispatch(any())).then(invocation -> invocation.getArguments()[0]);
+        when(stripe1.dispatch(any())).then(invocation -> invocation.getArguments()[0]);
+    }
+
+    @Test
+    public void roundRobinKeepsThreadOnStripe() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.ROUND_ROBIN);
+
+        int stripe = sut.selectStripe(get("key1"));
+
+        assertThat(sut.selectStripe(get("key2"))).isEqualTo(stripe);
+        assertThat(sut.selectStripe(get("key3"))).isEqualTo(stripe);
+        assertThat(selectStripeInOtherThread(sut, get("key1"))).isNotEqualTo(stripe);
+    }
+
+    @Test
+    public void keyHashRoutesKeyToSameStripe() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.KEY_HASH);
+
+        int stripe = sut.selectStripe(get("key"));
+
+        assertThat(selectStripeInOtherThread(sut, get("key"))).isEqualTo(stripe);
+        assertThat(sut.selectStripe(get("key"))).isEqualTo(stripe);
+    }
+
+    @Test
+    public void transactionIsPinnedToFirstStripe() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.ROUND_ROBIN);
+        selectStripeInOtherThread(sut, get("key"));
+
+        sut.write(command(CommandType.MULTI));
+        sut.write(get("key"));
+        sut.write(command(CommandType.EXEC));
+
+        verify(writer0, times(3)).write(any());
+        verifyZeroInteractions(writer1);
+
+        sut.write(get("key"));
+
+        verify(writer1).write(any());
+    }
+
+    @Test
+    public void blockingCommandsArePinnedToFirstStripe() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.ROUND_ROBIN);
+        selectStripeInOtherThread(sut, get("key"));
+
+        sut.write(new Command<>(CommandType.BLPOP, new ValueOutput<>(codec), new CommandArgs<>(codec).addKey("key").add(0)));
+        sut.write(command(CommandType.WATCH));
+
+        verify(writer0, times(2)).write(any());
+        verifyZeroInteractions(writer1);
+    }
+
+    @Test
+    public void selectIsAppliedToAllStripes() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.ROUND_ROBIN);
+        Command<String, String, String> select = new Command<>(CommandType.SELECT, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).add(2));
+
+        assertThat(sut.write(select)).isSameAs(select);
+
+        ArgumentCaptor<RedisCommand> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(stripe0).dispatch(select);
+        verify(stripe1).dispatch(captor.capture());
+
+        assertThat(captor.getValue().getType()).isEqualTo(CommandType.SELECT);
+        assertThat(captor.getValue().getArgs().getFirstInteger()).isEqualTo(2L);
+    }
+
+    @Test
+    public void leastPendingMovesThreadOnlyWhenIdle() throws Exception {
+
+        StripedChannelWriter<String, String> sut = writer(Striping.LEAST_PENDING);
+
+        CompletableFuture.runAsync(() -> sut.write(get("key"))).get();
+        RedisChannelWriter<String, String> busy = mockingDetails(writer0).getInvocations().isEmpty() ? writer1 : writer0;
+        RedisChannelWriter<String, String> idle = busy == writer0 ? writer1 : writer0;
+
+        sut.write(get("key"));
+        sut.write(get("key"));
+
+        ArgumentCaptor<RedisCommand> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(idle, times(2)).write(captor.capture());
+        captor.getAllValues().forEach(RedisCommand::complete);
+
+        sut.write(get("key"));
+
+        verify(idle, times(3)).write(any());
+        verify(busy, times(1)).write(any());
+    }
+
+    @Test
+    public void inFlightCommandsAreSummedAcrossStripes() throws Exception {
+
+        when(stripe0.getInFlightCommands()).thenReturn(2);
+        when(stripe0.getInFlightBytes()).thenReturn(100L);
+        when(stripe1.getInFlightCommands()).thenReturn(3);
+        when(stripe1.getInFlightBytes()).thenReturn(50L);
+
+        StripedChannelWriter<String, String> sut = writer(Striping.ROUND_ROBIN);
+
+        assertThat(sut.getInFlightCommands()).isEqualTo(5);
+        assertThat(sut.getInFlightBytes()).isEqualTo(150);
+    }
+
+    private StripedChannelWriter<String, String> writer(Striping striping) {
+        return new StripedChannelWriter<>(Arrays.asList(stripe0, stripe1), codec, striping);
+    }
+
+    private Command<String, String, String> get(String key) {
+        return new Command<>(CommandType.GET, new ValueOutput<>(codec), new CommandArgs<>(codec).addKey(key));
+    }
+
+    private Command<String, String, String> command(CommandType type) {
+        return new Command<>(type, new StatusOutput<>(codec), new CommandArgs<>(codec));
+    }
+
+    private static int selectStripeInOtherThread(StripedChannelWriter<String, String> sut,
+            RedisCommand<String, String, ?> command) throws Exception {
+        return CompletableFuture.supplyAsync(() -> sut.selectStripe(command)).get();
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -84,6 +85,29 @@ public class ClusterCommandInternalsTest {
         verify(writerMock).write(sut);
     }
 
+    @Test
+    public void pooledCommandShouldBeReusedAfterCompletion() throws Exception {
+
+        ClusterCommand<String, String, String> pooled = ClusterCommand.newInstance(command, writerMock, 1);
+        pooled.getOutput().set(ByteBuffer.wrap("OK".getBytes()));
+        pooled.complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(ClusterCommand.newInstance(command, writerMock, 1)).isSameAs(pooled);
+    }
+
+    @Test
+    public void pooledCommandShouldNotBeReusedWhileRedirected() throws Exception {
+
+        ClusterCommand<String, String, String> pooled = ClusterCommand.newInstance(command, writerMock, 1);
+        pooled.getOutput().setError("MOVED 1234 127.0.0.1:1000");
+        pooled.complete();
+
+        assertThat(pooled.isCompleted()).isFalse();
+        assertThat(ClusterCommand.newInstance(command, writerMock, 1)).isNotSameAs(pooled);
+        verify(writerMock).write(pooled);
+    }
+
     @Test
     public void testCompleteListener() throws Exception {
 
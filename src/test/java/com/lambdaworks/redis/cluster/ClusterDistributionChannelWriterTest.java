@@ -46,4 +46,12 @@ public class ClusterDistributionChannelWriterTest {
         assertThat(moveTarget.getHostText()).isEqualTo("1:2:3:4::6");
         assertThat(moveTarget.getPort()).isEqualTo(6381);
     }
+
+    @Test
+    public void shouldParseMovedSlotCorrectly() throws Exception {
+
+        assertThat(ClusterDistributionChannelWriter.getMoveSlot("MOVED 1234 127.0.0.1:6381")).isEqualTo(1234);
+        assertThat(ClusterDistributionChannelWriter.getMoveSlot("MOVED 1234 1:2:3:4::6:6381")).isEqualTo(1234);
+        assertThat(ClusterDistributionChannelWriter.getMoveSlot("MOVED foo 127.0.0.1:6381")).isEqualTo(-1);
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -24,6 +25,7 @@ import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.protocol.CommandType;
 import com.lambdaworks.redis.protocol.RedisCommand;
 import com.lambdaworks.redis.resource.ClientResources;
@@ -53,6 +55,9 @@ public class ClusterNodeCommandHandlerTest {
     @Before
     public void before() throws Exception {
 
+        when(clientOptions.getCommandDeadlineUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(clientOptions.getRequestQueueSize()).thenReturn(1000);
+        when(clientOptions.getRequestQueueBytes()).thenReturn(Long.MAX_VALUE);
         sut = new ClusterNodeCommandHandler(clientOptions, clientResources, queue, clusterChannelWriter);
     }
 
@@ -110,7 +115,6 @@ public class ClusterNodeCommandHandlerTest {
     public void closeWithBufferedCommands() throws Exception {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
-        when(clientOptions.getRequestQueueSize()).thenReturn(1000);
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut.write(command);
 
@@ -119,11 +123,33 @@ public class ClusterNodeCommandHandlerTest {
         verify(clusterChannelWriter).write(command);
     }
 
+    @Test
+    public void closeWithBufferedCommandsReleasesRequestQueue() throws Exception {
+
+        when(clientOptions.isAutoReconnect()).thenReturn(true);
+        when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
+
+        CommandHandler<String, String> receiver = new CommandHandler<>(clientOptions, clientResources,
+                new LinkedBlockingQueue<>());
+        when(clusterChannelWriter.write(any())).then(invocation -> receiver.write(command));
+
+        sut.write(command);
+        assertThat(sut.getInFlightCommands()).isEqualTo(1);
+
+        sut.close();
+
+        assertThat(sut.getInFlightCommands()).isEqualTo(0);
+        assertThat(receiver.getInFlightCommands()).isEqualTo(1);
+
+        receiver.reset();
+
+        assertThat(receiver.getInFlightCommands()).isEqualTo(0);
+    }
+
     @Test
     public void closeWithCancelledBufferedCommands() throws Exception {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
-        when(clientOptions.getRequestQueueSize()).thenReturn(1000);
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut.write(command);
         command.cancel();
@@ -137,7 +163,6 @@ public class ClusterNodeCommandHandlerTest {
     public void closeWithBufferedCommandsFails() throws Exception {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
-        when(clientOptions.getRequestQueueSize()).thenReturn(1000);
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut.write(command);
         when(clusterChannelWriter.write(any())).thenThrow(new RedisException(""));
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -97,6 +98,50 @@ public class ClusterPartitionParserTest {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    public void shouldParseSlotRangesAndSkipSlotsInTransition() throws Exception {
+
+        Partitions result = ClusterPartitionParser.parse(nodes);
+
+        RedisClusterNode p1 = result.getPartitions().get(0);
+        assertThat(p1.getSlotCount()).isEqualTo(2 + 16383 - 12002 + 1);
+        assertThat(p1.hasSlot(12001)).isFalse();
+
+        RedisClusterNode p2 = result.getPartitions().get(1);
+        assertThat(p2.getSlotCount()).isEqualTo(4000);
+        assertThat(p2.isConnected()).isFalse();
+
+        RedisClusterNode p4 = result.getPartitions().get(3);
+        assertThat(p4.getUri()).isNull();
+        assertThat(p4.getSlots()).isEmpty();
+        assertThat(p4.getFlags()).containsOnly(RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.MASTER);
+    }
+
+    @Test
+    public void shouldParseFlags() throws Exception {
+
+        Partitions result = ClusterPartitionParser
+                .parse("n1 127.0.0.1:7379 slave,fail?,noaddr,unknown n2 0 0 1 disconnected\n"
+                        + "n2 127.0.0.1:7380 master,fail,handshake - 0 0 1 connected 0\n");
+
+        assertThat(result.getPartition(0).getFlags()).containsOnly(RedisClusterNode.NodeFlag.SLAVE,
+                RedisClusterNode.NodeFlag.EVENTUAL_FAIL, RedisClusterNode.NodeFlag.NOADDR);
+        assertThat(result.getPartition(0).getSlaveOf()).isEqualTo("n2");
+        assertThat(result.getPartition(1).getFlags()).containsOnly(RedisClusterNode.NodeFlag.MASTER,
+                RedisClusterNode.NodeFlag.FAIL, RedisClusterNode.NodeFlag.HANDSHAKE);
+        assertThat(result.getPartition(1).getSlots()).containsExactly(0);
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectIncompleteNode() throws Exception {
+        ClusterPartitionParser.parse("n1 127.0.0.1:7379 master -");
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectInvalidSlot() throws Exception {
+        ClusterPartitionParser.parse("n1 127.0.0.1:7379 master - 0 0 1 connected 0-x");
+    }
+
     @Test
     public void getNodeByHashShouldReturnCorrectNode() throws Exception {
 
@@ -1,6 +1,7 @@
 package com.lambdaworks.redis.cluster;
 
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
 
 import com.lambdaworks.redis.RedisClusterConnection;
@@ -73,8 +74,14 @@ public class ClusterTestUtil {
      */
     public static RedisCommands<String, String> redisCommandsOverCluster(
             StatefulRedisClusterConnection<String, String> connection) {
-        StatefulRedisClusterConnectionImpl clusterConnection = (StatefulRedisClusterConnectionImpl) connection;
-        InvocationHandler h = clusterConnection.syncInvocationHandler();
+        Object sync = connection.sync();
+        InvocationHandler h = (proxy, method, args) -> {
+            try {
+                return sync.getClass().getMethod(method.getName(), method.getParameterTypes()).invoke(sync, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
         return (RedisCommands<String, String>) Proxy.newProxyInstance(ClusterTestUtil.class.getClassLoader(),
                 new Class[] { RedisCommands.class }, h);
     }
@@ -0,0 +1,70 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * @author Mark Paluch
+ */
+public class KeyPartitionsTest {
+
+    private final Utf8StringCodec codec = new Utf8StringCodec();
+
+    @Test
+    public void shouldPartitionKeysBySlotInOrder() throws Exception {
+
+        KeyPartitions<String> partitions = KeyPartitions.partition(codec, Arrays.asList("a{x}", "b", "c{x}", "d{x}"));
+
+        assertThat(partitions.size()).isEqualTo(2);
+        assertThat(partitions.getSlot(0)).isEqualTo(SlotHash.getSlot("x"));
+        assertThat(partitions.getKeys(0)).containsExactly("a{x}", "c{x}", "d{x}");
+        assertThat(partitions.getSlot(1)).isEqualTo(SlotHash.getSlot("b"));
+        assertThat(partitions.getKeys(1)).containsExactly("b");
+    }
+
+    @Test
+    public void shouldRestoreKeyOrder() throws Exception {
+
+        List<String> keys = Arrays.asList("a{x}", "b", "c{x}", "b");
+        KeyPartitions<String> partitions = KeyPartitions.partition(codec, keys);
+
+        List<List<String>> results = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            results.add(partitions.getKeys(i).stream().map(String::toUpperCase).collect(Collectors.toList()));
+        }
+
+        assertThat(partitions.restoreOrder(results)).containsExactly("A{X}", "B", "C{X}", "B");
+    }
+
+    @Test
+    public void shouldRestoreKeyOrderOfManyKeys() throws Exception {
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            keys.add("key-" + i);
+        }
+
+        KeyPartitions<String> partitions = KeyPartitions.partition(codec, keys);
+
+        List<List<String>> results = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+
+            for (String key : partitions.getKeys(i)) {
+                assertThat(SlotHash.getSlot(key)).isEqualTo(partitions.getSlot(i));
+            }
+
+            results.add(partitions.getKeys(i));
+        }
+
+        assertThat(partitions.size()).isGreaterThan(1);
+        assertThat(partitions.restoreOrder(results)).isEqualTo(keys);
+    }
+}
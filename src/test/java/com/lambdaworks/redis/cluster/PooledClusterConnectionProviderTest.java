@@ -97,6 +97,150 @@ public class PooledClusterConnectionProviderTest {
         verify(connection).setAutoFlushCommands(true);
     }
 
+    @Test
+    public void shouldShareConnectionAcrossSlotsOfNode() throws Exception {
+
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+
+        for (int slot = 0; slot < 8192; slot++) {
+            assertThat(sut.getConnection(Intent.WRITE, slot)).isSameAs(nodeConnectionMock);
+        }
+
+        verify(clientMock).connectToNode(eq(CODEC), eq("localhost:1"), any(), any());
+    }
+
+    @Test
+    public void shouldRouteToNewPartitions() throws Exception {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:3"), any(), any())).thenReturn(otherConnectionMock);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        Partitions newPartitions = new Partitions();
+        newPartitions.add(new RedisClusterNode(RedisURI.create("localhost", 3), "3", true, null, 0, 0, 0,
+                IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        sut.setPartitions(newPartitions);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+    }
+
+    @Test
+    public void shouldRetainConnectionsWhenReloadingUnchangedPartitions() throws Exception {
+
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.expireStaleConnections()).thenReturn(true);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        partitions.reload(partitions.getPartitions().stream().map(RedisClusterNode::new).collect(Collectors.toList()));
+        sut.setPartitions(partitions);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        verify(clientMock).connectToNode(eq(CODEC), eq("localhost:1"), any(), any());
+        verify(nodeConnectionMock, never()).close();
+    }
+
+    @Test
+    public void shouldRouteToPartitionsChangedInPlace() throws Exception {
+
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+
+        try {
+            sut.getConnection(Intent.WRITE, 8192);
+            fail("Missing RedisException");
+        } catch (RedisException e) {
+            // localhost:2 is not connectable
+        }
+
+        partitions.getPartition(0).setSlots(IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()));
+        partitions.getPartition(1).setSlots(Collections.emptyList());
+        partitions.updateCache();
+
+        assertThat(sut.getConnection(Intent.WRITE, 8192)).isSameAs(nodeConnectionMock);
+    }
+
+    @Test
+    public void shouldRouteMovedSlotToNewOwner() throws Exception {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(otherConnectionMock);
+
+        assertThat(sut.updateSlot(1, "localhost", 2)).isTrue();
+        assertThat(sut.updateSlot(1, "localhost", 2)).isFalse();
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 2)).isSameAs(nodeConnectionMock);
+
+        assertThat(sut.getSlotUpdates()).isEqualTo(1);
+        assertThat(sut.getRedirectsAvoided()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRouteMultipleMovedSlots() throws Exception {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(otherConnectionMock);
+
+        assertThat(sut.updateSlot(1, "localhost", 2)).isTrue();
+        assertThat(sut.updateSlot(4000, "localhost", 2)).isTrue();
+        assertThat(sut.updateSlot(8192, "localhost", 1)).isTrue();
+        assertThat(sut.updateSlot(1, "localhost", 1)).isTrue();
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 4000)).isSameAs(otherConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 4001)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 8192)).isSameAs(nodeConnectionMock);
+
+        assertThat(sut.getSlotUpdates()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldReadMovedSlotFromNewOwner() throws Exception {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(otherConnectionMock);
+        when(otherConnectionMock.isOpen()).thenReturn(true);
+
+        sut.setReadFrom(ReadFrom.MASTER);
+        sut.updateSlot(1, "localhost", 2);
+
+        assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(otherConnectionMock);
+        assertThat(sut.getRedirectsAvoided()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRouteMovedSlotToUnknownNode() throws Exception {
+
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+
+        assertThat(sut.updateSlot(1, "localhost", 3)).isFalse();
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getSlotUpdates()).isZero();
+    }
+
+    @Test
+    public void shouldDiscardMovedSlotOnNewPartitions() throws Exception {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(otherConnectionMock);
+
+        sut.updateSlot(1, "localhost", 2);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+
+        sut.setPartitions(partitions);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getRedirectsAvoided()).isEqualTo(1);
+    }
+
     @Test
     public void shouldCloseConnectionOnConnectFailure() throws Exception {
 
@@ -252,9 +252,11 @@ public class RedisClusterClientTest extends AbstractClusterTest {
             if (partition.getFlags().contains(RedisClusterNode.NodeFlag.MYSELF)) {
 
                 int[] slots = createSlots(0, 16384);
+                List<Integer> slotList = new ArrayList<>();
                 for (int i = 0; i < slots.length; i++) {
-                    partition.getSlots().add(i);
+                    slotList.add(i);
                 }
+                partition.setSlots(slotList);
             }
         }
         partitions.updateCache();
@@ -293,11 +295,12 @@ public class RedisClusterClientTest extends AbstractClusterTest {
             if (partition.getSlots().contains(15495)) {
                 partition.setSlots(new ArrayList<>());
             } else {
-                partition.setSlots(new ArrayList<>());
                 int[] slots = createSlots(0, 16384);
+                List<Integer> slotList = new ArrayList<>();
                 for (int i = 0; i < slots.length; i++) {
-                    partition.getSlots().add(i);
+                    slotList.add(i);
                 }
+                partition.setSlots(slotList);
             }
 
         }
@@ -0,0 +1,88 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.event.ClusterTopologyDeltaEvent;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * @author Mark Paluch
+ */
+public class TopologyDeltaTest {
+
+    @Test
+    public void shouldReportNoChanges() throws Exception {
+
+        Partitions before = partitions(node("1", 7379, 0, 8192), node("2", 7380, 8192, SlotHash.SLOT_COUNT));
+        Partitions after = partitions(node("1", 7379, 0, 8192), node("2", 7380, 8192, SlotHash.SLOT_COUNT));
+
+        assertThat(TopologyDelta.compute(before, after).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldReportMovedSlots() throws Exception {
+
+        Partitions before = partitions(node("1", 7379, 0, 8192), node("2", 7380, 8192, SlotHash.SLOT_COUNT));
+        Partitions after = partitions(node("1", 7379, 0, 8194), node("2", 7380, 8194, SlotHash.SLOT_COUNT));
+
+        TopologyDelta delta = TopologyDelta.compute(before, after);
+        ClusterTopologyDeltaEvent event = delta.toEvent();
+
+        assertThat(delta.isEmpty()).isFalse();
+        assertThat(event.addedNodes()).isEmpty();
+        assertThat(event.removedNodes()).isEmpty();
+        assertThat(event.changedNodes()).extracting(RedisClusterNode::getNodeId).containsExactly("1", "2");
+        assertThat(event.changedSlots()).containsExactly(8192, 8193);
+    }
+
+    @Test
+    public void shouldReportAddedAndRemovedNodes() throws Exception {
+
+        Partitions before = partitions(node("1", 7379, 0, 8192), node("2", 7380, 8192, SlotHash.SLOT_COUNT));
+        Partitions after = partitions(node("1", 7379, 0, 8192), node("3", 7381, 8192, SlotHash.SLOT_COUNT));
+
+        ClusterTopologyDeltaEvent event = TopologyDelta.compute(before, after).toEvent();
+
+        assertThat(event.addedNodes()).extracting(RedisClusterNode::getNodeId).containsExactly("3");
+        assertThat(event.removedNodes()).extracting(RedisClusterNode::getNodeId).containsExactly("2");
+        assertThat(event.changedNodes()).isEmpty();
+        assertThat(event.changedSlots()).hasSize(SlotHash.SLOT_COUNT - 8192);
+    }
+
+    @Test
+    public void shouldReportChangedAddress() throws Exception {
+
+        Partitions before = partitions(node("1", 7379, 0, SlotHash.SLOT_COUNT));
+        Partitions after = partitions(node("1", 7479, 0, SlotHash.SLOT_COUNT));
+
+        ClusterTopologyDeltaEvent event = TopologyDelta.compute(before, after).toEvent();
+
+        assertThat(event.changedNodes()).extracting(RedisClusterNode::getNodeId).containsExactly("1");
+        assertThat(event.changedSlots()).hasSize(SlotHash.SLOT_COUNT);
+    }
+
+    private static Partitions partitions(RedisClusterNode... nodes) {
+
+        Partitions partitions = new Partitions();
+        for (RedisClusterNode node : nodes) {
+            partitions.add(node);
+        }
+        return partitions;
+    }
+
+    private static RedisClusterNode node(String nodeId, int port, int from, int to) {
+
+        List<Integer> slots = IntStream.range(from, to).boxed().collect(Collectors.toList());
+        return new RedisClusterNode(RedisURI.create("localhost", port), nodeId, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+}
@@ -2,6 +2,11 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.lambdaworks.redis.RedisURI;
@@ -25,4 +30,59 @@ public class RedisClusterNodeTest {
 
         assertThat(node.toString()).contains(RedisClusterNode.class.getSimpleName());
     }
+
+    @Test
+    public void shouldStoreSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(3, 1, 16383));
+
+        assertThat(node.getSlots()).containsExactly(1, 3, 16383);
+        assertThat(node.getSlotCount()).isEqualTo(3);
+        assertThat(node.hasSlot(1)).isTrue();
+        assertThat(node.hasSlot(2)).isFalse();
+        assertThat(node.hasSlot(16383)).isTrue();
+        assertThat(node.hasSlot(16384)).isFalse();
+        assertThat(node.hasSlot(-1)).isFalse();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnUnmodifiableSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 2));
+
+        node.getSlots().add(3);
+    }
+
+    @Test
+    public void shouldCopySlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+        node.setSlots(Arrays.asList(1, 2));
+
+        RedisClusterNode copy = new RedisClusterNode(node);
+        node.setSlots(Arrays.asList(1));
+
+        assertThat(copy.getSlots()).containsExactly(1, 2);
+        assertThat(copy.hasSameSlotsAs(node)).isFalse();
+
+        copy.setSlots(Arrays.asList(1));
+        assertThat(copy.hasSameSlotsAs(node)).isTrue();
+    }
+
+    @Test
+    public void shouldIterateSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        assertThat(node.getSlots()).isEmpty();
+
+        node.setSlots(Arrays.asList(10, 5));
+
+        List<Integer> slots = new ArrayList<>();
+        node.forEachSlot(slots::add);
+
+        assertThat(slots).containsExactly(5, 10);
+    }
 }
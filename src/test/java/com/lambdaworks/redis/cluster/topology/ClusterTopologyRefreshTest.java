@@ -3,6 +3,8 @@ package com.lambdaworks.redis.cluster.topology;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -251,6 +253,63 @@ public class ClusterTopologyRefreshTest {
         verify(nodeConnectionFactory).connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381)));
     }
 
+    @Test
+    public void shouldReuseTopologyConnections() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+        when(connection1.isOpen()).thenReturn(true);
+
+        sut.loadViews(seed, false);
+        Map<RedisURI, Partitions> partitionsMap = sut.loadViews(seed, false);
+
+        assertThat(partitionsMap).hasSize(1);
+        verify(nodeConnectionFactory).connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380)));
+        verify(connection1, never()).close();
+
+        sut.close();
+
+        verify(connection1).close();
+    }
+
+    @Test
+    public void shouldReplaceClosedTopologyConnections() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+
+        sut.loadViews(seed, false);
+        sut.loadViews(seed, false);
+
+        verify(nodeConnectionFactory, times(2)).connectToNode(any(RedisCodec.class),
+                eq(new InetSocketAddress("127.0.0.1", 7380)));
+        verify(connection1).close();
+    }
+
+    @Test
+    public void shouldCloseConnectionsOfNodesLeavingTopology() throws Exception {
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7382))))
+                .thenReturn((StatefulRedisConnection) connection2);
+        when(connection1.isOpen()).thenReturn(true);
+        when(connection2.isOpen()).thenReturn(true);
+
+        sut.loadViews(Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7382)), false);
+
+        verify(connection2, never()).close();
+
+        sut.loadViews(Arrays.asList(RedisURI.create("127.0.0.1", 7380)), false);
+
+        verify(connection1, never()).close();
+        verify(connection2).close();
+    }
+
     @Test
     public void undiscoveredAdditionalNodesShouldBeLastUsingClientCount() throws Exception {
 
@@ -2,6 +2,8 @@ package com.lambdaworks.redis.cluster.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -263,8 +265,10 @@ public class TopologyRefreshTest extends AbstractTest {
         RedisClusterNode node1 = partitions.getPartitionBySlot(0);
         RedisClusterNode node2 = partitions.getPartitionBySlot(12000);
 
-        node2.getSlots().addAll(node1.getSlots());
-        node1.getSlots().clear();
+        List<Integer> slots = new ArrayList<>(node2.getSlots());
+        slots.addAll(node1.getSlots());
+        node2.setSlots(slots);
+        node1.setSlots(new ArrayList<>());
         partitions.updateCache();
 
         assertThat(clusterClient.getPartitions().getPartitionByNodeId(node1.getNodeId()).getSlots()).hasSize(0);
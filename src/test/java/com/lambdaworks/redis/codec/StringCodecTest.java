@@ -42,6 +42,24 @@ public class StringCodecTest {
         assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(teststringPlain);
     }
 
+    @Test
+    public void encodeLargeAsciiStringUsingUtf8() throws Exception {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        String value = builder.toString();
+
+        StringCodec codec = new StringCodec(LettuceCharsets.UTF8);
+
+        ByteBuf buffer = Unpooled.directBuffer(value.length());
+        codec.encode(value, buffer);
+
+        assertThat(buffer.capacity()).isEqualTo(value.length());
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(value);
+    }
+
     @Test
     public void encodeIso88591Buf() throws Exception {
 
@@ -64,6 +82,18 @@ public class StringCodecTest {
         assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststring);
     }
 
+    @Test
+    public void encodeAndDecodeUtf8ByteBuf() throws Exception {
+
+        StringCodec codec = new StringCodec(LettuceCharsets.UTF8);
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        codec.encodeKey(teststring, buffer);
+
+        assertThat(codec.decodeKey(buffer.duplicate())).isEqualTo(teststring);
+        assertThat(codec.decodeValue(buffer.duplicate())).isEqualTo(teststring);
+    }
+
     @Test
     public void encodeAndDecodeUtf8() throws Exception {
 
@@ -98,7 +128,8 @@ public class StringCodecTest {
     @Test
     public void estimateSize() throws Exception {
 
-        assertThat(new StringCodec(LettuceCharsets.UTF8).estimateSize(teststring)).isEqualTo((int) (teststring.length() * 1.1));
+        assertThat(new StringCodec(LettuceCharsets.UTF8).estimateSize(teststring))
+                .isEqualTo(teststring.getBytes(LettuceCharsets.UTF8).length);
         assertThat(new StringCodec(LettuceCharsets.ASCII).estimateSize(teststring)).isEqualTo(teststring.length());
         assertThat(new StringCodec(StandardCharsets.ISO_8859_1).estimateSize(teststring)).isEqualTo(teststring.length());
     }
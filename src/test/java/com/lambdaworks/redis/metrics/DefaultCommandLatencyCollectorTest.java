@@ -4,6 +4,7 @@ import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.SocketAddress;
 import java.util.Map;
 
 import org.junit.Test;
@@ -56,6 +57,51 @@ public class DefaultCommandLatencyCollectorTest {
 
     }
 
+    @Test
+    public void verifyBatchMetrics() throws Exception {
+
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 1);
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 16);
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 128);
+
+        Map<SocketAddress, BatchMetrics> batchSizes = sut.retrieveBatchMetrics();
+        assertThat(batchSizes).hasSize(1);
+
+        BatchMetrics metrics = batchSizes.get(LocalAddress.ANY);
+        assertThat(metrics.getCount()).isEqualTo(3);
+        assertThat(metrics.getMin()).isEqualTo(1);
+        assertThat(metrics.getMax()).isEqualTo(128);
+        assertThat(metrics.getPercentiles()).containsKey(50.0d);
+
+        assertThat(sut.retrieveBatchMetrics()).isEmpty();
+    }
+
+    @Test
+    public void shouldAccumulateBatchMetricsWithoutReset() throws Exception {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.builder()
+                .resetLatenciesAfterEvent(false).build());
+
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 1);
+        assertThat(sut.retrieveBatchMetrics().get(LocalAddress.ANY).getCount()).isEqualTo(1);
+
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 128);
+
+        BatchMetrics metrics = sut.retrieveBatchMetrics().get(LocalAddress.ANY);
+        assertThat(metrics.getCount()).isEqualTo(2);
+        assertThat(metrics.getMin()).isEqualTo(1);
+        assertThat(metrics.getMax()).isEqualTo(128);
+    }
+
+    @Test
+    public void shouldReturnEmptyBatchMetricsAfterShutdown() throws Exception {
+
+        sut.recordBatchSize(LocalAddress.ANY, LocalAddress.ANY, 1);
+        sut.shutdown();
+
+        assertThat(sut.retrieveBatchMetrics()).isEmpty();
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
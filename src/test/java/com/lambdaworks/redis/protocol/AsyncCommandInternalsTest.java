@@ -4,6 +4,7 @@ import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -16,6 +17,7 @@ import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.CommandOutput;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.resource.AwaitStrategy;
 
 public class AsyncCommandInternalsTest {
     protected RedisCodec<String, String> codec = new Utf8StringCodec();
@@ -142,6 +144,32 @@ public class AsyncCommandInternalsTest {
         assertThat(sut.await(2, TimeUnit.MILLISECONDS)).isFalse();
     }
 
+    @Test(timeout = 100)
+    public void awaitWithSpinThenPark() throws Exception {
+
+        sut.awaitStrategy(AwaitStrategy.spinThenPark());
+        assertThat(sut.await(2, TimeUnit.MILLISECONDS)).isFalse();
+
+        sut.complete();
+        assertThat(sut.await(0, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    public void transactionalCommandCompletesOnSecondCompletion() throws Exception {
+
+        sut = new TransactionalCommand<>(internal);
+
+        sut.complete();
+        assertThat(sut.isDone()).isFalse();
+        assertThat(sut.await(0, TimeUnit.MILLISECONDS)).isFalse();
+
+        sut.getOutput().set(buffer("one"));
+        sut.complete();
+        assertThat(sut.await(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(sut.get()).isEqualTo("one");
+        assertThat(internal.isDone()).isTrue();
+    }
+
     @Test(expected = InterruptedException.class, timeout = 100)
     public void getInterrupted() throws Exception {
         Thread.currentThread().interrupt();
@@ -182,6 +210,23 @@ public class AsyncCommandInternalsTest {
         output.set(0);
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void completeShouldCountDownLatchAssignedBySubclass() throws Exception {
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<String, String, String>(internal) {
+            {
+                latch = new CountDownLatch(1);
+            }
+        };
+
+        assertThat(command.latch.getCount()).isEqualTo(1);
+
+        command.complete();
+
+        assertThat(command.latch.await(0, TimeUnit.SECONDS)).isTrue();
+    }
+
     @Test
     public void sillyTestsForEmmaCoverage() throws Exception {
         assertThat(CommandType.valueOf("APPEND")).isEqualTo(CommandType.APPEND);
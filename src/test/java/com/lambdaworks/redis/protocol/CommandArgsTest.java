@@ -2,16 +2,26 @@ package com.lambdaworks.redis.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import org.junit.Test;
 
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.FileRegion;
+import io.netty.util.ReferenceCountUtil;
 
 /**
  * @author Mark Paluch
@@ -68,6 +78,59 @@ public class CommandArgsTest {
         assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
     }
 
+    @Test
+    public void getFirstKeySlotShouldReturnMinusOne() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add("one");
+
+        assertThat(args.getFirstKeySlot()).isEqualTo(-1);
+    }
+
+    @Test
+    public void getFirstKeySlotShouldReturnSlotOfFirstKey() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key{123456789}").addKey("two");
+
+        assertThat(args.getFirstKeySlot()).isEqualTo(SlotHash.getSlot("123456789"));
+    }
+
+    @Test
+    public void shouldEncodeFirstKeyOnce() throws Exception {
+
+        CountingCodec countingCodec = new CountingCodec();
+        CommandArgs<String, String> args = new CommandArgs<>(countingCodec).addKey("one").addKey("two");
+
+        args.getFirstKeySlot();
+        args.getFirstEncodedKey();
+        args.estimateSize();
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\none\r\n$3\r\ntwo\r\n");
+        assertThat(countingCodec.encodedKeys).containsExactly("one", "two");
+
+        buffer.release();
+    }
+
+    @Test
+    public void shouldEncodeValueOnce() throws Exception {
+
+        CountingValueCodec countingCodec = new CountingValueCodec();
+        CommandArgs<String, String> args = new CommandArgs<>(countingCodec).addValue("one");
+
+        args.estimateSize();
+        args.estimateSize();
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\none\r\n");
+        assertThat(countingCodec.encodedValues).containsExactly("one");
+
+        buffer.release();
+    }
+
     @Test
     public void addValues() throws Exception {
 
@@ -185,4 +248,247 @@ public class CommandArgsTest {
 
         assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString(LettuceCharsets.ASCII));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void addNumbers() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(0).add(42).add(-7).add(Long.MAX_VALUE)
+                .add(Long.MIN_VALUE).add(1.0).add(-250.0).add(0.5).add(-0.0).add(1e7);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        StringBuilder expected = new StringBuilder();
+        for (String value : Arrays.asList("0", "42", "-7", Long.toString(Long.MAX_VALUE), Long.toString(Long.MIN_VALUE),
+                Double.toString(1.0), Double.toString(-250.0), Double.toString(0.5), Double.toString(-0.0),
+                Double.toString(1e7))) {
+            expected.append('$').append(value.length()).append("\r\n").append(value).append("\r\n");
+        }
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString());
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void estimateSizeShouldMatchEncodedSize() throws Exception {
+
+        char[] chars = new char[9];
+        Arrays.fill(chars, '\u00e4');
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue(new String(chars))
+                .addValue("\ud83d\ude00").add("string").add(1234);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+        assertThat(buffer.toString(LettuceCharsets.UTF8)).isEqualTo("$3\r\nkey\r\n$18\r\n" + new String(chars)
+                + "\r\n$4\r\n\ud83d\ude00\r\n$6\r\nstring\r\n$4\r\n1234\r\n");
+    }
+
+    @Test
+    public void estimateSizeShouldEncodeByteArraysOfCustomCodecs() throws Exception {
+
+        ByteArrayCodec prefixing = new ByteArrayCodec() {
+            @Override
+            public ByteBuffer encodeValue(byte[] value) {
+                return ByteBuffer.wrap(("prefix:" + new String(value)).getBytes());
+            }
+        };
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(prefixing).addKey("key".getBytes())
+                .addValue("value".getBytes());
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\nkey\r\n$12\r\nprefix:value\r\n");
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void addValueUsingToByteBufEncoderWithInaccurateEstimate() throws Exception {
+
+        char[] chars = new char[95];
+        Arrays.fill(chars, 'a');
+
+        StringCodec iso = new StringCodec(LettuceCharsets.ASCII) {
+            @Override
+            public int estimateSize(Object keyOrValue) {
+                return 5;
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(iso).addValue(new String(chars));
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$95\r\n" + new String(chars) + "\r\n");
+    }
+
+    @Test
+    public void estimateSizeShouldMatchEncodedCommand() throws Exception {
+
+        Command<String, String, String> command = new Command<>(CommandType.MSET, null,
+                new CommandArgs<>(codec).addKey("key").addValue("value").add(-12));
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(CommandEncoder.estimateSize(command)).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void addKeywords() throws Exception {
+
+        ProtocolKeyword custom = new ProtocolKeyword() {
+            @Override
+            public byte[] getBytes() {
+                return "CUSTOM".getBytes();
+            }
+
+            @Override
+            public String name() {
+                return "CUSTOM";
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(CommandKeyword.LIMIT).add(CommandType.GET)
+                .add((ProtocolKeyword) CommandKeyword.WITHSCORES).add(custom);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII))
+                .isEqualTo("$5\r\nLIMIT\r\n$3\r\nGET\r\n$10\r\nWITHSCORES\r\n$6\r\nCUSTOM\r\n");
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void encodeCommandsUsingPrecomputedHeaders() throws Exception {
+
+        for (int count = 0; count < EncodedKeyword.CACHED_ARGUMENT_COUNT + 2; count++) {
+
+            CommandArgs<String, String> args = new CommandArgs<>(codec);
+            StringBuilder expected = new StringBuilder("*" + (count + 1) + "\r\n$4\r\nHGET\r\n");
+
+            for (int i = 0; i < count; i++) {
+                args.add(i);
+                expected.append("$1\r\n").append(i).append("\r\n");
+            }
+
+            ByteBuf buffer = Unpooled.buffer();
+            new Command<>(CommandType.HGET, null, args).encode(buffer);
+
+            assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    public void addByteBufShouldCopyReadableBytes() throws Exception {
+
+        ByteBuf value = Unpooled.copiedBuffer("xxhello", LettuceCharsets.ASCII);
+        value.readerIndex(2);
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key").add(value);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\nkey\r\n$5\r\nhello\r\n");
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+        assertThat(args.hasZeroCopyArguments()).isTrue();
+        assertThat(value.readerIndex()).isEqualTo(2);
+        assertThat(args.toString()).contains("<5 bytes>");
+    }
+
+    @Test
+    public void addByteBufShouldEncodeRetainedSlice() throws Exception {
+
+        ByteBuf value = Unpooled.copiedBuffer("hello", LettuceCharsets.ASCII);
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(value).add(1);
+
+        List<Object> segments = new ArrayList<>();
+        segments.add(Unpooled.buffer());
+        args.encode(segments, UnpooledByteBufAllocator.DEFAULT, false);
+
+        assertThat(segments).hasSize(3);
+        assertThat(((ByteBuf) segments.get(0)).toString(LettuceCharsets.ASCII)).isEqualTo("$5\r\n");
+        assertThat(((ByteBuf) segments.get(1)).toString(LettuceCharsets.ASCII)).isEqualTo("hello");
+        assertThat(((ByteBuf) segments.get(2)).toString(LettuceCharsets.ASCII)).isEqualTo("\r\n$1\r\n1\r\n");
+        assertThat(value.refCnt()).isEqualTo(2);
+
+        segments.forEach(ReferenceCountUtil::release);
+        assertThat(value.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void addFileShouldEncodeRegion() throws Exception {
+
+        File file = createFile("0123456789");
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(file, 2, 5);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$5\r\n23456\r\n");
+
+        List<Object> segments = new ArrayList<>();
+        segments.add(Unpooled.buffer());
+        args.encode(segments, UnpooledByteBufAllocator.DEFAULT, true);
+
+        assertThat(segments).hasSize(3);
+        assertThat(segments.get(1)).isInstanceOf(FileRegion.class);
+        assertThat(((FileRegion) segments.get(1)).position()).isEqualTo(2);
+        assertThat(((FileRegion) segments.get(1)).count()).isEqualTo(5);
+
+        segments.forEach(ReferenceCountUtil::release);
+    }
+
+    @Test(expected = RedisException.class)
+    public void addFileShouldRejectRegionBeyondEndOfFile() throws Exception {
+
+        File file = createFile("0123456789");
+        new CommandArgs<>(codec).add(file, 8, 5).encode(Unpooled.buffer());
+    }
+
+    private static File createFile(String content) throws Exception {
+
+        File file = File.createTempFile("lettuce", ".bin");
+        file.deleteOnExit();
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(content.getBytes(LettuceCharsets.ASCII));
+        }
+
+        return file;
+    }
+
+    private static class CountingCodec extends StringCodec {
+
+        final List<String> encodedKeys = new ArrayList<>();
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            encodedKeys.add(key);
+            return super.encodeKey(key);
+        }
+
+        @Override
+        public void encodeKey(String key, ByteBuf target) {
+            encodedKeys.add(key);
+            super.encodeKey(key, target);
+        }
+    }
+
+    private static class CountingValueCodec extends Utf8StringCodec {
+
+        final List<String> encodedValues = new ArrayList<>();
+
+        @Override
+        public ByteBuffer encodeValue(String value) {
+            encodedValues.add(value);
+            return super.encodeValue(value);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * @author Mark Paluch
+ */
+public class CommandEncoderTest {
+
+    private Utf8StringCodec codec = new Utf8StringCodec();
+    private EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder());
+
+    @After
+    public void tearDown() throws Exception {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldEncodeCommandIntoSingleBuffer() throws Exception {
+
+        channel.writeOutbound(command(new CommandArgs<>(codec).addKey("key").addValue("value")));
+
+        assertThat(readOutbound()).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void shouldWriteByteBufArgumentWithoutCopying() throws Exception {
+
+        ByteBuf value = Unpooled.copiedBuffer("value", LettuceCharsets.ASCII);
+
+        ChannelFuture future = channel.writeAndFlush(command(new CommandArgs<>(codec).addKey("key").add(value)));
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(readOutbound()).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\n");
+
+        ByteBuf payload = (ByteBuf) channel.readOutbound();
+        assertThat(payload.unwrap()).isSameAs(value);
+        assertThat(payload.toString(LettuceCharsets.ASCII)).isEqualTo("value");
+        payload.release();
+
+        assertThat(readOutbound()).isEqualTo("\r\n");
+        assertThat(value.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEncodeBatchWithByteBufArgument() throws Exception {
+
+        ByteBuf value = Unpooled.copiedBuffer("value", LettuceCharsets.ASCII);
+
+        channel.writeAndFlush(Arrays.asList(new Command<>(CommandType.PING, new StatusOutput<>(codec)),
+                command(new CommandArgs<>(codec).addKey("key").add(value)),
+                new Command<>(CommandType.PING, new StatusOutput<>(codec))));
+
+        StringBuilder written = new StringBuilder();
+        for (ByteBuf buffer = (ByteBuf) channel.readOutbound(); buffer != null; buffer = (ByteBuf) channel.readOutbound()) {
+            written.append(buffer.toString(LettuceCharsets.ASCII));
+            buffer.release();
+        }
+
+        assertThat(written.toString()).isEqualTo(
+                "*1\r\n$4\r\nPING\r\n*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n*1\r\n$4\r\nPING\r\n");
+        assertThat(value.refCnt()).isEqualTo(1);
+    }
+
+    private Command<String, String, String> command(CommandArgs<String, String> args) {
+        return new Command<>(CommandType.SET, new StatusOutput<>(codec), args);
+    }
+
+    private String readOutbound() {
+
+        ByteBuf buffer = (ByteBuf) channel.readOutbound();
+        try {
+            return buffer.toString(LettuceCharsets.ASCII);
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -6,7 +6,13 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
@@ -31,16 +37,22 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ConnectionEvents;
 import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.metrics.BatchMetrics;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueOutput;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -68,6 +80,9 @@ public class CommandHandlerTest {
     @Mock
     private EventLoop eventLoop;
 
+    @Mock
+    private Channel.Unsafe unsafe;
+
     @Mock
     private ClientResources clientResources;
 
@@ -320,6 +335,41 @@ public class CommandHandlerTest {
         sut.write(command);
     }
 
+    @Test
+    public void shouldWriteAllCommandsWithSingleFlush() throws Exception {
+
+        Command<String, String, String> second = new Command<>(CommandType.APPEND,
+                new StatusOutput<String, String>(new Utf8StringCodec()), null);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.writeAll(Arrays.asList(command, second));
+
+        assertThat(q).containsExactly(command, second);
+        verify(channel).writeAndFlush(Arrays.asList(command, second));
+        verify(channel, times(1)).writeAndFlush(any());
+    }
+
+    @Test
+    public void shouldBufferAllCommandsWhenDisconnected() throws Exception {
+
+        Command<String, String, String> second = new Command<>(CommandType.APPEND,
+                new StatusOutput<String, String>(new Utf8StringCodec()), null);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.setState(CommandHandler.LifecycleState.DISCONNECTED);
+
+        sut.writeAll(Arrays.asList(command, second));
+
+        Collection buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).containsExactly(command, second);
+    }
+
     @Test
     public void testExceptionChannelInactive() throws Exception {
         sut.setState(CommandHandler.LifecycleState.DISCONNECTED);
@@ -531,6 +581,390 @@ public class CommandHandlerTest {
         verify(byteBufMock, never()).release();
     }
 
+    @Test
+    public void shouldDecodeSplitResponseUsingDirectCumulation() throws Exception {
+
+        sut = new CommandHandler<String, String>(
+                ClientOptions.builder().cumulationMode(ClientOptions.CumulationMode.DIRECT).build(), clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.channelRegistered(context);
+
+        q.add(command);
+
+        ByteBuf first = Unpooled.copiedBuffer("+OK\r\n+PA", LettuceCharsets.ASCII);
+        ByteBuf second = Unpooled.copiedBuffer("RTIAL\r\n", LettuceCharsets.ASCII);
+
+        Command<String, String, String> command2 = new Command<>(CommandType.APPEND,
+                new StatusOutput<String, String>(new Utf8StringCodec()), null);
+        q.add(command2);
+
+        sut.channelRead(context, first);
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(command2.isDone()).isFalse();
+        assertThat(first.refCnt()).isEqualTo(0);
+
+        sut.channelRead(context, second);
+
+        assertThat(command2.isDone()).isTrue();
+        assertThat(command2.get()).isEqualTo("PARTIAL");
+        assertThat(second.refCnt()).isEqualTo(0);
+        assertThat(((ByteBuf) ReflectionTestUtils.getField(sut, "buffer")).isReadable()).isFalse();
+    }
+
+    @Test
+    public void shouldDecodeBulkStringSplitAcrossReadsUsingDirectCumulation() throws Exception {
+
+        sut = new CommandHandler<String, String>(
+                ClientOptions.builder().cumulationMode(ClientOptions.CumulationMode.DIRECT).build(), clientResources, q);
+        sut.channelRegistered(context);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET,
+                new ValueOutput<String, String>(new Utf8StringCodec()), null);
+        q.add(get);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$10\r", LettuceCharsets.ASCII));
+        sut.channelRead(context, Unpooled.copiedBuffer("\n01234", LettuceCharsets.ASCII));
+        sut.channelRead(context, Unpooled.copiedBuffer("56789\r", LettuceCharsets.ASCII));
+
+        assertThat(get.isDone()).isFalse();
+
+        sut.channelRead(context, Unpooled.copiedBuffer("\n", LettuceCharsets.ASCII));
+
+        assertThat(get.isDone()).isTrue();
+        assertThat(get.get()).isEqualTo("0123456789");
+    }
+
+    @Test
+    public void shouldConsumeReceivedBufferUsingDirectCumulation() throws Exception {
+
+        sut = new CommandHandler<String, String>(
+                ClientOptions.builder().cumulationMode(ClientOptions.CumulationMode.DIRECT).build(), clientResources, q);
+        sut.channelRegistered(context);
+
+        q.add(command);
+
+        ByteBuf input = Unpooled.copiedBuffer("+OK\r\n", LettuceCharsets.ASCII);
+        sut.channelRead(context, input);
+
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(input.refCnt()).isEqualTo(0);
+        assertThat(((ByteBuf) ReflectionTestUtils.getField(sut, "buffer")).isReadable()).isFalse();
+    }
+
+    @Test
+    public void shouldDrainPendingWritesOnEventLoopUsingMpscWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithWriteMode(ClientOptions.WriteMode.MPSC);
+        Command<String, String, String> second = new Command<>(CommandType.APPEND,
+                new StatusOutput<String, String>(new Utf8StringCodec()), null);
+
+        sut.write(command);
+        sut.write(second);
+
+        assertThat(q).isEmpty();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        assertThat(q).containsExactly(command, second);
+        verify(channel).writeAndFlush(Arrays.asList(command, second));
+    }
+
+    @Test
+    public void shouldBufferPendingWritesOnChannelInactiveUsingMpscWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithWriteMode(ClientOptions.WriteMode.MPSC);
+
+        sut.write(command);
+        sut.channelInactive(context);
+        tasks.get(0).run();
+
+        Collection buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).containsOnly(command);
+        assertThat(q).isEmpty();
+    }
+
+    @Test
+    public void shouldCancelPendingWritesOnResetUsingMpscWriteMode() throws Exception {
+
+        activateWithWriteMode(ClientOptions.WriteMode.MPSC);
+
+        sut.write(command);
+        sut.reset();
+
+        assertThat(command.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void shouldDiscardPendingWritesOnInitialStateUsingMpscWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithWriteMode(ClientOptions.WriteMode.MPSC);
+
+        sut.write(command);
+        sut.initialState();
+        tasks.get(0).run();
+
+        assertThat(q).isEmpty();
+        verify(channel, never()).writeAndFlush(any());
+    }
+
+    @Test
+    public void shouldWriteDirectlyFromEventLoopUsingMpscWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithWriteMode(ClientOptions.WriteMode.MPSC);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+
+        sut.write(command);
+
+        assertThat(tasks).isEmpty();
+        assertThat(q).containsOnly(command);
+    }
+
+    @Test
+    public void shouldFlushInBatchesUsingAutoBatchWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithOptions(ClientOptions.builder().writeMode(ClientOptions.WriteMode.AUTO_BATCH)
+                .maxBatchSize(2).build());
+        when(channel.unsafe()).thenReturn(unsafe);
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress("localhost", 6379));
+
+        for (int i = 0; i < 5; i++) {
+            sut.write(new Command<>(CommandType.APPEND, new StatusOutput<String, String>(new Utf8StringCodec()), null));
+        }
+
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        assertThat(q).hasSize(5);
+        verify(channel, times(5)).write(any(RedisCommand.class));
+        verify(channel, times(3)).flush();
+
+        Map<SocketAddress, BatchMetrics> batchSizes = clientResources.commandLatencyCollector().retrieveBatchMetrics();
+        BatchMetrics metrics = batchSizes.get(new InetSocketAddress("localhost", 6379));
+        assertThat(metrics.getCount()).isEqualTo(3);
+        assertThat(metrics.getMin()).isEqualTo(1);
+        assertThat(metrics.getMax()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEnqueueWritesFromEventLoopUsingAutoBatchWriteMode() throws Exception {
+
+        List<Runnable> tasks = activateWithWriteMode(ClientOptions.WriteMode.AUTO_BATCH);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        when(channel.unsafe()).thenReturn(unsafe);
+
+        sut.write(command);
+
+        assertThat(q).isEmpty();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        assertThat(q).containsOnly(command);
+        verify(channel).flush();
+    }
+
+    @Test
+    public void shouldRejectCommandsExceedingRequestQueueBytes() throws Exception {
+
+        activateWithOptions(ClientOptions.builder().requestQueueBytes(100).build());
+
+        sut.write(setCommand(80));
+
+        assertThat(sut.getInFlightCommands()).isEqualTo(1);
+        assertThat(sut.getInFlightBytes()).isGreaterThan(80);
+
+        try {
+            sut.write(setCommand(80));
+            fail("Missing RedisException");
+        } catch (RedisException e) {
+            assertThat(e).hasMessageContaining("Request queue bytes exceeded");
+        }
+
+        sut.channelRead(context, Unpooled.copiedBuffer("+OK\r\n", LettuceCharsets.ASCII));
+
+        assertThat(sut.getInFlightCommands()).isZero();
+        assertThat(sut.getInFlightBytes()).isZero();
+
+        // commands exceeding the limit on their own are accepted if nothing else is in flight
+        sut.write(setCommand(200));
+        assertThat(q).hasSize(1);
+    }
+
+    @Test
+    public void shouldReleaseRequestQueueCapacityOnReset() throws Exception {
+
+        activateWithOptions(ClientOptions.builder().requestQueueSize(1).requestQueueBytes(1000).build());
+
+        sut.write(command);
+        sut.reset();
+
+        assertThat(command.isCancelled()).isTrue();
+        assertThat(sut.getInFlightCommands()).isZero();
+        assertThat(sut.getInFlightBytes()).isZero();
+
+        sut.write(setCommand(10));
+    }
+
+    @Test
+    public void shouldWaitForRequestQueueCapacity() throws Exception {
+
+        activateWithOptions(ClientOptions.builder().requestQueueSize(1)
+                .requestQueueFullBehavior(ClientOptions.RequestQueueFullBehavior.WAIT).requestQueueWaitTimeout(10, TimeUnit.SECONDS)
+                .build());
+
+        Command<String, String, String> second = setCommand(10);
+
+        sut.write(command);
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> sut.write(second));
+
+        AtomicInteger waiters = (AtomicInteger) ReflectionTestUtils.getField(sut, "requestQueueWaiters");
+        while (waiters.get() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThat(write).isNotDone();
+
+        sut.channelRead(context, Unpooled.copiedBuffer("+OK\r\n", LettuceCharsets.ASCII));
+        write.get(10, TimeUnit.SECONDS);
+
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(q).containsOnly(second);
+    }
+
+    @Test
+    public void shouldRejectCommandsAfterRequestQueueWaitTimeout() throws Exception {
+
+        activateWithOptions(ClientOptions.builder().requestQueueSize(1)
+                .requestQueueFullBehavior(ClientOptions.RequestQueueFullBehavior.WAIT)
+                .requestQueueWaitTimeout(10, TimeUnit.MILLISECONDS).build());
+
+        sut.write(command);
+
+        try {
+            sut.write(setCommand(10));
+            fail("Missing RedisException");
+        } catch (RedisException e) {
+            assertThat(e).hasMessageContaining("Request queue size exceeded");
+        }
+
+        assertThat(sut.getInFlightCommands()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotWriteExpiredCommands() throws Exception {
+
+        AsyncCommand<String, String, String> expired = new AsyncCommand<>(command);
+        expired.deadline(System.nanoTime() - 1);
+
+        sut.write(context, expired, null);
+
+        verifyZeroInteractions(context);
+        assertThat((Collection) ReflectionTestUtils.getField(sut, "queue")).isEmpty();
+        assertThat(expired.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    public void shouldNotWriteExpiredCommandsInBatch() throws Exception {
+
+        AsyncCommand<String, String, String> expired = new AsyncCommand<>(command);
+        AsyncCommand<String, String, String> active = new AsyncCommand<>(
+                new Command<>(CommandType.APPEND, new StatusOutput<String, String>(new Utf8StringCodec()), null))
+                        .deadline(1, TimeUnit.MINUTES);
+        expired.deadline(System.nanoTime() - 1);
+
+        sut.write(context, Arrays.asList(expired, active), null);
+
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(context).write(captor.capture(), any());
+
+        assertThat(captor.getValue()).containsOnly(active);
+        assertThat((Collection) ReflectionTestUtils.getField(sut, "queue")).containsOnly(active);
+    }
+
+    @Test
+    public void shouldExpireBufferedCommandsUsingCommandDeadline() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        sut = new CommandHandler<String, String>(ClientOptions.builder().commandDeadline(1, TimeUnit.MILLISECONDS).build(),
+                clientResources, q);
+        sut.setTimer(timer);
+
+        AsyncCommand<String, String, String> buffered = new AsyncCommand<>(command);
+        sut.write(buffered);
+
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), anyLong(), any(TimeUnit.class));
+
+        Thread.sleep(5);
+        captor.getValue().run(null);
+
+        Collection buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).isEmpty();
+        assertThat(buffered.isCompletedExceptionally()).isTrue();
+
+        try {
+            buffered.get();
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        }
+    }
+
+    @Test
+    public void shouldKeepCommandsBeforeDeadline() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        sut = new CommandHandler<String, String>(ClientOptions.builder().commandDeadline(1, TimeUnit.MINUTES).build(),
+                clientResources, q);
+        sut.setTimer(timer);
+
+        AsyncCommand<String, String, String> buffered = new AsyncCommand<>(command);
+        sut.write(buffered);
+
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), anyLong(), any(TimeUnit.class));
+        captor.getValue().run(null);
+
+        Collection buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).containsOnly(buffered);
+        assertThat(buffered.isDone()).isFalse();
+
+        // rescheduled while commands are pending
+        verify(timer, times(2)).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private Command<String, String, String> setCommand(int valueLength) {
+
+        Utf8StringCodec codec = new Utf8StringCodec();
+        char[] value = new char[valueLength];
+        Arrays.fill(value, 'v');
+
+        return new Command<>(CommandType.SET, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).addKey("key").addValue(new String(value)));
+    }
+
+    private List<Runnable> activateWithWriteMode(ClientOptions.WriteMode writeMode) throws Exception {
+        return activateWithOptions(ClientOptions.builder().writeMode(writeMode).build());
+    }
+
+    private List<Runnable> activateWithOptions(ClientOptions clientOptions) throws Exception {
+
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add((Runnable) invocation.getArguments()[0])).when(eventLoop).execute(any(Runnable.class));
+
+        sut = new CommandHandler<String, String>(clientOptions, clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        return tasks;
+    }
+
     @Test
     public void shouldSetLatency() throws Exception {
 
@@ -0,0 +1,76 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.nio.ReadOnlyBufferException;
+
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+public class ReadOnlyByteBufViewTest {
+
+    private final ByteBuf buffer = Unpooled.copiedBuffer("$5\r\nhello\r\n$5\r\nworld\r\n", LettuceCharsets.ASCII);
+
+    @Test
+    public void shouldExposeRegion() throws Exception {
+
+        ReadOnlyByteBufView sut = new ReadOnlyByteBufView().wrap(buffer, 4, 5);
+
+        assertThat(sut.readableBytes()).isEqualTo(5);
+        assertThat(sut.toString(LettuceCharsets.ASCII)).isEqualTo("hello");
+        assertThat(sut.getByte(4)).isEqualTo((byte) 'o');
+        assertThat(sut.nioBuffer().isReadOnly()).isTrue();
+        assertThat(sut.refCnt()).isEqualTo(buffer.refCnt());
+
+        byte[] bytes = new byte[5];
+        sut.readBytes(bytes);
+        assertThat(new String(bytes, LettuceCharsets.ASCII)).isEqualTo("hello");
+        assertThat(sut.isReadable()).isFalse();
+    }
+
+    @Test
+    public void shouldBeReusable() throws Exception {
+
+        ReadOnlyByteBufView sut = new ReadOnlyByteBufView();
+
+        sut.wrap(buffer, 4, 5).skipBytes(2);
+
+        assertThat(sut.wrap(buffer, 15, 5).toString(LettuceCharsets.ASCII)).isEqualTo("world");
+        assertThat(sut.readerIndex()).isZero();
+        assertThat(sut.slice(1, 3).toString(LettuceCharsets.ASCII)).isEqualTo("orl");
+    }
+
+    @Test
+    public void shouldRejectWrites() throws Exception {
+
+        ReadOnlyByteBufView sut = new ReadOnlyByteBufView().wrap(buffer, 4, 5);
+
+        try {
+            sut.setByte(0, 'x');
+            fail("Missing ReadOnlyBufferException");
+        } catch (ReadOnlyBufferException e) {
+            assertThat(buffer.getByte(4)).isEqualTo((byte) 'h');
+        }
+
+        assertThat(sut.isWritable()).isFalse();
+        assertThat(sut.hasArray()).isFalse();
+    }
+
+    @Test
+    public void shouldIndexOutOfBounds() throws Exception {
+
+        ReadOnlyByteBufView sut = new ReadOnlyByteBufView().wrap(buffer, 4, 5);
+
+        try {
+            sut.getByte(5);
+            fail("Missing IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+        }
+    }
+}
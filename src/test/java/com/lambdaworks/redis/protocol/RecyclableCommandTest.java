@@ -0,0 +1,80 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+/**
+ * @author Mark Paluch
+ */
+public class RecyclableCommandTest {
+
+    private RedisCodec<String, String> codec = new Utf8StringCodec();
+
+    @Test
+    public void shouldResetStateOnRecycle() throws Exception {
+
+        RecyclableCommand<String, String, String> command = RecyclableCommand.newInstance(CommandType.SET,
+                new StatusOutput<>(codec), CommandArgs.newInstance(codec).addKey("key").addValue("value"));
+
+        command.deadline(System.nanoTime());
+        command.completeExceptionally(new IllegalStateException());
+        command.recycle();
+
+        RecyclableCommand<String, String, String> reused = RecyclableCommand.newInstance(CommandType.GET,
+                new StatusOutput<>(codec), null);
+
+        assertThat(reused).isSameAs(command);
+        assertThat(reused.getType()).isEqualTo(CommandType.GET);
+        assertThat(reused.getArgs()).isNull();
+        assertThat(reused.isDone()).isFalse();
+        assertThat(reused.isCancelled()).isFalse();
+        assertThat(reused.getDeadline()).isZero();
+    }
+
+    @Test
+    public void shouldClearPooledArgsOnRecycle() throws Exception {
+
+        CommandArgs<String, String> args = CommandArgs.newInstance(codec).addKey("key").addValue("value");
+        assertThat(args.count()).isEqualTo(2);
+
+        args.recycle();
+
+        CommandArgs<String, String> reused = CommandArgs.newInstance(codec);
+        assertThat(reused).isSameAs(args);
+        assertThat(reused.count()).isZero();
+        assertThat(reused.getFirstString()).isNull();
+        assertThat(reused.getFirstEncodedKey()).isNull();
+    }
+
+    @Test
+    public void shouldNotRecycleRegularArgs() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key");
+        args.recycle();
+
+        assertThat(args.count()).isEqualTo(1);
+        assertThat(args.getFirstEncodedKey()).isNotNull();
+    }
+
+    @Test
+    public void shouldRecycleCommandOfCompletedFuture() throws Exception {
+
+        RecyclableCommand<String, String, String> command = RecyclableCommand.newInstance(CommandType.PING,
+                new StatusOutput<>(codec), null);
+        AsyncCommand<String, String, String> future = new AsyncCommand<>(command);
+
+        RecyclableCommand.recycle(future);
+        assertThat(command.getType()).isEqualTo(CommandType.PING);
+        assertThat(command.getOutput()).isNotNull();
+
+        future.complete();
+        RecyclableCommand.recycle(future);
+
+        assertThat(command.getOutput()).isNull();
+    }
+}
@@ -5,7 +5,12 @@ package com.lambdaworks.redis.protocol;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -21,6 +26,7 @@ import org.junit.Test;
 
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.*;
 
@@ -91,6 +97,45 @@ public class StateMachineTest {
         assertThat(output.get()).isEqualTo("foo");
     }
 
+    @Test
+    public void bulkSplitAcrossBuffers() throws Exception {
+        CommandOutput<String, String, String> output = new ValueOutput<String, String>(codec);
+        assertThat(rsm.decode(buffer("$6\r\nfo"), output)).isFalse();
+        assertThat(rsm.decode(buffer("ob"), output)).isFalse();
+        assertThat(rsm.decode(buffer("ar"), output)).isFalse();
+        assertThat(rsm.decode(buffer("\r\n"), output)).isTrue();
+        assertThat(output.get()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void bulkDecodedFromReadOnlyView() throws Exception {
+
+        final List<ByteBuf> views = new ArrayList<>();
+        StringCodec codec = new StringCodec(charset) {
+            @Override
+            public String decodeValue(ByteBuf bytes) {
+                views.add(bytes);
+                return super.decodeValue(bytes);
+            }
+        };
+
+        CommandOutput<String, String, List<String>> output = new ValueListOutput<String, String>(codec);
+        ByteBuf buffer = buffer("*2\r\n$3\r\nfoo\r\n$6\r\nfoobar\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(Arrays.asList("foo", "foobar"));
+        assertThat(buffer.isReadable()).isFalse();
+        assertThat(views).hasSize(2);
+        assertThat(views.get(0).isWritable()).isFalse();
+    }
+
+    @Test
+    public void bulkSplitAcrossBuffersWithByteBufDecoder() throws Exception {
+        CommandOutput<String, String, String> output = new ValueOutput<String, String>(StringCodec.UTF8);
+        assertThat(rsm.decode(buffer("$6\r\nfoo"), output)).isFalse();
+        assertThat(rsm.decode(buffer("bar\r\n"), output)).isTrue();
+        assertThat(output.get()).isEqualTo("foobar");
+    }
+
     @Test
     public void multi() throws Exception {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<String, String>(codec);
@@ -129,6 +174,20 @@ public class StateMachineTest {
         assertThat(output.get().size()).isEqualTo(2);
     }
 
+    @Test
+    public void reuseStateAcrossReplies() throws Exception {
+        CommandOutput<String, String, List<Object>> nested = new NestedMultiOutput<String, String>(codec);
+        assertThat(rsm.decode(buffer("*2\r\n*1\r\n:1\r\n*1\r\n$1\r\na\r\n"), nested)).isTrue();
+        assertThat(nested.get()).isEqualTo(Arrays.asList(Arrays.asList(1L), Arrays.asList("a")));
+
+        assertThat(rsm.decode(buffer("*2\r\n$1\r\n"), nested)).isFalse();
+        rsm.reset();
+
+        CommandOutput<String, String, Long> integer = new IntegerOutput<String, String>(codec);
+        assertThat(rsm.decode(buffer(":42\r\n"), integer)).isTrue();
+        assertThat((long) integer.get()).isEqualTo(42);
+    }
+
     @Test
     public void partialFirstLine() throws Exception {
         assertThat(rsm.decode(buffer("+"), output)).isFalse();
@@ -138,6 +197,93 @@ public class StateMachineTest {
         assertThat(rsm.decode(buffer("*"), output)).isFalse();
     }
 
+    @Test
+    public void bulkStreamedToSink() throws Exception {
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ValueSinkOutput<String, String> output = new ValueSinkOutput<>(codec, sink);
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        assertThat(rsm.decode(buffer.writeBytes("$11\r\nhello".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes(" world".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes("\r".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes("\n".getBytes()), output)).isTrue();
+
+        assertThat(output.get()).isEqualTo(11);
+        assertThat(new String(sink.toByteArray(), charset)).isEqualTo("hello world");
+    }
+
+    @Test
+    public void emptyAndNullBulkStreamedToSink() throws Exception {
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ValueSinkOutput<String, String> output = new ValueSinkOutput<>(codec, sink);
+
+        assertThat(rsm.decode(buffer("$0\r\n\r\n"), output)).isTrue();
+        assertThat(output.get()).isEqualTo(0);
+
+        output = new ValueSinkOutput<>(codec, sink);
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+        assertThat(sink.size()).isZero();
+    }
+
+    @Test
+    public void failingSinkCompletesCommandExceptionally() throws Exception {
+
+        WritableByteChannel sink = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ValueSinkOutput<String, String> output = new ValueSinkOutput<>(codec, sink);
+        Command<String, String, Long> command = new Command<>(CommandType.GET, output, null);
+
+        assertThat(rsm.decode(buffer("$5\r\nhe"), command, output)).isFalse();
+        assertThat(rsm.decode(buffer("llo\r\n+OK\r\n"), command, output)).isTrue();
+
+        assertThat(command.exception).isInstanceOf(RedisException.class).hasRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void sinkNotAcceptingDataCompletesCommandExceptionally() throws Exception {
+
+        WritableByteChannel sink = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                return 0;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ValueSinkOutput<String, String> output = new ValueSinkOutput<>(codec, sink);
+        Command<String, String, Long> command = new Command<>(CommandType.GET, output, null);
+
+        assertThat(rsm.decode(buffer("$5\r\nhello\r\n"), command, output)).isTrue();
+
+        assertThat(command.exception).isInstanceOf(RedisException.class).hasMessageContaining("did not accept data");
+    }
+
     @Test(expected = RedisException.class)
     public void invalidReplyType() throws Exception {
         rsm.decode(buffer("="), output);
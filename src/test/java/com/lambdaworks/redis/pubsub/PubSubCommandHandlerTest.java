@@ -0,0 +1,112 @@
+package com.lambdaworks.redis.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
+import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollectorOptions;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.LettuceCharsets;
+import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.resource.ClientResources;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PubSubCommandHandlerTest {
+
+    private Queue<RedisCommand<String, String, ?>> q = new ArrayDeque<>(10);
+
+    private PubSubCommandHandler<String, String> sut;
+
+    @Mock
+    private ChannelHandlerContext context;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private ByteBufAllocator byteBufAllocator;
+
+    @Mock
+    private ChannelPipeline pipeline;
+
+    @Mock
+    private EventLoop eventLoop;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private RedisChannelHandler<String, String> channelHandler;
+
+    @Before
+    public void before() throws Exception {
+
+        when(context.channel()).thenReturn(channel);
+        when(context.alloc()).thenReturn(byteBufAllocator);
+        when(channel.pipeline()).thenReturn(pipeline);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+        when(clientResources.commandLatencyCollector()).thenReturn(
+                new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.disabled()));
+
+        when(channel.writeAndFlush(any())).thenAnswer(invocation -> {
+            if (invocation.getArguments()[0] instanceof RedisCommand) {
+                q.add((RedisCommand) invocation.getArguments()[0]);
+            }
+            return new DefaultChannelPromise(channel);
+        });
+
+        ClientOptions clientOptions = ClientOptions.builder().requestQueueSize(1).build();
+
+        sut = new PubSubCommandHandler<>(clientOptions, clientResources, q, new Utf8StringCodec());
+        sut.setRedisChannelHandler(channelHandler);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+    }
+
+    @Test
+    public void shouldReleaseRequestQueueCapacityOnCompletion() throws Exception {
+
+        Command<String, String, String> first = pingCommand();
+        Command<String, String, String> second = pingCommand();
+
+        sut.write(first);
+        assertThat(sut.getInFlightCommands()).isEqualTo(1);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("+PONG\r\n", LettuceCharsets.ASCII));
+
+        assertThat(first.get()).isEqualTo("PONG");
+        assertThat(sut.getInFlightCommands()).isZero();
+
+        sut.write(second);
+        assertThat(q).containsOnly(second);
+    }
+
+    private Command<String, String, String> pingCommand() {
+        Utf8StringCodec codec = new Utf8StringCodec();
+        return new Command<>(CommandType.PING, new StatusOutput<>(codec), new CommandArgs<>(codec));
+    }
+}
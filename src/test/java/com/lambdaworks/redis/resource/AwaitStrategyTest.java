@@ -0,0 +1,72 @@
+package com.lambdaworks.redis.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class AwaitStrategyTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateIfSpinTimeIsNegative() throws Exception {
+        AwaitStrategy.spinThenPark(-1, TimeUnit.MICROSECONDS);
+    }
+
+    @Test
+    public void shouldReturnImmediatelyIfCompleted() throws Exception {
+
+        CompletableFuture<String> future = CompletableFuture.completedFuture("foo");
+
+        assertThat(AwaitStrategy.park().await(future, 0, TimeUnit.NANOSECONDS)).isTrue();
+        assertThat(AwaitStrategy.spinThenPark().await(future, 0, TimeUnit.NANOSECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldAwaitExceptionalCompletion() throws Exception {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException());
+
+        assertThat(AwaitStrategy.park().await(future, 1, TimeUnit.SECONDS)).isTrue();
+        assertThat(AwaitStrategy.spinThenPark().await(future, 1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test(timeout = 1000)
+    public void shouldTimeOut() throws Exception {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        assertThat(AwaitStrategy.park().await(future, 2, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(AwaitStrategy.spinThenPark().await(future, 2, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(AwaitStrategy.spinThenPark(1, TimeUnit.SECONDS).await(future, 2, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test(timeout = 5000)
+    public void spinThenParkShouldAwaitCompletionAfterSpinning() throws Exception {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            executor.schedule(() -> future.complete("foo"), 20, TimeUnit.MILLISECONDS);
+
+            assertThat(AwaitStrategy.spinThenPark(1, TimeUnit.MICROSECONDS).await(future, 1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = InterruptedException.class, timeout = 1000)
+    public void spinThenParkShouldThrowIfInterrupted() throws Exception {
+
+        Thread.currentThread().interrupt();
+        AwaitStrategy.spinThenPark().await(new CompletableFuture<>(), 5, TimeUnit.MILLISECONDS);
+    }
+}
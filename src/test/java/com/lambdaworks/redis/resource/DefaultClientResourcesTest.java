@@ -179,4 +179,25 @@ public class DefaultClientResourcesTest {
 
         FastShutdown.shutdown(resources);
     }
+
+    @Test
+    public void awaitStrategyDefaultsToPark() throws Exception {
+
+        DefaultClientResources resources = DefaultClientResources.create();
+
+        assertThat(resources.awaitStrategy()).isSameAs(AwaitStrategy.park());
+
+        FastShutdown.shutdown(resources);
+    }
+
+    @Test
+    public void testAwaitStrategy() throws Exception {
+
+        AwaitStrategy awaitStrategy = AwaitStrategy.spinThenPark();
+        DefaultClientResources resources = DefaultClientResources.builder().awaitStrategy(awaitStrategy).build();
+
+        assertThat(resources.awaitStrategy()).isSameAs(awaitStrategy);
+
+        FastShutdown.shutdown(resources);
+    }
 }
@@ -0,0 +1,100 @@
+package com.lambdaworks.redis.server;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Tiny netty server that replies to the first message on each connection with a multi-bulk reply of {@code size} elements.
+ * Elements are the zero-padded element index ({@code 0000000}, {@code 0000001}, ...).
+ *
+ * @author Mark Paluch
+ */
+public class ListResponseServer {
+
+    private static final int CHUNK_ELEMENTS = 4096;
+
+    private final int size;
+    private EventLoopGroup group;
+    private Channel channel;
+
+    public ListResponseServer(int size) {
+        this.size = size;
+    }
+
+    public static String element(int index) {
+        return String.format("%07d", index);
+    }
+
+    public void initialize() throws InterruptedException {
+
+        group = new NioEventLoopGroup(1);
+
+        ServerBootstrap b = new ServerBootstrap();
+        b.group(group).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            public void initChannel(SocketChannel ch) throws Exception {
+                ch.pipeline().addLast(new ListResponseHandler());
+            }
+        });
+
+        channel = b.bind("127.0.0.1", 0).sync().channel();
+    }
+
+    public int getPort() {
+        return ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+
+    public void shutdown() {
+        channel.close();
+        group.shutdownGracefully(100, 100, TimeUnit.MILLISECONDS);
+    }
+
+    private class ListResponseHandler extends ChannelInboundHandlerAdapter {
+
+        private boolean replied;
+        private int written;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+
+            ReferenceCountUtil.release(msg);
+
+            if (!replied) {
+                replied = true;
+                ctx.writeAndFlush(ctx.alloc().buffer().writeBytes(("*" + size + "\r\n").getBytes()));
+                writeChunks(ctx);
+            }
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+            writeChunks(ctx);
+        }
+
+        /**
+         * Write elements while the channel is writable so a client that stops reading does not cause unbounded buffering on
+         * the server side.
+         */
+        private void writeChunks(ChannelHandlerContext ctx) {
+
+            while (replied && written < size && ctx.channel().isWritable()) {
+
+                ByteBuf chunk = ctx.alloc().buffer();
+                for (int i = 0; i < CHUNK_ELEMENTS && written < size; i++, written++) {
+                    String element = element(written);
+                    chunk.writeBytes(("$" + element.length() + "\r\n" + element + "\r\n").getBytes());
+                }
+
+                ctx.writeAndFlush(chunk);
+            }
+        }
+    }
+}
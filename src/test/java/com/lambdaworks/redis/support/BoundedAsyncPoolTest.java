@@ -0,0 +1,191 @@
+package com.lambdaworks.redis.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+
+/**
+ * @author Mark Paluch
+ */
+@SuppressWarnings("unchecked")
+public class BoundedAsyncPoolTest {
+
+    private final List<StatefulRedisConnection<String, String>> created = new ArrayList<>();
+
+    @Test
+    public void shouldCreateAndReuseConnections() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(BoundedPoolConfig.create(), false);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+
+        assertThat(created).containsExactly(connection);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+        assertThat(pool.getIdle()).isEqualTo(0);
+
+        pool.release(connection).get();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.acquire().get()).isSameAs(connection);
+        assertThat(created).hasSize(1);
+    }
+
+    @Test
+    public void shouldQueueAcquisitionsWhenExhausted() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(
+                BoundedPoolConfig.builder().maxTotal(1).build(), false);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+        CompletableFuture<StatefulRedisConnection<String, String>> waiting = pool.acquire();
+
+        assertThat(waiting).isNotDone();
+        assertThat(pool.getPendingAcquires()).isEqualTo(1);
+
+        pool.release(connection);
+
+        assertThat(waiting.get()).isSameAs(connection);
+        assertThat(pool.getPendingAcquires()).isEqualTo(0);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectAcquisitionsExceedingWaitQueue() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(
+                BoundedPoolConfig.builder().maxTotal(1).maxPendingAcquires(1).build(), false);
+
+        pool.acquire().get();
+        CompletableFuture<StatefulRedisConnection<String, String>> waiting = pool.acquire();
+        CompletableFuture<StatefulRedisConnection<String, String>> rejected = pool.acquire();
+
+        assertThat(waiting).isNotDone();
+        assertThat(rejected).isCompletedExceptionally();
+    }
+
+    @Test
+    public void shouldRemoveCanceledAcquisitionsFromWaitQueue() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(
+                BoundedPoolConfig.builder().maxTotal(1).maxPendingAcquires(1).build(), false);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+        pool.acquire().cancel(true);
+
+        assertThat(pool.getPendingAcquires()).isEqualTo(0);
+
+        CompletableFuture<StatefulRedisConnection<String, String>> waiting = pool.acquire();
+        assertThat(waiting).isNotDone();
+
+        pool.release(connection);
+
+        assertThat(waiting.get()).isSameAs(connection);
+        assertThat(pool.getPendingAcquires()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldPrewarmToMinIdle() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(
+                BoundedPoolConfig.builder().minIdle(3).build(), false);
+
+        pool.createIdle().get();
+
+        assertThat(pool.getIdle()).isEqualTo(3);
+        assertThat(created).hasSize(3);
+
+        pool.acquire().get();
+
+        assertThat(created).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnWrappedConnectionOnClose() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(BoundedPoolConfig.create(), true);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+
+        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+
+        connection.close();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        verify(created.get(0), never()).close();
+    }
+
+    @Test
+    public void shouldPropagateCreationFailure() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = new BoundedAsyncPool<>(() -> {
+            CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+            future.completeExceptionally(new RedisException("Connection refused"));
+            return future;
+        }, BoundedPoolConfig.create(), false);
+
+        try {
+            pool.acquire().get();
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasRootCauseInstanceOf(RedisException.class);
+        }
+
+        assertThat(pool.getObjectCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldDestroyIdleConnectionsOnClose() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(BoundedPoolConfig.create(), false);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+        pool.release(connection);
+
+        pool.close();
+
+        verify(connection).close();
+        assertThat(pool.getObjectCount()).isEqualTo(0);
+        assertThat(pool.acquire()).isCompletedExceptionally();
+    }
+
+    @Test
+    public void shouldFailWaitersAndDestroyReleasedConnectionsOnClose() throws Exception {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = pool(
+                BoundedPoolConfig.builder().maxTotal(1).build(), false);
+
+        StatefulRedisConnection<String, String> connection = pool.acquire().get();
+        CompletableFuture<StatefulRedisConnection<String, String>> waiting = pool.acquire();
+
+        pool.close();
+
+        assertThat(waiting).isCompletedExceptionally();
+
+        pool.release(connection);
+
+        verify(connection).close();
+    }
+
+    private BoundedAsyncPool<StatefulRedisConnection<String, String>> pool(BoundedPoolConfig config, boolean wrap) {
+
+        return new BoundedAsyncPool<>(() -> {
+
+            StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+            when(connection.isOpen()).thenReturn(true);
+            created.add(connection);
+
+            return CompletableFuture.completedFuture(connection);
+        }, config, wrap);
+    }
+}
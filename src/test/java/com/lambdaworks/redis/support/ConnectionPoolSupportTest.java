@@ -77,14 +77,13 @@ public class ConnectionPoolSupportTest extends AbstractRedisClientTest {
         StatefulRedisConnection<String, String> connection = pool.borrowObject();
         RedisCommands<String, String> sync = connection.sync();
 
-        assertThat(connection).isInstanceOf(StatefulRedisConnection.class)
-                .isNotInstanceOf(StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(connection).isInstanceOf(PooledStatefulRedisConnection.class)
+                .isNotInstanceOf(StatefulRedisConnectionImpl.class);
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class)
-                .isNotInstanceOf(RedisReactiveCommandsImpl.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -102,13 +101,12 @@ public class ConnectionPoolSupportTest extends AbstractRedisClientTest {
         StatefulRedisMasterSlaveConnection<String, String> connection = pool.borrowObject();
         RedisCommands<String, String> sync = connection.sync();
 
-        assertThat(connection).isInstanceOf(StatefulRedisMasterSlaveConnection.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(connection).isInstanceOf(PooledStatefulRedisMasterSlaveConnection.class);
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class)
-                .isNotInstanceOf(RedisReactiveCommandsImpl.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -0,0 +1,92 @@
+package com.lambdaworks.redis.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.redis.FastShutdown;
+import com.lambdaworks.redis.RedisClient;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.server.ListResponseServer;
+
+/**
+ * Tests for {@link PooledStatefulRedisConnection} using a local server.
+ *
+ * @author Mark Paluch
+ */
+public class PooledStatefulRedisConnectionTest {
+
+    private ListResponseServer server;
+    private RedisClient client;
+    private GenericObjectPool<StatefulRedisConnection<String, String>> pool;
+
+    @Before
+    public void before() throws Exception {
+
+        server = new ListResponseServer(1);
+        server.initialize();
+
+        client = RedisClient.create(RedisURI.create("127.0.0.1", server.getPort()));
+
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxTotal(1);
+        pool = ConnectionPoolSupport.createGenericObjectPool(() -> client.connect(), config);
+    }
+
+    @After
+    public void after() throws Exception {
+
+        pool.close();
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldReturnConnectionOnClose() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = pool.borrowObject();
+        RedisCommands<String, String> sync = connection.sync();
+
+        assertThat(connection).isInstanceOf(PooledStatefulRedisConnection.class);
+        assertThat(sync.getStatefulConnection()).isSameAs(connection);
+        assertThat(sync.lrange("key", 0, -1)).containsExactly(ListResponseServer.element(0));
+
+        sync.close();
+
+        assertThat(pool.getNumIdle()).isEqualTo(1);
+        assertThat(pool.getNumActive()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldHandOutNewHandleForEachBorrow() throws Exception {
+
+        StatefulRedisConnection<String, String> first = pool.borrowObject();
+        Object target = ((PooledConnection) first).getTargetConnection();
+        first.close();
+
+        StatefulRedisConnection<String, String> second = pool.borrowObject();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(((PooledConnection) second).getTargetConnection()).isSameAs(target);
+        assertThat(second.async().lrange("key", 0, -1).get()).containsExactly(ListResponseServer.element(0));
+
+        try {
+            first.sync();
+            fail("Missing RedisException");
+        } catch (RedisException e) {
+            assertThat(e).hasMessageContaining("deallocated");
+        }
+
+        pool.returnObject(second);
+
+        assertThat(pool.getNumIdle()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.lambdaworks.redis;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Local stub server that answers every {@code GET key} request with a fixed value.
+ *
+ * @author Mark Paluch
+ */
+class StubGetServer {
+
+    private final static byte[] GET_REQUEST = "*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n".getBytes();
+    private final static byte[] GET_REPLY = "$5\r\nvalue\r\n".getBytes();
+
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    private final Channel serverChannel;
+
+    StubGetServer() {
+
+        serverChannel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new StubGetHandler());
+                    }
+                }).bind("127.0.0.1", 0).syncUninterruptibly().channel();
+    }
+
+    RedisURI getRedisURI() {
+        return RedisURI.create("127.0.0.1", ((InetSocketAddress) serverChannel.localAddress()).getPort());
+    }
+
+    void shutdown() {
+
+        serverChannel.close().syncUninterruptibly();
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    /**
+     * Replies to each fixed-size {@code GET key} request with a bulk string.
+     */
+    private static class StubGetHandler extends ByteToMessageDecoder {
+
+        private final ByteBuf reply = Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(GET_REPLY));
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+            boolean replied = false;
+            while (in.readableBytes() >= GET_REQUEST.length) {
+                in.skipBytes(GET_REQUEST.length);
+                ctx.write(reply.duplicate());
+                replied = true;
+            }
+
+            if (replied) {
+                ctx.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.lambdaworks.redis;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * Benchmark for a synchronous {@code GET} against a local stub server that answers every request with a fixed value.
+ * Compares the synchronous API implementation with the reflective {@link FutureSyncInvocationHandler} proxy.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SyncGetBenchmark {
+
+    @Param({ "impl", "proxy" })
+    String api;
+
+    private StubGetServer server;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> sync;
+
+    @Setup
+    public void setup() {
+
+        server = new StubGetServer();
+        client = RedisClient.create(server.getRedisURI());
+        connection = client.connect();
+
+        if (api.equals("proxy")) {
+            Class<?>[] interfaces = { RedisCommands.class, RedisClusterCommands.class };
+            sync = (RedisCommands<String, String>) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces,
+                    new FutureSyncInvocationHandler<>(connection, connection.async(), interfaces));
+        } else {
+            sync = connection.sync();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        client.shutdown(0, 0, TimeUnit.MILLISECONDS);
+        server.shutdown();
+    }
+
+    @Benchmark
+    public String syncGet() {
+        return sync.get("key");
+    }
+}
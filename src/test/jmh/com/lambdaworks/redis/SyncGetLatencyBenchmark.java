@@ -0,0 +1,56 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.resource.AwaitStrategy;
+import com.lambdaworks.redis.resource.DefaultClientResources;
+
+/**
+ * Benchmark for the latency distribution (p50/p99) of a synchronous {@code GET} over loopback using different
+ * {@link AwaitStrategy await strategies}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SyncGetLatencyBenchmark {
+
+    @Param({ "park", "spinThenPark" })
+    String awaitStrategy;
+
+    private StubGetServer server;
+    private DefaultClientResources clientResources;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> sync;
+
+    @Setup
+    public void setup() {
+
+        server = new StubGetServer();
+        clientResources = DefaultClientResources.builder()
+                .awaitStrategy(awaitStrategy.equals("park") ? AwaitStrategy.park() : AwaitStrategy.spinThenPark()).build();
+        client = RedisClient.create(clientResources, server.getRedisURI());
+        connection = client.connect();
+        sync = connection.sync();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        client.shutdown(0, 0, TimeUnit.MILLISECONDS);
+        clientResources.shutdown(0, 0, TimeUnit.MILLISECONDS);
+        server.shutdown();
+    }
+
+    @Benchmark
+    public String syncGet() {
+        return sync.get("key");
+    }
+}
@@ -0,0 +1,136 @@
+package com.lambdaworks.redis.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Benchmark for routing a keyed command through {@link ClusterDistributionChannelWriter}. The node writer completes commands
+ * immediately after encoding them so the benchmark measures key encoding, slot calculation and the cluster command wrapper.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterDistributionChannelWriterBenchmark {
+
+    private final static StringCodec CODEC = StringCodec.UTF8;
+    private final static ByteBuffer VALUE = ByteBuffer.wrap("value".getBytes());
+
+    private ClusterDistributionChannelWriter<String, String> writer;
+
+    @Setup
+    public void setup() {
+
+        StatefulRedisConnection<String, String> node = new StatefulRedisConnectionImpl<>(new CompletingChannelWriter(), CODEC,
+                60, TimeUnit.SECONDS);
+
+        writer = new ClusterDistributionChannelWriter<>(ClientOptions.create(), new EmptyRedisChannelWriter(), null, null);
+        writer.setClusterConnectionProvider(new SingleNodeConnectionProvider(node));
+    }
+
+    @Benchmark
+    public Command<String, String, String> write() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new ValueOutput<>(CODEC),
+                new CommandArgs<>(CODEC).addKey("key"));
+        writer.write(command);
+        return command;
+    }
+
+    private static class CompletingChannelWriter extends EmptyRedisChannelWriter {
+
+        private final ByteBuf buffer = Unpooled.buffer(64);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RedisCommand write(RedisCommand command) {
+
+            buffer.clear();
+            command.encode(buffer);
+            command.getOutput().set(VALUE.duplicate());
+            command.complete();
+            return command;
+        }
+    }
+
+    private static class SingleNodeConnectionProvider implements ClusterConnectionProvider {
+
+        private final StatefulRedisConnection<?, ?> connection;
+
+        SingleNodeConnectionProvider(StatefulRedisConnection<?, ?> connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, int slot) {
+            return (StatefulRedisConnection<K, V>) connection;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, String host, int port) {
+            return (StatefulRedisConnection<K, V>) connection;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, String nodeId) {
+            return (StatefulRedisConnection<K, V>) connection;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void closeStaleConnections() {
+        }
+
+        @Override
+        public void setPartitions(Partitions partitions) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+
+        @Override
+        public void setReadFrom(ReadFrom readFrom) {
+        }
+
+        @Override
+        public boolean updateSlot(int slot, String host, int port) {
+            return false;
+        }
+
+        @Override
+        public ReadFrom getReadFrom() {
+            return ReadFrom.MASTER;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+
+/**
+ * Benchmark for a cross-slot {@code MGET} against a local stub cluster of six master nodes. Keys are spread over all slots so
+ * the command is split by slot, written per node and reassembled in key order.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClusterMgetBenchmark {
+
+    @Param({ "100", "10000" })
+    int keyCount;
+
+    private StubClusterServer server;
+    private RedisClusterClient client;
+    private StatefulRedisClusterConnection<String, String> connection;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+
+        server = new StubClusterServer(6);
+        client = RedisClusterClient.create(server.getRedisURI());
+        connection = client.connect();
+
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key-" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        client.shutdown(0, 0, TimeUnit.MILLISECONDS);
+        server.shutdown();
+    }
+
+    @Benchmark
+    public List<String> mget() throws Exception {
+        return connection.async().mget(keys).get();
+    }
+}
@@ -0,0 +1,84 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * Benchmark for slot routing in {@link PooledClusterConnectionProvider}. The {@code routing} group looks up write connections
+ * for all slots while a concurrent thread keeps applying topology refreshes. The {@code lookup} benchmark measures lookups
+ * without refreshes.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Group)
+public class ClusterRoutingBenchmark {
+
+    private final static int NODES = 6;
+
+    private PooledClusterConnectionProvider<String, String> provider;
+    private Partitions partitions;
+
+    @Setup
+    public void setup() {
+
+        partitions = new Partitions();
+
+        for (int i = 0; i < NODES; i++) {
+
+            List<Integer> slots = new ArrayList<>();
+            for (int slot = SlotHash.SLOT_COUNT * i / NODES; slot < SlotHash.SLOT_COUNT * (i + 1) / NODES; slot++) {
+                slots.add(slot);
+            }
+
+            partitions.add(new RedisClusterNode(RedisURI.create("localhost", 7379 + i), "" + i, true, null, 0, 0, 0, slots,
+                    Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        }
+
+        provider = new PooledClusterConnectionProvider<>(new EmptyRedisClusterClient(RedisURI.create("localhost", 7379)),
+                new EmptyRedisChannelWriter(), new Utf8StringCodec());
+        provider.setPartitions(partitions);
+    }
+
+    @State(Scope.Thread)
+    public static class Slot {
+
+        int slot;
+
+        int next() {
+            return slot = (slot + 1) & (SlotHash.SLOT_COUNT - 1);
+        }
+    }
+
+    @Benchmark
+    @Group("routing")
+    @GroupThreads(3)
+    public StatefulRedisConnection<String, String> lookupDuringRefresh(Slot slot) {
+        return provider.getConnection(Intent.WRITE, slot.next());
+    }
+
+    @Benchmark
+    @Group("routing")
+    @GroupThreads(1)
+    public void refresh() {
+
+        provider.setPartitions(partitions);
+        Blackhole.consumeCPU(1000);
+    }
+
+    @Benchmark
+    @Group("lookup")
+    public StatefulRedisConnection<String, String> lookup(Slot slot) {
+        return provider.getConnection(Intent.WRITE, slot.next());
+    }
+}
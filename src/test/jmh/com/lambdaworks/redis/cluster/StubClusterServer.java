@@ -0,0 +1,211 @@
+package com.lambdaworks.redis.cluster;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.RedisURI;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Local stub of a Redis Cluster consisting of master nodes that split the slot range evenly. Nodes answer {@code CLUSTER NODES}
+ * with the cluster topology, {@code MGET} with a fixed value per key, key-counting commands such as {@code DEL} with the number
+ * of keys and every other command with {@literal OK}.
+ *
+ * @author Mark Paluch
+ */
+class StubClusterServer {
+
+    private final static byte[] VALUE = "$5\r\nvalue\r\n".getBytes(StandardCharsets.US_ASCII);
+    private final static byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    private final List<Channel> serverChannels = new ArrayList<>();
+
+    StubClusterServer(int nodes) {
+
+        List<String> nodeIds = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            nodeIds.add(String.format("%040d", i));
+        }
+
+        StubNode[] handlers = new StubNode[nodes];
+        for (int i = 0; i < nodes; i++) {
+
+            int node = i;
+            Channel channel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            ch.pipeline().addLast(new StubNodeHandler(handlers[node]));
+                        }
+                    }).bind("127.0.0.1", 0).syncUninterruptibly().channel();
+            serverChannels.add(channel);
+        }
+
+        for (int i = 0; i < nodes; i++) {
+
+            StringBuilder topology = new StringBuilder();
+            for (int j = 0; j < nodes; j++) {
+
+                int from = SlotHash.SLOT_COUNT * j / nodes;
+                int to = SlotHash.SLOT_COUNT * (j + 1) / nodes - 1;
+
+                topology.append(nodeIds.get(j)).append(" 127.0.0.1:").append(getPort(j)).append(' ')
+                        .append(i == j ? "myself,master" : "master").append(" - 0 0 ").append(j + 1).append(" connected ")
+                        .append(from).append('-').append(to).append('\n');
+            }
+
+            handlers[i] = new StubNode(topology.toString());
+        }
+    }
+
+    RedisURI getRedisURI() {
+        return RedisURI.create("127.0.0.1", getPort(0));
+    }
+
+    private int getPort(int node) {
+        return ((InetSocketAddress) serverChannels.get(node).localAddress()).getPort();
+    }
+
+    void shutdown() {
+
+        for (Channel channel : serverChannels) {
+            channel.close().syncUninterruptibly();
+        }
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    private static class StubNode {
+
+        private final byte[] clusterNodes;
+
+        StubNode(String clusterNodes) {
+
+            byte[] topology = clusterNodes.getBytes(StandardCharsets.US_ASCII);
+            this.clusterNodes = ("$" + topology.length + "\r\n" + clusterNodes + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Decodes RESP arrays of bulk strings and replies to each complete request.
+     */
+    private static class StubNodeHandler extends ByteToMessageDecoder {
+
+        private final StubNode node;
+
+        StubNodeHandler(StubNode node) {
+            this.node = node;
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+            boolean replied = false;
+
+            for (;;) {
+
+                int start = in.readerIndex();
+                List<String> request = readRequest(in);
+
+                if (request == null) {
+                    in.readerIndex(start);
+                    break;
+                }
+
+                ctx.write(reply(ctx, request));
+                replied = true;
+            }
+
+            if (replied) {
+                ctx.flush();
+            }
+        }
+
+        private ByteBuf reply(ChannelHandlerContext ctx, List<String> request) {
+
+            String command = request.get(0).toUpperCase();
+            int keys = request.size() - 1;
+
+            switch (command) {
+                case "CLUSTER":
+                    return ctx.alloc().buffer(node.clusterNodes.length).writeBytes(node.clusterNodes);
+                case "CLIENT":
+                    return ascii(ctx, "$0\r\n\r\n");
+                case "MGET":
+                    ByteBuf reply = ctx.alloc().buffer(16 + keys * VALUE.length);
+                    reply.writeBytes(("*" + keys + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                    for (int i = 0; i < keys; i++) {
+                        reply.writeBytes(VALUE);
+                    }
+                    return reply;
+                case "DEL":
+                case "UNLINK":
+                case "EXISTS":
+                case "TOUCH":
+                    return ascii(ctx, ":" + keys + "\r\n");
+                default:
+                    return ctx.alloc().buffer(OK.length).writeBytes(OK);
+            }
+        }
+
+        private static ByteBuf ascii(ChannelHandlerContext ctx, String value) {
+
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            return ctx.alloc().buffer(bytes.length).writeBytes(bytes);
+        }
+
+        /**
+         * @return the request arguments or {@literal null} if the request is incomplete.
+         */
+        private static List<String> readRequest(ByteBuf in) {
+
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+
+            int count = Integer.parseInt(header.substring(1));
+            List<String> arguments = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+
+                String length = readLine(in);
+                if (length == null) {
+                    return null;
+                }
+
+                int size = Integer.parseInt(length.substring(1));
+                if (in.readableBytes() < size + 2) {
+                    return null;
+                }
+
+                arguments.add(in.toString(in.readerIndex(), size, StandardCharsets.UTF_8));
+                in.skipBytes(size + 2);
+            }
+
+            return arguments;
+        }
+
+        private static String readLine(ByteBuf in) {
+
+            int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+            if (end == -1) {
+                return null;
+            }
+
+            String line = in.toString(in.readerIndex(), end - in.readerIndex() - 1, StandardCharsets.US_ASCII);
+            in.readerIndex(end + 1);
+            return line;
+        }
+    }
+}
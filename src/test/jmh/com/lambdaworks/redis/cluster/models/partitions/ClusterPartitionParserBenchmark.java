@@ -0,0 +1,69 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Benchmark for parsing {@code CLUSTER NODES} output of a synthetic topology with 1000 nodes (500 masters with one slave each)
+ * and for copying the parsed nodes. Masters serve their slots as a mix of slot ranges and single slots.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    private final static int MASTERS = 500;
+
+    private String clusterNodes;
+    private Partitions partitions;
+
+    @Setup
+    public void setup() {
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < MASTERS; i++) {
+
+            String masterId = String.format("%040x", i);
+            int from = SlotHash.SLOT_COUNT * i / MASTERS;
+            int to = SlotHash.SLOT_COUNT * (i + 1) / MASTERS - 1;
+            int middle = (from + to) / 2;
+
+            builder.append(masterId).append(" 10.0.").append(i / 250).append('.').append(i % 250).append(":7379@17379 ")
+                    .append(i == 0 ? "myself,master" : "master").append(" - 0 1482325235000 ").append(i + 1)
+                    .append(" connected ").append(from).append('-').append(middle - 1).append(' ').append(middle);
+
+            if (middle < to) {
+                builder.append(' ').append(middle + 1).append('-').append(to);
+            }
+
+            builder.append('\n');
+
+            builder.append(String.format("%040x", MASTERS + i)).append(" 10.1.").append(i / 250).append('.').append(i % 250)
+                    .append(":7379@17379 slave ").append(masterId).append(" 0 1482325235000 ").append(i + 1)
+                    .append(" connected\n");
+        }
+
+        clusterNodes = builder.toString();
+        partitions = ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parse() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public List<RedisClusterNode> copyNodes() {
+
+        List<RedisClusterNode> copies = new ArrayList<>(partitions.size());
+        for (RedisClusterNode node : partitions) {
+            copies.add(new RedisClusterNode(node));
+        }
+        return copies;
+    }
+}
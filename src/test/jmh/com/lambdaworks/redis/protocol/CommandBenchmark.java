@@ -8,24 +8,37 @@ import java.nio.ByteOrder;
 import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.lambdaworks.redis.protocol.CommandArgs.ExperimentalByteArrayCodec;
 import org.openjdk.jmh.annotations.*;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.output.ValueOutput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufProcessor;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Encode {@literal SET} with a large value and {@literal MSET} with many small values into a pooled buffer that is
+ * either allocated with the exact size or with the default size</li>
+ * <li>Encode {@literal HGET} using the precomputed frame header of {@link CommandType} compared to a plain
+ * {@link ProtocolKeyword}</li>
+ * <li>Encode {@literal SET} with a 4 MB value that is copied into the command buffer compared to a value that is passed on as
+ * retained {@link ByteBuf} slice</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -38,8 +51,26 @@ public class CommandBenchmark {
     private final static Utf8StringCodec STRING_CODEC = new Utf8StringCodec();
     private final static EmptyByteBuf DUMMY_BYTE_BUF = new EmptyByteBuf();
 
+    private final static ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
     private final static String KEY = "key";
     private final static byte[] BYTE_KEY = "key".getBytes();
+    private final static String LARGE_VALUE = createValue(64 * 1024);
+    private final static int MSET_PAIRS = 100;
+    private final static ByteBuf BLOB = Unpooled.unreleasableBuffer(
+            Unpooled.directBuffer(4 * 1024 * 1024).writeBytes(createValue(4 * 1024 * 1024).getBytes()));
+    private final static byte[] BLOB_BYTES = createValue(4 * 1024 * 1024).getBytes();
+    private final static ProtocolKeyword HGET = new ProtocolKeyword() {
+        @Override
+        public byte[] getBytes() {
+            return CommandType.HGET.getBytes();
+        }
+
+        @Override
+        public String name() {
+            return CommandType.HGET.name();
+        }
+    };
 
     @Benchmark
     public void createCommandUsingByteArrayCodec() {
@@ -66,10 +97,104 @@ public class CommandBenchmark {
         createCommand(KEY, STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void encodeSetWithLargeValue() {
+        encodeUsingExactSize(createSet());
+    }
+
+    @Benchmark
+    public void encodeSetWithLargeValueUsingDefaultBuffer() {
+        encodeUsingDefaultSize(createSet());
+    }
+
+    @Benchmark
+    public void encodeMsetWithSmallValues() {
+        encodeUsingExactSize(createMset());
+    }
+
+    @Benchmark
+    public void encodeMsetWithSmallValuesUsingDefaultBuffer() {
+        encodeUsingDefaultSize(createMset());
+    }
+
+    @Benchmark
+    public void encodeSetWithCopiedBlob() {
+        encodeUsingExactSize(new Command<>(CommandType.SET, new StatusOutput<>(BYTE_ARRAY_CODEC),
+                new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).addValue(BLOB_BYTES)));
+    }
+
+    @Benchmark
+    public void encodeSetWithByteBufBlob() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).add(BLOB);
+
+        List<Object> segments = new ArrayList<>(3);
+        ByteBuf buffer = ALLOCATOR.directBuffer();
+        segments.add(buffer);
+
+        Command.encodeFrameHeader(buffer, CommandType.SET, 1 + args.count());
+        args.encode(segments, ALLOCATOR, false);
+
+        for (Object segment : segments) {
+            ReferenceCountUtil.release(segment);
+        }
+    }
+
+    @Benchmark
+    public void encodeHgetUsingPrecomputedHeader() {
+        encodeUsingExactSize(createHget(CommandType.HGET));
+    }
+
+    @Benchmark
+    public void encodeHgetUsingProtocolKeyword() {
+        encodeUsingExactSize(createHget(HGET));
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
     }
 
+    private Command<String, String, String> createSet() {
+        return new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(KEY).addValue(LARGE_VALUE).add("EX").add(3600));
+    }
+
+    private Command<byte[], byte[], byte[]> createHget(ProtocolKeyword type) {
+        return new Command<>(type, new ValueOutput<>(BYTE_ARRAY_CODEC),
+                new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).addKey(BYTE_KEY));
+    }
+
+    private Command<String, String, String> createMset() {
 
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        for (int i = 0; i < MSET_PAIRS; i++) {
+            args.addKey(KEY).add(i);
+        }
+
+        return new Command<>(CommandType.MSET, new StatusOutput<>(StringCodec.UTF8), args);
+    }
+
+    private void encodeUsingExactSize(Command<?, ?, ?> command) {
+
+        ByteBuf buffer = ALLOCATOR.directBuffer(CommandEncoder.estimateSize(command));
+        command.encode(buffer);
+        buffer.release();
+    }
+
+    private void encodeUsingDefaultSize(Command<?, ?, ?> command) {
+
+        ByteBuf buffer = ALLOCATOR.directBuffer();
+        command.encode(buffer);
+        buffer.release();
+    }
+
+    private static String createValue(int length) {
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
 }
@@ -1,13 +1,19 @@
 package com.lambdaworks.redis.protocol;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 
 import org.openjdk.jmh.annotations.*;
 
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.CommandOutput;
 import com.lambdaworks.redis.output.ValueOutput;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledUnsafeDirectByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.embedded.EmbeddedChannel;
@@ -17,6 +23,8 @@ import io.netty.channel.embedded.EmbeddedChannel;
  * <ul>
  * <li>user command writes</li>
  * <li>netty (in-eventloop) writes</li>
+ * <li>decoding of a multi-bulk reply received in multiple chunks using the different
+ * {@link ClientOptions.CumulationMode cumulation modes}</li>
  * </ul>
  * 
  * @author Mark Paluch
@@ -59,6 +67,154 @@ public class CommandHandlerBenchmark {
         commandHandler.write(CHANNEL_HANDLER_CONTEXT, command, null);
     }
 
+    @Benchmark
+    public void measureChannelRead(ReadState state, CopyCounters counters) throws Exception {
+
+        state.commandHandler.queue.add(state.command);
+
+        for (CountingByteBuf chunk : state.chunks) {
+            state.commandHandler.channelRead(CHANNEL_HANDLER_CONTEXT, chunk.reset());
+        }
+
+        counters.replies++;
+        for (CountingByteBuf chunk : state.chunks) {
+            counters.bytesCopied += chunk.bytesCopied;
+        }
+    }
+
+    /**
+     * State holding a {@link CommandHandler} and a reply of 100 bulk strings (64 bytes each) that is received in four chunks.
+     */
+    @State(Scope.Thread)
+    public static class ReadState {
+
+        @Param({ "MERGE", "DIRECT" })
+        ClientOptions.CumulationMode cumulationMode;
+
+        CommandHandler<byte[], byte[]> commandHandler;
+        Command<byte[], byte[], Void> command;
+        CountingByteBuf[] chunks;
+
+        @Setup
+        public void setup() {
+
+            commandHandler = new CommandHandler<>(ClientOptions.builder().cumulationMode(cumulationMode).build(),
+                    EmptyClientResources.INSTANCE, new ArrayDeque<>(512));
+            command = new Command<>(CommandType.MGET, new DiscardingOutput(CODEC), new CommandArgs<>(CODEC).addKey(KEY));
+
+            StringBuilder reply = new StringBuilder("*100\r\n");
+            char[] value = new char[64];
+            Arrays.fill(value, 'x');
+            for (int i = 0; i < 100; i++) {
+                reply.append("$64\r\n").append(value).append("\r\n");
+            }
+
+            byte[] bytes = reply.toString().getBytes();
+            int chunkSize = (bytes.length / 4) + 1;
+            chunks = new CountingByteBuf[4];
+            for (int i = 0; i < chunks.length; i++) {
+                int from = i * chunkSize;
+                chunks[i] = new CountingByteBuf(commandHandler.buffer,
+                        Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + chunkSize)));
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+
+            commandHandler.close();
+
+            for (CountingByteBuf chunk : chunks) {
+                chunk.free();
+            }
+        }
+    }
+
+    /**
+     * Counters reporting the number of bytes that were copied while gathering inbound data.
+     */
+    @AuxCounters
+    @State(Scope.Thread)
+    public static class CopyCounters {
+
+        public long replies;
+        public long bytesCopied;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            replies = 0;
+            bytesCopied = 0;
+        }
+    }
+
+    /**
+     * Reusable received buffer that counts the bytes copied into the aggregate buffer of a {@link CommandHandler}. Releasing
+     * the buffer does not free its memory so the same content can be received again after {@link #reset()}.
+     */
+    static class CountingByteBuf extends UnpooledUnsafeDirectByteBuf {
+
+        private final ByteBuf aggregate;
+        long bytesCopied;
+
+        CountingByteBuf(ByteBuf aggregate, byte[] content) {
+
+            super(ByteBufAllocator.DEFAULT, content.length, content.length);
+            this.aggregate = aggregate;
+            writeBytes(content);
+        }
+
+        CountingByteBuf reset() {
+
+            setRefCnt(1);
+            readerIndex(0);
+            bytesCopied = 0;
+            return this;
+        }
+
+        @Override
+        public boolean hasMemoryAddress() {
+            // let the aggregate buffer copy through getBytes(…) instead of accessing memory directly
+            return false;
+        }
+
+        @Override
+        public ByteBuf getBytes(int index, ByteBuf dst, int dstIndex, int length) {
+
+            if (dst == aggregate) {
+                bytesCopied += length;
+            }
+
+            return super.getBytes(index, dst, dstIndex, length);
+        }
+
+        @Override
+        protected void deallocate() {
+        }
+
+        void free() {
+            super.deallocate();
+        }
+    }
+
+    private static class DiscardingOutput extends CommandOutput<byte[], byte[], Void> {
+
+        DiscardingOutput(ByteArrayCodec codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+        @Override
+        public void setBytes(ByteBuf bytes) {
+        }
+
+        @Override
+        public void set(long integer) {
+        }
+    }
+
     private final static class MyLocalChannel extends EmbeddedChannel {
         @Override
         public boolean isActive() {
@@ -0,0 +1,143 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+
+/**
+ * Benchmark for {@link CommandHandler#write(RedisCommand)} with multiple application threads sharing one connection. Each
+ * operation is a pipelined {@literal PING} that is answered by an in-JVM server over a {@link LocalChannel}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerContendedWriteBenchmark {
+
+    private final static int BATCH = 16;
+    private final static byte[] PONG = "+PONG\r\n".getBytes();
+
+    // encoded form of PING: *1\r\n$4\r\nPING\r\n
+    private final static int PING_LENGTH = 14;
+
+    @Param({ "SYNCHRONIZED", "MPSC", "AUTO_BATCH" })
+    ClientOptions.WriteMode writeMode;
+
+    private EventLoopGroup group;
+    private Channel server;
+    private Channel client;
+    private CommandHandler<String, String> commandHandler;
+
+    @Setup
+    public void setup() throws Exception {
+
+        group = new DefaultEventLoopGroup(2);
+        LocalAddress address = new LocalAddress("contended-write-" + writeMode);
+
+        server = new ServerBootstrap().group(group).channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel ch) throws Exception {
+                        ch.pipeline().addLast(new PongHandler());
+                    }
+                }).bind(address).sync().channel();
+
+        ClientOptions clientOptions = ClientOptions.builder().writeMode(writeMode).build();
+        commandHandler = new CommandHandler<>(clientOptions, EmptyClientResources.INSTANCE, new ArrayDeque<>());
+
+        client = new Bootstrap().group(group).channel(LocalChannel.class).handler(new ChannelInitializer<LocalChannel>() {
+            @Override
+            protected void initChannel(LocalChannel ch) throws Exception {
+                ch.pipeline().addLast(new CommandEncoder(), commandHandler);
+            }
+        }).connect(address).sync().channel();
+
+        while (!commandHandler.isConnected()) {
+            Thread.sleep(1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        commandHandler.close();
+        server.close().sync();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH)
+    public void singleProducer() throws Exception {
+        writeBatch();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(BATCH)
+    public void eightProducers() throws Exception {
+        writeBatch();
+    }
+
+    @Benchmark
+    @Threads(64)
+    @OperationsPerInvocation(BATCH)
+    public void sixtyFourProducers() throws Exception {
+        writeBatch();
+    }
+
+    private void writeBatch() {
+
+        AsyncCommand<String, String, String> last = null;
+        for (int i = 0; i < BATCH; i++) {
+            last = new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+            commandHandler.write(last);
+        }
+
+        // responses arrive in order so the last command completes the batch
+        if (!last.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timeout waiting for PONG");
+        }
+    }
+
+    /**
+     * Replies with {@literal +PONG} to every {@literal PING} received.
+     */
+    private static class PongHandler extends ChannelInboundHandlerAdapter {
+
+        private int pending;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+
+            ByteBuf buffer = (ByteBuf) msg;
+            pending += buffer.readableBytes();
+            buffer.release();
+
+            int commands = pending / PING_LENGTH;
+            pending -= commands * PING_LENGTH;
+
+            if (commands == 0) {
+                return;
+            }
+
+            ByteBuf reply = ctx.alloc().buffer(commands * PONG.length);
+            for (int i = 0; i < commands; i++) {
+                reply.writeBytes(PONG);
+            }
+            ctx.writeAndFlush(reply);
+        }
+    }
+}
@@ -193,7 +193,7 @@ class EmptyContext implements ChannelHandlerContext {
 
     @Override
     public ByteBufAllocator alloc() {
-        return null;
+        return ByteBufAllocator.DEFAULT;
     }
 
     @Override
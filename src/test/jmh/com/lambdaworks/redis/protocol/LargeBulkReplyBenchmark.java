@@ -0,0 +1,149 @@
+package com.lambdaworks.redis.protocol;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.output.ValueSinkOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Benchmark for decoding a 100 MB bulk string reply that is received in 64 KB reads. Compares gathering the value using
+ * {@link ValueOutput} with streaming it to a sink using {@link ValueSinkOutput}. The peak heap usage of each invocation is
+ * printed at the end of each iteration.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class LargeBulkReplyBenchmark {
+
+    private final static ByteArrayCodec BYTE_ARRAY_CODEC = new ByteArrayCodec();
+    private final static int VALUE_SIZE = 100 * 1024 * 1024;
+    private final static int READ_SIZE = 64 * 1024;
+    private final static long MB = 1024 * 1024;
+
+    @Param({ "false", "true" })
+    boolean streaming;
+
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans();
+    private ByteBuf header;
+    private ByteBuf read;
+    private ByteBuf trailer;
+    private long heapBefore;
+    private long peakHeap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        header = Unpooled.directBuffer().writeBytes(("$" + VALUE_SIZE + "\r\n").getBytes());
+        trailer = Unpooled.directBuffer().writeBytes("\r\n".getBytes());
+        read = Unpooled.directBuffer(READ_SIZE);
+
+        for (int i = 0; i < READ_SIZE; i++) {
+            read.writeByte('a' + i % 26);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPeakHeap() {
+
+        System.gc();
+
+        heapBefore = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapBefore += pool.getUsage().getUsed();
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void recordPeakHeap() {
+
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        peakHeap = Math.max(peakHeap, peak - heapBefore);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeakHeap() {
+
+        System.out.println();
+        System.out.println("Peak heap above baseline (streaming=" + streaming + "): " + peakHeap / MB + " MB");
+        peakHeap = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        header.release();
+        read.release();
+        trailer.release();
+    }
+
+    @Benchmark
+    public Object decode() {
+
+        RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
+        CommandOutput<byte[], byte[], ?> output = streaming ? new ValueSinkOutput<>(BYTE_ARRAY_CODEC, new DiscardingChannel())
+                : new ValueOutput<>(BYTE_ARRAY_CODEC);
+
+        try {
+            stateMachine.decode(header.readerIndex(0), output);
+
+            for (int received = 0; received < VALUE_SIZE; received += READ_SIZE) {
+                stateMachine.decode(read.readerIndex(0), output);
+            }
+
+            if (!stateMachine.decode(trailer.readerIndex(0), output)) {
+                throw new IllegalStateException("Incomplete reply");
+            }
+
+            return output.get();
+        } finally {
+            stateMachine.close();
+        }
+    }
+
+    private static class DiscardingChannel implements WritableByteChannel {
+
+        @Override
+        public int write(ByteBuffer src) {
+
+            int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+/**
+ * Benchmark for the command lifecycle of a synchronous {@literal SET} call: create the command using the command builder,
+ * encode it, complete it with a response and release it. Run with {@code -prof gc} to compare the allocation rate of pooled
+ * and regular command objects.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Thread)
+public class RecyclableCommandBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+    private final static EmptyByteBuf DUMMY_BYTE_BUF = new EmptyByteBuf();
+    private final static String KEY = "key";
+    private final static String VALUE = "value";
+    private final static ByteBuffer OK = ByteBuffer.wrap("OK".getBytes());
+
+    @Param({ "false", "true" })
+    boolean recycle;
+
+    private BaseRedisCommandBuilder<String, String> builder;
+
+    @Setup
+    public void setup() {
+        builder = new BaseRedisCommandBuilder<>(CODEC, () -> recycle);
+    }
+
+    @Benchmark
+    public String setCommandLifecycle() {
+
+        Command<String, String, String> command = builder.createCommand(CommandType.SET, new StatusOutput<>(CODEC),
+                builder.newArgs().addKey(KEY).addValue(VALUE));
+
+        command.encode(DUMMY_BYTE_BUF);
+        command.getOutput().set(OK.duplicate());
+        command.complete();
+
+        String result = command.get();
+
+        if (command instanceof RecyclableCommand) {
+            ((RecyclableCommand<String, String, String>) command).recycle();
+        }
+
+        return result;
+    }
+}
@@ -1,9 +1,17 @@
 package com.lambdaworks.redis.protocol;
 
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import com.lambdaworks.redis.output.ArrayOutput;
@@ -12,6 +20,9 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 
 /**
+ * Benchmarks for {@link RedisStateMachine}. {@link #main(String[])} runs the multi-element decode benchmarks with the GC
+ * profiler and fails if decoding allocates per response element.
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
@@ -27,6 +38,11 @@ public class RedisStateMachineBenchmark {
 
                 }
 
+                @Override
+                public void setBytes(ByteBuf bytes) {
+
+                }
+
                 @Override
                 public void multi(int count) {
 
@@ -41,7 +57,11 @@ public class RedisStateMachineBenchmark {
                 }
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
+    private final static int ELEMENTS = 1000;
+
     private ByteBuf masterBuffer;
+    private ByteBuf integerReplies;
+    private ByteBuf bulkReplies;
 
     private final RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
     private final byte[] payload = ("*3\r\n" + //
@@ -56,11 +76,25 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        StringBuilder integers = new StringBuilder("*" + ELEMENTS + "\r\n");
+        StringBuilder bulks = new StringBuilder("*" + ELEMENTS + "\r\n");
+        for (int i = 0; i < ELEMENTS; i++) {
+            integers.append(':').append(i).append("\r\n");
+            bulks.append("$8\r\n").append(String.format("value%03d", i % 1000)).append("\r\n");
+        }
+
+        integerReplies = PooledByteBufAllocator.DEFAULT.ioBuffer(integers.length());
+        integerReplies.writeBytes(integers.toString().getBytes());
+        bulkReplies = PooledByteBufAllocator.DEFAULT.ioBuffer(bulks.length());
+        bulkReplies.writeBytes(bulks.toString().getBytes());
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        integerReplies.release();
+        bulkReplies.release();
     }
 
     @Benchmark
@@ -68,12 +102,71 @@ public class RedisStateMachineBenchmark {
         stateMachine.decode(masterBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
     }
 
-    public static void main(String[] args) {
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void measureDecodeIntegerReplies() {
+        integerReplies.readerIndex(0);
+        stateMachine.decode(integerReplies, byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void measureDecodeBulkReplies() {
+        bulkReplies.readerIndex(0);
+        stateMachine.decode(bulkReplies, byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder().include(RedisStateMachineBenchmark.class.getName() + ".measureDecode.*Replies")
+                .addProfiler(GCProfiler.class).forks(1).warmupIterations(5).measurementIterations(5).build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        for (RunResult result : results) {
+
+            String benchmark = result.getParams().getBenchmark();
+            double allocated = allocatedBytesPerOperation(result.getSecondaryResults());
+
+            // normalized per operation, one operation is one response element
+            if (allocated >= 1) {
+                throw new IllegalStateException(String.format("%s allocates %.2f bytes per response element", benchmark,
+                        allocated));
+            }
+        }
+    }
+
+    /**
+     * Prefer the normalized allocation rate. Fall back to the normalized GC churn if the JVM does not expose allocation
+     * counters to the profiler. No churn results are reported if no collection happened at all.
+     */
+    private static double allocatedBytesPerOperation(Map<String, Result> secondaryResults) {
+
+        boolean profiled = false;
+        double churn = 0;
 
-        RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();
-        b.setup();
-        while (true) {
-            b.measureDecode();
+        for (Map.Entry<String, Result> entry : secondaryResults.entrySet()) {
+
+            String key = entry.getKey();
+            double score = entry.getValue().getScore();
+
+            if (key.endsWith("gc.alloc.rate.norm") && !Double.isNaN(score)) {
+                return score;
+            }
+
+            if (key.endsWith("gc.count")) {
+                profiled = true;
+            }
+
+            if (key.contains("gc.churn") && key.endsWith(".norm")) {
+                churn = Math.max(churn, score);
+            }
         }
+
+        if (!profiled) {
+            throw new IllegalStateException("No GC profiler results available");
+        }
+
+        return churn;
     }
 }
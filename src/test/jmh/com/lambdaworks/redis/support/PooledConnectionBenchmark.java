@@ -0,0 +1,77 @@
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.EmptyRedisChannelWriter;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * Benchmark for borrowing a wrapped connection from a {@link GenericObjectPool}, optionally dispatching a command through the
+ * wrapper, and returning the connection to the pool by closing the wrapper. Compares {@link PooledStatefulRedisConnection
+ * pooled handles} with {@link ConnectionPoolSupport#proxyConnection(Object, ConnectionPoolSupport.Origin) dynamic proxies}.
+ * Commands are written to an {@link EmptyRedisChannelWriter} so the benchmark measures the wrapper overhead only.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class PooledConnectionBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+    private final static String KEY = "key";
+    private final static String VALUE = "value";
+
+    @Param({ "handle", "proxy" })
+    String wrapper;
+
+    private GenericObjectPool<StatefulRedisConnection<String, String>> pool;
+    private boolean proxy;
+
+    @Setup
+    public void setup() {
+
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxTotal(1);
+
+        pool = ConnectionPoolSupport.createGenericObjectPool(() -> new StatefulRedisConnectionImpl<>(
+                new EmptyRedisChannelWriter(), CODEC, 60, TimeUnit.SECONDS), config, false);
+        proxy = wrapper.equals("proxy");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public void borrowAndReturn() throws Exception {
+        borrow().close();
+    }
+
+    @Benchmark
+    public RedisFuture<String> borrowDispatchAndReturn() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = borrow();
+        RedisFuture<String> future = connection.async().set(KEY, VALUE);
+        connection.close();
+
+        return future;
+    }
+
+    private StatefulRedisConnection<String, String> borrow() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = pool.borrowObject();
+
+        if (proxy) {
+            return ConnectionPoolSupport.proxyConnection(connection, pool::returnObject);
+        }
+
+        return ConnectionPoolSupport.wrapConnection(connection, pool::returnObject);
+    }
+}